@@ -258,6 +258,45 @@ public class GpioD {
 
     private static native int c_gpiod_line_set_value(long linePtr, int value);
 
+    static void lineRequestBulkInputFlags(long[] linePtrs, String consumer, int flags) {
+        int result = c_gpiod_line_request_bulk_input_flags(linePtrs, consumer, flags);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_input_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_input_flags(long[] linePtrs, String consumer, int flags);
+
+    static void lineRequestBulkOutputFlags(long[] linePtrs, String consumer, int flags, int[] defaultVals) {
+        int result = c_gpiod_line_request_bulk_output_flags(linePtrs, consumer, flags, defaultVals);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_output_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_output_flags(long[] linePtrs, String consumer, int flags,
+        int[] defaultVals);
+
+    static void lineReleaseBulk(long[] linePtrs) {
+        c_gpiod_line_release_bulk(linePtrs);
+    }
+
+    private static native void c_gpiod_line_release_bulk(long[] linePtrs);
+
+    static void lineGetValueBulk(long[] linePtrs, int[] values) {
+        int result = c_gpiod_line_get_value_bulk(linePtrs, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_get_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_get_value_bulk(long[] linePtrs, int[] values);
+
+    static void lineSetValueBulk(long[] linePtrs, int[] values) {
+        int result = c_gpiod_line_set_value_bulk(linePtrs, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_set_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_set_value_bulk(long[] linePtrs, int[] values);
+
     static void lineSetConfig(long linePtr, LineRequest direction, int flags, int value) {
         int result = c_gpiod_line_set_config(linePtr, direction.val, flags, value);
         if (result < 0)
@@ -394,6 +433,85 @@ public class GpioD {
 
     private static native void c_gpiod_line_event_free(long eventPtr);
 
+    static int lineEventGetFd(long linePtr) {
+        int result = c_gpiod_line_event_get_fd(linePtr);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_get_fd failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_get_fd(long linePtr);
+
+    static int lineEventReadMultiple(long linePtr, long[] timestampsNs, int[] types) {
+        int result = c_gpiod_line_event_read_multiple(linePtr, timestampsNs, types);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_read_multiple failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_read_multiple(long linePtr, long[] timestampsNs, int[] types);
+
+    static int epollCreate() {
+        int result = c_epoll_create();
+        if (result < 0)
+            throw new GpioDException("c_epoll_create failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_epoll_create();
+
+    static void epollAdd(int epollFd, int fd) {
+        int result = c_epoll_add(epollFd, fd);
+        if (result < 0)
+            throw new GpioDException("c_epoll_add failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_epoll_add(int epollFd, int fd);
+
+    static void epollRemove(int epollFd, int fd) {
+        int result = c_epoll_remove(epollFd, fd);
+        if (result < 0)
+            throw new GpioDException("c_epoll_remove failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_epoll_remove(int epollFd, int fd);
+
+    static int epollWait(int epollFd, int[] readyFds, int timeoutMs) {
+        int result = c_epoll_wait(epollFd, readyFds, timeoutMs);
+        if (result < 0)
+            throw new GpioDException("c_epoll_wait failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_epoll_wait(int epollFd, int[] readyFds, int timeoutMs);
+
+    static int eventFdCreate() {
+        int result = c_eventfd_create();
+        if (result < 0)
+            throw new GpioDException("c_eventfd_create failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_eventfd_create();
+
+    static void eventFdSignal(int fd) {
+        c_eventfd_signal(fd);
+    }
+
+    private static native int c_eventfd_signal(int fd);
+
+    static void eventFdClear(int fd) {
+        c_eventfd_clear(fd);
+    }
+
+    private static native int c_eventfd_clear(int fd);
+
+    static void close(int fd) {
+        c_close(fd);
+    }
+
+    private static native int c_close(int fd);
+
     static String getVersion() {
         return c_gpiod_version_string();
     }
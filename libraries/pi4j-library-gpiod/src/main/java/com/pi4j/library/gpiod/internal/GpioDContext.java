@@ -29,6 +29,8 @@ public class GpioDContext implements Closeable {
 
     private final Set<Long> openLineEvents;
 
+    private GpioLineEventLoop eventLoop;
+
     public GpioDContext() {
         this.openLines = new HashMap<>();
         this.openLineEvents = new HashSet<>();
@@ -100,8 +102,19 @@ public class GpioDContext implements Closeable {
         }
     }
 
+    public synchronized GpioLineEventLoop getEventLoop() {
+        if (this.eventLoop == null)
+            this.eventLoop = new GpioLineEventLoop();
+        return this.eventLoop;
+    }
+
     @Override
     public synchronized void close() {
+        if (this.eventLoop != null) {
+            this.eventLoop.close();
+            this.eventLoop = null;
+        }
+
         if (this.gpioChip == null)
             return;
 
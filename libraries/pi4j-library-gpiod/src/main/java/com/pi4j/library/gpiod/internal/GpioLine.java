@@ -142,4 +142,19 @@ public class GpioLine extends CWrapper {
         GpioD.lineEventRead(getCPointer(), lineEvent.getCPointer());
         return lineEvent;
     }
+
+    public int getEventFd() {
+        return GpioD.lineEventGetFd(getCPointer());
+    }
+
+    /**
+     * Read all pending events (up to the length of the given arrays) in a single call.
+     *
+     * @param timestampsNs receives the event timestamps in nanoseconds
+     * @param types receives the event types ({@link LineEvent} values)
+     * @return the number of events read
+     */
+    public int eventReadMultiple(long[] timestampsNs, int[] types) {
+        return GpioD.lineEventReadMultiple(getCPointer(), timestampsNs, types);
+    }
 }
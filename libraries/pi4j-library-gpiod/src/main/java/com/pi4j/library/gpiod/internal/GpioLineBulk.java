@@ -0,0 +1,56 @@
+package com.pi4j.library.gpiod.internal;
+
+import java.util.List;
+
+/**
+ * <p>GpioLineBulk</p>
+ * <p>
+ * Lines of one chip that are requested together, so their values are read or written in a
+ * single ioctl. The values are ordered like the lines of the bulk.
+ *
+ * @version $Id: $Id
+ */
+public class GpioLineBulk {
+
+    public static final int MAX_LINES = 64;
+
+    private final List<GpioLine> lines;
+    private final long[] linePtrs;
+
+    public GpioLineBulk(List<GpioLine> lines) {
+        if (lines.isEmpty() || lines.size() > MAX_LINES)
+            throw new GpioDException("A line bulk requires 1-" + MAX_LINES + " lines; size=" + lines.size());
+        this.lines = List.copyOf(lines);
+        this.linePtrs = new long[lines.size()];
+        for (int i = 0; i < this.linePtrs.length; i++)
+            this.linePtrs[i] = lines.get(i).getCPointer();
+    }
+
+    public List<GpioLine> getLines() {
+        return this.lines;
+    }
+
+    public int size() {
+        return this.linePtrs.length;
+    }
+
+    public void requestInputFlags(String consumer, int flags) {
+        GpioD.lineRequestBulkInputFlags(this.linePtrs, consumer, flags);
+    }
+
+    public void requestOutputFlags(String consumer, int flags, int[] defaultValues) {
+        GpioD.lineRequestBulkOutputFlags(this.linePtrs, consumer, flags, defaultValues);
+    }
+
+    public void release() {
+        GpioD.lineReleaseBulk(this.linePtrs);
+    }
+
+    public void getValues(int[] values) {
+        GpioD.lineGetValueBulk(this.linePtrs, values);
+    }
+
+    public void setValues(int[] values) {
+        GpioD.lineSetValueBulk(this.linePtrs, values);
+    }
+}
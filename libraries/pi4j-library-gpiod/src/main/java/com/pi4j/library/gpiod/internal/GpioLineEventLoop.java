@@ -0,0 +1,213 @@
+package com.pi4j.library.gpiod.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>GpioLineEventLoop</p>
+ * <p>
+ * Single thread event loop for the edge events of all requested input lines. The event file
+ * descriptors of all registered lines are waited on with one epoll call, every wakeup reads
+ * all pending events of the ready lines at once and the debouncing of every line is handled
+ * on the loop thread using the kernel event timestamps.
+ *
+ * @version $Id: $Id
+ */
+public class GpioLineEventLoop implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpioLineEventLoop.class);
+
+    // the kernel buffers at most 16 events per line
+    private static final int MAX_EVENTS = 16;
+    private static final int MAX_READY = 64;
+
+    /**
+     * Receives the debounced edge events of a registered line.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(GpioLine line, LineEvent type, long timestampNs);
+    }
+
+    private static class Registration {
+        final GpioLine line;
+        final int fd;
+        final long debounceNs;
+        final Listener listener;
+        boolean closed = false;
+
+        // most recent event that has not yet outlived the debounce interval
+        LineEvent pendingType = null;
+        long pendingTimestampNs;
+
+        Registration(GpioLine line, int fd, long debounceNs, Listener listener) {
+            this.line = line;
+            this.fd = fd;
+            this.debounceNs = debounceNs;
+            this.listener = listener;
+        }
+    }
+
+    private final Map<Integer, Registration> registrations = new ConcurrentHashMap<>();
+    private final long[] timestamps = new long[MAX_EVENTS];
+    private final int[] types = new int[MAX_EVENTS];
+    private final int[] ready = new int[MAX_READY];
+    private int epollFd = -1;
+    private int wakeFd = -1;
+    private Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Register a line that has been requested for edge events. The loop thread is started
+     * with the first registration.
+     *
+     * @param line       line requested for edge events
+     * @param debounceNs events are only delivered once no further event occurred within this interval
+     * @param listener   receives the debounced events
+     */
+    public synchronized void register(GpioLine line, long debounceNs, Listener listener) {
+        start();
+        int fd = line.getEventFd();
+        Registration registration = new Registration(line, fd, debounceNs, listener);
+        this.registrations.put(fd, registration);
+        GpioD.epollAdd(this.epollFd, fd);
+        // recompute the wait timeout with the new line
+        GpioD.eventFdSignal(this.wakeFd);
+        logger.trace("Registered line {} (fd {}) with event loop", line.getOffset(), fd);
+    }
+
+    /**
+     * Unregister a line. Once this method returns the loop no longer accesses the line,
+     * so the line may be released.
+     *
+     * @param line a registered line
+     */
+    public synchronized void unregister(GpioLine line) {
+        for (Registration registration : this.registrations.values()) {
+            if (registration.line != line)
+                continue;
+            synchronized (registration) {
+                registration.closed = true;
+                this.registrations.remove(registration.fd);
+                GpioD.epollRemove(this.epollFd, registration.fd);
+            }
+            logger.trace("Unregistered line {} (fd {}) from event loop", line.getOffset(), registration.fd);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.thread == null)
+            return;
+        this.running = false;
+        GpioD.eventFdSignal(this.wakeFd);
+        try {
+            this.thread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Registration registration : this.registrations.values()) {
+            synchronized (registration) {
+                registration.closed = true;
+            }
+        }
+        this.registrations.clear();
+        GpioD.close(this.wakeFd);
+        GpioD.close(this.epollFd);
+        this.thread = null;
+        this.epollFd = -1;
+        this.wakeFd = -1;
+    }
+
+    private void start() {
+        if (this.thread != null)
+            return;
+        this.epollFd = GpioD.epollCreate();
+        this.wakeFd = GpioD.eventFdCreate();
+        GpioD.epollAdd(this.epollFd, this.wakeFd);
+        this.running = true;
+        this.thread = new Thread(this::run, "pi4j-gpiod-events");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        logger.debug("GpioD event loop started");
+        while (this.running) {
+            try {
+                int count = GpioD.epollWait(this.epollFd, this.ready, nextTimeoutMs());
+                for (int i = 0; i < count; i++) {
+                    int fd = this.ready[i];
+                    if (fd == this.wakeFd) {
+                        GpioD.eventFdClear(this.wakeFd);
+                        continue;
+                    }
+                    Registration registration = this.registrations.get(fd);
+                    if (registration != null)
+                        read(registration);
+                }
+                deliverDebounced(System.nanoTime());
+            } catch (Exception e) {
+                logger.error("GpioD event loop failure", e);
+            }
+        }
+        logger.debug("GpioD event loop stopped");
+    }
+
+    private void read(Registration registration) {
+        synchronized (registration) {
+            if (registration.closed)
+                return;
+            int count = registration.line.eventReadMultiple(this.timestamps, this.types);
+            for (int i = 0; i < count; i++) {
+                LineEvent type = LineEvent.fromInt(this.types[i]);
+                if (registration.debounceNs == 0) {
+                    dispatch(registration, type, this.timestamps[i]);
+                } else {
+                    // a newer event restarts the debounce interval; only the last one survives
+                    registration.pendingType = type;
+                    registration.pendingTimestampNs = this.timestamps[i];
+                }
+            }
+        }
+    }
+
+    private void deliverDebounced(long now) {
+        for (Registration registration : this.registrations.values()) {
+            synchronized (registration) {
+                if (registration.closed || registration.pendingType == null)
+                    continue;
+                if (registration.pendingTimestampNs + registration.debounceNs < now) {
+                    LineEvent type = registration.pendingType;
+                    registration.pendingType = null;
+                    dispatch(registration, type, registration.pendingTimestampNs);
+                }
+            }
+        }
+    }
+
+    private int nextTimeoutMs() {
+        long now = System.nanoTime();
+        long next = Long.MAX_VALUE;
+        for (Registration registration : this.registrations.values()) {
+            if (registration.pendingType != null)
+                next = Math.min(next, registration.pendingTimestampNs + registration.debounceNs - now);
+        }
+        if (next == Long.MAX_VALUE)
+            return -1;
+        // round up so the interval has always elapsed on wakeup
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, next / 1_000_000 + 1));
+    }
+
+    private void dispatch(Registration registration, LineEvent type, long timestampNs) {
+        try {
+            registration.listener.onEvent(registration.line, type, timestampNs);
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+}
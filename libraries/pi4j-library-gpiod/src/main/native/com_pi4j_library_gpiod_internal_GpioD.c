@@ -3,6 +3,9 @@
 #include <stdint.h>
 #include <errno.h>
 #include <string.h>
+#include <unistd.h>
+#include <sys/epoll.h>
+#include <sys/eventfd.h>
 #include "com_pi4j_library_gpiod_internal_GpioD.h"
 
 // Compile using:
@@ -366,6 +369,115 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line
     return gpiod_line_set_value((struct gpiod_line*) (uintptr_t) linePtr, value);
 }
 
+// libgpiod addresses the lines of a bulk request through the first line, so a bulk
+// is rebuilt on the stack from the line pointers for every call
+static int fill_bulk(JNIEnv* env, jlongArray linePtrs, struct gpiod_line_bulk* bulk) {
+    jsize count = (*env)->GetArrayLength(env, linePtrs);
+    if(count < 1 || count > GPIOD_LINE_BULK_MAX_LINES) {
+      errno = EINVAL;
+      return -1;
+    }
+    jlong c_linePtrs[GPIOD_LINE_BULK_MAX_LINES];
+    (*env)->GetLongArrayRegion(env, linePtrs, 0, count, c_linePtrs);
+    gpiod_line_bulk_init(bulk);
+    for(int i = 0; i < count; i++) {
+      gpiod_line_bulk_add(bulk, (struct gpiod_line*) (uintptr_t) c_linePtrs[i]);
+    }
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_input_flags
+ * Signature: ([JLjava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1input_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jstring consumer, jint flags) {
+    struct gpiod_line_bulk bulk;
+    if(fill_bulk(env, linePtrs, &bulk) < 0) {
+      return -1;
+    }
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_input_flags(&bulk, c_consumer, flags);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_output_flags
+ * Signature: ([JLjava/lang/String;I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1output_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jstring consumer, jint flags, jintArray defaultVals) {
+    struct gpiod_line_bulk bulk;
+    int count = fill_bulk(env, linePtrs, &bulk);
+    if(count < 0 || (*env)->GetArrayLength(env, defaultVals) < count) {
+      errno = EINVAL;
+      return -1;
+    }
+    int c_defaultVals[GPIOD_LINE_BULK_MAX_LINES];
+    (*env)->GetIntArrayRegion(env, defaultVals, 0, count, (jint*) c_defaultVals);
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_output_flags(&bulk, c_consumer, flags, c_defaultVals);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_release_bulk
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1release_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs) {
+    struct gpiod_line_bulk bulk;
+    if(fill_bulk(env, linePtrs, &bulk) < 0) {
+      return;
+    }
+    gpiod_line_release_bulk(&bulk);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_get_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1get_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int count = fill_bulk(env, linePtrs, &bulk);
+    if(count < 0 || (*env)->GetArrayLength(env, values) < count) {
+      errno = EINVAL;
+      return -1;
+    }
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    int result = gpiod_line_get_value_bulk(&bulk, c_values);
+    if(result < 0) {
+      return result;
+    }
+    (*env)->SetIntArrayRegion(env, values, 0, count, (jint*) c_values);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_set_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int count = fill_bulk(env, linePtrs, &bulk);
+    if(count < 0 || (*env)->GetArrayLength(env, values) < count) {
+      errno = EINVAL;
+      return -1;
+    }
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    (*env)->GetIntArrayRegion(env, values, 0, count, (jint*) c_values);
+    return gpiod_line_set_value_bulk(&bulk, c_values);
+}
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_line_set_config
@@ -609,6 +721,151 @@ JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line
     free((struct gpiod_line_event*) (uintptr_t) eventPtr);
 }
 
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_get_fd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1get_1fd
+  (JNIEnv* env, jclass javaClass, jlong linePtr) {
+    return gpiod_line_event_get_fd((struct gpiod_line*) (uintptr_t) linePtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_multiple
+ * Signature: (J[J[I)I
+ */
+#define MAX_LINE_EVENTS 16
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1multiple
+  (JNIEnv* env, jclass javaClass, jlong linePtr, jlongArray timestamps, jintArray types) {
+    struct gpiod_line_event events[MAX_LINE_EVENTS];
+    jlong c_timestamps[MAX_LINE_EVENTS];
+    jint c_types[MAX_LINE_EVENTS];
+    jsize max = (*env)->GetArrayLength(env, timestamps);
+    if(max > (*env)->GetArrayLength(env, types)) {
+      max = (*env)->GetArrayLength(env, types);
+    }
+    if(max > MAX_LINE_EVENTS) {
+      max = MAX_LINE_EVENTS;
+    }
+
+    int count = gpiod_line_event_read_multiple((struct gpiod_line*) (uintptr_t) linePtr, events, max);
+    if(count <= 0) {
+      return count;
+    }
+    for(int i = 0; i < count; i++) {
+      c_timestamps[i] = events[i].ts.tv_nsec + (jlong) events[i].ts.tv_sec * 1000000000;
+      c_types[i] = events[i].event_type;
+    }
+    (*env)->SetLongArrayRegion(env, timestamps, 0, count, c_timestamps);
+    (*env)->SetIntArrayRegion(env, types, 0, count, c_types);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1create
+  (JNIEnv* env, jclass javaClass) {
+    return epoll_create1(EPOLL_CLOEXEC);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_add
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1add
+  (JNIEnv* env, jclass javaClass, jint epollFd, jint fd) {
+    struct epoll_event event;
+    memset(&event, 0, sizeof(event));
+    event.events = EPOLLIN | EPOLLPRI;
+    event.data.fd = fd;
+    return epoll_ctl(epollFd, EPOLL_CTL_ADD, fd, &event);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_remove
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1remove
+  (JNIEnv* env, jclass javaClass, jint epollFd, jint fd) {
+    return epoll_ctl(epollFd, EPOLL_CTL_DEL, fd, NULL);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_wait
+ * Signature: (I[II)I
+ */
+#define MAX_EPOLL_EVENTS 64
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1wait
+  (JNIEnv* env, jclass javaClass, jint epollFd, jintArray readyFds, jint timeoutMs) {
+    struct epoll_event events[MAX_EPOLL_EVENTS];
+    jint c_fds[MAX_EPOLL_EVENTS];
+    jsize max = (*env)->GetArrayLength(env, readyFds);
+    if(max > MAX_EPOLL_EVENTS) {
+      max = MAX_EPOLL_EVENTS;
+    }
+
+    int count = epoll_wait(epollFd, events, max, timeoutMs);
+    if(count < 0) {
+      // interrupted by a signal; report no ready descriptors
+      return errno == EINTR ? 0 : count;
+    }
+    for(int i = 0; i < count; i++) {
+      c_fds[i] = events[i].data.fd;
+    }
+    (*env)->SetIntArrayRegion(env, readyFds, 0, count, c_fds);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1create
+  (JNIEnv* env, jclass javaClass) {
+    return eventfd(0, EFD_CLOEXEC | EFD_NONBLOCK);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_signal
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1signal
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    uint64_t value = 1;
+    return write(fd, &value, sizeof(value));
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1clear
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    uint64_t value;
+    return read(fd, &value, sizeof(value));
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1close
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    return close(fd);
+}
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_version_string
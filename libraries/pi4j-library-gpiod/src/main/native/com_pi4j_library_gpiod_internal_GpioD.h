@@ -271,6 +271,46 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line
 JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value
   (JNIEnv *, jclass, jlong, jint);
 
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_input_flags
+ * Signature: ([JLjava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1input_1flags
+  (JNIEnv *, jclass, jlongArray, jstring, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_output_flags
+ * Signature: ([JLjava/lang/String;I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1output_1flags
+  (JNIEnv *, jclass, jlongArray, jstring, jint, jintArray);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_release_bulk
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1release_1bulk
+  (JNIEnv *, jclass, jlongArray);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_get_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1get_1value_1bulk
+  (JNIEnv *, jclass, jlongArray, jintArray);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_set_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value_1bulk
+  (JNIEnv *, jclass, jlongArray, jintArray);
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_line_set_config
@@ -423,6 +463,86 @@ JNIEXPORT jobject JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1l
 JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1free
   (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_get_fd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1get_1fd
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_multiple
+ * Signature: (J[J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1multiple
+  (JNIEnv *, jclass, jlong, jlongArray, jintArray);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1create
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_add
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1add
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_remove
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1remove
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_wait
+ * Signature: (I[II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1wait
+  (JNIEnv *, jclass, jint, jintArray, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1create
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_signal
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1signal
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1clear
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1close
+  (JNIEnv *, jclass, jint);
+
 /*
  * Class:     com_pi4j_library_gpiod_internal_GpioD
  * Method:    c_gpiod_version_string
@@ -439,7 +559,6 @@ JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1v
 JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1strerror
   (JNIEnv *, jclass);
 
-
 #ifdef __cplusplus
 }
 #endif
@@ -30,6 +30,9 @@ package com.pi4j.library.pigpio;
 import com.pi4j.library.pigpio.impl.PiGpioNativeImpl;
 import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * <p>PiGpio interface.</p>
  *
@@ -42,7 +45,10 @@ public interface PiGpio extends
         PiGpio_PWM,
         PiGpio_Serial,
         PiGpio_SPI,
-        PiGpio_Servo {
+        PiGpio_Servo,
+        PiGpio_Wave,
+        PiGpio_Script,
+        PiGpio_BitBang {
 
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
@@ -68,6 +74,22 @@ public interface PiGpio extends
         return PiGpioSocketImpl.newInstance(host, port);
     }
 
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port using a pool
+     * of command sockets so that callers on different threads can run in parallel.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize maximum number of command sockets to open concurrently.
+     * @param idleTimeout milliseconds after which an unused command socket is closed.
+     * @param healthCheckInterval milliseconds after which an unused command socket is verified before reuse.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, int poolSize, long idleTimeout, long healthCheckInterval) {
+        return PiGpioSocketImpl.newInstance(host, port, poolSize, idleTimeout, healthCheckInterval);
+    }
+
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
      * Connects to a user specified socket hostname/ip address using the default port (8888).
@@ -320,6 +342,29 @@ public interface PiGpio extends
      */
     long gpioTick();
 
+    /**
+     * Executes a group of commands as a single batch.
+     * <p>
+     * The provided consumer is called with a {@link PiGpioBatch} that queues each command it is given.
+     * Once the consumer returns, all queued commands are executed in order and each command's future
+     * is completed with its result.  When using a socket instance, the queued commands are pipelined
+     * to the PiGpio daemon in a single network write and the replies are read back in order, so the
+     * whole batch costs a single network round trip rather than one round trip per command.
+     * <p>
+     * Example
+     *   List&lt;Object&gt; results = piGpio.batch(b -&gt; {
+     *       b.gpioWrite(17, PiGpioState.HIGH);
+     *       b.i2cReadByteData(handle, 0x10);
+     *   });
+     *
+     * @param commands consumer that queues the commands to execute on the provided batch
+     * @return the result of each queued command in the order they were queued ('null' for commands
+     *         that do not return a value)
+     * @throws PiGpioException if any of the queued commands failed; all commands are still executed
+     *         and the futures returned by the batch reflect the outcome of each individual command.
+     */
+    List<Object> batch(Consumer<PiGpioBatch> commands);
+
     /**
      * <p>gpioNotifications.</p>
      *
@@ -327,6 +372,15 @@ public interface PiGpio extends
      * @param enabled a boolean.
      */
     void gpioNotifications(int pin, boolean enabled);
+    /**
+     * <p>gpioNotificationStats.</p>
+     * <p>
+     * Counters for the notification reports received from the PiGpio daemon, including
+     * the number of reports detected as dropped or received out of order.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioNotificationStats} object.
+     */
+    PiGpioNotificationStats gpioNotificationStats();
     /**
      * <p>gpioEnableNotifications.</p>
      *
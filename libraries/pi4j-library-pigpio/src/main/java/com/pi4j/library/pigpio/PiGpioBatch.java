@@ -0,0 +1,267 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioBatch.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>PiGpioBatch interface.</p>
+ * <p>
+ * A batch collects a sequence of PiGpio commands which are executed together when the batch
+ * is submitted via {@link PiGpio#batch(java.util.function.Consumer)}.  Each queued command
+ * immediately returns a future that is completed once the batch has been executed.  Using the
+ * socket implementation, all queued commands are transmitted to the PiGpio daemon in a single
+ * network write and the replies are matched to their futures in the order they were queued,
+ * so the entire batch costs a single network round trip.
+ * <p>
+ * Commands that throw a {@link PiGpioException} on error in the {@link PiGpio} interface will
+ * complete their future exceptionally; commands that return a raw PiGpio result code in the
+ * {@link PiGpio} interface will complete their future with that same result code.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpioBatch {
+
+    /**
+     * Sets or clears resistor pull ups or downs on the GPIO.
+     *
+     * @param pin gpio pin address
+     * @param pud pull-up, pull-down, pull-off
+     * @return future completed when the command has been executed
+     * @see PiGpio_GPIO#gpioSetPullUpDown(int, PiGpioPud)
+     */
+    CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud);
+
+    /**
+     * Gets the GPIO mode.
+     *
+     * @param pin gpio pin address
+     * @return future completed with the pin mode: input, output, etc.
+     * @see PiGpio_GPIO#gpioGetMode(int)
+     */
+    CompletableFuture<PiGpioMode> gpioGetMode(int pin);
+
+    /**
+     * Sets the GPIO mode, typically input or output.
+     *
+     * @param pin gpio pin address
+     * @param mode pin mode: input, output, etc.
+     * @return future completed when the command has been executed
+     * @see PiGpio_GPIO#gpioSetMode(int, PiGpioMode)
+     */
+    CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode);
+
+    /**
+     * Reads the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address
+     * @return future completed with the pin state: HIGH or LOW
+     * @see PiGpio_GPIO#gpioRead(int)
+     */
+    CompletableFuture<PiGpioState> gpioRead(int pin);
+
+    /**
+     * Sets the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address
+     * @param state HIGH or LOW
+     * @return future completed when the command has been executed
+     * @see PiGpio_GPIO#gpioWrite(int, PiGpioState)
+     */
+    CompletableFuture<Void> gpioWrite(int pin, PiGpioState state);
+
+    /**
+     * Sets the GPIO level, 'true' (HIGH) or 'false' (LOW).
+     *
+     * @param pin gpio pin address
+     * @param state HIGH ('true') or LOW ('false')
+     * @return future completed when the command has been executed
+     * @see PiGpio_GPIO#gpioWrite(int, boolean)
+     */
+    default CompletableFuture<Void> gpioWrite(int pin, boolean state){
+        return gpioWrite(pin, PiGpioState.from(state));
+    }
+
+    /**
+     * Starts PWM on the GPIO, dutycycle between 0 (off) and range (fully on).
+     *
+     * @param pin user gpio pin address
+     * @param dutyCycle duty-cycle value
+     * @return future completed when the command has been executed
+     * @see PiGpio_PWM#gpioPWM(int, int)
+     */
+    CompletableFuture<Void> gpioPWM(int pin, int dutyCycle);
+
+    /**
+     * Returns the PWM dutycycle setting for the GPIO.
+     *
+     * @param pin user gpio pin address
+     * @return future completed with the duty-cycle value
+     * @see PiGpio_PWM#gpioGetPWMdutycycle(int)
+     */
+    CompletableFuture<Integer> gpioGetPWMdutycycle(int pin);
+
+    /**
+     * Starts servo pulses on the GPIO, 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise).
+     *
+     * @param pin user gpio pin address
+     * @param pulseWidth servo pulse-width (0 or 500-2500)
+     * @return future completed when the command has been executed
+     * @see PiGpio_Servo#gpioServo(int, int)
+     */
+    CompletableFuture<Void> gpioServo(int pin, int pulseWidth);
+
+    /**
+     * Returns the current system tick.
+     *
+     * @return future completed with the current system tick (microseconds since boot)
+     * @see PiGpio#gpioTick()
+     */
+    CompletableFuture<Long> gpioTick();
+
+    /**
+     * This sends a single bit (in the Rd/Wr bit) to the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param bit 0-1, the value to write
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_I2C#i2cWriteQuick(int, boolean)
+     */
+    CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit);
+
+    /**
+     * This sends a single byte to the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param value raw byte value (0-0xFF) to write to I2C device
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_I2C#i2cWriteByte(int, byte)
+     */
+    CompletableFuture<Integer> i2cWriteByte(int handle, byte value);
+
+    /**
+     * This reads a single byte from the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @return future completed with the byte read (&gt;=0) or the raw PiGpio error code
+     * @see PiGpio_I2C#i2cReadByte(int)
+     */
+    CompletableFuture<Integer> i2cReadByte(int handle);
+
+    /**
+     * This writes a single byte to the specified register of the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to write to. (0-255)
+     * @param value raw byte value (0-0xFF) to write to I2C device
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_I2C#i2cWriteByteData(int, int, byte)
+     */
+    CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value);
+
+    /**
+     * This reads a single byte from the specified register of the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to read from. (0-255)
+     * @return future completed with the byte read (&gt;=0) or the raw PiGpio error code
+     * @see PiGpio_I2C#i2cReadByteData(int, int)
+     */
+    CompletableFuture<Integer> i2cReadByteData(int handle, int register);
+
+    /**
+     * This writes a single 16 bit word to the specified register of the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to write to. (0-255)
+     * @param value raw word value (0-0xFFFF) to write to I2C device
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_I2C#i2cWriteWordData(int, int, int)
+     */
+    CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value);
+
+    /**
+     * This reads a single 16 bit word from the specified register of the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to read from. (0-255)
+     * @return future completed with the word read (&gt;=0) or the raw PiGpio error code
+     * @see PiGpio_I2C#i2cReadWordData(int, int)
+     */
+    CompletableFuture<Integer> i2cReadWordData(int handle, int register);
+
+    /**
+     * This reads count bytes from the specified register of the device associated with the handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to read from. (0-255)
+     * @param length the maximum number of bytes to read (1-32)
+     * @return future completed with the bytes read; completed exceptionally if the read failed
+     * @see PiGpio_I2C#i2cReadI2CBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<byte[]> i2cReadI2CBlockData(int handle, int register, int length);
+
+    /**
+     * This writes 1 to 32 bytes to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param register the I2C register address to write to. (0-255)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write (maximum 32 bytes supported)
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_I2C#i2cWriteI2CBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length);
+
+    /**
+     * This function writes multiple bytes from the byte array to the SPI device associated with the handle.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write
+     * @return future completed with the raw PiGpio result code
+     * @see PiGpio_SPI#spiWrite(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length);
+
+    /**
+     * This function transfers (writes/reads simultaneously) multiple bytes with the SPI
+     * device associated with the handle.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param write the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to transfer
+     * @return future completed with the bytes read; completed exceptionally if the transfer failed
+     * @see PiGpio_SPI#spiXfer(int, byte[], int, byte[], int, int)
+     */
+    CompletableFuture<byte[]> spiXfer(int handle, byte[] write, int offset, int length);
+}
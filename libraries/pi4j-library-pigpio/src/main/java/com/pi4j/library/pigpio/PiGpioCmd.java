@@ -177,10 +177,33 @@ public enum PiGpioCmd {
      * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
      */
     public static PiGpioCmd from(Number value){
+        return from(value.intValue());
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     */
+    public static PiGpioCmd from(int value){
+        if(value < 0 || value >= LOOKUP.length) return UNKNOWN;
+        return LOOKUP[value];
+    }
+
+    // command lookup table indexed by command value; avoids cloning and
+    // scanning the values() array every time a reply packet is decoded
+    private static final PiGpioCmd[] LOOKUP;
+    static {
+        int max = 0;
+        for(PiGpioCmd c : PiGpioCmd.values()){
+            max = Math.max(max, c.value());
+        }
+        LOOKUP = new PiGpioCmd[max + 1];
+        java.util.Arrays.fill(LOOKUP, UNKNOWN);
         for(PiGpioCmd c : PiGpioCmd.values()){
-            if(c.value() == value.intValue()) return c;
+            if(c.value() >= 0) LOOKUP[c.value()] = c;
         }
-        return UNKNOWN;
     }
 
 
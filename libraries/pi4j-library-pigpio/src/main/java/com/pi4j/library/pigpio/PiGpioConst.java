@@ -41,6 +41,18 @@ public interface PiGpioConst {
     int DEFAULT_PORT    = 8888;
     /** Constant <code>DEFAULT_HOST="127.0.0.1"</code> */
     String DEFAULT_HOST = "127.0.0.1";
+    /** Constant <code>DEFAULT_SOCKET_TIMEOUT=500</code> (milliseconds) */
+    int DEFAULT_SOCKET_TIMEOUT = 500;
+
+    // --------------------------------------
+    // DEFAULT SOCKET CONNECTION POOL PROPERTIES
+    // --------------------------------------
+    /** Constant <code>DEFAULT_POOL_SIZE=4</code> */
+    int DEFAULT_POOL_SIZE = 4;
+    /** Constant <code>DEFAULT_POOL_IDLE_TIMEOUT=60000</code> (milliseconds) */
+    long DEFAULT_POOL_IDLE_TIMEOUT = 60000;
+    /** Constant <code>DEFAULT_POOL_HEALTH_CHECK_INTERVAL=10000</code> (milliseconds) */
+    long DEFAULT_POOL_HEALTH_CHECK_INTERVAL = 10000;
 
     // ----------------------------------
     // PIGPIO PIN RANGE
@@ -398,6 +410,108 @@ public interface PiGpioConst {
     /** Constant <code>PI_MAX_MILS_DELAY=60000</code> */
     int PI_MAX_MILS_DELAY           = 60000;   /* 60 seconds */
 
+    // ----------------------------------
+    // WAVES
+    // ----------------------------------
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT=0</code> */
+    int PI_WAVE_MODE_ONE_SHOT      = 0;
+    /** Constant <code>PI_WAVE_MODE_REPEAT=1</code> */
+    int PI_WAVE_MODE_REPEAT        = 1;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT_SYNC=2</code> */
+    int PI_WAVE_MODE_ONE_SHOT_SYNC = 2;
+    /** Constant <code>PI_WAVE_MODE_REPEAT_SYNC=3</code> */
+    int PI_WAVE_MODE_REPEAT_SYNC   = 3;
+    /** Constant <code>PI_WAVE_MIN_BAUD=50</code> */
+    int PI_WAVE_MIN_BAUD           = 50;
+    /** Constant <code>PI_WAVE_MAX_BAUD=1000000</code> */
+    int PI_WAVE_MAX_BAUD           = 1000000;
+    /** Constant <code>PI_WAVE_MAX_PULSES=12000</code> */
+    int PI_WAVE_MAX_PULSES         = 12000;
+    /** Constant <code>PI_WAVE_MAX_CHARS=2400</code> */
+    int PI_WAVE_MAX_CHARS          = 2400;
+    /** Constant <code>PI_MAX_WAVES=250</code> */
+    int PI_MAX_WAVES               = 250;
+    /** Constant <code>PI_MAX_WAVE_CYCLES=65535</code> */
+    int PI_MAX_WAVE_CYCLES         = 65535;
+    /** Constant <code>PI_MAX_WAVE_DELAY=65535</code> */
+    int PI_MAX_WAVE_DELAY          = 65535;
+    /** Constant <code>PI_MAX_WAVE_CHAIN=600</code>; maximum length of a wave chain in bytes */
+    int PI_MAX_WAVE_CHAIN          = 600;
+    /** Constant <code>PI_MAX_WAVE_CHAIN_LOOPS=20</code>; maximum nesting depth of wave chain loops */
+    int PI_MAX_WAVE_CHAIN_LOOPS    = 20;
+    /** Constant <code>PI_WAVE_NOT_FOUND=9998</code>; transmitted wave not found */
+    int PI_WAVE_NOT_FOUND          = 9998;
+    /** Constant <code>PI_NO_TX_WAVE=9999</code>; no wave being transmitted */
+    int PI_NO_TX_WAVE              = 9999;
+
+    // ----------------------------------
+    // SCRIPTS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SCRIPTS=32</code> */
+    int PI_MAX_SCRIPTS             = 32;
+    /** Constant <code>PI_MAX_SCRIPT_PARAMS=10</code> */
+    int PI_MAX_SCRIPT_PARAMS       = 10;
+    /** Constant <code>PI_SCRIPT_INITING=0</code> */
+    int PI_SCRIPT_INITING          = 0;
+    /** Constant <code>PI_SCRIPT_HALTED=1</code> */
+    int PI_SCRIPT_HALTED           = 1;
+    /** Constant <code>PI_SCRIPT_RUNNING=2</code> */
+    int PI_SCRIPT_RUNNING          = 2;
+    /** Constant <code>PI_SCRIPT_WAITING=3</code> */
+    int PI_SCRIPT_WAITING          = 3;
+    /** Constant <code>PI_SCRIPT_FAILED=4</code> */
+    int PI_SCRIPT_FAILED           = 4;
+
+    // ----------------------------------
+    // WATCHDOG & NOTIFICATION FLAGS
+    // ----------------------------------
+    /** Constant <code>PI_MIN_WDOG_TIMEOUT=0</code>; disables the watchdog */
+    int PI_MIN_WDOG_TIMEOUT        = 0;
+    /** Constant <code>PI_MAX_WDOG_TIMEOUT=60000</code> */
+    int PI_MAX_WDOG_TIMEOUT        = 60000;
+    /** Constant <code>PI_NTFY_FLAGS_EVENT=0x80</code> */
+    int PI_NTFY_FLAGS_EVENT        = 1 << 7;
+    /** Constant <code>PI_NTFY_FLAGS_ALIVE=0x40</code> */
+    int PI_NTFY_FLAGS_ALIVE        = 1 << 6;
+    /** Constant <code>PI_NTFY_FLAGS_WDOG=0x20</code> */
+    int PI_NTFY_FLAGS_WDOG         = 1 << 5;
+    /** Constant <code>PI_NTFY_FLAGS_BIT_MASK=0x1F</code>; the GPIO of a watchdog report or the id of an event report */
+    int PI_NTFY_FLAGS_BIT_MASK     = 0x1F;
+
+    // ----------------------------------
+    // BIT-BANG I2C/SPI/SERIAL
+    // ----------------------------------
+    /** Constant <code>PI_BB_I2C_MIN_BAUD=50</code> */
+    int PI_BB_I2C_MIN_BAUD         = 50;
+    /** Constant <code>PI_BB_I2C_MAX_BAUD=500000</code> */
+    int PI_BB_I2C_MAX_BAUD         = 500000;
+    /** Constant <code>PI_BB_I2C_START=2</code>; bit-bang I2C zip command, replaces PI_I2C_COMBINED_ON */
+    int PI_BB_I2C_START            = 2;
+    /** Constant <code>PI_BB_I2C_STOP=3</code>; bit-bang I2C zip command, replaces PI_I2C_COMBINED_OFF */
+    int PI_BB_I2C_STOP             = 3;
+    /** Constant <code>PI_BB_SPI_MIN_BAUD=50</code> */
+    int PI_BB_SPI_MIN_BAUD         = 50;
+    /** Constant <code>PI_BB_SPI_MAX_BAUD=250000</code> */
+    int PI_BB_SPI_MAX_BAUD         = 250000;
+    /** Constant <code>PI_BB_SER_MIN_BAUD=50</code> */
+    int PI_BB_SER_MIN_BAUD         = 50;
+    /** Constant <code>PI_BB_SER_MAX_BAUD=250000</code> */
+    int PI_BB_SER_MAX_BAUD         = 250000;
+    /** Constant <code>PI_MIN_BB_SER_DATA_BITS=1</code> */
+    int PI_MIN_BB_SER_DATA_BITS    = 1;
+    /** Constant <code>PI_MAX_BB_SER_DATA_BITS=32</code> */
+    int PI_MAX_BB_SER_DATA_BITS    = 32;
+    /** Constant <code>PI_BB_SER_NORMAL=0</code> */
+    int PI_BB_SER_NORMAL           = 0;
+    /** Constant <code>PI_BB_SER_INVERT=1</code> */
+    int PI_BB_SER_INVERT           = 1;
+    /** Constant <code>PI_BB_SPI_FLAGS_CS_HIGH=0x04</code>; chip select is active high */
+    int PI_BB_SPI_FLAGS_CS_HIGH    = 1 << 2;
+    /** Constant <code>PI_BB_SPI_FLAGS_TX_LSB=0x4000</code>; transmit the least significant bit first */
+    int PI_BB_SPI_FLAGS_TX_LSB     = 1 << 14;
+    /** Constant <code>PI_BB_SPI_FLAGS_RX_LSB=0x8000</code>; receive the least significant bit first */
+    int PI_BB_SPI_FLAGS_RX_LSB     = 1 << 15;
+
     // ----------------------------------
     // TIME TYPES
     // ----------------------------------
@@ -422,4 +536,24 @@ public interface PiGpioConst {
     int PI_IF_DISABLE_SOCK = 2; // PI_DISABLE_SOCK_IF in pigpio.h
     int PI_IF_LOCALHOST_SOCK = 4; // PI_LOCALHOST_SOCK_IF in pigpio.h
     int PI_DISABLE_ALERT = 8;
+
+    // ----------------------------------
+    // I2C ZIP COMMANDS
+    // ----------------------------------
+    /** Constant <code>PI_I2C_END=0</code> */
+    int PI_I2C_END          = 0;
+    /** Constant <code>PI_I2C_ESC=1</code>; the next P is two bytes (little endian) */
+    int PI_I2C_ESC          = 1;
+    /** Constant <code>PI_I2C_COMBINED_ON=2</code> */
+    int PI_I2C_COMBINED_ON  = 2;
+    /** Constant <code>PI_I2C_COMBINED_OFF=3</code> */
+    int PI_I2C_COMBINED_OFF = 3;
+    /** Constant <code>PI_I2C_ADDR=4</code> */
+    int PI_I2C_ADDR         = 4;
+    /** Constant <code>PI_I2C_FLAGS=5</code> */
+    int PI_I2C_FLAGS        = 5;
+    /** Constant <code>PI_I2C_READ=6</code> */
+    int PI_I2C_READ         = 6;
+    /** Constant <code>PI_I2C_WRITE=7</code> */
+    int PI_I2C_WRITE        = 7;
 }
@@ -0,0 +1,107 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotificationStats.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioNotificationStats class.</p>
+ * <p>
+ * Snapshot of the GPIO notification reports received from the PiGpio daemon.  Each report
+ * carries a 16-bit sequence number; gaps in the sequence are counted as dropped reports and
+ * sequence numbers that go backwards are counted as out-of-order reports.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioNotificationStats {
+
+    /** Constant <code>EMPTY</code> */
+    public static final PiGpioNotificationStats EMPTY = new PiGpioNotificationStats(0, 0, 0, 0);
+
+    protected final long reports;
+    protected final long batches;
+    protected final long dropped;
+    protected final long outOfOrder;
+
+    /**
+     * Default constructor
+     *
+     * @param reports total number of notification reports received
+     * @param batches number of reads that delivered at least one complete report
+     * @param dropped number of reports missing from the received sequence
+     * @param outOfOrder number of reports received with an out-of-order sequence number
+     */
+    public PiGpioNotificationStats(long reports, long batches, long dropped, long outOfOrder) {
+        this.reports = reports;
+        this.batches = batches;
+        this.dropped = dropped;
+        this.outOfOrder = outOfOrder;
+    }
+
+    /**
+     * The total number of notification reports received
+     *
+     * @return a long.
+     */
+    public long reports() {
+        return this.reports;
+    }
+
+    /**
+     * The number of batches (socket reads containing at least one complete report) received
+     *
+     * @return a long.
+     */
+    public long batches() {
+        return this.batches;
+    }
+
+    /**
+     * The number of reports detected as missing from the sequence
+     *
+     * @return a long.
+     */
+    public long dropped() {
+        return this.dropped;
+    }
+
+    /**
+     * The number of reports received with an out-of-order sequence number
+     *
+     * @return a long.
+     */
+    public long outOfOrder() {
+        return this.outOfOrder;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return String.format("<<NOTIFICATION STATS>> REPORTS=%d; BATCHES=%d; DROPPED=%d; OUT-OF-ORDER=%d",
+                reports, batches, dropped, outOfOrder);
+    }
+}
@@ -299,10 +299,7 @@ public class PiGpioPacket {
         // check for valid value
         if(value > 0) {
             this.p3 = 4; // 4 bytes length
-            ByteBuffer buffer = ByteBuffer.allocate(4);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            buffer.putInt(value);
-            this.data = buffer.array();
+            this.data = new byte[] { (byte)value, (byte)(value >> 8), (byte)(value >> 16), (byte)(value >> 24) }; // little endian
         }
         else{
             this.p3 = 0;
@@ -366,7 +363,7 @@ public class PiGpioPacket {
         PiGpioPacket packet = new PiGpioPacket(cmd, p1, p2)
             .p3(p3); // set RAW P3 value
 
-        int remaining = bytesToRead(packet, stream);
+        int remaining = bytesToRead(packet);
 
         if(remaining > 0) {
             var temp = stream.readNBytes(remaining);
@@ -378,20 +375,48 @@ public class PiGpioPacket {
     /**
      * The packet may indicate the number of bytes to expect from the stream.
      * <p>
-     * E.g. I2C packets provide this value via {@link PiGpioPacket#p3}
+     * Commands with an extended response (e.g. I2C/SPI/SERIAL reads) provide this value
+     * via {@link PiGpioPacket#p3}; a negative P3 value is an error code and no extended
+     * data follows.  All other commands never return extended data.  The number of bytes
+     * must be exact, as the next reply may already be waiting in the stream when commands
+     * are pipelined.
      *
      * @param packet the packet being read
-     * @param stream incoming data
      * @return the number of bytes to expect to read from the input stream
-     * @throws IOException
      */
-    static int bytesToRead(PiGpioPacket packet, InputStream stream) throws IOException {
-        switch (packet.cmd) {
-            case I2CRI:
+    static int bytesToRead(PiGpioPacket packet) {
+        return bytesToRead(packet.cmd, packet.p3);
+    }
+
+    /**
+     * The number of extended data bytes that follow a reply header.
+     *
+     * @param cmd the command of the reply being read
+     * @param p3 the raw P3 value of the reply being read
+     * @return the number of bytes to expect to read from the input stream
+     * @see #bytesToRead(PiGpioPacket)
+     */
+    public static int bytesToRead(PiGpioCmd cmd, int p3) {
+        switch (cmd) {
+            case BI2CZ:
+            case BSCX:
+            case BSPIX:
+            case CF2:
+            case FL:
+            case FR:
+            case I2CPK:
             case I2CRD:
-                return packet.p3;
+            case I2CRI:
+            case I2CRK:
+            case I2CZ:
+            case PROCP:
+            case SERR:
+            case SLR:
+            case SPIR:
+            case SPIX:
+                return Math.max(p3, 0);
             default:
-                return stream.available();
+                return 0;
         }
     }
 
@@ -420,6 +445,66 @@ public class PiGpioPacket {
         return bytes;
     }
 
+    /**
+     * Encode the packet into the provided buffer at its current position.  The buffer
+     * must use LITTLE ENDIAN byte order and have at least (16 + dataLength()) bytes remaining.
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     */
+    public static void encode(PiGpioPacket packet, ByteBuffer buffer){
+        encode(buffer, packet.cmd(), packet.p1(), packet.p2(), packet.p3());
+        if(packet.data != null && packet.data.length > 0) {
+            buffer.put(packet.data());        // <DATA>
+        }
+    }
+
+    /**
+     * Encode a packet header into the provided buffer at its current position without
+     * creating a packet instance.  The buffer must use LITTLE ENDIAN byte order and have
+     * at least 16 bytes remaining.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param p3 a int.
+     */
+    public static void encode(ByteBuffer buffer, PiGpioCmd cmd, int p1, int p2, int p3){
+        buffer.putInt(cmd.value());  // CMD
+        buffer.putInt(p1);           // <P1>
+        buffer.putInt(p2);           // <P2>
+        buffer.putInt(p3);           // <P3>
+    }
+
+    /**
+     * Decode a packet from the provided buffer.  The buffer must use LITTLE ENDIAN byte order
+     * and contain the 16 header bytes starting at its current position followed by any
+     * extended data bytes (see {@link #bytesToRead(PiGpioCmd, int)}).
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public static PiGpioPacket decode(ByteBuffer buffer){
+        // parse packet parameters from raw received bytes
+        PiGpioCmd cmd = PiGpioCmd.from(buffer.getInt()); // CMD <4 bytes :: 0-3>
+        int p1 = buffer.getInt();                        // P1  <4 bytes :: 4-7>
+        int p2 = buffer.getInt();                        // P2  <4 bytes :: 8-11>
+        int p3 = buffer.getInt();                        // P3  <4 bytes :: 12-15>
+
+        // create new packet
+        PiGpioPacket packet = new PiGpioPacket(cmd, p1, p2)
+            .p3(p3); // set RAW P3 value
+
+        int remaining = Math.min(bytesToRead(cmd, p3), buffer.remaining());
+        if(remaining > 0) {
+            byte[] temp = new byte[remaining];
+            buffer.get(temp);
+            packet.data(temp);
+        }
+        return packet;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
@@ -0,0 +1,136 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPulse.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * A single step of a waveform: the GPIOs in the on mask are switched high and the
+ * GPIOs in the off mask are switched low, then the given delay elapses before the
+ * next pulse of the waveform is applied.
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+ */
+public final class PiGpioPulse {
+
+    private final int gpioOn;
+    private final int gpioOff;
+    private final int delay;
+
+    /**
+     * <p>Constructor for PiGpioPulse.</p>
+     *
+     * @param gpioOn bit mask of the GPIOs (0-31) to switch on
+     * @param gpioOff bit mask of the GPIOs (0-31) to switch off
+     * @param delay delay in microseconds before the next pulse
+     */
+    public PiGpioPulse(int gpioOn, int gpioOff, int delay) {
+        if((gpioOn & gpioOff) != 0)
+            throw new IllegalArgumentException("GPIOs cannot be switched on and off by the same pulse; overlapping mask: " +
+                Integer.toBinaryString(gpioOn & gpioOff));
+        if(delay < 0)
+            throw new IllegalArgumentException("Pulse delay cannot be negative: " + delay);
+        this.gpioOn = gpioOn;
+        this.gpioOff = gpioOff;
+        this.delay = delay;
+    }
+
+    /**
+     * Creates a pulse switching a single GPIO high for the given time.
+     *
+     * @param pin user_gpio: 0-31
+     * @param delay microseconds
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse high(int pin, int delay) {
+        validateUserPin(pin);
+        return new PiGpioPulse(1 << pin, 0, delay);
+    }
+
+    /**
+     * Creates a pulse switching a single GPIO low for the given time.
+     *
+     * @param pin user_gpio: 0-31
+     * @param delay microseconds
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse low(int pin, int delay) {
+        validateUserPin(pin);
+        return new PiGpioPulse(0, 1 << pin, delay);
+    }
+
+    /**
+     * Creates a pulse that does not change any GPIO and only delays the waveform.
+     *
+     * @param delay microseconds
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse delay(int delay) {
+        return new PiGpioPulse(0, 0, delay);
+    }
+
+    private static void validateUserPin(int pin) {
+        if(pin < PI_MIN_GPIO || pin > PI_MAX_USER_GPIO)
+            throw new IllegalArgumentException("Invalid user GPIO pin: " + pin + "; Valid range: " +
+                PI_MIN_GPIO + "-" + PI_MAX_USER_GPIO);
+    }
+
+    /**
+     * <p>gpioOn.</p>
+     *
+     * @return bit mask of the GPIOs switched on
+     */
+    public int gpioOn() {
+        return gpioOn;
+    }
+
+    /**
+     * <p>gpioOff.</p>
+     *
+     * @return bit mask of the GPIOs switched off
+     */
+    public int gpioOff() {
+        return gpioOff;
+    }
+
+    /**
+     * <p>delay.</p>
+     *
+     * @return delay in microseconds before the next pulse
+     */
+    public int delay() {
+        return delay;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PiGpioPulse{on=0x" + Integer.toHexString(gpioOn) + ", off=0x" + Integer.toHexString(gpioOff) +
+            ", delay=" + delay + "us}";
+    }
+}
@@ -0,0 +1,234 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioScript.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * A script stored on the pigpio library, for control loops running next to the hardware
+ * without a round trip to Java per step.
+ * <p>
+ * Example, mirroring GPIO 4 to GPIO 17 until stopped:
+ * <pre>
+ * try (PiGpioScript mirror = PiGpioScript.store(piGpio, "tag 1 r p0 sta v0 w p1 v0 mils 1 jmp 1")) {
+ *     mirror.start(4, 17);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">PIGPIO::Scripts</a>
+ */
+public class PiGpioScript implements AutoCloseable {
+
+    // polling interval while waiting for a script to initialise or halt
+    private static final long POLL_MICROS = 1000;
+
+    // maximum time to wait for a newly stored script to initialise
+    private static final long INIT_TIMEOUT_MILLIS = 1000;
+
+    private final PiGpio piGpio;
+    private final int id;
+    private volatile boolean closed = false;
+
+    /**
+     * <p>Constructor for PiGpioScript.</p>
+     *
+     * @param piGpio the pigpio instance the script was stored on
+     * @param id the script id
+     */
+    protected PiGpioScript(PiGpio piGpio, int id) {
+        this.piGpio = piGpio;
+        this.id = id;
+    }
+
+    /**
+     * Compile and store a script, waiting until it is ready to run.
+     *
+     * @param piGpio the pigpio instance to store the script on
+     * @param script the text of the script
+     * @return the stored script; close it to delete it
+     * @throws PiGpioException if the script is invalid or did not initialise in time
+     */
+    public static PiGpioScript store(PiGpio piGpio, String script) {
+        PiGpioScript stored = new PiGpioScript(piGpio, piGpio.gpioStoreScript(script));
+        try {
+            if (!stored.await(PiGpioScriptStatus.INITING, INIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new PiGpioException("PIGPIO ERROR: script " + stored.id() + " did not initialise within " +
+                    INIT_TIMEOUT_MILLIS + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stored.close();
+            throw new PiGpioException("Interrupted while waiting for script " + stored.id() + " to initialise", e);
+        } catch (RuntimeException e) {
+            stored.close();
+            throw e;
+        }
+        return stored;
+    }
+
+    /**
+     * <p>id.</p>
+     *
+     * @return the pigpio script id
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * <p>isClosed.</p>
+     *
+     * @return true once the script has been deleted
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Run the script.
+     *
+     * @param params 0-10 parameters, available to the script as p0-p9
+     * @return this script
+     */
+    public PiGpioScript start(int ... params) {
+        validateOpen();
+        piGpio.gpioRunScript(id, params);
+        return this;
+    }
+
+    /**
+     * Overwrite the first parameters of the script, whether it is running or not.
+     *
+     * @param params 0-10 parameters
+     * @return this script
+     */
+    public PiGpioScript update(int ... params) {
+        validateOpen();
+        piGpio.gpioUpdateScript(id, params);
+        return this;
+    }
+
+    /**
+     * <p>status.</p>
+     *
+     * @return the run status of the script
+     */
+    public PiGpioScriptStatus status() {
+        validateOpen();
+        return piGpio.gpioScriptStatus(id);
+    }
+
+    /**
+     * Get the current parameters of the script; scripts may use them to report results.
+     *
+     * @return the current values of p0-p9
+     */
+    public int[] parameters() {
+        validateOpen();
+        int[] params = new int[PI_MAX_SCRIPT_PARAMS];
+        piGpio.gpioScriptStatus(id, params);
+        return params;
+    }
+
+    /**
+     * <p>isRunning.</p>
+     *
+     * @return true if the script is running or waiting for a GPIO event
+     */
+    public boolean isRunning() {
+        PiGpioScriptStatus status = status();
+        return status == PiGpioScriptStatus.RUNNING || status == PiGpioScriptStatus.WAITING;
+    }
+
+    /**
+     * Wait for the script to stop running.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if the script is not running anymore, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (isRunning()) {
+            if (!sleepUntil(deadline)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stop the script if it is running.
+     */
+    public void stop() {
+        validateOpen();
+        piGpio.gpioStopScript(id);
+    }
+
+    /**
+     * Stop and delete the script, releasing its script id.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        try {
+            piGpio.gpioStopScript(id);
+        } finally {
+            closed = true;
+            piGpio.gpioDeleteScript(id);
+        }
+    }
+
+    // waits while the script has the given status
+    private boolean await(PiGpioScriptStatus status, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (piGpio.gpioScriptStatus(id) == status) {
+            if (!sleepUntil(deadline)) return false;
+        }
+        return true;
+    }
+
+    private static boolean sleepUntil(long deadline) throws InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return false;
+        TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MICROSECONDS.toNanos(POLL_MICROS)));
+        return true;
+    }
+
+    private void validateOpen() {
+        if (closed) throw new IllegalStateException("Script " + id + " has already been deleted");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PiGpioScript{id=" + id + (closed ? ", deleted" : "") + "}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioScriptStatus.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioScriptStatus class.</p>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+ */
+public enum PiGpioScriptStatus {
+    INITING (PI_SCRIPT_INITING),
+    HALTED  (PI_SCRIPT_HALTED),
+    RUNNING (PI_SCRIPT_RUNNING),
+    WAITING (PI_SCRIPT_WAITING),
+    FAILED  (PI_SCRIPT_FAILED);
+
+    private int value;
+
+    PiGpioScriptStatus(int value){
+        this.value = value;
+    }
+
+    /**
+     * <p>value.</p>
+     *
+     * @return a int.
+     */
+    public int value(){
+        return this.value;
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a {@link java.lang.Number} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioScriptStatus} object.
+     */
+    public static PiGpioScriptStatus from(Number value){
+        for(PiGpioScriptStatus c : PiGpioScriptStatus.values()){
+            if(c.value() == value.intValue()) return c;
+        }
+        throw new IllegalArgumentException("Unknown script status: " + value);
+    }
+}
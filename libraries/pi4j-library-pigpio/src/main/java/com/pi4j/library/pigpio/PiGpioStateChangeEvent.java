@@ -38,6 +38,8 @@ public class PiGpioStateChangeEvent {
     protected final PiGpioState state;
     protected final int pin;
     protected final long tick;
+    protected final long extendedTick;
+    protected final long sequence;
 
     /**
      * Default constructor
@@ -49,9 +51,43 @@ public class PiGpioStateChangeEvent {
     public PiGpioStateChangeEvent(final int pin,
                                   final PiGpioState state,
                                   final long tick){
+        this(pin, state, tick, -1);
+    }
+
+    /**
+     * <p>Constructor for PiGpioStateChangeEvent.</p>
+     *
+     * @param pin a int.
+     * @param state the value changed for this event instance
+     * @param tick a long.
+     * @param sequence notification report sequence number (0-65535) or -1 if not available
+     */
+    public PiGpioStateChangeEvent(final int pin,
+                                  final PiGpioState state,
+                                  final long tick,
+                                  final long sequence){
+        this(pin, state, tick, tick & 0xFFFFFFFFL, sequence);
+    }
+
+    /**
+     * <p>Constructor for PiGpioStateChangeEvent.</p>
+     *
+     * @param pin a int.
+     * @param state the value changed for this event instance
+     * @param tick a long.
+     * @param extendedTick the non-wrapping tick in microseconds, see {@link #extendedTick()}
+     * @param sequence notification report sequence number (0-65535) or -1 if not available
+     */
+    public PiGpioStateChangeEvent(final int pin,
+                                  final PiGpioState state,
+                                  final long tick,
+                                  final long extendedTick,
+                                  final long sequence){
         this.state = state;
         this.pin = pin;
         this.tick = tick;
+        this.extendedTick = extendedTick;
+        this.sequence = sequence;
     }
 
     /**
@@ -81,6 +117,25 @@ public class PiGpioStateChangeEvent {
         return this.tick;
     }
 
+    /**
+     * The tick time for this event in microseconds extended beyond the 32-bit wrap of the
+     * PIGPIO tick; the extended ticks of all pins of a PiGpio instance share a common base
+     *
+     * @return a long.
+     */
+    public long extendedTick() {
+        return this.extendedTick;
+    }
+
+    /**
+     * The notification report sequence number for this event; -1 if not available
+     *
+     * @return a long.
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
@@ -27,6 +27,8 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import java.util.List;
+
 /**
  * <p>PiGpioStateChangeListener interface.</p>
  *
@@ -40,4 +42,29 @@ public interface PiGpioStateChangeListener {
      * @param event a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} object.
      */
     void onChange(PiGpioStateChangeEvent event);
+
+    /**
+     * <p>onChanges.</p>
+     * <p>
+     * Invoked with all state changes decoded from a single batch of notification reports,
+     * in the order they occurred.  The default implementation forwards each event to
+     * {@link #onChange(PiGpioStateChangeEvent)}.
+     *
+     * @param events a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} objects.
+     */
+    default void onChanges(List<PiGpioStateChangeEvent> events) {
+        events.forEach(this::onChange);
+    }
+
+    /**
+     * <p>onWatchdog.</p>
+     * <p>
+     * Invoked when a GPIO with a watchdog had no level change for the watchdog timeout.
+     * Watchdog events are not passed to {@link #onChange(PiGpioStateChangeEvent)}; the
+     * default implementation ignores them.
+     *
+     * @param event a {@link com.pi4j.library.pigpio.PiGpioWatchdogEvent} object.
+     */
+    default void onWatchdog(PiGpioWatchdogEvent event) {
+    }
 }
@@ -0,0 +1,83 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWatchdogEvent.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioWatchdogEvent class.</p>
+ * <p>
+ * Reported when a GPIO with a watchdog (see {@link PiGpio_GPIO#gpioSetWatchdog(int, int)}) had no
+ * level change for the watchdog timeout; the state is the current level of the GPIO.
+ */
+public class PiGpioWatchdogEvent extends PiGpioStateChangeEvent {
+
+    /**
+     * <p>Constructor for PiGpioWatchdogEvent.</p>
+     *
+     * @param pin a int.
+     * @param state the current level of the GPIO
+     * @param tick a long.
+     * @param sequence notification report sequence number (0-65535) or -1 if not available
+     */
+    public PiGpioWatchdogEvent(final int pin,
+                               final PiGpioState state,
+                               final long tick,
+                               final long sequence){
+        super(pin, state, tick, sequence);
+    }
+
+    /**
+     * <p>Constructor for PiGpioWatchdogEvent.</p>
+     *
+     * @param pin a int.
+     * @param state the current level of the GPIO
+     * @param tick a long.
+     * @param extendedTick the non-wrapping tick in microseconds
+     * @param sequence notification report sequence number (0-65535) or -1 if not available
+     */
+    public PiGpioWatchdogEvent(final int pin,
+                               final PiGpioState state,
+                               final long tick,
+                               final long extendedTick,
+                               final long sequence){
+        super(pin, state, tick, extendedTick, sequence);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+        result.append("<<WATCHDOG EVENT>> PIN [");
+        result.append(this.pin());
+        result.append("] STATE: [");
+        result.append(this.state().name());
+        result.append("] (TICK=");
+        result.append(this.tick());
+        result.append(")");
+        return result.toString();
+    }
+}
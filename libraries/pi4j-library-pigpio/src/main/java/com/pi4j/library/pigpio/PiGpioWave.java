@@ -0,0 +1,571 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * A waveform created on the pigpio library and transmitted by DMA with microsecond accurate timing.
+ * <p>
+ * Waves are assembled with a {@link Builder} from pulses and serial data and own a pigpio wave id
+ * until they are closed.  Multiple waves can be transmitted back to back, looped and interleaved
+ * with delays using a {@link Chain}.
+ * <p>
+ * Example, a 100 pulse 1 kHz step signal on GPIO 18:
+ * <pre>
+ * try (PiGpioWave steps = PiGpioWave.newBuilder(piGpio).high(18, 500).low(18, 500).build()) {
+ *     PiGpioWave.newChain(piGpio).loop(100, steps).send();
+ *     steps.await(1, TimeUnit.SECONDS);
+ * }
+ * </pre>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+ */
+public class PiGpioWave implements AutoCloseable {
+
+    // polling interval while waiting for a transmission to finish
+    private static final long AWAIT_POLL_MICROS = 1000;
+
+    private final PiGpio piGpio;
+    private final int id;
+    private final long micros;
+    private volatile boolean closed = false;
+
+    /**
+     * <p>Constructor for PiGpioWave.</p>
+     *
+     * @param piGpio the pigpio instance the wave was created on
+     * @param id the wave id
+     * @param micros the length of the wave in microseconds
+     */
+    protected PiGpioWave(PiGpio piGpio, int id, long micros) {
+        this.piGpio = piGpio;
+        this.id = id;
+        this.micros = micros;
+    }
+
+    /**
+     * Create a builder for a new waveform.
+     *
+     * @param piGpio the pigpio instance to create the wave on
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioWave.Builder}
+     */
+    public static Builder newBuilder(PiGpio piGpio) {
+        return new Builder(piGpio);
+    }
+
+    /**
+     * Create a new chain of waveforms.
+     *
+     * @param piGpio the pigpio instance to transmit the chain on
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioWave.Chain}
+     */
+    public static Chain newChain(PiGpio piGpio) {
+        return new Chain(piGpio);
+    }
+
+    /**
+     * <p>id.</p>
+     *
+     * @return the pigpio wave id
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * <p>micros.</p>
+     *
+     * @return the length of the wave in microseconds
+     */
+    public long micros() {
+        return micros;
+    }
+
+    /**
+     * <p>isClosed.</p>
+     *
+     * @return true once the wave has been deleted
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Transmit the wave once, aborting any wave currently being transmitted.
+     *
+     * @return this wave
+     */
+    public PiGpioWave send() {
+        return send(PiGpioWaveMode.ONE_SHOT);
+    }
+
+    /**
+     * Transmit the wave repeatedly until stopped, aborting any wave currently being transmitted.
+     *
+     * @return this wave
+     */
+    public PiGpioWave repeat() {
+        return send(PiGpioWaveMode.REPEAT);
+    }
+
+    /**
+     * Transmit the wave in the given mode.
+     *
+     * @param mode the transmission mode; the SYNC modes start after the current wave finishes its cycle
+     * @return this wave
+     */
+    public PiGpioWave send(PiGpioWaveMode mode) {
+        validateOpen();
+        piGpio.gpioWaveTxSend(id, mode);
+        return this;
+    }
+
+    /**
+     * <p>isTransmitting.</p>
+     *
+     * @return true if this wave is currently being transmitted
+     */
+    public boolean isTransmitting() {
+        return !closed && piGpio.gpioWaveTxAt() == id;
+    }
+
+    /**
+     * Wait for the current transmission to finish.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if no wave is being transmitted anymore, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (piGpio.gpioWaveTxBusy()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return false;
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MICROSECONDS.toNanos(AWAIT_POLL_MICROS)));
+        }
+        return true;
+    }
+
+    /**
+     * Abort the transmission if this wave is currently being transmitted.
+     */
+    public void stop() {
+        if (isTransmitting()) {
+            piGpio.gpioWaveTxStop();
+        }
+    }
+
+    /**
+     * Stop the transmission of this wave and delete it, releasing its wave id.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        stop();
+        closed = true;
+        piGpio.gpioWaveDelete(id);
+    }
+
+    private void validateOpen() {
+        if (closed) throw new IllegalStateException("Wave " + id + " has already been closed");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PiGpioWave{id=" + id + ", micros=" + micros + (closed ? ", closed" : "") + "}";
+    }
+
+    /**
+     * Builder assembling pulses and serial data into a new wave.
+     * <p>
+     * Each part starts when the previous one has ended.  Waves are built from the
+     * pending wave data shared by the whole pigpio instance, so building is serialized
+     * per {@link PiGpio} instance.
+     */
+    public static class Builder {
+
+        // pulses added per call, keeping socket command extensions small
+        private static final int PULSES_PER_ADD = 1000;
+
+        private final PiGpio piGpio;
+        private final List<Part> parts = new ArrayList<>();
+        private List<PiGpioPulse> pulses = null;
+        private long time = 0;
+
+        private Builder(PiGpio piGpio) {
+            this.piGpio = piGpio;
+        }
+
+        /**
+         * Append a pulse.
+         *
+         * @param pulse the pulse
+         * @return this builder
+         */
+        public Builder pulse(PiGpioPulse pulse) {
+            if (pulses == null) {
+                pulses = new ArrayList<>();
+                parts.add(new PulsePart(time, pulses));
+            }
+            pulses.add(pulse);
+            time += pulse.delay();
+            return this;
+        }
+
+        /**
+         * Append a pulse switching the GPIOs of the on mask high and those of the off mask low.
+         *
+         * @param gpioOn bit mask of the GPIOs (0-31) to switch on
+         * @param gpioOff bit mask of the GPIOs (0-31) to switch off
+         * @param micros time until the next pulse
+         * @return this builder
+         */
+        public Builder pulse(int gpioOn, int gpioOff, int micros) {
+            return pulse(new PiGpioPulse(gpioOn, gpioOff, micros));
+        }
+
+        /**
+         * Append pulses.
+         *
+         * @param pulses the pulses
+         * @return this builder
+         */
+        public Builder pulses(Collection<PiGpioPulse> pulses) {
+            pulses.forEach(this::pulse);
+            return this;
+        }
+
+        /**
+         * Append a pulse switching the GPIO high.
+         *
+         * @param pin user_gpio: 0-31
+         * @param micros time until the next pulse
+         * @return this builder
+         */
+        public Builder high(int pin, int micros) {
+            return pulse(PiGpioPulse.high(pin, micros));
+        }
+
+        /**
+         * Append a pulse switching the GPIO low.
+         *
+         * @param pin user_gpio: 0-31
+         * @param micros time until the next pulse
+         * @return this builder
+         */
+        public Builder low(int pin, int micros) {
+            return pulse(PiGpioPulse.low(pin, micros));
+        }
+
+        /**
+         * Append a delay not changing any GPIO.
+         *
+         * @param micros the delay
+         * @return this builder
+         */
+        public Builder delay(int micros) {
+            return pulse(PiGpioPulse.delay(micros));
+        }
+
+        /**
+         * Append serial data with 8 data bits and 1 stop bit.
+         *
+         * @param pin user_gpio: 0-31
+         * @param baud 50-1000000
+         * @param data the data to send
+         * @return this builder
+         */
+        public Builder serial(int pin, int baud, byte ... data) {
+            return serial(pin, baud, 8, 2, data);
+        }
+
+        /**
+         * Append serial data.  Characters of 9-16 data bits take two bytes (little endian)
+         * and characters of 17-32 data bits take four bytes of the data.
+         *
+         * @param pin user_gpio: 0-31
+         * @param baud 50-1000000
+         * @param dataBits 1-32
+         * @param stopBits 2-8 (in half bits)
+         * @param data the data to send
+         * @return this builder
+         */
+        public Builder serial(int pin, int baud, int dataBits, int stopBits, byte[] data) {
+            if (pin < PI_MIN_GPIO || pin > PI_MAX_USER_GPIO)
+                throw new IllegalArgumentException("Invalid user GPIO pin: " + pin);
+            if (baud < PI_WAVE_MIN_BAUD || baud > PI_WAVE_MAX_BAUD)
+                throw new IllegalArgumentException("Invalid baud rate: " + baud + "; Valid range: " +
+                    PI_WAVE_MIN_BAUD + "-" + PI_WAVE_MAX_BAUD);
+            if (dataBits < 1 || dataBits > 32)
+                throw new IllegalArgumentException("Invalid data bits: " + dataBits + "; Valid range: 1-32");
+            if (stopBits < 2 || stopBits > 8)
+                throw new IllegalArgumentException("Invalid stop half bits: " + stopBits + "; Valid range: 2-8");
+            int width = dataBits <= 8 ? 1 : dataBits <= 16 ? 2 : 4;
+            if (data.length % width != 0)
+                throw new IllegalArgumentException("Serial data of " + dataBits + " bit characters must be a multiple of " +
+                    width + " bytes; length: " + data.length);
+
+            pulses = null;
+            parts.add(new SerialPart(time, pin, baud, dataBits, stopBits, data.clone()));
+
+            // start bit, data bits and stop bits per character; stop bits are counted in half bits
+            long halfBits = (long) (data.length / width) * (2 * (1 + dataBits) + stopBits);
+            time += (halfBits * 1_000_000L + 2L * baud - 1) / (2L * baud);
+            return this;
+        }
+
+        /**
+         * <p>micros.</p>
+         *
+         * @return the length of the wave built so far in microseconds
+         */
+        public long micros() {
+            return time;
+        }
+
+        /**
+         * Create the wave on the pigpio library.
+         *
+         * @return the new wave; close it to release its wave id
+         */
+        public PiGpioWave build() {
+            if (parts.isEmpty()) throw new IllegalStateException("Cannot create an empty wave");
+            synchronized (piGpio) {
+                try {
+                    piGpio.gpioWaveAddNew();
+                    for (Part part : parts) {
+                        part.add(piGpio);
+                    }
+                    return new PiGpioWave(piGpio, piGpio.gpioWaveCreate(), time);
+                } catch (RuntimeException e) {
+                    // discard the partially added wave data
+                    try {
+                        piGpio.gpioWaveAddNew();
+                    } catch (RuntimeException suppressed) {
+                        e.addSuppressed(suppressed);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private interface Part {
+            void add(PiGpio piGpio);
+        }
+
+        private static final class PulsePart implements Part {
+            private final long start;
+            private final List<PiGpioPulse> pulses;
+
+            PulsePart(long start, List<PiGpioPulse> pulses) {
+                this.start = start;
+                this.pulses = pulses;
+            }
+
+            @Override
+            public void add(PiGpio piGpio) {
+                // added pulses are merged into the wave from its start, so offset each chunk by a leading delay
+                long offset = start;
+                for (int i = 0; i < pulses.size(); i += PULSES_PER_ADD) {
+                    List<PiGpioPulse> chunk = pulses.subList(i, Math.min(i + PULSES_PER_ADD, pulses.size()));
+                    PiGpioPulse[] add;
+                    if (offset > 0) {
+                        add = new PiGpioPulse[chunk.size() + 1];
+                        add[0] = PiGpioPulse.delay(Math.toIntExact(offset));
+                        for (int j = 0; j < chunk.size(); j++) add[j + 1] = chunk.get(j);
+                    } else {
+                        add = chunk.toArray(new PiGpioPulse[0]);
+                    }
+                    piGpio.gpioWaveAddGeneric(add);
+                    for (PiGpioPulse pulse : chunk) offset += pulse.delay();
+                }
+            }
+        }
+
+        private static final class SerialPart implements Part {
+            private final long start;
+            private final int pin, baud, dataBits, stopBits;
+            private final byte[] data;
+
+            SerialPart(long start, int pin, int baud, int dataBits, int stopBits, byte[] data) {
+                this.start = start;
+                this.pin = pin;
+                this.baud = baud;
+                this.dataBits = dataBits;
+                this.stopBits = stopBits;
+                this.data = data;
+            }
+
+            @Override
+            public void add(PiGpio piGpio) {
+                piGpio.gpioWaveAddSerial(pin, baud, dataBits, stopBits, Math.toIntExact(start), data);
+            }
+        }
+    }
+
+    /**
+     * A chain of waves, loops and delays transmitted as a whole.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    public static class Chain {
+
+        private static final int COMMAND = 255;
+        private static final int LOOP_START = 0;
+        private static final int LOOP_REPEAT = 1;
+        private static final int DELAY = 2;
+        private static final int LOOP_FOREVER = 3;
+
+        private final PiGpio piGpio;
+        private final byte[] buffer = new byte[PI_MAX_WAVE_CHAIN];
+        private int length = 0;
+        private int depth = 0;
+        private boolean forever = false;
+
+        private Chain(PiGpio piGpio) {
+            this.piGpio = piGpio;
+        }
+
+        /**
+         * Append waves transmitted one after the other.
+         *
+         * @param waves the waves
+         * @return this chain
+         */
+        public Chain wave(PiGpioWave ... waves) {
+            for (PiGpioWave wave : waves) {
+                if (wave.isClosed()) throw new IllegalStateException("Wave " + wave.id() + " has already been closed");
+                if (wave.id() >= COMMAND) throw new IllegalArgumentException("Wave id " + wave.id() + " cannot be chained");
+                append(wave.id());
+            }
+            return this;
+        }
+
+        /**
+         * Start a loop; loops may be nested up to 20 deep.
+         *
+         * @return this chain
+         */
+        public Chain loopStart() {
+            if (depth == PI_MAX_WAVE_CHAIN_LOOPS)
+                throw new IllegalStateException("Wave chain loops cannot be nested more than " + PI_MAX_WAVE_CHAIN_LOOPS + " deep");
+            append(COMMAND, LOOP_START);
+            depth++;
+            return this;
+        }
+
+        /**
+         * End the innermost loop, transmitting its content the given number of times.
+         *
+         * @param count 0-65535
+         * @return this chain
+         */
+        public Chain loopEnd(int count) {
+            if (depth == 0) throw new IllegalStateException("No wave chain loop started");
+            if (count < 0 || count > PI_MAX_WAVE_CYCLES)
+                throw new IllegalArgumentException("Invalid loop count: " + count + "; Valid range: 0-" + PI_MAX_WAVE_CYCLES);
+            append(COMMAND, LOOP_REPEAT, count & 0xFF, count >> 8);
+            depth--;
+            return this;
+        }
+
+        /**
+         * End the innermost loop, transmitting its content until stopped.  Nothing may follow.
+         *
+         * @return this chain
+         */
+        public Chain loopForever() {
+            if (depth == 0) throw new IllegalStateException("No wave chain loop started");
+            append(COMMAND, LOOP_FOREVER);
+            depth--;
+            forever = true;
+            return this;
+        }
+
+        /**
+         * Append a loop transmitting the waves the given number of times.
+         *
+         * @param count 0-65535
+         * @param waves the waves
+         * @return this chain
+         */
+        public Chain loop(int count, PiGpioWave ... waves) {
+            return loopStart().wave(waves).loopEnd(count);
+        }
+
+        /**
+         * Append a delay.
+         *
+         * @param micros the delay in microseconds
+         * @return this chain
+         */
+        public Chain delay(long micros) {
+            if (micros < 0) throw new IllegalArgumentException("Delay cannot be negative: " + micros);
+            while (micros > 0) {
+                int delay = (int) Math.min(micros, PI_MAX_WAVE_DELAY);
+                append(COMMAND, DELAY, delay & 0xFF, delay >> 8);
+                micros -= delay;
+            }
+            return this;
+        }
+
+        /**
+         * <p>toArray.</p>
+         *
+         * @return the encoded chain
+         */
+        public byte[] toArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        /**
+         * Transmit the chain, aborting any wave currently being transmitted.
+         */
+        public void send() {
+            if (depth != 0) throw new IllegalStateException(depth + " wave chain loop(s) not ended");
+            if (length == 0) throw new IllegalStateException("Cannot send an empty wave chain");
+            piGpio.gpioWaveChain(buffer, length);
+        }
+
+        private void append(int ... values) {
+            if (forever) throw new IllegalStateException("Nothing may follow a loop repeating forever");
+            if (length + values.length > buffer.length)
+                throw new IllegalStateException("Wave chain exceeds " + PI_MAX_WAVE_CHAIN + " bytes");
+            for (int value : values) buffer[length++] = (byte) value;
+        }
+    }
+}
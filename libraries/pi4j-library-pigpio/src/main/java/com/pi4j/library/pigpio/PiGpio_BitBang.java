@@ -0,0 +1,224 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_BitBang.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_BitBang interface.</p>
+ * <p>
+ * Bit-banged I2C, SPI and serial (receive) buses on arbitrary GPIOs.  The bit-banging is
+ * performed by the pigpio library next to the hardware, which is much faster and has far
+ * more consistent timing than toggling the GPIOs from Java.  Bit-banged serial data is
+ * transmitted with serial waveforms (see {@link PiGpio_Wave#gpioWaveAddSerial}).
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+ */
+public interface PiGpio_BitBang {
+
+    // -------------------------------------------------------------------
+    // BIT-BANG I2C
+    // -------------------------------------------------------------------
+
+    /**
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * Bit banging I2C allows for certain operations which are not possible with the standard
+     * I2C driver, e.g. baud rates as low as 50 and repeated starts.
+     * <p>
+     * The GPIO used for SDA and SCL must have pull-ups to 3V3 connected.
+     *
+     * @param sda the GPIO used for SDA (0-31)
+     * @param scl the GPIO used for SCL (0-31)
+     * @param baud the baud rate (50-500000)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_I2C_BAUD, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    int bbI2COpen(int sda, int scl, int baud);
+
+    /**
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     *
+     * @param sda the GPIO used for SDA in a prior call to bbI2COpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_I2C_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    int bbI2CClose(int sda);
+
+    /**
+     * This function executes a sequence of bit banged I2C operations.  The operations to be
+     * performed are specified by the contents of the command buffer; any read data is
+     * returned concatenated in the read buffer.
+     * <p>
+     * The commands are END, ESCAPE, START, STOP, ADDRESS P, FLAGS lsb msb, READ P and
+     * WRITE P data (see the PI_I2C_* and PI_BB_I2C_* constants of {@link PiGpioConst}).
+     * A START while a transfer is in progress is sent as a repeated start.
+     *
+     * @param sda the GPIO used for SDA in a prior call to bbI2COpen
+     * @param commands the command buffer
+     * @param commandLength the number of command bytes
+     * @param buffer a byte array (pre-allocated) to receive the read data
+     * @param length the size of the read buffer; must be larger than the total read length
+     * @return Returns the number of bytes read (&gt;=0) if OK, otherwise PI_BAD_USER_GPIO, PI_NOT_I2C_GPIO,
+     *         PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, PI_I2C_READ_FAILED,
+     *         or PI_I2C_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    int bbI2CZip(int sda, byte[] commands, int commandLength, byte[] buffer, int length);
+
+    // -------------------------------------------------------------------
+    // BIT-BANG SPI
+    // -------------------------------------------------------------------
+
+    /**
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate and mode.
+     * <p>
+     * spiFlags consists of the mode bits [mm] (0-3), the [p] bit ({@link PiGpioConst#PI_BB_SPI_FLAGS_CS_HIGH})
+     * for an active high chip select, and the [T] and [R] bits ({@link PiGpioConst#PI_BB_SPI_FLAGS_TX_LSB},
+     * {@link PiGpioConst#PI_BB_SPI_FLAGS_RX_LSB}) to transmit and receive the least significant bit first.
+     *
+     * @param cs the GPIO used for the slave select (0-31)
+     * @param miso the GPIO used for MISO (0-31)
+     * @param mosi the GPIO used for MOSI (0-31)
+     * @param sclk the GPIO used for SCLK (0-31)
+     * @param baud the baud rate in bits per second (50-250000)
+     * @param spiFlags the SPI mode and flags
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_SPI_BAUD, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int spiFlags);
+
+    /**
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     *
+     * @param cs the GPIO used for the slave select in a prior call to bbSPIOpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_SPI_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    int bbSPIClose(int cs);
+
+    /**
+     * This function executes a bit banged SPI transfer: the bytes of the write buffer are
+     * transmitted while the same number of bytes is received into the read buffer.
+     *
+     * @param cs the GPIO used for the slave select in a prior call to bbSPIOpen
+     * @param write the data to transmit
+     * @param writeOffset the offset of the first byte to transmit
+     * @param read a byte array (pre-allocated) to receive the data
+     * @param readOffset the offset at which to store the first received byte
+     * @param numberOfBytes the number of bytes to transfer
+     * @return Returns the number of bytes transferred if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_SPI_GPIO or PI_BAD_POINTER.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes);
+
+    /**
+     * This function executes a bit banged SPI transfer.
+     *
+     * @param cs the GPIO used for the slave select in a prior call to bbSPIOpen
+     * @param write the data to transmit
+     * @param read a byte array (pre-allocated) to receive the data
+     * @param numberOfBytes the number of bytes to transfer
+     * @return Returns the number of bytes transferred if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_SPI_GPIO or PI_BAD_POINTER.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    default int bbSPIXfer(int cs, byte[] write, byte[] read, int numberOfBytes){
+        return bbSPIXfer(cs, write, 0, read, 0, numberOfBytes);
+    }
+
+    // -------------------------------------------------------------------
+    // BIT-BANG SERIAL (RECEIVE)
+    // -------------------------------------------------------------------
+
+    /**
+     * This function opens a GPIO for bit bang reading of serial data.  The serial data is
+     * held in a cyclic buffer and is read using gpioSerialRead.
+     *
+     * @param pin the GPIO receiving the serial data (0-31)
+     * @param baud the baud rate (50-250000)
+     * @param dataBits the number of data bits (1-32)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_WAVE_BAUD, PI_BAD_DATABITS,
+     *         or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    int gpioSerialReadOpen(int pin, int baud, int dataBits);
+
+    /**
+     * This function configures the level logic for bit bang serial reads.  Use inverted
+     * logic for serial data with a low idle level.
+     *
+     * @param pin the GPIO opened in a prior call to gpioSerialReadOpen
+     * @param invert true for inverted serial logic levels
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_GPIO_IN_USE, PI_NOT_SERIAL_GPIO,
+     *         or PI_BAD_SER_INVERT.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    int gpioSerialReadInvert(int pin, boolean invert);
+
+    /**
+     * This function copies up to length bytes of data read from the bit bang serial cyclic
+     * buffer to the buffer starting at offset.
+     * <p>
+     * For data bits 1-8 there will be one byte per character; for data bits 9-16 there will
+     * be two bytes per character and for data bits 17-32 there will be four bytes per character.
+     *
+     * @param pin the GPIO opened in a prior call to gpioSerialReadOpen
+     * @param buffer a byte array (pre-allocated) to receive the data
+     * @param offset the offset at which to store the first received byte
+     * @param length the maximum number of bytes to read
+     * @return Returns the number of bytes copied if OK (&gt;=0), otherwise PI_BAD_USER_GPIO
+     *         or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    int gpioSerialRead(int pin, byte[] buffer, int offset, int length);
+
+    /**
+     * This function copies up to length bytes of data read from the bit bang serial cyclic
+     * buffer to the buffer.
+     *
+     * @param pin the GPIO opened in a prior call to gpioSerialReadOpen
+     * @param buffer a byte array (pre-allocated) to receive the data
+     * @param length the maximum number of bytes to read
+     * @return Returns the number of bytes copied if OK (&gt;=0), otherwise PI_BAD_USER_GPIO
+     *         or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    default int gpioSerialRead(int pin, byte[] buffer, int length){
+        return gpioSerialRead(pin, buffer, 0, length);
+    }
+
+    /**
+     * This function closes a GPIO for bit bang reading of serial data.
+     *
+     * @param pin the GPIO opened in a prior call to gpioSerialReadOpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    int gpioSerialReadClose(int pin);
+}
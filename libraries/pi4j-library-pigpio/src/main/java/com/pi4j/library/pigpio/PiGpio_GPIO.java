@@ -102,6 +102,64 @@ public interface PiGpio_GPIO {
         gpioWrite(pin, PiGpioState.from(state));
     }
 
+    /**
+     * Reads the levels of all GPIOs of a bank with a single operation.
+     *
+     * @param bank 1 for GPIO 0-31, 2 for GPIO 32-53
+     * @return the levels as a bit mask, bit 0 is the first GPIO of the bank
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    int gpioReadBank(int bank);
+
+    /**
+     * Reads the levels of GPIO 0-31 with a single operation.
+     *
+     * @return the levels as a bit mask, bit 0 is GPIO 0
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    default int gpioReadBank() {
+        return gpioReadBank(1);
+    }
+
+    /**
+     * Sets (HIGH) all GPIOs of a bank whose bit is set in the mask, atomically.
+     *
+     * @param bank 1 for GPIO 0-31, 2 for GPIO 32-53
+     * @param mask the GPIOs to set, bit 0 is the first GPIO of the bank
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    void gpioSetBank(int bank, int mask);
+
+    /**
+     * Sets (HIGH) all GPIOs 0-31 whose bit is set in the mask, atomically.
+     *
+     * @param mask the GPIOs to set, bit 0 is GPIO 0
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    default void gpioSetBank(int mask) {
+        gpioSetBank(1, mask);
+    }
+
+    /**
+     * Clears (LOW) all GPIOs of a bank whose bit is set in the mask, atomically.
+     *
+     * @param bank 1 for GPIO 0-31, 2 for GPIO 32-53
+     * @param mask the GPIOs to clear, bit 0 is the first GPIO of the bank
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    void gpioClearBank(int bank, int mask);
+
+    /**
+     * Clears (LOW) all GPIOs 0-31 whose bit is set in the mask, atomically.
+     *
+     * @param mask the GPIOs to clear, bit 0 is GPIO 0
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    default void gpioClearBank(int mask) {
+        gpioClearBank(1, mask);
+    }
+
     /**
      * Sets a glitch filter on a GPIO.  (AKA Debounce)
      * <p>
@@ -150,4 +208,18 @@ public interface PiGpio_GPIO {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioGlitchFilter">PIGPIO::gpioGlitchFilter</a>
      */
     void gpioNoiseFilter(int pin, int steady, int active);
+
+    /**
+     * Sets a watchdog for a GPIO.
+     * <p>
+     * The watchdog is nominally in milliseconds.  Only one watchdog may be registered per GPIO.
+     * The watchdog may be cancelled by setting timeout to 0.  Until cancelled a timeout will be
+     * reported every timeout milliseconds after the last GPIO activity.  Timeouts are delivered to
+     * {@link PiGpioStateChangeListener#onWatchdog(PiGpioWatchdogEvent)} of the listeners of the GPIO.
+     *
+     * @param pin user_gpio: 0-31
+     * @param timeout 0-60000 milliseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    void gpioSetWatchdog(int pin, int timeout);
 }
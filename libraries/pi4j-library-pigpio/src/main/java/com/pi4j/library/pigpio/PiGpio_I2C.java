@@ -238,7 +238,13 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteBlockData(handle, register, buffer.array(), offset, length);
+        // write straight from the backing array of heap buffers, or copy direct (or read-only) buffers
+        if(buffer.hasArray()){
+            return i2cWriteBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return i2cWriteBlockData(handle, register, temp, 0, length);
     }
 
     /**
@@ -1051,7 +1057,13 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteI2CBlockData(handle, register, buffer.array(), offset, length);
+        // write straight from the backing array of heap buffers, or copy direct (or read-only) buffers
+        if(buffer.hasArray()){
+            return i2cWriteI2CBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return i2cWriteI2CBlockData(handle, register, temp, 0, length);
     }
 
     /**
@@ -1408,7 +1420,13 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteDevice(handle, buffer.array(), offset, length);
+        // write straight from the backing array of heap buffers, or copy direct (or read-only) buffers
+        if(buffer.hasArray()){
+            return i2cWriteDevice(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return i2cWriteDevice(handle, temp, 0, length);
     }
 
     /**
@@ -1554,4 +1572,25 @@ public interface PiGpio_I2C {
     default int i2cWriteDevice(int handle, CharSequence data){
         return i2cWriteDevice(handle, data, data.length());
     }
+
+    /**
+     * This function executes a sequence of I2C operations.  The operations to be performed
+     * are specified by the contents of the command buffer; any read data is returned
+     * concatenated in the read buffer.
+     * <p>
+     * The commands are END, ESCAPE, COMBINED_ON, COMBINED_OFF, ADDRESS P, FLAGS lsb msb,
+     * READ P and WRITE P data (see the PI_I2C_* constants of {@link PiGpioConst}).  While
+     * combined mode is on, consecutive reads and writes are transferred as one transaction
+     * with repeated starts.  The address of the handle is only changed for the sequence.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param commands the command buffer
+     * @param commandLength the number of command bytes
+     * @param buffer a byte array (pre-allocated) to receive the read data
+     * @param length the size of the read buffer; must be larger than the total read length
+     * @return Returns the number of bytes read (&gt;=0) if OK, otherwise PI_BAD_HANDLE, PI_BAD_POINTER,
+     *         PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int length);
 }
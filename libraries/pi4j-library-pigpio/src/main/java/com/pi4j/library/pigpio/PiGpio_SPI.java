@@ -285,7 +285,13 @@ public interface PiGpio_SPI {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return spiWrite(handle, buffer.array(), offset, length);
+        // write straight from the backing array of heap buffers, or copy direct (or read-only) buffers
+        if(buffer.hasArray()){
+            return spiWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return spiWrite(handle, temp, 0, length);
     }
 
     /**
@@ -745,9 +751,21 @@ public interface PiGpio_SPI {
             numberOfBytes = write.capacity()-writeOffset;
         }
 
+        // write straight from the backing array of heap buffers, or copy direct buffers;
+        // implementations override this method to transfer directly from/to direct buffers
+        byte[] tx;
+        int txOffset = 0;
+        if(write.hasArray()){
+            tx = write.array();
+            txOffset = write.arrayOffset() + writeOffset;
+        } else {
+            tx = new byte[numberOfBytes];
+            write.duplicate().position(writeOffset).get(tx);
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[numberOfBytes];
-        int actualLength =spiXfer(handle, write.array(), 0 , temp, 0, numberOfBytes);
+        int actualLength =spiXfer(handle, tx, txOffset, temp, 0, numberOfBytes);
 
         // return any error codes ( < 0)
         if(actualLength < 0) return actualLength;
@@ -840,26 +858,6 @@ public interface PiGpio_SPI {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
      */
     default int spiXfer(int handle, ByteBuffer buffer, int offset, int length){
-        // perform bounds checking on requested length versus total remaining size available
-        if(length > (buffer.capacity()-offset)){
-            length = buffer.capacity()-offset;
-        }
-
-        // create a temporary byte array to read in the length of data bytes
-        byte[] temp = new byte[length];
-        int actualLength =spiXfer(handle, buffer.array(), 0 , temp, 0, length);
-
-        // return any error codes ( < 0)
-        if(actualLength < 0) return actualLength;
-
-        // perform bounds checking on number of bytes read versus the length requested
-        if(actualLength < length) length = actualLength;
-
-        // copy the data from the temporary byte array into the return buffer at the given offset
-        buffer.position(offset);
-        buffer.put(temp, 0, length);
-
-        // return actual number of bytes read
-        return length;
+        return spiXfer(handle, buffer, offset, buffer, offset, length);
     }
 }
@@ -0,0 +1,105 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Script.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_Script interface.</p>
+ * <p>
+ * Scripts are stored, compiled and executed by the pigpio library next to the hardware.
+ * Use {@link PiGpioScript} for a handle managing the script id.
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">PIGPIO::Scripts</a>
+ */
+public interface PiGpio_Script {
+
+    /**
+     * This function stores a null terminated script for later execution.
+     *
+     * @param script the text of the script
+     * @return the script id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    int gpioStoreScript(String script);
+
+    /**
+     * This function runs a stored script.
+     *
+     * @param scriptId the id of the stored script
+     * @param params 0-10 parameters, made available to the script as p0-p9
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    void gpioRunScript(int scriptId, int ... params);
+
+    /**
+     * This function sets the parameters of a script.  The script may or may not be running.
+     * The first numPar parameters of the script are overwritten with the new values.
+     *
+     * @param scriptId the id of the stored script
+     * @param params 0-10 parameters
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    void gpioUpdateScript(int scriptId, int ... params);
+
+    /**
+     * This function returns the run status of a stored script as well as the current values
+     * of parameters 0 to 9.
+     *
+     * @param scriptId the id of the stored script
+     * @param params an array receiving up to 10 current parameter values; may be null
+     * @return the script status
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params);
+
+    /**
+     * This function returns the run status of a stored script.
+     *
+     * @param scriptId the id of the stored script
+     * @return the script status
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    default PiGpioScriptStatus gpioScriptStatus(int scriptId){
+        return gpioScriptStatus(scriptId, null);
+    }
+
+    /**
+     * This function stops a running script.
+     *
+     * @param scriptId the id of the stored script
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    void gpioStopScript(int scriptId);
+
+    /**
+     * This function deletes a stored script.
+     *
+     * @param scriptId the id of the stored script
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    void gpioDeleteScript(int scriptId);
+}
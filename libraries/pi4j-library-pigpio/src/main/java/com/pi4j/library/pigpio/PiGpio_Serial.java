@@ -177,7 +177,13 @@ public interface PiGpio_Serial {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return serWrite(handle, buffer.array(), offset, length);
+        // write straight from the backing array of heap buffers, or copy direct (or read-only) buffers
+        if(buffer.hasArray()){
+            return serWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return serWrite(handle, temp, 0, length);
     }
 
     /**
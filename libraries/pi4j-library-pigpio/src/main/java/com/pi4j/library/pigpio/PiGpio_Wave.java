@@ -0,0 +1,271 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Wave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.List;
+
+/**
+ * <p>PiGpio_Wave interface.</p>
+ * <p>
+ * Waveforms are assembled from pulses and serial data, created as a numbered wave and then
+ * transmitted by DMA with microsecond accurate timing.  Use {@link PiGpioWave} for a builder
+ * managing the wave ids.
+ */
+public interface PiGpio_Wave {
+
+    /**
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    void gpioWaveClear();
+
+    /**
+     * This function starts a new empty waveform.  You wouldn't normally need to call this function
+     * as it is automatically called after a waveform is created with the gpioWaveCreate function.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    void gpioWaveAddNew();
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     * <p>
+     * The pulses are interleaved in time order within the existing waveform (if any).  Merging allows
+     * the waveform to be built in parts, that is the settings for GPIO#1 can be added, and then GPIO#2 etc.
+     * If the added waveform is intended to start after or within the existing waveform then the first
+     * pulse should consist of a delay.
+     *
+     * @param pulses an array of pulses
+     * @param offset the index of the first pulse to add
+     * @param length the number of pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    int gpioWaveAddGeneric(PiGpioPulse[] pulses, int offset, int length);
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * @param pulses the pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    default int gpioWaveAddGeneric(PiGpioPulse ... pulses){
+        return gpioWaveAddGeneric(pulses, 0, pulses.length);
+    }
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * @param pulses the pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    default int gpioWaveAddGeneric(List<PiGpioPulse> pulses){
+        return gpioWaveAddGeneric(pulses.toArray(new PiGpioPulse[0]));
+    }
+
+    /**
+     * This function adds a waveform representing serial data to the existing waveform (if any).
+     * The serial data starts offset microseconds from the start of the waveform.
+     * <p>
+     * NOTES: The serial data is formatted as one start bit, data bits, and stop bits.  It is legal
+     * to add serial data streams with different baud rates to the same waveform.  Bytes are sent
+     * as one byte per character for 1-8 data bits, two bytes (little endian) for 9-16 data bits
+     * and four bytes for 17-32 data bits.
+     *
+     * @param pin user_gpio: 0-31
+     * @param baud 50-1000000
+     * @param dataBits 1-32
+     * @param stopBits 2-8 (in half bits)
+     * @param offset microseconds from the start of the waveform
+     * @param data the data to send
+     * @param dataOffset the index of the first byte to send
+     * @param length the number of bytes to send
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddSerial">PIGPIO::gpioWaveAddSerial</a>
+     */
+    int gpioWaveAddSerial(int pin, int baud, int dataBits, int stopBits, int offset, byte[] data, int dataOffset, int length);
+
+    /**
+     * This function adds a waveform representing serial data to the existing waveform (if any).
+     *
+     * @param pin user_gpio: 0-31
+     * @param baud 50-1000000
+     * @param dataBits 1-32
+     * @param stopBits 2-8 (in half bits)
+     * @param offset microseconds from the start of the waveform
+     * @param data the data to send
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddSerial">PIGPIO::gpioWaveAddSerial</a>
+     */
+    default int gpioWaveAddSerial(int pin, int baud, int dataBits, int stopBits, int offset, byte[] data){
+        return gpioWaveAddSerial(pin, baud, dataBits, stopBits, offset, data, 0, data.length);
+    }
+
+    /**
+     * This function creates a waveform from the data provided by the prior calls to the
+     * gpioWaveAdd* functions.  Upon success a wave id greater than or equal to 0 is returned.
+     * The data provided by the gpioWaveAdd* functions is consumed by this function.
+     *
+     * @return the new waveform id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    int gpioWaveCreate();
+
+    /**
+     * This function deletes the waveform with id wave_id.  The wave is flagged for deletion;
+     * the resources used by the wave will only be reused when either of the following apply:
+     * all waves with higher numbered wave ids have been deleted or have been flagged for
+     * deletion, or a new wave is created which uses exactly the same resources as the current wave.
+     *
+     * @param waveId the waveform id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    void gpioWaveDelete(int waveId);
+
+    /**
+     * This function transmits the waveform with id wave_id.  The SYNC variants wait for the
+     * current waveform to reach the end of a cycle or finish before starting the new waveform.
+     *
+     * @param waveId the waveform id
+     * @param mode the transmission mode
+     * @return the number of DMA control blocks in the waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    int gpioWaveTxSend(int waveId, PiGpioWaveMode mode);
+
+    /**
+     * This function transmits a chain of waveforms.
+     * <p>
+     * The waves to be transmitted are specified by the contents of buf which contains an ordered list
+     * of wave ids and optional command codes and related data.  Use {@link PiGpioWave.Chain} to
+     * assemble the chain.
+     *
+     * @param buf the chain buffer
+     * @param length the number of bytes of the chain buffer to transmit
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    void gpioWaveChain(byte[] buf, int length);
+
+    /**
+     * This function returns the id of the waveform currently being transmitted.
+     *
+     * @return the waveform id or PI_WAVE_NOT_FOUND (9998) or PI_NO_TX_WAVE (9999)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    int gpioWaveTxAt();
+
+    /**
+     * This function checks to see if a waveform is currently being transmitted.
+     *
+     * @return true if a waveform is currently being transmitted
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    boolean gpioWaveTxBusy();
+
+    /**
+     * This function aborts the transmission of the current waveform.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    void gpioWaveTxStop();
+
+    /**
+     * This function returns the length in microseconds of the current waveform.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    int gpioWaveGetMicros();
+
+    /**
+     * This function returns the length in microseconds of the longest waveform created since gpioInitialise was called.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    int gpioWaveGetHighMicros();
+
+    /**
+     * This function returns the maximum possible size of a waveform in microseconds.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    int gpioWaveGetMaxMicros();
+
+    /**
+     * This function returns the length in pulses of the current waveform.
+     *
+     * @return pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    int gpioWaveGetPulses();
+
+    /**
+     * This function returns the length in pulses of the longest waveform created since gpioInitialise was called.
+     *
+     * @return pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    int gpioWaveGetHighPulses();
+
+    /**
+     * This function returns the maximum possible size of a waveform in pulses.
+     *
+     * @return pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    int gpioWaveGetMaxPulses();
+
+    /**
+     * This function returns the length in DMA control blocks of the current waveform.
+     *
+     * @return DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    int gpioWaveGetCbs();
+
+    /**
+     * This function returns the length in DMA control blocks of the longest waveform created since gpioInitialise was called.
+     *
+     * @return DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    int gpioWaveGetHighCbs();
+
+    /**
+     * This function returns the maximum possible size of a waveform in DMA control blocks.
+     *
+     * @return DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    int gpioWaveGetMaxCbs();
+}
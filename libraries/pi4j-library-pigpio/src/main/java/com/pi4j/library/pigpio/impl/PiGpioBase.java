@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import static com.pi4j.library.pigpio.PiGpioConst.*;
 
@@ -55,6 +56,11 @@ public abstract class PiGpioBase implements PiGpio {
     protected Map<Integer,List<PiGpioStateChangeListener>> pinChangeListeners = new ConcurrentHashMap<>();
     protected boolean initialized = false;
 
+    // last 32-bit tick received and the extended (non-wrapping) tick of this instance
+    private long lastTick = -1;
+    private long lastTickNanos = 0;
+    private long extendedTick = 0;
+
     /**
      * Close all open handles
      * Returns nothing.
@@ -154,6 +160,76 @@ public abstract class PiGpioBase implements PiGpio {
             throw new IllegalArgumentException("Invalid PIN number: " + pin + "; (supported pins: " + min + "-" + max + ")");
     }
 
+    /**
+     * <p>validateBank.</p>
+     *
+     * @param bank a int.
+     * @throws java.lang.IllegalArgumentException if {@code bank} is not 1 or 2.
+     */
+    protected void validateBank(int bank) throws IllegalArgumentException {
+        if(bank != 1 && bank != 2)
+            throw new IllegalArgumentException("Invalid GPIO bank: " + bank + "; (supported banks: 1 (GPIO 0-31), 2 (GPIO 32-53))");
+    }
+
+    /**
+     * <p>validateWaveId.</p>
+     *
+     * @param waveId a int.
+     * @throws java.lang.IllegalArgumentException if {@code waveId} is not valid.
+     */
+    protected void validateWaveId(int waveId) throws IllegalArgumentException {
+        if(waveId < 0 || waveId >= PI_MAX_WAVES)
+            throw new IllegalArgumentException("Invalid wave id: " + waveId + "; Valid range: 0-" + (PI_MAX_WAVES - 1));
+    }
+
+    /**
+     * <p>validateScriptId.</p>
+     *
+     * @param scriptId a int.
+     * @throws java.lang.IllegalArgumentException if {@code scriptId} is not valid.
+     */
+    protected void validateScriptId(int scriptId) throws IllegalArgumentException {
+        if(scriptId < 0 || scriptId >= PI_MAX_SCRIPTS)
+            throw new IllegalArgumentException("Invalid script id: " + scriptId + "; Valid range: 0-" + (PI_MAX_SCRIPTS - 1));
+    }
+
+    /**
+     * <p>validateScriptParams.</p>
+     *
+     * @param params an array of {@link int} objects.
+     * @throws java.lang.IllegalArgumentException if more than 10 parameters are given.
+     */
+    protected void validateScriptParams(int[] params) throws IllegalArgumentException {
+        if(params.length > PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Invalid number of script parameters: " + params.length +
+                "; Valid range: 0-" + PI_MAX_SCRIPT_PARAMS);
+    }
+
+    /**
+     * <p>validateWatchdogTimeout.</p>
+     *
+     * @param timeout a int.
+     * @throws java.lang.IllegalArgumentException if {@code timeout} is not valid.
+     */
+    protected void validateWatchdogTimeout(int timeout) throws IllegalArgumentException {
+        if(timeout < PI_MIN_WDOG_TIMEOUT || timeout > PI_MAX_WDOG_TIMEOUT)
+            throw new IllegalArgumentException("Invalid watchdog timeout: " + timeout + "; Valid range: " +
+                PI_MIN_WDOG_TIMEOUT + "-" + PI_MAX_WDOG_TIMEOUT);
+    }
+
+    /**
+     * <p>validateBaud.</p>
+     *
+     * @param baud a int.
+     * @param min the minimum supported baud rate
+     * @param max the maximum supported baud rate
+     * @throws java.lang.IllegalArgumentException if {@code baud} is not valid.
+     */
+    protected void validateBaud(int baud, int min, int max) throws IllegalArgumentException {
+        if(baud < min || baud > max)
+            throw new IllegalArgumentException("Invalid baud rate: " + baud + "; Valid range: " + min + "-" + max);
+    }
+
     /**
      * <p>validateDutyCycle.</p>
      *
@@ -467,6 +543,33 @@ public abstract class PiGpioBase implements PiGpio {
         stateChangeListeners.clear();
     }
 
+    /**
+     * <p>extendTick.</p>
+     * <p>
+     * Extend a 32-bit PIGPIO tick (microseconds since boot, wraps after ~71.6 minutes) to a
+     * non-wrapping microsecond tick.  The ticks of all events of this instance are extended
+     * in the order they are received, so the extended ticks of all pins share a common base;
+     * wraps missed while no event was received are recovered from the elapsed monotonic time.
+     *
+     * @param tick the 32-bit tick of an event
+     * @return the extended tick in microseconds
+     */
+    protected synchronized long extendTick(long tick) {
+        tick &= 0xFFFFFFFFL;
+        long now = System.nanoTime();
+        if(lastTick < 0) {
+            extendedTick = tick;
+        } else {
+            long delta = (tick - lastTick) & 0xFFFFFFFFL;
+            // whole wraps elapsed beyond the tick delta, rounded to the nearest wrap
+            long wraps = Math.max(0, ((now - lastTickNanos) / 1000 - delta + (1L << 31)) >> 32);
+            extendedTick += delta + (wraps << 32);
+        }
+        lastTick = tick;
+        lastTickNanos = now;
+        return extendedTick;
+    }
+
     /**
      * <p>dispatchEvent.</p>
      *
@@ -502,6 +605,103 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>dispatchWatchdog.</p>
+     * <p>
+     * Dispatch a watchdog timeout to each registered listener and to the listeners of its pin.
+     *
+     * @param event a {@link com.pi4j.library.pigpio.PiGpioWatchdogEvent} object.
+     */
+    protected void dispatchWatchdog(final PiGpioWatchdogEvent event) {
+        try {
+            stateChangeListeners.forEach(listener -> {
+                try {
+                    listener.onWatchdog(event);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            });
+
+            var listeners = pinChangeListeners.get(event.pin());
+            if (listeners != null) {
+                listeners.forEach(listener -> {
+                    try {
+                        listener.onWatchdog(event);
+                    } catch (Exception e) {
+                        logger.error(e.getMessage(), e);
+                    }
+                });
+            }
+        }
+        catch (Exception e){
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * <p>dispatchEvents.</p>
+     * <p>
+     * Dispatch a batch of events; general listeners receive the complete batch and
+     * each pin listener receives the events for its pin.
+     *
+     * @param events a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} objects.
+     */
+    protected void dispatchEvents(final List<PiGpioStateChangeEvent> events) {
+        if(events.isEmpty()) return;
+        try {
+            // dispatch event batch to each registered listener
+            stateChangeListeners.forEach(listener -> {
+                try {
+                    listener.onChanges(events);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            });
+
+            // dispatch the events for each pin to the registered pin listeners
+            if (!pinChangeListeners.isEmpty()) {
+                Map<Integer, List<PiGpioStateChangeEvent>> byPin = new LinkedHashMap<>();
+                events.forEach(event -> byPin.computeIfAbsent(event.pin(), k -> new ArrayList<>()).add(event));
+                byPin.forEach((pin, pinEvents) -> {
+                    var listeners = pinChangeListeners.get(pin);
+                    if (listeners == null) return;
+                    listeners.forEach(listener -> {
+                        try {
+                            listener.onChanges(pinEvents);
+                        } catch (Exception e) {
+                            logger.error(e.getMessage(), e);
+                        }
+                    });
+                });
+            }
+        }
+        catch (Exception e){
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpioNotificationStats gpioNotificationStats() {
+        return PiGpioNotificationStats.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Executes the queued commands in order by invoking each one directly on this instance.
+     */
+    @Override
+    public List<Object> batch(Consumer<PiGpioBatch> commands) {
+        logger.trace("[BATCH] -> EXECUTE");
+        validateReady();
+        PiGpioBatchBase batch = new PiGpioDirectBatch(this);
+        commands.accept(batch);
+        batch.execute();
+        logger.trace("[BATCH] <- COMMANDS={}", batch.futures.size());
+        return batch.results();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,92 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioBatchBase.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>Abstract PiGpioBatchBase class.</p>
+ * <p>
+ * Tracks the futures handed out for each queued command and collects their
+ * results once the batch has been executed.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+abstract class PiGpioBatchBase implements PiGpioBatch {
+
+    protected final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+    /**
+     * Execute all queued commands and complete their futures.
+     */
+    abstract void execute();
+
+    /**
+     * <p>track.</p>
+     *
+     * @param future the future handed out for a queued command
+     * @param <T> the future's result type
+     * @return the same future instance
+     */
+    protected <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        futures.add(future);
+        return future;
+    }
+
+    /**
+     * Collect the results of each queued command in the order they were queued.
+     *
+     * @return list of results ('null' for commands that do not return a value)
+     * @throws PiGpioException if any of the queued commands failed
+     */
+    List<Object> results() {
+        List<Object> results = new ArrayList<>(futures.size());
+        PiGpioException failure = null;
+        for (CompletableFuture<?> future : futures) {
+            try {
+                results.add(future.join());
+            }
+            catch (CompletionException e) {
+                results.add(null);
+                if (failure == null) {
+                    Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+                    failure = new PiGpioException("PIGPIO BATCH FAILED: " + cause.getMessage(), cause);
+                }
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+}
@@ -0,0 +1,216 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioDirectBatch.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * <p>PiGpioDirectBatch class.</p>
+ * <p>
+ * Batch implementation that simply invokes each queued command on the PiGpio instance in order.
+ * This is used by implementations where each call is already a direct (in-process) call and
+ * there is no round trip cost to amortize.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+class PiGpioDirectBatch extends PiGpioBatchBase {
+
+    protected final PiGpio piGpio;
+    protected final List<Runnable> commands = new ArrayList<>();
+
+    /**
+     * <p>Constructor for PiGpioDirectBatch.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    PiGpioDirectBatch(PiGpio piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void execute() {
+        commands.forEach(Runnable::run);
+        commands.clear();
+    }
+
+    private <T> CompletableFuture<T> queue(Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commands.add(() -> {
+            try {
+                future.complete(command.get());
+            }
+            catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return track(future);
+    }
+
+    private static PiGpioException error(int result) {
+        PiGpioError err = PiGpioError.from(result);
+        return new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud) {
+        return queue(() -> { piGpio.gpioSetPullUpDown(pin, pud); return null; });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioMode> gpioGetMode(int pin) {
+        return queue(() -> piGpio.gpioGetMode(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode) {
+        return queue(() -> { piGpio.gpioSetMode(pin, mode); return null; });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioRead(int pin) {
+        return queue(() -> piGpio.gpioRead(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWrite(int pin, PiGpioState state) {
+        return queue(() -> { piGpio.gpioWrite(pin, state); return null; });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWM(int pin, int dutyCycle) {
+        return queue(() -> { piGpio.gpioPWM(pin, dutyCycle); return null; });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMdutycycle(int pin) {
+        return queue(() -> piGpio.gpioGetPWMdutycycle(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioServo(int pin, int pulseWidth) {
+        return queue(() -> { piGpio.gpioServo(pin, pulseWidth); return null; });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioTick() {
+        return queue(piGpio::gpioTick);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit) {
+        return queue(() -> piGpio.i2cWriteQuick(handle, bit));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByte(int handle, byte value) {
+        return queue(() -> piGpio.i2cWriteByte(handle, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByte(int handle) {
+        return queue(() -> piGpio.i2cReadByte(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value) {
+        return queue(() -> piGpio.i2cWriteByteData(handle, register, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteData(int handle, int register) {
+        return queue(() -> piGpio.i2cReadByteData(handle, register));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value) {
+        return queue(() -> piGpio.i2cWriteWordData(handle, register, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadWordData(int handle, int register) {
+        return queue(() -> piGpio.i2cReadWordData(handle, register));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> i2cReadI2CBlockData(int handle, int register, int length) {
+        return queue(() -> {
+            byte[] buffer = new byte[length];
+            int actual = piGpio.i2cReadI2CBlockData(handle, register, buffer, 0, length);
+            if(actual < 0) throw error(actual);
+            return Arrays.copyOf(buffer, actual);
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length) {
+        return queue(() -> piGpio.i2cWriteI2CBlockData(handle, register, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length) {
+        return queue(() -> piGpio.spiWrite(handle, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> spiXfer(int handle, byte[] write, int offset, int length) {
+        return queue(() -> {
+            byte[] buffer = new byte[length];
+            int actual = piGpio.spiXfer(handle, write, offset, buffer, 0, length);
+            if(actual < 0) throw error(actual);
+            return Arrays.copyOf(buffer, actual);
+        });
+    }
+}
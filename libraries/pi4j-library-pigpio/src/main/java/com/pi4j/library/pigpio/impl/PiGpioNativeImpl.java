@@ -34,12 +34,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Scanner;
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_I2C_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_I2C_MIN_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_INVERT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_MIN_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_NORMAL;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SPI_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SPI_MIN_BAUD;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_FIFO;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_SOCK;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
 
 /**
@@ -292,6 +302,55 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Reads the levels of all GPIOs of a bank with a single operation.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioReadBank(int bank) {
+        logger.trace("[GPIO::BANK-GET] -> BANK: {}", bank);
+        validateReady();
+        validateBank(bank);
+        // the levels are unsigned; bit 31 (GPIO 31) makes the result negative, so it is not validated
+        int result = bank == 1 ? PIGPIO.gpioRead_Bits_0_31() : PIGPIO.gpioRead_Bits_32_53();
+        logger.trace("[GPIO::BANK-GET] <- BANK: {}; LEVELS: {}", bank, Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets all GPIOs of a bank whose bit is set in the mask, atomically.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioSetBank(int bank, int mask) {
+        logger.trace("[GPIO::BANK-SET] -> BANK: {}; MASK: {}", bank, Integer.toBinaryString(mask));
+        validateReady();
+        validateBank(bank);
+        int result = bank == 1 ? PIGPIO.gpioWrite_Bits_0_31_Set(mask) : PIGPIO.gpioWrite_Bits_32_53_Set(mask);
+        logger.trace("[GPIO::BANK-SET] <- BANK: {}; SUCCESS={}", bank, (result >= 0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears all GPIOs of a bank whose bit is set in the mask, atomically.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioClearBank(int bank, int mask) {
+        logger.trace("[GPIO::BANK-CLEAR] -> BANK: {}; MASK: {}", bank, Integer.toBinaryString(mask));
+        validateReady();
+        validateBank(bank);
+        int result = bank == 1 ? PIGPIO.gpioWrite_Bits_0_31_Clear(mask) : PIGPIO.gpioWrite_Bits_32_53_Clear(mask);
+        logger.trace("[GPIO::BANK-CLEAR] <- BANK: {}; SUCCESS={}", bank, (result >= 0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -353,6 +412,23 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout) {
+        logger.trace("[GPIO::WATCHDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        validateWatchdogTimeout(timeout);
+        int result = PIGPIO.gpioSetWatchdog(pin, timeout);
+        logger.trace("[GPIO::WATCHDOG] <- PIN: {}; SUCCESS={}",  pin, (result >= 0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -616,7 +692,15 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         @Override
         public void call(int pin, int state, long tick) {
             try {
-                dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick));
+                // alerts of all pins arrive in order on the pigpio alert thread
+                long extendedTick = extendTick(tick);
+
+                // watchdog timeouts are reported with the PI_TIMEOUT level
+                if (state == PiGpioConst.PI_TIMEOUT) {
+                    dispatchWatchdog(new PiGpioWatchdogEvent(pin, PiGpioState.from(PIGPIO.gpioRead(pin)), tick, extendedTick, -1));
+                } else {
+                    dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick, extendedTick, -1));
+                }
             }
             catch (Exception e){
                 logger.error(e.getMessage(), e);
@@ -696,6 +780,601 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVE IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveClear();
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveAddNew();
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse[] pulses, int offset, int length) {
+        logger.trace("[WAVE::ADD-GENERIC] -> PULSES={}", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, pulses.length);
+        int[] data = new int[length * 3];
+        for (int i = 0; i < length; i++) {
+            PiGpioPulse pulse = pulses[offset + i];
+            data[i * 3] = pulse.gpioOn();
+            data[i * 3 + 1] = pulse.gpioOff();
+            data[i * 3 + 2] = pulse.delay();
+        }
+        int result = PIGPIO.gpioWaveAddGeneric(length, data);
+        logger.trace("[WAVE::ADD-GENERIC] <- SUCCESS={}; TOTAL PULSES={}", (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a waveform representing serial data to the existing waveform (if any).
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddSerial">PIGPIO::gpioWaveAddSerial</a>
+     */
+    @Override
+    public int gpioWaveAddSerial(int pin, int baud, int dataBits, int stopBits, int offset, byte[] data, int dataOffset, int length) {
+        logger.trace("[WAVE::ADD-SERIAL] -> PIN: {}; BAUD={}; OFFSET={}; BYTES={}", pin, baud, offset, length);
+        validateReady();
+        validateUserPin(pin);
+        Objects.checkFromIndexSize(dataOffset, length, data.length);
+
+        int result = PIGPIO.gpioWaveAddSerial(pin, baud, dataBits, stopBits, offset, data, dataOffset, length);
+        logger.trace("[WAVE::ADD-SERIAL] <- PIN: {}; SUCCESS={}; TOTAL PULSES={}", pin, (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveCreate();
+        logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE-ID={}", (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE-ID={}", waveId);
+        validateReady();
+        validateWaveId(waveId);
+        int result = PIGPIO.gpioWaveDelete(waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE-ID={}; SUCCESS={}", waveId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE-ID={}; MODE={}", waveId, mode);
+        validateReady();
+        validateWaveId(waveId);
+        int result = PIGPIO.gpioWaveTxSend(waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE-ID={}; SUCCESS={}; CBS={}", waveId, (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int length) {
+        logger.trace("[WAVE::CHAIN] -> BYTES={}", length);
+        validateReady();
+        Objects.checkFromIndexSize(0, length, buf.length);
+        int result = PIGPIO.gpioWaveChain(buf, length);
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxAt();
+        logger.trace("[WAVE::AT] <- WAVE-ID={}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxBusy();
+        logger.trace("[WAVE::BUSY] <- BUSY={}", result);
+        validateResult(result);
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxStop();
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMicros() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMicros();
+        logger.trace("[WAVE::GET-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighMicros();
+        logger.trace("[WAVE::GET-HIGHMICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxMicros();
+        logger.trace("[WAVE::GET-MAXMICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetPulses() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetPulses();
+        logger.trace("[WAVE::GET-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighPulses();
+        logger.trace("[WAVE::GET-HIGHPULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxPulses();
+        logger.trace("[WAVE::GET-MAXPULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetCbs() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetCbs();
+        logger.trace("[WAVE::GET-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighCbs();
+        logger.trace("[WAVE::GET-HIGHCBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxCbs();
+        logger.trace("[WAVE::GET-MAXCBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> LENGTH={}", script.length());
+        validateReady();
+        int result = PIGPIO.gpioStoreScript(script);
+        logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT-ID={}", (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT-ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        int result = PIGPIO.gpioRunScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::RUN] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        int result = PIGPIO.gpioUpdateScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a stored script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int[] values = new int[PI_MAX_SCRIPT_PARAMS];
+        int result = PIGPIO.gpioScriptStatus(scriptId, values);
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID={}; SUCCESS={}; STATUS={}", scriptId, (result >= 0), result);
+        validateResult(result);
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(result);
+        if (params != null) {
+            System.arraycopy(values, 0, params, 0, Math.min(params.length, values.length));
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = PIGPIO.gpioStopScript(scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = PIGPIO.gpioDeleteScript(scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // BIT-BANG I2C/SPI/SERIAL IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[BB-I2C::OPEN] -> SDA={}; SCL={}; BAUD={}", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBaud(baud, PI_BB_I2C_MIN_BAUD, PI_BB_I2C_MAX_BAUD);
+        int result = PIGPIO.bbI2COpen(sda, scl, baud);
+        logger.trace("[BB-I2C::OPEN] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[BB-I2C::CLOSE] -> SDA={}", sda);
+        validateReady();
+        validateUserPin(sda);
+        int result = PIGPIO.bbI2CClose(sda);
+        logger.trace("[BB-I2C::CLOSE] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of bit banged I2C operations.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, byte[] commands, int commandLength, byte[] buffer, int length) {
+        logger.trace("[BB-I2C::ZIP] -> SDA={}; I2C Zip [{} command bytes]", sda, commandLength);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(0, length, buffer.length);
+        int result = PIGPIO.bbI2CZip(sda, commands, commandLength, buffer, length);
+        logger.trace("[BB-I2C::ZIP] <- SDA={}; SUCCESS={}; RESULT={}", sda, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate and mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    @Override
+    public int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int spiFlags) {
+        logger.trace("[BB-SPI::OPEN] -> CS={}; MISO={}; MOSI={}; SCLK={}; BAUD={}; FLAGS={}",
+                cs, miso, mosi, sclk, baud, spiFlags);
+        validateReady();
+        validateUserPin(cs);
+        validateUserPin(miso);
+        validateUserPin(mosi);
+        validateUserPin(sclk);
+        validateBaud(baud, PI_BB_SPI_MIN_BAUD, PI_BB_SPI_MAX_BAUD);
+        int result = PIGPIO.bbSPIOpen(cs, miso, mosi, sclk, baud, spiFlags);
+        logger.trace("[BB-SPI::OPEN] <- CS={}; SUCCESS={}", cs, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    @Override
+    public int bbSPIClose(int cs) {
+        logger.trace("[BB-SPI::CLOSE] -> CS={}", cs);
+        validateReady();
+        validateUserPin(cs);
+        int result = PIGPIO.bbSPIClose(cs);
+        logger.trace("[BB-SPI::CLOSE] <- CS={}; SUCCESS={}", cs, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a bit banged SPI transfer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    @Override
+    public int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        logger.trace("[BB-SPI::XFER] -> CS={}; SPI Transfer [{} bytes]", cs, numberOfBytes);
+        validateReady();
+        validateUserPin(cs);
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+
+        // the native bit-bang transfer has no offsets; only copy when offsets are used
+        byte[] writeBuffer = (writeOffset == 0) ? write : Arrays.copyOfRange(write, writeOffset, writeOffset + numberOfBytes);
+        byte[] readBuffer = (readOffset == 0) ? read : new byte[numberOfBytes];
+        int result = PIGPIO.bbSPIXfer(cs, writeBuffer, readBuffer, numberOfBytes);
+        logger.trace("[BB-SPI::XFER] <- CS={}; SUCCESS={}; BYTES-READ={}", cs, (result>=0), result);
+        validateResult(result, false);
+        if(result > 0 && readBuffer != read) {
+            System.arraycopy(readBuffer, 0, read, readOffset, Math.min(result, numberOfBytes));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function opens a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    @Override
+    public int gpioSerialReadOpen(int pin, int baud, int dataBits) {
+        logger.trace("[BB-SERIAL::OPEN] -> PIN={}; BAUD={}; DATA-BITS={}", pin, baud, dataBits);
+        validateReady();
+        validateUserPin(pin);
+        validateBaud(baud, PI_BB_SER_MIN_BAUD, PI_BB_SER_MAX_BAUD);
+        int result = PIGPIO.gpioSerialReadOpen(pin, baud, dataBits);
+        logger.trace("[BB-SERIAL::OPEN] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function configures the level logic for bit bang serial reads.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    @Override
+    public int gpioSerialReadInvert(int pin, boolean invert) {
+        logger.trace("[BB-SERIAL::INVERT] -> PIN={}; INVERT={}", pin, invert);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialReadInvert(pin, invert ? PI_BB_SER_INVERT : PI_BB_SER_NORMAL);
+        logger.trace("[BB-SERIAL::INVERT] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function copies up to length bytes of data read from the bit bang serial cyclic buffer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    @Override
+    public int gpioSerialRead(int pin, byte[] buffer, int offset, int length) {
+        logger.trace("[BB-SERIAL::READ] -> PIN={}; Serial Read [{} bytes]", pin, length);
+        validateReady();
+        validateUserPin(pin);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+
+        // the native bit-bang serial read has no offset; only copy when an offset is used
+        byte[] readBuffer = (offset == 0) ? buffer : new byte[length];
+        int result = PIGPIO.gpioSerialRead(pin, readBuffer, length);
+        logger.trace("[BB-SERIAL::READ] <- PIN={}; SUCCESS={}; BYTES-READ={}", pin, (result>=0), result);
+        validateResult(result, false);
+        if(result > 0 && readBuffer != buffer) {
+            System.arraycopy(readBuffer, 0, buffer, offset, Math.min(result, length));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function closes a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    @Override
+    public int gpioSerialReadClose(int pin) {
+        logger.trace("[BB-SERIAL::CLOSE] -> PIN={}", pin);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialReadClose(pin);
+        logger.trace("[BB-SERIAL::CLOSE] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -1028,6 +1707,32 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers receive the data straight from the native library without an intermediate byte array.
+     */
+    @Override
+    public int i2cReadBlockData(int handle, int register, ByteBuffer buffer, int offset, int length) {
+        if(!buffer.isDirect()) return super.i2cReadBlockData(handle, register, buffer, offset, length);
+        logger.trace("[I2C::READ] -> [{}]; Register [{}]; Block [{} bytes]; offset={}", handle, register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        // perform bounds checking on requested length versus total remaining size available
+        if(length > (buffer.capacity()-offset)){
+            length = buffer.capacity()-offset;
+        }
+        // perform the read on the I2C device register
+        int result = PIGPIO.i2cReadBlockDataDirect(handle, register, buffer, offset, length);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, (result>=0), result);
+        validateResult(result, false);
+        if(result < 0) return result;
+        result = Math.min(result, length);
+        buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1121,6 +1826,30 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers receive the data straight from the native library without an intermediate byte array.
+     */
+    @Override
+    public int i2cReadI2CBlockData(int handle, int register, ByteBuffer buffer, int offset, int length){
+        if(!buffer.isDirect()) return super.i2cReadI2CBlockData(handle, register, buffer, offset, length);
+        logger.trace("[I2C::READ] -> [{}]; Register [{}]; I2C Block [{} bytes]; offset={}", handle ,register, length, offset);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        // perform bounds checking on requested length versus total remaining size available
+        if(length > (buffer.capacity()-offset)){
+            length = buffer.capacity()-offset;
+        }
+        // perform the read on the I2C device register
+        int result = PIGPIO.i2cReadI2CBlockDataDirect(handle, register, buffer, offset, length);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, (result>=0), result);
+        validateResult(result, false);
+        if(result > 0) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1181,6 +1910,25 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This executes a sequence of I2C operations.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int length) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Zip [{} command bytes]", handle, commandLength);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(0, length, buffer.length);
+        int result = PIGPIO.i2cZip(handle, commands, commandLength, buffer, length);
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1531,4 +2279,26 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result, false);
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are transferred straight from/to the native library without intermediate byte arrays.
+     */
+    @Override
+    public int spiXfer(int handle, ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if(!write.isDirect() || !read.isDirect()) return super.spiXfer(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]", handle, numberOfBytes);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.capacity());
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.capacity());
+        // perform SPI data transfer
+        int result = PIGPIO.spiXferDirect(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        boolean success = result >= 0;
+        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
+        validateResult(result, false);
+        if(result > 0) read.position(readOffset + result);
+        return result;
+    }
 }
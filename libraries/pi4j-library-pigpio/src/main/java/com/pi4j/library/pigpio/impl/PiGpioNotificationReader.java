@@ -0,0 +1,185 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotificationReader.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioNotificationStats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>PiGpioNotificationReader class.</p>
+ * <p>
+ * Framing-aware reader for the 12-byte GPIO notification reports streamed by the PiGpio
+ * daemon on a notification socket.  Each read pulls as many bytes as are available (up to
+ * the buffer size) from the stream, decodes every complete report in the buffer and keeps
+ * any trailing partial report for the next read, so reports are never misaligned regardless
+ * of how the daemon's writes are split across TCP segments.
+ * <p>
+ * Report layout (little endian):
+ * <pre>
+ *   uint16_t seqno;
+ *   uint16_t flags;
+ *   uint32_t tick;
+ *   uint32_t level;
+ * </pre>
+ * The reader also tracks the report sequence numbers and counts dropped and out-of-order
+ * reports.  A reader is used by a single monitoring thread; statistics may be read from
+ * any thread.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioNotificationReader {
+
+    /** Constant <code>REPORT_SIZE=12</code> */
+    public static final int REPORT_SIZE = 12;
+    /** Constant <code>DEFAULT_BUFFER_SIZE=4096</code> */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private static final int SEQUENCE_MASK = 0xFFFF;
+
+    /**
+     * Receives each decoded notification report.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * <p>onReport.</p>
+         *
+         * @param sequence report sequence number (0-65535)
+         * @param flags report flags
+         * @param tick tick (microseconds since boot) the report was generated
+         * @param level levels of GPIO 0-31
+         */
+        void onReport(int sequence, int flags, long tick, int level);
+    }
+
+    protected final byte[] data;
+    protected final ByteBuffer buffer;
+    protected int length = 0;
+    protected int expectedSequence = -1;
+
+    // written only by the monitoring thread
+    protected volatile long reports = 0;
+    protected volatile long batches = 0;
+    protected volatile long dropped = 0;
+    protected volatile long outOfOrder = 0;
+
+    /**
+     * <p>Constructor for PiGpioNotificationReader.</p>
+     */
+    public PiGpioNotificationReader() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * <p>Constructor for PiGpioNotificationReader.</p>
+     *
+     * @param bufferSize read buffer size in bytes (at least one report)
+     */
+    public PiGpioNotificationReader(int bufferSize) {
+        if(bufferSize < REPORT_SIZE) {
+            throw new IllegalArgumentException("Notification buffer size must be at least " + REPORT_SIZE + " bytes");
+        }
+        this.data = new byte[bufferSize];
+        this.buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Discard any buffered partial report and restart sequence tracking; used when a new
+     * notification handle is opened (the daemon restarts its sequence numbers at zero).
+     */
+    public void reset() {
+        length = 0;
+        expectedSequence = -1;
+    }
+
+    /**
+     * Read the next chunk of bytes from the stream and decode all complete reports.
+     *
+     * @param in notification socket input stream
+     * @param handler receives each decoded report in the order received
+     * @return the number of reports decoded (may be zero), or -1 if the end of the stream was reached
+     * @throws IOException if reading from the stream failed
+     */
+    public int read(InputStream in, Handler handler) throws IOException {
+        int count = in.read(data, length, data.length - length);
+        if(count < 0) return -1;
+        length += count;
+
+        int available = length / REPORT_SIZE;
+        buffer.clear();
+        for (int i = 0; i < available; i++) {
+            int sequence = Short.toUnsignedInt(buffer.getShort());
+            int flags = Short.toUnsignedInt(buffer.getShort());
+            long tick = Integer.toUnsignedLong(buffer.getInt());
+            int level = buffer.getInt();
+            track(sequence);
+            handler.onReport(sequence, flags, tick, level);
+        }
+
+        // keep any trailing partial report for the next read
+        int consumed = available * REPORT_SIZE;
+        length -= consumed;
+        if(length > 0 && consumed > 0) {
+            System.arraycopy(data, consumed, data, 0, length);
+        }
+        if(available > 0) {
+            reports += available;
+            batches++;
+        }
+        return available;
+    }
+
+    /**
+     * <p>stats.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioNotificationStats} object.
+     */
+    public PiGpioNotificationStats stats() {
+        return new PiGpioNotificationStats(reports, batches, dropped, outOfOrder);
+    }
+
+    private void track(int sequence) {
+        if(expectedSequence >= 0 && sequence != expectedSequence) {
+            // forward gaps of less than half the sequence space are missed reports,
+            // anything else means the sequence went backwards
+            int gap = (sequence - expectedSequence) & SEQUENCE_MASK;
+            if(gap < (SEQUENCE_MASK + 1) / 2) {
+                dropped += gap;
+            } else {
+                outOfOrder++;
+                return;
+            }
+        }
+        expectedSequence = (sequence + 1) & SEQUENCE_MASK;
+    }
+}
@@ -28,15 +28,22 @@ package com.pi4j.library.pigpio.impl;
  */
 
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_POOL_HEALTH_CHECK_INTERVAL;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_POOL_IDLE_TIMEOUT;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_POOL_SIZE;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_SOCKET_TIMEOUT;
 
 import java.io.IOException;
 import java.net.Socket;
-import java.net.SocketException;
+import java.util.List;
+import java.util.function.Consumer;
 
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioNotificationStats;
 import com.pi4j.library.pigpio.PiGpioPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,12 +60,10 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
 
     protected final PiGpioSocketMonitor monitor;
 
+    protected final PiGpioSocketPool pool;
+
     protected String host = DEFAULT_HOST;
     protected int port = DEFAULT_PORT;
-    protected boolean connected = false;
-    protected Socket socket = null;
-
-    // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
 
     /**
      * ALTERNATE CONSTRUCTOR
@@ -69,10 +74,26 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
      */
     protected PiGpioSocketBase(String host, int port) {
+        this(host, port, DEFAULT_POOL_SIZE, DEFAULT_POOL_IDLE_TIMEOUT, DEFAULT_POOL_HEALTH_CHECK_INTERVAL);
+    }
+
+    /**
+     * ALTERNATE CONSTRUCTOR
+     * <p>
+     * Connects to a user specified socket hostname/ip address and port using a pool of command sockets.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize maximum number of command sockets to open concurrently.
+     * @param idleTimeout milliseconds after which an unused command socket is closed.
+     * @param healthCheckInterval milliseconds after which an unused command socket is verified before reuse.
+     */
+    protected PiGpioSocketBase(String host, int port, int poolSize, long idleTimeout, long healthCheckInterval) {
         this.host = host;
         this.port = port;
-        this.connected = false;
         this.initialized = false;
+        this.pool = new PiGpioSocketPool(host, port, poolSize, idleTimeout, healthCheckInterval,
+                DEFAULT_SOCKET_TIMEOUT, this::checkConnection);
         this.monitor = new PiGpioSocketMonitor(this);
     }
 
@@ -137,14 +158,8 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
                 monitor.shutdown();
         }
 
-        // shutdown connected socket
-        if(socket != null && socket.isConnected())
-            try {
-                socket.close();
-            }
-            catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        // shutdown connected command sockets
+        pool.clear();
 
         // clear initialized flag
         this.initialized = false;
@@ -182,6 +197,59 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1, int p2) {
         return sendPacket(new PiGpioPacket(cmd, p1, p2));
     }
+    /**
+     * <p>command.</p>
+     * <p>
+     * Exchange a command whose reply only carries a P3 result value.  The command is encoded
+     * directly into the pooled channel's reusable buffer and no packet instances are created.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return the raw P3 result value of the reply.
+     */
+    protected int command(PiGpioCmd cmd) {
+        return command(cmd, 0, 0);
+    }
+
+    /**
+     * <p>command.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @return the raw P3 result value of the reply.
+     */
+    protected int command(PiGpioCmd cmd, int p1) {
+        return command(cmd, p1, 0);
+    }
+
+    /**
+     * <p>command.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return the raw P3 result value of the reply.
+     */
+    protected int command(PiGpioCmd cmd, int p1, int p2) {
+        validateReady();
+        PiGpioSocketChannel channel = pool.acquire();
+        try {
+            if(logger.isTraceEnabled()) logger.trace("[TX] -> CMD={}; P1={}; P2={}", cmd, p1, p2);
+            int result = channel.command(cmd, p1, p2);
+            if(logger.isTraceEnabled()) logger.trace("[RX] <- CMD={}; P3={}", cmd, result);
+            pool.release(channel);
+            return result;
+        }
+        catch (IOException e) {
+            pool.invalidate(channel);
+            throw new PiGpioException(e);
+        }
+        catch (RuntimeException e) {
+            // the channel may no longer be aligned on a reply boundary; discard it
+            pool.invalidate(channel);
+            throw e;
+        }
+    }
+
     /**
      * <p>sendPacket.</p>
      *
@@ -190,8 +258,25 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx) {
         validateReady();
-        return sendPacket(tx, this.socket);
+        PiGpioSocketChannel channel = pool.acquire();
+        try {
+            if(logger.isTraceEnabled()) logger.trace("[TX] -> {}", tx);
+            PiGpioPacket rx = channel.send(tx);
+            if(logger.isTraceEnabled()) logger.trace("[RX] <- {}", rx);
+            pool.release(channel);
+            return rx;
+        }
+        catch (IOException e) {
+            pool.invalidate(channel);
+            throw new PiGpioException(e);
+        }
+        catch (RuntimeException e) {
+            // the channel may no longer be aligned on a reply boundary; discard it
+            pool.invalidate(channel);
+            throw e;
+        }
     }
+
     /**
      * <p>sendPacket.</p>
      *
@@ -201,32 +286,71 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx, Socket sck) {
         try {
-            try {
-                // get socket streams
-                var in = sck.getInputStream();
-                var out = sck.getOutputStream();
-
-                // transmit packet
-                logger.trace("[TX] -> {}", tx.toString());
-                out.write(PiGpioPacket.encode(tx));
-                out.flush();
-
-                // read receive packet
-                PiGpioPacket rx = PiGpioPacket.decode(in);
-                logger.trace("[RX] <- {}", rx.toString());
-                return rx;
-            } catch (SocketException se) {
-                // socket is no longer connected
-                this.connected = false;
-                socket.close();
-                socket = null;
-                throw new PiGpioException(se);
-            }
+            // get socket streams
+            var in = sck.getInputStream();
+            var out = sck.getOutputStream();
+
+            // transmit packet
+            if(logger.isTraceEnabled()) logger.trace("[TX] -> {}", tx);
+            out.write(PiGpioPacket.encode(tx));
+            out.flush();
+
+            // read receive packet
+            PiGpioPacket rx = PiGpioPacket.decode(in);
+            if(logger.isTraceEnabled()) logger.trace("[RX] <- {}", rx);
+            return rx;
         } catch (IOException e) {
             throw new PiGpioException(e);
         }
     }
 
+    /**
+     * Transmit a sequence of packets in a single socket write and then read back each reply.
+     * <p>
+     * The PiGpio daemon processes the commands received on a socket strictly in order, so the
+     * received packets are returned in the same order as the transmitted packets.
+     *
+     * @param tx a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioPacket} objects.
+     * @return a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioPacket} objects.
+     */
+    protected List<PiGpioPacket> sendPackets(List<PiGpioPacket> tx) {
+        validateReady();
+        PiGpioSocketChannel channel = pool.acquire();
+        try {
+            if(logger.isTraceEnabled()) tx.forEach(packet -> logger.trace("[TX] -> {}", packet));
+            List<PiGpioPacket> rx = channel.send(tx);
+            if(logger.isTraceEnabled()) rx.forEach(packet -> logger.trace("[RX] <- {}", packet));
+            pool.release(channel);
+            return rx;
+        }
+        catch (IOException e) {
+            pool.invalidate(channel);
+            throw new PiGpioException(e);
+        }
+        catch (RuntimeException e) {
+            // the channel may no longer be aligned on a reply boundary; discard it
+            pool.invalidate(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * All queued commands are pipelined to the PiGpio daemon in a single network write and
+     * the replies are matched to each command in the order they were queued.
+     */
+    @Override
+    public List<Object> batch(Consumer<PiGpioBatch> commands) {
+        logger.trace("[BATCH] -> PIPELINE");
+        validateReady();
+        PiGpioBatchBase batch = new PiGpioSocketBatch(this);
+        commands.accept(batch);
+        batch.execute();
+        logger.trace("[BATCH] <- COMMANDS={}", batch.futures.size());
+        return batch.results();
+    }
+
     /** {@inheritDoc} */
     public void gpioNotifications(int pin, boolean enabled){
         logger.trace("[GPIO] -> {} Pin [{}] Notifications", (enabled ? "ENABLE" : "DISABLE"), pin);
@@ -235,6 +359,17 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO] <- Pin [PIN {}] Notifications [{}]", pin, (enabled ? "ENABLED" : "DISABLED"));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Reports are counted by the notification monitor from the sequence numbers
+     * received on the notification socket.
+     */
+    @Override
+    public PiGpioNotificationStats gpioNotificationStats() {
+        return this.monitor.stats();
+    }
+
     /**
      * <p>disableNotifications.</p>
      */
@@ -246,33 +381,21 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     }
 
     /**
-     * <p>validateReady.</p>
-     */
-    @Override
-    protected void validateReady() {
-        super.validateReady();
-        validateConnection();
-    }
-
-    /**
-     * <p>validateConnection.</p>
+     * Health check used by the socket pool to verify that an idle
+     * command socket is still connected to the PiGpio daemon.
+     *
+     * @param channel a {@link com.pi4j.library.pigpio.impl.PiGpioSocketChannel} object.
+     * @return true if the socket successfully completed a command exchange.
      */
-    protected void validateConnection() {
-        // if not connected, attempt to reconnect
-        if(socket == null || !this.connected){
-            // attempt to connect to PiGpio Daemon on remote Raspberry Pi
-            try {
-                this.socket = new Socket(host, port);
-                this.socket.setSoTimeout(500);
-            } catch (IOException e) {
-                throw new PiGpioException(e);
-            }
-
-            // update connection status flag
-            this.connected = this.socket.isConnected();
+    protected boolean checkConnection(PiGpioSocketChannel channel) {
+        try {
+            channel.command(PiGpioCmd.TICK, 0, 0);
+            return true;
+        }
+        catch (Exception e) {
+            logger.debug("[SOCKET] health check failed: {}", e.getMessage());
+            return false;
         }
-//            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
-//                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
     }
 
 //    protected void enableNotifications() {
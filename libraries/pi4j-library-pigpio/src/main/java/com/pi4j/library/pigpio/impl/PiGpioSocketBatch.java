@@ -0,0 +1,295 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBatch.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+/**
+ * <p>PiGpioSocketBatch class.</p>
+ * <p>
+ * Batch implementation that queues the encoded command packets and pipelines them to the
+ * PiGpio daemon in a single network write.  The daemon processes commands on a socket strictly
+ * in order, so the replies are decoded in the same order and matched to each queued command's future.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+class PiGpioSocketBatch extends PiGpioBatchBase {
+
+    protected final PiGpioSocketBase piGpio;
+    protected final List<PiGpioPacket> packets = new ArrayList<>();
+    protected final List<Reply<?>> replies = new ArrayList<>();
+
+    /**
+     * <p>Constructor for PiGpioSocketBatch.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioSocketBase} object.
+     */
+    PiGpioSocketBatch(PiGpioSocketBase piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void execute() {
+        if(packets.isEmpty()) return;
+        try {
+            List<PiGpioPacket> rx = piGpio.sendPackets(packets);
+            for (int i = 0; i < replies.size(); i++) {
+                replies.get(i).complete(rx.get(i));
+            }
+        }
+        catch (Exception e) {
+            // the batch could not be transmitted or its replies could not be read;
+            // fail every queued command that has not already been completed
+            replies.forEach(reply -> reply.future.completeExceptionally(e));
+        }
+        finally {
+            packets.clear();
+            replies.clear();
+        }
+    }
+
+    private <T> CompletableFuture<T> queue(PiGpioPacket tx, Function<PiGpioPacket, T> decoder) {
+        Reply<T> reply = new Reply<>(decoder);
+        packets.add(tx);
+        replies.add(reply);
+        return track(reply.future);
+    }
+
+    private Void validate(PiGpioPacket rx) {
+        piGpio.validateResult(rx);
+        return null;
+    }
+
+    private Integer result(PiGpioPacket rx) {
+        piGpio.validateResult(rx, false);
+        return rx.result();
+    }
+
+    private byte[] data(PiGpioPacket rx) {
+        piGpio.validateResult(rx);
+        int actual = rx.result();
+        if(rx.dataLength() < actual) actual = rx.dataLength();
+        return Arrays.copyOf(rx.data(), actual);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud) {
+        piGpio.validatePin(pin);
+        return queue(new PiGpioPacket(PUD, pin, pud.value()), this::validate);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioMode> gpioGetMode(int pin) {
+        piGpio.validatePin(pin);
+        return queue(new PiGpioPacket(MODEG, pin), rx -> {
+            piGpio.validateResult(rx);
+            return PiGpioMode.from(rx.result());
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode) {
+        piGpio.validatePin(pin);
+        return queue(new PiGpioPacket(MODES, pin, mode.value()), this::validate);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioRead(int pin) {
+        piGpio.validatePin(pin);
+        return queue(new PiGpioPacket(READ, pin), rx -> {
+            piGpio.validateResult(rx);
+            return PiGpioState.from(rx.p3());
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWrite(int pin, PiGpioState state) {
+        piGpio.validatePin(pin);
+        return queue(new PiGpioPacket(WRITE, pin, state.value()), this::validate);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWM(int pin, int dutyCycle) {
+        piGpio.validateUserPin(pin);
+        piGpio.validateDutyCycle(dutyCycle);
+        return queue(new PiGpioPacket(PWM, pin, dutyCycle), this::validate);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMdutycycle(int pin) {
+        piGpio.validateUserPin(pin);
+        return queue(new PiGpioPacket(GDC, pin), rx -> {
+            piGpio.validateResult(rx);
+            return rx.result();
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioServo(int pin, int pulseWidth) {
+        piGpio.validateUserPin(pin);
+        piGpio.validatePulseWidth(pulseWidth);
+        return queue(new PiGpioPacket(SERVO, pin, pulseWidth), this::validate);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioTick() {
+        // convert (UInt32) 32-bit unsigned value to long
+        return queue(new PiGpioPacket(TICK), rx -> Integer.toUnsignedLong(rx.result()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit) {
+        piGpio.validateHandle(handle);
+        return queue(new PiGpioPacket(I2CWQ, handle, bit ? 1 : 0), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByte(int handle, byte value) {
+        piGpio.validateHandle(handle);
+        return queue(new PiGpioPacket(I2CWS, handle, Byte.toUnsignedInt(value)), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByte(int handle) {
+        piGpio.validateHandle(handle);
+        return queue(new PiGpioPacket(I2CRS, handle), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value) {
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        return queue(new PiGpioPacket(I2CWB, handle, register).data(Byte.toUnsignedInt(value)), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteData(int handle, int register) {
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        return queue(new PiGpioPacket(I2CRB, handle, register), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value) {
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        return queue(new PiGpioPacket(I2CWW, handle, register).data(value), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadWordData(int handle, int register) {
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        return queue(new PiGpioPacket(I2CRW, handle, register), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> i2cReadI2CBlockData(int handle, int register, int length) {
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        piGpio.validateI2cBlockLength(length);
+        return queue(new PiGpioPacket(I2CRI, handle, register).data(length), this::data);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        piGpio.validateHandle(handle);
+        piGpio.validateI2cRegister(register);
+        piGpio.validateI2cBlockLength(length);
+        return queue(new PiGpioPacket(I2CWI, handle, register).data(data, offset, length), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        piGpio.validateHandle(handle);
+        return queue(new PiGpioPacket(SPIW, handle).data(data, offset, length), this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> spiXfer(int handle, byte[] write, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, write.length);
+        piGpio.validateHandle(handle);
+        return queue(new PiGpioPacket(SPIX, handle).data(write, offset, length), this::data);
+    }
+
+    /**
+     * Pending reply for a queued command; decodes the received packet and completes the command's future.
+     *
+     * @param <T> the command's result type
+     */
+    protected static class Reply<T> {
+        protected final Function<PiGpioPacket, T> decoder;
+        protected final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Reply(Function<PiGpioPacket, T> decoder) {
+            this.decoder = decoder;
+        }
+
+        void complete(PiGpioPacket rx) {
+            try {
+                future.complete(decoder.apply(rx));
+            }
+            catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketChannel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>PiGpioSocketChannel class.</p>
+ * <p>
+ * Command socket connection to the PiGpio daemon.  Packets are encoded into and decoded from a
+ * single reusable direct byte buffer owned by this connection and exchanged over a non-blocking
+ * {@link java.nio.channels.SocketChannel} (a selector provides the read/write timeout), so the
+ * steady state command path does not allocate any buffers.  Commands that only return a P3
+ * result value can be exchanged without creating any {@link PiGpioPacket} instances at all.
+ * <p>
+ * A channel is not thread-safe; it is borrowed from the {@link PiGpioSocketPool} for the
+ * duration of each exchange.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketChannel implements Closeable {
+
+    /** Constant <code>HEADER_SIZE=16</code> */
+    public static final int HEADER_SIZE = 16;
+    /** Constant <code>INITIAL_BUFFER_SIZE=1024</code> */
+    public static final int INITIAL_BUFFER_SIZE = 1024;
+
+    protected final SocketChannel channel;
+    protected final Selector selector;
+    protected final SelectionKey key;
+    protected final long timeout;
+    protected final int generation;
+    protected ByteBuffer buffer;
+    protected long lastUsed = System.currentTimeMillis();
+
+    /**
+     * Connect a new command channel to the PiGpio daemon.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param timeout read/write timeout in milliseconds
+     * @param generation pool generation this channel belongs to
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketChannel} object.
+     * @throws IOException if the connection could not be established.
+     */
+    public static PiGpioSocketChannel open(String host, int port, int timeout, int generation) throws IOException {
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+        try {
+            channel.socket().setTcpNoDelay(true);
+            return new PiGpioSocketChannel(channel, timeout, generation);
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * <p>Constructor for PiGpioSocketChannel.</p>
+     *
+     * @param channel a connected {@link java.nio.channels.SocketChannel} object.
+     * @param timeout read/write timeout in milliseconds
+     * @param generation pool generation this channel belongs to
+     * @throws IOException if the channel could not be registered with a selector.
+     */
+    protected PiGpioSocketChannel(SocketChannel channel, int timeout, int generation) throws IOException {
+        this.channel = channel;
+        this.timeout = timeout;
+        this.generation = generation;
+        this.channel.configureBlocking(false);
+        this.selector = Selector.open();
+        this.key = channel.register(selector, SelectionKey.OP_READ);
+        this.buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Exchange a command whose reply only carries a P3 result value.  No packet
+     * instances are created for the request or the reply.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return the raw P3 result value of the reply.
+     * @throws IOException if the exchange failed.
+     */
+    public int command(PiGpioCmd cmd, int p1, int p2) throws IOException {
+        buffer.clear();
+        PiGpioPacket.encode(buffer, cmd, p1, p2, 0);
+        buffer.flip();
+        write();
+
+        // read reply header; skip any (unexpected) extended data so the stream stays aligned
+        buffer.clear();
+        fill(HEADER_SIZE);
+        int rxCmd = buffer.getInt(0);
+        int p3 = buffer.getInt(12);
+        int extended = PiGpioPacket.bytesToRead(PiGpioCmd.from(rxCmd), p3);
+        while(extended > 0) {
+            buffer.clear();
+            int chunk = Math.min(extended, buffer.capacity());
+            fill(chunk);
+            extended -= chunk;
+        }
+        return p3;
+    }
+
+    /**
+     * Transmit a packet and read back its reply.
+     *
+     * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @throws IOException if the exchange failed.
+     */
+    public PiGpioPacket send(PiGpioPacket tx) throws IOException {
+        buffer.clear();
+        ensureCapacity(HEADER_SIZE + tx.dataLength());
+        PiGpioPacket.encode(tx, buffer);
+        buffer.flip();
+        write();
+        return receive();
+    }
+
+    /**
+     * Transmit a sequence of packets in a single write and then read back each reply in order.
+     *
+     * @param tx a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioPacket} objects.
+     * @return a {@link java.util.List} of {@link com.pi4j.library.pigpio.PiGpioPacket} objects.
+     * @throws IOException if the exchange failed.
+     */
+    public List<PiGpioPacket> send(List<PiGpioPacket> tx) throws IOException {
+        int size = 0;
+        for (PiGpioPacket packet : tx) {
+            size += HEADER_SIZE + packet.dataLength();
+        }
+        buffer.clear();
+        ensureCapacity(size);
+        for (PiGpioPacket packet : tx) {
+            PiGpioPacket.encode(packet, buffer);
+        }
+        buffer.flip();
+        write();
+
+        List<PiGpioPacket> rx = new ArrayList<>(tx.size());
+        for (int i = 0; i < tx.size(); i++) {
+            rx.add(receive());
+        }
+        return rx;
+    }
+
+    /**
+     * <p>isOpen.</p>
+     *
+     * @return true if the underlying socket channel is open and connected.
+     */
+    public boolean isOpen() {
+        return channel.isOpen() && channel.isConnected();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            selector.close();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    private PiGpioPacket receive() throws IOException {
+        buffer.clear();
+        fill(HEADER_SIZE);
+        int length = HEADER_SIZE + PiGpioPacket.bytesToRead(PiGpioCmd.from(buffer.getInt(0)), buffer.getInt(12));
+        ensureCapacity(length);
+        fill(length);
+        buffer.flip();
+        return PiGpioPacket.decode(buffer);
+    }
+
+    private void ensureCapacity(int size) {
+        if(buffer.capacity() < size) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private void write() throws IOException {
+        while(buffer.hasRemaining()) {
+            if(channel.write(buffer) == 0) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                try {
+                    await();
+                }
+                finally {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            }
+        }
+    }
+
+    private void fill(int length) throws IOException {
+        buffer.limit(length);
+        while(buffer.position() < length) {
+            int read = channel.read(buffer);
+            if(read < 0) throw new EOFException("PIGPIO socket closed by remote host");
+            if(read == 0) await();
+        }
+    }
+
+    private void await() throws IOException {
+        if(selector.select(timeout) == 0) {
+            throw new SocketTimeoutException("PIGPIO socket timed out after " + timeout + " ms");
+        }
+        selector.selectedKeys().clear();
+    }
+}
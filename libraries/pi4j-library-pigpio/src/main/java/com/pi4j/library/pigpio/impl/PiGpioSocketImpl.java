@@ -36,6 +36,15 @@ import java.util.Objects;
 import static com.pi4j.library.pigpio.PiGpioCmd.*;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_I2C_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_I2C_MIN_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_INVERT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_MIN_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SER_NORMAL;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SPI_MAX_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SPI_MIN_BAUD;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 
 /**
  * <p>PiGpioSocketImpl class.</p>
@@ -71,6 +80,22 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return new PiGpioSocketImpl(host, port);
     }
 
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port using a pool
+     * of command sockets so that callers on different threads can run in parallel.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize maximum number of command sockets to open concurrently.
+     * @param idleTimeout milliseconds after which an unused command socket is closed.
+     * @param healthCheckInterval milliseconds after which an unused command socket is verified before reuse.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, int poolSize, long idleTimeout, long healthCheckInterval) {
+        return new PiGpioSocketImpl(host, port, poolSize, idleTimeout, healthCheckInterval);
+    }
+
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
      * Connects to a user specified socket hostname/ip address using the default port (8888).
@@ -104,6 +129,21 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         super(host, port);
     }
 
+    /**
+     * ALTERNATE PRIVATE CONSTRUCTOR
+     * <p>
+     * Connects to a user specified socket hostname/ip address and port using a pool of command sockets.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize maximum number of command sockets to open concurrently.
+     * @param idleTimeout milliseconds after which an unused command socket is closed.
+     * @param healthCheckInterval milliseconds after which an unused command socket is verified before reuse.
+     */
+    private PiGpioSocketImpl(String host, int port, int poolSize, long idleTimeout, long healthCheckInterval) {
+        super(host, port, poolSize, idleTimeout, healthCheckInterval);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -167,8 +207,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::PUD-SET] -> PIN: {}; PUD={}({});", pin, pud.name(), pud.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(PUD, pin, pud.value());
-        logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), result.success());
+        int result = command(PUD, pin, pud.value());
+        logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), (result >= 0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_MODE.
     }
 
@@ -183,9 +223,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::MODE-GET] -> PIN: {};", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODEG, pin);
+        int result = command(MODEG, pin);
         validateResult(result); // Returns the GPIO mode if OK, otherwise PI_BAD_GPIO.
-        PiGpioMode mode = PiGpioMode.from(result.result());
+        PiGpioMode mode = PiGpioMode.from(result);
         logger.trace("[GPIO::MODE-GET] <- PIN: {}; MODE={}({})", pin, mode.name(), mode.value());
         return mode;
     }
@@ -204,8 +244,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::MODE-SET] -> PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODES, pin, mode.value());
-        logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), result.success());
+        int result = command(MODES, pin, mode.value());
+        logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), (result >= 0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_PUD.
     }
 
@@ -220,9 +260,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::GET] -> PIN: {}", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(READ, pin);
+        int result = command(READ, pin);
         validateResult(result); // Returns the GPIO level if OK, otherwise PI_BAD_GPIO.
-        PiGpioState state = PiGpioState.from(result.p3()); // result value stored in P3
+        PiGpioState state = PiGpioState.from(result); // result value stored in P3
         logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
         return state;
     }
@@ -238,11 +278,60 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(WRITE, pin, state.value());
-        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
+        int result = command(WRITE, pin, state.value());
+        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), (result >= 0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Reads the levels of all GPIOs of a bank with a single operation.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioReadBank(int bank) {
+        logger.trace("[GPIO::BANK-GET] -> BANK: {}", bank);
+        validateReady();
+        validateBank(bank);
+        // the levels are unsigned; bit 31 (GPIO 31) makes the result negative, so it is not validated
+        int result = command(bank == 1 ? BR1 : BR2);
+        logger.trace("[GPIO::BANK-GET] <- BANK: {}; LEVELS: {}", bank, Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets all GPIOs of a bank whose bit is set in the mask, atomically.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioSetBank(int bank, int mask) {
+        logger.trace("[GPIO::BANK-SET] -> BANK: {}; MASK: {}", bank, Integer.toBinaryString(mask));
+        validateReady();
+        validateBank(bank);
+        int result = command(bank == 1 ? BS1 : BS2, mask);
+        logger.trace("[GPIO::BANK-SET] <- BANK: {}; SUCCESS={}", bank, (result >= 0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears all GPIOs of a bank whose bit is set in the mask, atomically.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioClearBank(int bank, int mask) {
+        logger.trace("[GPIO::BANK-CLEAR] -> BANK: {}; MASK: {}", bank, Integer.toBinaryString(mask));
+        validateReady();
+        validateBank(bank);
+        int result = command(bank == 1 ? BC1 : BC2, mask);
+        logger.trace("[GPIO::BANK-CLEAR] <- BANK: {}; SUCCESS={}", bank, (result >= 0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -268,8 +357,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioGlitchFilter(steady);
-        PiGpioPacket result = sendCommand(FG, pin, steady);
-        logger.trace("[GPIO::GLITCH] <- PIN: {}; SUCCESS={}",  pin, result.success());
+        int result = command(FG, pin, steady);
+        logger.trace("[GPIO::GLITCH] <- PIN: {}; SUCCESS={}",  pin, (result >= 0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
@@ -299,11 +388,28 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioNoiseFilter(steady, active);
-        PiGpioPacket result = sendCommand(FN, pin, steady).data(active);
+        PiGpioPacket result = sendPacket(new PiGpioPacket(FN, pin, steady).data(active));
         logger.trace("[GPIO::NOISE] <- PIN: {}; SUCCESS={}",  pin, result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout) {
+        logger.trace("[GPIO::WATCHDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        validateWatchdogTimeout(timeout);
+        int result = command(WDOG, pin, timeout);
+        logger.trace("[GPIO::WATCHDOG] <- PIN: {}; SUCCESS={}",  pin, (result >= 0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -326,8 +432,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validateDutyCycle(dutyCycle);
-        PiGpioPacket result = sendCommand(PWM, pin, dutyCycle);
-        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
+        int result = command(PWM, pin, dutyCycle);
+        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, (result >= 0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
@@ -348,9 +454,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(GDC, pin);
-        var dutyCycle = result.result();
-        logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
+        int result = command(GDC, pin);
+        var dutyCycle = result;
+        logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, (result >= 0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_PWM_GPIO.
         return dutyCycle;
     }
@@ -605,8 +711,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validatePulseWidth(pulseWidth);
-        PiGpioPacket result = sendCommand(SERVO, pin, pulseWidth);
-        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
+        int result = command(SERVO, pin, pulseWidth);
+        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, (result >= 0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_PULSEWIDTH.
     }
 
@@ -620,9 +726,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERVO::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(GPW, pin);
-        var pulseWidth = result.result();
-        logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
+        int result = command(GPW, pin);
+        var pulseWidth = result;
+        logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, (result >= 0));
 
         // Returns 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise)
         // if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_SERVO_GPIO.
@@ -631,6 +737,619 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVE IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = command(WVCLR);
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = command(WVNEW);
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse[] pulses, int offset, int length) {
+        logger.trace("[WAVE::ADD-GENERIC] -> PULSES={}", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, pulses.length);
+        byte[] data = new byte[length * 12];
+        for (int i = 0; i < length; i++) {
+            PiGpioPulse pulse = pulses[offset + i];
+            putInt(data, i * 12, pulse.gpioOn());
+            putInt(data, i * 12 + 4, pulse.gpioOff());
+            putInt(data, i * 12 + 8, pulse.delay());
+        }
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(WVAG).data(data));
+        logger.trace("[WAVE::ADD-GENERIC] <- SUCCESS={}; TOTAL PULSES={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a waveform representing serial data to the existing waveform (if any).
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddSerial">PIGPIO::gpioWaveAddSerial</a>
+     */
+    @Override
+    public int gpioWaveAddSerial(int pin, int baud, int dataBits, int stopBits, int offset, byte[] data, int dataOffset, int length) {
+        logger.trace("[WAVE::ADD-SERIAL] -> PIN: {}; BAUD={}; OFFSET={}; BYTES={}", pin, baud, offset, length);
+        validateReady();
+        validateUserPin(pin);
+        Objects.checkFromIndexSize(dataOffset, length, data.length);
+
+        // the extension holds the data bits, stop bits and offset followed by the data
+        byte[] ext = new byte[12 + length];
+        putInt(ext, 0, dataBits);
+        putInt(ext, 4, stopBits);
+        putInt(ext, 8, offset);
+        System.arraycopy(data, dataOffset, ext, 12, length);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(WVAS, pin, baud).data(ext));
+        logger.trace("[WAVE::ADD-SERIAL] <- PIN: {}; SUCCESS={}; TOTAL PULSES={}", pin, rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = command(WVCRE);
+        logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE-ID={}", (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE-ID={}", waveId);
+        validateReady();
+        validateWaveId(waveId);
+        int result = command(WVDEL, waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE-ID={}; SUCCESS={}", waveId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE-ID={}; MODE={}", waveId, mode);
+        validateReady();
+        validateWaveId(waveId);
+        int result = command(WVTXM, waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE-ID={}; SUCCESS={}; CBS={}", waveId, (result >= 0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int length) {
+        logger.trace("[WAVE::CHAIN] -> BYTES={}", length);
+        validateReady();
+        Objects.checkFromIndexSize(0, length, buf.length);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(WVCHA).data(buf, length));
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = command(WVTAT);
+        logger.trace("[WAVE::AT] <- WAVE-ID={}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = command(WVBSY);
+        logger.trace("[WAVE::BUSY] <- BUSY={}", result);
+        validateResult(result);
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = command(WVHLT);
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", (result >= 0));
+        validateResult(result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMicros() {
+        return waveStatistic(WVSM, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        return waveStatistic(WVSM, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        return waveStatistic(WVSM, 2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetPulses() {
+        return waveStatistic(WVSP, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        return waveStatistic(WVSP, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        return waveStatistic(WVSP, 2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetCbs() {
+        return waveStatistic(WVSC, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        return waveStatistic(WVSC, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        return waveStatistic(WVSC, 2);
+    }
+
+    // the WVSM, WVSP and WVSC commands select the current (0), high (1) or maximum (2) value
+    private int waveStatistic(PiGpioCmd cmd, int which) {
+        logger.trace("[WAVE::{}] -> {}", cmd.name(), which);
+        validateReady();
+        int result = command(cmd, which);
+        logger.trace("[WAVE::{}] <- {}={}", cmd.name(), which, result);
+        validateResult(result);
+        return result;
+    }
+
+    // little endian, as expected by the pigpio daemon for command extensions
+    private static void putInt(byte[] buffer, int index, int value) {
+        buffer[index] = (byte) value;
+        buffer[index + 1] = (byte) (value >> 8);
+        buffer[index + 2] = (byte) (value >> 16);
+        buffer[index + 3] = (byte) (value >> 24);
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> LENGTH={}", script.length());
+        validateReady();
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(PROC).data(script));
+        logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT-ID={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT-ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(PROCR, scriptId).data(scriptParams(params)));
+        logger.trace("[SCRIPT::RUN] <- SCRIPT-ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(PROCU, scriptId).data(scriptParams(params)));
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a stored script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(PROCP, scriptId));
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+
+        // the reply holds the status followed by the current values of the 10 parameters
+        byte[] data = rx.data();
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(getInt(data, 0));
+        if (params != null) {
+            int count = Math.min(params.length, Math.min(PI_MAX_SCRIPT_PARAMS, data.length / 4 - 1));
+            for (int i = 0; i < count; i++) {
+                params[i] = getInt(data, 4 + i * 4);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = command(PROCS, scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = command(PROCD, scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result >= 0));
+        validateResult(result);
+    }
+
+    // script parameters are sent as little endian 32-bit values
+    private static byte[] scriptParams(int[] params) {
+        byte[] data = new byte[params.length * 4];
+        for (int i = 0; i < params.length; i++) {
+            putInt(data, i * 4, params[i]);
+        }
+        return data;
+    }
+
+    private static int getInt(byte[] buffer, int index) {
+        return (buffer[index] & 0xFF) | (buffer[index + 1] & 0xFF) << 8 |
+               (buffer[index + 2] & 0xFF) << 16 | (buffer[index + 3] & 0xFF) << 24;
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // BIT-BANG I2C/SPI/SERIAL IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[BB-I2C::OPEN] -> SDA={}; SCL={}; BAUD={}", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBaud(baud, PI_BB_I2C_MIN_BAUD, PI_BB_I2C_MAX_BAUD);
+        byte[] ext = new byte[4];
+        putInt(ext, 0, baud);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BI2CO, sda, scl).data(ext));
+        logger.trace("[BB-I2C::OPEN] <- SDA={}; SUCCESS={}", sda, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[BB-I2C::CLOSE] -> SDA={}", sda);
+        validateReady();
+        validateUserPin(sda);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BI2CC, sda));
+        logger.trace("[BB-I2C::CLOSE] <- SDA={}; SUCCESS={}", sda, rx.success());
+        validateResult(rx, false);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of bit banged I2C operations.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, byte[] commands, int commandLength, byte[] buffer, int length) {
+        logger.trace("[BB-I2C::ZIP] -> SDA={}; I2C Zip [{} command bytes]", sda, commandLength);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(0, length, buffer.length);
+        PiGpioPacket tx = new PiGpioPacket(BI2CZ, sda).data(commands, 0, commandLength);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[BB-I2C::ZIP] <- SDA={}; SUCCESS={}; RESULT={}", sda, rx.success(), rx.result());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(rx.result(), Math.min(rx.dataLength(), length));
+            System.arraycopy(rx.data(), 0, buffer, 0, actual);
+        }
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate and mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    @Override
+    public int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int spiFlags) {
+        logger.trace("[BB-SPI::OPEN] -> CS={}; MISO={}; MOSI={}; SCLK={}; BAUD={}; FLAGS={}",
+                cs, miso, mosi, sclk, baud, spiFlags);
+        validateReady();
+        validateUserPin(cs);
+        validateUserPin(miso);
+        validateUserPin(mosi);
+        validateUserPin(sclk);
+        validateBaud(baud, PI_BB_SPI_MIN_BAUD, PI_BB_SPI_MAX_BAUD);
+        byte[] ext = new byte[20];
+        putInt(ext, 0, miso);
+        putInt(ext, 4, mosi);
+        putInt(ext, 8, sclk);
+        putInt(ext, 12, baud);
+        putInt(ext, 16, spiFlags);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BSPIO, cs).data(ext));
+        logger.trace("[BB-SPI::OPEN] <- CS={}; SUCCESS={}", cs, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    @Override
+    public int bbSPIClose(int cs) {
+        logger.trace("[BB-SPI::CLOSE] -> CS={}", cs);
+        validateReady();
+        validateUserPin(cs);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BSPIC, cs));
+        logger.trace("[BB-SPI::CLOSE] <- CS={}; SUCCESS={}", cs, rx.success());
+        validateResult(rx, false);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a bit banged SPI transfer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    @Override
+    public int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        logger.trace("[BB-SPI::XFER] -> CS={}; SPI Transfer [{} bytes]", cs, numberOfBytes);
+        validateReady();
+        validateUserPin(cs);
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        PiGpioPacket tx = new PiGpioPacket(BSPIX, cs).data(write, writeOffset, numberOfBytes);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[BB-SPI::XFER] <- CS={}; SUCCESS={}; BYTES-READ={}", cs, rx.success(), rx.dataLength());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(rx.result(), Math.min(rx.dataLength(), numberOfBytes));
+            System.arraycopy(rx.data(), 0, read, readOffset, actual);
+        }
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function opens a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    @Override
+    public int gpioSerialReadOpen(int pin, int baud, int dataBits) {
+        logger.trace("[BB-SERIAL::OPEN] -> PIN={}; BAUD={}; DATA-BITS={}", pin, baud, dataBits);
+        validateReady();
+        validateUserPin(pin);
+        validateBaud(baud, PI_BB_SER_MIN_BAUD, PI_BB_SER_MAX_BAUD);
+        byte[] ext = new byte[4];
+        putInt(ext, 0, dataBits);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(SLRO, pin, baud).data(ext));
+        logger.trace("[BB-SERIAL::OPEN] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function configures the level logic for bit bang serial reads.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    @Override
+    public int gpioSerialReadInvert(int pin, boolean invert) {
+        logger.trace("[BB-SERIAL::INVERT] -> PIN={}; INVERT={}", pin, invert);
+        validateReady();
+        validateUserPin(pin);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(SLRI, pin, invert ? PI_BB_SER_INVERT : PI_BB_SER_NORMAL));
+        logger.trace("[BB-SERIAL::INVERT] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function copies up to length bytes of data read from the bit bang serial cyclic buffer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    @Override
+    public int gpioSerialRead(int pin, byte[] buffer, int offset, int length) {
+        logger.trace("[BB-SERIAL::READ] -> PIN={}; Serial Read [{} bytes]", pin, length);
+        validateReady();
+        validateUserPin(pin);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(SLR, pin, length));
+        logger.trace("[BB-SERIAL::READ] <- PIN={}; SUCCESS={}; BYTES-READ={}", pin, rx.success(), rx.dataLength());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(rx.result(), Math.min(rx.dataLength(), length));
+            System.arraycopy(rx.data(), 0, buffer, offset, actual);
+        }
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function closes a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    @Override
+    public int gpioSerialReadClose(int pin) {
+        logger.trace("[BB-SERIAL::CLOSE] -> PIN={}", pin);
+        validateReady();
+        validateUserPin(pin);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(SLRC, pin));
+        logger.trace("[BB-SERIAL::CLOSE] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx, false);
+        return rx.result();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -698,10 +1417,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public long gpioTick() {
         logger.trace("[TICK::GET] -> Get current tick");
         validateReady();
-        PiGpioPacket tx = new PiGpioPacket(TICK);
-        PiGpioPacket rx = sendPacket(tx);
-        long tick = Integer.toUnsignedLong(rx.result()); // convert (UInt32) 32-bit unsigned value to long
-        logger.trace("[TICK::GET] <- TICK: {}; SUCCESS={}",  tick, rx.success());
+        int result = command(TICK);
+        long tick = Integer.toUnsignedLong(result); // convert (UInt32) 32-bit unsigned value to long
+        logger.trace("[TICK::GET] <- TICK: {}; SUCCESS={}",  tick, (result >= 0));
         return tick;
     }
 
@@ -780,11 +1498,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; R/W Bit [{}]", handle, bit ? 1 : 0);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWQ, handle, bit ? 1 : 0);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = command(I2CWQ, handle, bit ? 1 : 0);
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result >= 0), result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -798,11 +1515,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWS, handle, Byte.toUnsignedInt(value));
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = command(I2CWS, handle, Byte.toUnsignedInt(value));
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result >= 0), result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -816,11 +1532,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::READ] -> [{}]; Byte", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CRS, handle);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = command(I2CRS, handle);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, (result >= 0), result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -873,11 +1588,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRB, handle, register);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = command(I2CRB, handle, register);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, (result >= 0), result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -892,11 +1606,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRW, handle, register);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = command(I2CRW, handle, register);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, (result >= 0), result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -1118,6 +1831,30 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return rx.result();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This executes a sequence of I2C operations with a single I2CZ command.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int length) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Zip [{} command bytes]", handle, commandLength);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(0, length, buffer.length);
+        PiGpioPacket tx = new PiGpioPacket(I2CZ, handle).data(commands, 0, commandLength);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(rx.result(), Math.min(rx.dataLength(), length));
+            System.arraycopy(rx.data(), 0, buffer, 0, actual);
+        }
+        return rx.result();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -31,16 +31,21 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioNotificationStats;
 import com.pi4j.library.pigpio.PiGpioPacket;
 import com.pi4j.library.pigpio.PiGpioState;
 import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.PiGpioWatchdogEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_BIT_MASK;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+
 /**
  * <p>PiGpioSocketMonitor class.</p>
  *
@@ -59,6 +64,7 @@ public class PiGpioSocketMonitor  {
     protected boolean shutdown = false;
     protected Integer handle = null;
     protected Thread monitoringThread = null;
+    protected final PiGpioNotificationReader reader = new PiGpioNotificationReader();
 
     // 32 bits are used to store the last known states of pins 0-31
     protected int pinState = 0b00000000000000000000000000000000;
@@ -141,6 +147,45 @@ public class PiGpioSocketMonitor  {
         piGpio.sendPacket(tx);
     }
 
+    /**
+     * <p>stats.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioNotificationStats} object.
+     */
+    public PiGpioNotificationStats stats() {
+        return reader.stats();
+    }
+
+    private void decode(int sequence, int flags, long tick, int newPinState,
+                        List<PiGpioStateChangeEvent> events, List<PiGpioWatchdogEvent> watchdogs) {
+        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
+                sequence, flags, tick, Integer.toBinaryString(newPinState));
+
+        // every report is extended in order, so the ticks of all pins share a common base
+        long extendedTick = piGpio.extendTick(tick);
+
+        // only the monitored pins whose state differs from the last known state have changed
+        int changed = (pinState ^ newPinState) & pinMonitor;
+        while (changed != 0) {
+            int i = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            final PiGpioState state = PiGpioState.from((newPinState >> i) & 1);
+            events.add(new PiGpioStateChangeEvent(i, state, tick, extendedTick, sequence));
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+
+        // watchdog reports carry the timed out pin in the flags; any level change they
+        // reveal (e.g. after a lost report) has been decoded above
+        if((flags & PI_NTFY_FLAGS_WDOG) != 0) {
+            int pin = flags & PI_NTFY_FLAGS_BIT_MASK;
+            if((pinMonitor & (1 << pin)) != 0) {
+                watchdogs.add(new PiGpioWatchdogEvent(pin, PiGpioState.from((newPinState >> pin) & 1), tick, extendedTick, sequence));
+            }
+        }
+    }
+
     private void startMonitoringThread(){
         // create monitoring thread
         monitoringThread = new Thread(NAME) {
@@ -188,14 +233,17 @@ public class PiGpioSocketMonitor  {
                             var in = listener.getInputStream();
 
                             boolean disconnected = false;
-                            byte[] raw = new byte[12];
+                            reader.reset();
 
                             // continue reading from the socket until the socket has become disconnected,
                             // this monitor is being shutdown or until no pins are actively being monitored
                             while (!disconnected && !shutdown && pinMonitor != 0) {
 
                                 try {
-                                    int result = in.read(raw, 0, raw.length);
+                                    // decode all complete reports received in this read into a single batch of events
+                                    List<PiGpioStateChangeEvent> events = new ArrayList<>();
+                                    List<PiGpioWatchdogEvent> watchdogs = new ArrayList<>();
+                                    int result = reader.read(in, (sequence, flags, tick, level) -> decode(sequence, flags, tick, level, events, watchdogs));
 
                                     // check for end of stream error code
                                     if(result == -1){
@@ -205,59 +253,14 @@ public class PiGpioSocketMonitor  {
                                         break;
                                     }
 
-                                    // process the data read buffer if we have a sufficient number of bytes
-                                    if (result >= 12) {
-                                        // wrap the raw data in a byte buffer to process/decode the results (Little Endian)
-                                        ByteBuffer buffer = ByteBuffer.wrap(raw);
-                                        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-                                        // decode each event data element from the buffer
-                                        final long sequence = Integer.toUnsignedLong(buffer.getShort());
-                                        final long flags = Integer.toUnsignedLong(buffer.getShort());
-                                        final long tick = Integer.toUnsignedLong(buffer.getInt());
-                                        final int newPinState = buffer.getInt();
-
-//                        final BitSet levels = BitSet.valueOf(buffer.array());
-//                        logger.info("[BYTES] [0x" + StringUtil.toHexString(buffer) + "]");
-//                        logger.info("[SEQUE] " + sequence);
-//                        logger.info("[FLAGS] " + flags);
-//                        logger.info("[TICK ] " + tick);
-//                        logger.info("[LEVEL] " + Integer.toBinaryString(level));
-//                        logger.info("[STATE] " + BitSet.valueOf(raw).get(0));
-//                        logger.info("--------------------------------------------------------");
-                                        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
-                                                sequence, flags, tick, Integer.toBinaryString(newPinState));
-
-                                        // iterate over the 32 bits in the level value
-                                        for (int i = 0; i < 32; i++) {
-                                            // determine if this pin is enabled for events
-                                            // if it is, then process the event; else ignore it
-                                            int pinNotify = (pinMonitor >> i) & 1;
-                                            if(pinNotify > 0) {
-                                                // get the states for this pin from the 32-bit value
-                                                int oldState = (pinState >> i) & 1;
-                                                int newState = (newPinState >> i) & 1;
-
-                                                // compare the old state value with the new state value to determine if there is a change
-                                                if (oldState != newState) {
-                                                    // if there is a change detected, then create a new change event and dispatch it
-                                                    final PiGpioState state = PiGpioState.from(newState);
-                                                    final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(i, state, tick);
-                                                    logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE=[{}]",
-                                                            i, flags, tick, Integer.toBinaryString(newPinState));
-                                                    try {
-                                                        piGpio.dispatchEvent(event);
-                                                    }
-                                                    catch (Exception e){
-                                                        logger.error(e.getMessage(), e);
-                                                    }
-                                                }
-                                            }
-                                        }
-
-                                        // cache the new;y read pins states for future comparisons
-                                        pinState = newPinState;
+                                    // dispatch the batch of change events to the listeners
+                                    if(!events.isEmpty()) {
+                                        logger.trace("[DISPATCH] {} PiGpioStateChangeEvent(s) from {} report(s)", events.size(), result);
+                                        piGpio.dispatchEvents(events);
                                     }
+
+                                    // dispatch the watchdog timeouts after any level changes
+                                    watchdogs.forEach(piGpio::dispatchWatchdog);
                                 }
                                 catch (SocketTimeoutException ste){
                                     // ignore this timeout and continue reading
@@ -0,0 +1,233 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPool.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * <p>PiGpioSocketPool class.</p>
+ * <p>
+ * Pool of command sockets connected to the same PiGpio daemon.  Each command (or pipelined
+ * batch of commands) borrows a socket for its complete write/read exchange, so concurrent
+ * callers on different threads each get their own socket and run in parallel rather than
+ * interleaving on a single shared socket.
+ * <p>
+ * Sockets are created lazily up to the configured maximum pool size.  Idle sockets are
+ * closed once they exceed the idle timeout, and a socket that has been idle longer than
+ * the health check interval is verified before being handed out again.  A socket that
+ * fails during an exchange is discarded and a new one is connected on the next request.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPool.class);
+
+    protected final String host;
+    protected final int port;
+    protected final int size;
+    protected final long idleTimeout;
+    protected final long healthCheckInterval;
+    protected final int socketTimeout;
+    protected final Predicate<PiGpioSocketChannel> healthCheck;
+
+    // most recently used connections are kept at the head of the idle queue
+    protected final Deque<PiGpioSocketChannel> idle = new ArrayDeque<>();
+    protected int open = 0;
+    protected int generation = 0;
+
+    /**
+     * <p>Constructor for PiGpioSocketPool.</p>
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param size maximum number of sockets to open concurrently (&gt;=1)
+     * @param idleTimeout milliseconds after which an unused socket is closed
+     * @param healthCheckInterval milliseconds after which an unused socket is verified before reuse
+     * @param socketTimeout socket read/write timeout in milliseconds
+     * @param healthCheck check used to verify an unused socket is still functional
+     */
+    public PiGpioSocketPool(String host, int port, int size, long idleTimeout,
+                            long healthCheckInterval, int socketTimeout, Predicate<PiGpioSocketChannel> healthCheck) {
+        if(size < 1) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID SOCKET POOL SIZE [" + size + "]; Valid range: >=1");
+        }
+        this.host = host;
+        this.port = port;
+        this.size = size;
+        this.idleTimeout = idleTimeout;
+        this.healthCheckInterval = healthCheckInterval;
+        this.socketTimeout = socketTimeout;
+        this.healthCheck = healthCheck;
+    }
+
+    /**
+     * Borrow a connected socket from the pool, connecting a new socket if none are idle and
+     * the pool has not reached its maximum size.  Blocks while all sockets are in use.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketChannel} object.
+     */
+    public PiGpioSocketChannel acquire() {
+        while(true) {
+            PiGpioSocketChannel connection;
+            int connectGeneration;
+            synchronized (this) {
+                evictIdle(System.currentTimeMillis());
+                while (idle.isEmpty() && open >= size) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new PiGpioException("Interrupted while waiting for a PIGPIO socket connection", e);
+                    }
+                    evictIdle(System.currentTimeMillis());
+                }
+                connection = idle.pollFirst();
+                if (connection == null) open++;
+                connectGeneration = generation;
+            }
+
+            // no idle connection available; connect a new socket
+            if (connection == null) {
+                return connect(connectGeneration);
+            }
+
+            // verify connections that have been idle for a while before handing them out
+            if (System.currentTimeMillis() - connection.lastUsed < healthCheckInterval ||
+                    healthCheck.test(connection)) {
+                return connection;
+            }
+            logger.debug("[POOL] discarding socket that failed health check");
+            invalidate(connection);
+        }
+    }
+
+    /**
+     * Return a borrowed socket to the pool for reuse.
+     *
+     * @param connection a {@link com.pi4j.library.pigpio.impl.PiGpioSocketChannel} object.
+     */
+    public void release(PiGpioSocketChannel connection) {
+        synchronized (this) {
+            if (connection.generation == generation && connection.isOpen()) {
+                connection.lastUsed = System.currentTimeMillis();
+                idle.addFirst(connection);
+                notifyAll();
+                return;
+            }
+        }
+        invalidate(connection);
+    }
+
+    /**
+     * Discard a borrowed socket that is no longer usable (e.g. the exchange failed and the
+     * stream may no longer be aligned on a reply boundary).
+     *
+     * @param connection a {@link com.pi4j.library.pigpio.impl.PiGpioSocketChannel} object.
+     */
+    public void invalidate(PiGpioSocketChannel connection) {
+        close(connection);
+        synchronized (this) {
+            open--;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Close all idle sockets; sockets currently in use are closed when they are released.
+     */
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            idle.forEach(connection -> close(connection));
+            open -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the maximum number of sockets in this pool.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>openConnections.</p>
+     *
+     * @return the number of sockets currently open (idle or in use).
+     */
+    public synchronized int openConnections() {
+        return open;
+    }
+
+    private PiGpioSocketChannel connect(int connectGeneration) {
+        try {
+            logger.debug("[POOL] connecting new socket to: {}:{}", host, port);
+            return PiGpioSocketChannel.open(host, port, socketTimeout, connectGeneration);
+        } catch (IOException e) {
+            synchronized (this) {
+                open--;
+                notifyAll();
+            }
+            throw new PiGpioException(e);
+        }
+    }
+
+    private void evictIdle(long now) {
+        Iterator<PiGpioSocketChannel> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PiGpioSocketChannel connection = iterator.next();
+            if (now - connection.lastUsed < idleTimeout) break;
+            logger.debug("[POOL] closing idle socket");
+            iterator.remove();
+            close(connection);
+            open--;
+        }
+    }
+
+    private static void close(PiGpioSocketChannel connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            logger.warn(e.getMessage(), e);
+        }
+    }
+}
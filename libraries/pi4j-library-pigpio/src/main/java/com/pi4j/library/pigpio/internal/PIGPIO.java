@@ -31,6 +31,7 @@ package com.pi4j.library.pigpio.internal;
 import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.library.pigpio.util.NativeLibraryLoader;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.Callable;
 
 /**
@@ -335,26 +336,141 @@ public class PIGPIO {
      * @return a int.
      */
     public static native int gpioNotifyClose(int handle);
-//    public static native int gpioWaveClear();
-//    public static native int gpioWaveAddNew();
-//    public static native int gpioWaveAddGeneric(int numPulses, gpioPulse_t *pulses)
-//    public static native int gpioWaveAddSerial(int user_gpio, int baud, int data_bits, int stop_bits, int offset, int numBytes, char *str);
-//    public static native int gpioWaveCreate();
-//    public static native int gpioWaveDelete(int wave_id);
-//    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
-//    public static native int gpioWaveChain(byte[] buf, int bufSize);
-//    public static native int gpioWaveTxAt();
-//    public static native int gpioWaveTxBusy();
-//    public static native int gpioWaveTxStop();
-//    public static native int gpioWaveGetMicros();
-//    public static native int gpioWaveGetHighMicros();
-//    public static native int gpioWaveGetMaxMicros();
-//    public static native int gpioWaveGetPulses();
-//    public static native int gpioWaveGetHighPulses();
-//    public static native int gpioWaveGetMaxPulses();
-//    public static native int gpioWaveGetCbs();
-//    public static native int gpioWaveGetHighCbs();
-//    public static native int gpioWaveGetMaxCbs();
+    /**
+     * <p>gpioWaveClear.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveClear();
+    /**
+     * <p>gpioWaveAddNew.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveAddNew();
+    /**
+     * <p>gpioWaveAddGeneric.</p>
+     *
+     * @param numPulses a int.
+     * @param pulses an array of {@link int} objects; gpioOn, gpioOff and usDelay of each pulse.
+     * @return a int.
+     */
+    public static native int gpioWaveAddGeneric(int numPulses, int[] pulses);
+    /**
+     * <p>gpioWaveAddSerial.</p>
+     *
+     * @param user_gpio a int.
+     * @param baud a int.
+     * @param data_bits a int.
+     * @param stop_bits a int.
+     * @param offset a int.
+     * @param str an array of {@link byte} objects.
+     * @param strOffset a int.
+     * @param numBytes a int.
+     * @return a int.
+     */
+    public static native int gpioWaveAddSerial(int user_gpio, int baud, int data_bits, int stop_bits, int offset, byte[] str, int strOffset, int numBytes);
+    /**
+     * <p>gpioWaveCreate.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveCreate();
+    /**
+     * <p>gpioWaveDelete.</p>
+     *
+     * @param wave_id a int.
+     * @return a int.
+     */
+    public static native int gpioWaveDelete(int wave_id);
+    /**
+     * <p>gpioWaveTxSend.</p>
+     *
+     * @param wave_id a int.
+     * @param wave_mode a int.
+     * @return a int.
+     */
+    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
+    /**
+     * <p>gpioWaveChain.</p>
+     *
+     * @param buf an array of {@link byte} objects.
+     * @param bufSize a int.
+     * @return a int.
+     */
+    public static native int gpioWaveChain(byte[] buf, int bufSize);
+    /**
+     * <p>gpioWaveTxAt.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxAt();
+    /**
+     * <p>gpioWaveTxBusy.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxBusy();
+    /**
+     * <p>gpioWaveTxStop.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxStop();
+    /**
+     * <p>gpioWaveGetMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMicros();
+    /**
+     * <p>gpioWaveGetHighMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighMicros();
+    /**
+     * <p>gpioWaveGetMaxMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxMicros();
+    /**
+     * <p>gpioWaveGetPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetPulses();
+    /**
+     * <p>gpioWaveGetHighPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighPulses();
+    /**
+     * <p>gpioWaveGetMaxPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxPulses();
+    /**
+     * <p>gpioWaveGetCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetCbs();
+    /**
+     * <p>gpioWaveGetHighCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighCbs();
+    /**
+     * <p>gpioWaveGetMaxCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxCbs();
     /**
      * <p>gpioSerialReadOpen.</p>
      *
@@ -549,6 +665,18 @@ public class PIGPIO {
         return i2cReadBlockData(handle, i2cReg, buf, 0);
     }
 
+    /**
+     * <p>i2cReadBlockDataDirect.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link java.nio.ByteBuffer} receiving the data.
+     * @param offset starting position in buffer
+     * @param count the maximum number of bytes to copy into the buffer
+     * @return a int.
+     */
+    public static native int i2cReadBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cBlockProcessCall.</p>
      *
@@ -599,6 +727,18 @@ public class PIGPIO {
         return i2cReadI2CBlockData(handle, i2cReg, buf, 0, count);
     }
 
+    /**
+     * <p>i2cReadI2CBlockDataDirect.</p>
+     *
+     * @param handle a int.
+     * @param i2cReg a int.
+     * @param buf a direct {@link java.nio.ByteBuffer} receiving the data.
+     * @param offset starting position in buffer
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cReadI2CBlockDataDirect(int handle, int i2cReg, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cWriteI2CBlockData.</p>
      *
@@ -833,6 +973,19 @@ public class PIGPIO {
         return spiXfer(handle, txBuf, 0, rxBuf, 0, count);
     }
 
+    /**
+     * <p>spiXferDirect.</p>
+     *
+     * @param handle a int.
+     * @param txBuf a direct {@link java.nio.ByteBuffer} holding the data to write.
+     * @param txOffset position in txBuf to start
+     * @param rxBuf a direct {@link java.nio.ByteBuffer} receiving the data read.
+     * @param rxOffset position in rxBuf to start
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiXferDirect(int handle, ByteBuffer txBuf, int txOffset, ByteBuffer rxBuf, int rxOffset, int count);
+
     /**
      * <p>serOpen.</p>
      *
@@ -27,6 +27,7 @@
 #include <jni.h>
 #include <stdio.h>
 #include <stdlib.h>
+#include <string.h>
 #include <pigpio.h>
 #include "com_pi4j_library_pigpio_internal_PIGPIO.h"
 
@@ -520,6 +521,72 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite
     return gpioWrite((unsigned)gpio, (unsigned)level);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return gpioRead_Bits_32_53();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Clear((unsigned)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Clear((unsigned)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Set((unsigned)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Set((unsigned)bits);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioTrigger
@@ -648,6 +715,445 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioNotifyCl
     return gpioNotifyClose((unsigned)handle);
 }
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// WAVES IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveClear
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveClear
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveClear();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddNew
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddNew
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveAddNew();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddGeneric
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddGeneric
+  (JNIEnv *env, jclass class, jint numPulses, jintArray pulses)
+{
+    // bounds check to make sure the pulse count does not exceed the array of (gpioOn, gpioOff, usDelay) triples
+    jsize max_pulses = (*env)->GetArrayLength(env, pulses) / 3;
+    int count = (numPulses > max_pulses) ? max_pulses : numPulses;
+
+    // copy the pulse triples into a native pulse array
+    gpioPulse_t *buffer = malloc(sizeof(gpioPulse_t) * (count > 0 ? count : 1));
+    if(buffer == NULL) return PI_TOO_MANY_PULSES;
+    jint *values = (*env)->GetIntArrayElements(env, pulses, 0);
+    for(int i = 0; i < count; i++){
+        buffer[i].gpioOn  = (uint32_t)values[i * 3];
+        buffer[i].gpioOff = (uint32_t)values[i * 3 + 1];
+        buffer[i].usDelay = (uint32_t)values[i * 3 + 2];
+    }
+	(*env)->ReleaseIntArrayElements(env, pulses, values, JNI_ABORT);
+
+    // add the pulses to the current waveform
+    jint result = gpioWaveAddGeneric((unsigned)count, buffer);
+    free(buffer);
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddSerial
+ * Signature: (IIIII[BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddSerial
+  (JNIEnv *env, jclass class, jint user_gpio, jint baud, jint data_bits, jint stop_bits, jint offset, jbyteArray data, jint dataOffset, jint numBytes)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // bounds check to make sure byte count does not exceed max array length (minus offset)
+    jsize max_length = (*env)->GetArrayLength(env, data) - dataOffset;
+    int length = (numBytes > max_length) ? max_length : numBytes;
+
+    // add the serial data to the current waveform
+    jint result = gpioWaveAddSerial((unsigned)user_gpio, (unsigned)baud, (unsigned)data_bits, (unsigned)stop_bits,
+                                    (unsigned)offset, (unsigned)length, (char *)(buffer + dataOffset));
+
+	// unpin the reserved memory for 'data'; abort preserving any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, data, buffer, JNI_ABORT);
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveCreate
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveCreate
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveCreate();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveDelete
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveDelete
+  (JNIEnv *env, jclass class, jint wave_id)
+{
+    return gpioWaveDelete((unsigned)wave_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxSend
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxSend
+  (JNIEnv *env, jclass class, jint wave_id, jint wave_mode)
+{
+    return gpioWaveTxSend((unsigned)wave_id, (unsigned)wave_mode);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveChain
+ * Signature: ([BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveChain
+  (JNIEnv *env, jclass class, jbyteArray buf, jint bufSize)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, buf, 0);
+
+    // bounds check to make sure the chain size does not exceed the array length
+    jsize max_length = (*env)->GetArrayLength(env, buf);
+    int length = (bufSize > max_length) ? max_length : bufSize;
+
+    // transmit the chain of waveforms
+    jint result = gpioWaveChain((char *)buffer, (unsigned)length);
+
+	// unpin the reserved memory for 'buf'
+	(*env)->ReleaseByteArrayElements(env, buf, buffer, JNI_ABORT);
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxAt
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxAt
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxAt();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxBusy
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxBusy
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxBusy();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxStop
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxStop
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxStop();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxCbs();
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// BIT-BANG SERIAL IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadOpen
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadOpen
+  (JNIEnv *env, jclass class, jint pin, jint baud, jint dataBits)
+{
+    return gpioSerialReadOpen((unsigned)pin, (unsigned)baud, (unsigned)dataBits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadInvert
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadInvert
+  (JNIEnv *env, jclass class, jint pin, jint invert)
+{
+    return gpioSerialReadInvert((unsigned)pin, (unsigned)invert);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialRead
+ * Signature: (I[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialRead
+  (JNIEnv *env, jclass class, jint pin, jbyteArray data, jint count)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // bounds check to make sure byte count does not exceed max array length
+    jsize max_length = (*env)->GetArrayLength(env, data);
+    int length = (count > max_length) ? max_length : count;
+
+    // copy the bytes received by the bit-bang serial engine into the native buffer array
+	jint result = gpioSerialRead((unsigned)pin, (void *)buffer, (size_t)length);
+
+	// unpin the reserved memory for 'data'; persist change to the Java array and free the native array
+	(*env)->ReleaseByteArrayElements(env, data, buffer, 0);
+
+    // return the result
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadClose
+  (JNIEnv *env, jclass class, jint pin)
+{
+    return gpioSerialReadClose((unsigned)pin);
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// SCRIPTS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStoreScript
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStoreScript
+  (JNIEnv *env, jclass class, jstring script)
+{
+    // obtain a (modified UTF-8) copy of the script text; scripts are plain ASCII
+    const char *text = (*env)->GetStringUTFChars(env, script, 0);
+    if(text == NULL) return PI_BAD_SCRIPT;
+
+    // compile and store the script
+    jint result = gpioStoreScript((char *)text);
+
+    // release the script text
+    (*env)->ReleaseStringUTFChars(env, script, text);
+    return result;
+}
+
+// copies up to PI_MAX_SCRIPT_PARAMS parameters from the Java array; returns the number copied
+static int copyScriptParams(JNIEnv *env, jint numPar, jintArray param, uint32_t *buffer)
+{
+    if(param == NULL) return 0;
+    jsize max_length = (*env)->GetArrayLength(env, param);
+    int count = (numPar > max_length) ? max_length : numPar;
+    if(count > PI_MAX_SCRIPT_PARAMS) count = PI_MAX_SCRIPT_PARAMS;
+    if(count < 0) count = 0;
+    (*env)->GetIntArrayRegion(env, param, 0, count, (jint *)buffer);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRunScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRunScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t buffer[PI_MAX_SCRIPT_PARAMS];
+    int count = copyScriptParams(env, numPar, param, buffer);
+    return gpioRunScript((unsigned)script_id, (unsigned)count, buffer);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioUpdateScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioUpdateScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t buffer[PI_MAX_SCRIPT_PARAMS];
+    int count = copyScriptParams(env, numPar, param, buffer);
+    return gpioUpdateScript((unsigned)script_id, (unsigned)count, buffer);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioScriptStatus
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioScriptStatus
+  (JNIEnv *env, jclass class, jint script_id, jintArray param)
+{
+    uint32_t buffer[PI_MAX_SCRIPT_PARAMS];
+    jint result = gpioScriptStatus((unsigned)script_id, buffer);
+
+    // copy the current script parameters back to the Java array (if provided)
+    if(result >= 0 && param != NULL){
+        jsize length = (*env)->GetArrayLength(env, param);
+        if(length > PI_MAX_SCRIPT_PARAMS) length = PI_MAX_SCRIPT_PARAMS;
+        (*env)->SetIntArrayRegion(env, param, 0, length, (jint *)buffer);
+    }
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStopScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStopScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioStopScript((unsigned)script_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioDeleteScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioDeleteScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioDeleteScript((unsigned)script_id);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO ALERTS (and callbacks) IMPLEMENTATION
@@ -1506,6 +2012,35 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlock
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset, jint count)
+{
+	// obtain the native address of the direct buffer; no Java array is pinned or copied
+    jbyte *buffer = (*env)->GetDirectBufferAddress(env, data);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed the buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // the device decides the block length (up to 32 bytes); read into a block sized scratch array
+    char block[32];
+	jint result = i2cReadBlockData((unsigned)handle, (unsigned)i2cReg, block);
+
+    // copy the received bytes into the direct buffer at the given offset
+    if (result > 0) memcpy(buffer + offset, block, (result > length) ? length : result);
+
+    // return the result
+	return result;
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cBlockProcessCall
@@ -1566,6 +2101,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBl
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadI2CBlockDataDirect
+ * Signature: (IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadI2CBlockDataDirect
+  (JNIEnv *env, jclass class, jint handle, jint i2cReg, jobject data, jint offset, jint count)
+{
+	// obtain the native address of the direct buffer; no Java array is pinned or copied
+    jbyte *buffer = (*env)->GetDirectBufferAddress(env, data);
+    if (buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed the buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual I2C read operation straight into the direct buffer
+	return i2cReadI2CBlockData((unsigned)handle, (unsigned)i2cReg, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteI2CBlockData
@@ -1656,6 +2213,35 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDevi
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cZip
+ * Signature: (I[BI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cZip
+  (JNIEnv *env, jclass class, jint handle, jbyteArray in, jint inLen, jbyteArray out, jint outLen)
+{
+	// obtain pointers to the elements of the arrays and pin the memory
+    jbyte *inBuffer = (*env)->GetByteArrayElements(env, in, 0);
+    jbyte *outBuffer = (*env)->GetByteArrayElements(env, out, 0);
+
+    // bounds check to make sure the lengths do not exceed the array lengths
+    jsize inMax = (*env)->GetArrayLength(env, in);
+    jsize outMax = (*env)->GetArrayLength(env, out);
+    int inLength = (inLen > inMax) ? inMax : inLen;
+    int outLength = (outLen > outMax) ? outMax : outLen;
+
+    // perform the sequence of I2C operations
+    jint result = i2cZip((unsigned)handle, (char *)inBuffer, (unsigned)inLength, (char *)outBuffer, (unsigned)outLength);
+
+	// unpin the reserved memory; only the read buffer is copied back to the Java array
+	(*env)->ReleaseByteArrayElements(env, in, inBuffer, JNI_ABORT);
+	(*env)->ReleaseByteArrayElements(env, out, outBuffer, 0);
+
+    // return the result
+	return result;
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cSwitchCombined
@@ -1667,6 +2253,57 @@ JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cSwitchCom
     i2cSwitchCombined(setting);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2COpen
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2COpen
+  (JNIEnv *env, jclass class, jint sda, jint scl, jint baud)
+{
+    return bbI2COpen((unsigned)sda, (unsigned)scl, (unsigned)baud);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CClose
+  (JNIEnv *env, jclass class, jint sda)
+{
+    return bbI2CClose((unsigned)sda);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CZip
+ * Signature: (I[BI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CZip
+  (JNIEnv *env, jclass class, jint sda, jbyteArray in, jint inLen, jbyteArray out, jint outLen)
+{
+	// obtain pointers to the elements of the arrays and pin the memory
+    jbyte *inBuffer = (*env)->GetByteArrayElements(env, in, 0);
+    jbyte *outBuffer = (*env)->GetByteArrayElements(env, out, 0);
+
+    // bounds check to make sure the lengths do not exceed the array lengths
+    jsize inMax = (*env)->GetArrayLength(env, in);
+    jsize outMax = (*env)->GetArrayLength(env, out);
+    int inLength = (inLen > inMax) ? inMax : inLen;
+    int outLength = (outLen > outMax) ? outMax : outLen;
+
+    // perform the sequence of bit-banged I2C operations
+    jint result = bbI2CZip((unsigned)sda, (char *)inBuffer, (unsigned)inLength, (char *)outBuffer, (unsigned)outLength);
+
+	// unpin the reserved memory; only the read buffer is copied back to the Java array
+	(*env)->ReleaseByteArrayElements(env, in, inBuffer, JNI_ABORT);
+	(*env)->ReleaseByteArrayElements(env, out, outBuffer, 0);
+
+    // return the result
+	return result;
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // SPI IMPLEMENTATION
@@ -1792,6 +2429,86 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXfer
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiXferDirect
+ * Signature: (ILjava/nio/ByteBuffer;ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXferDirect
+  (JNIEnv *env, jclass class, jint handle, jobject writeData, jint writeOffset, jobject readData, jint readOffset, jint count)
+{
+	// obtain the native addresses of the direct buffers; no Java arrays are pinned or copied
+    jbyte *writeBuffer = (*env)->GetDirectBufferAddress(env, writeData);
+    jbyte *readBuffer = (*env)->GetDirectBufferAddress(env, readData);
+    if (writeBuffer == NULL || readBuffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of both buffers; subtract any offset values
+    jlong max_write = (*env)->GetDirectBufferCapacity(env, writeData) - writeOffset;
+    jlong max_read = (*env)->GetDirectBufferCapacity(env, readData) - readOffset;
+
+    // bounds check to make sure byte count does not exceed either buffer capacity (minus offset)
+    int length = count;
+    if (length > max_write) length = (int)max_write;
+    if (length > max_read) length = (int)max_read;
+
+    // perform the actual SPI transfer straight from/to the direct buffers
+    return spiXfer((unsigned)handle, (char *)(writeBuffer + writeOffset), (char *)(readBuffer + readOffset), (unsigned)length);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIOpen
+ * Signature: (IIIIII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIOpen
+  (JNIEnv *env, jclass class, jint cs, jint miso, jint mosi, jint sclk, jint baud, jint flags)
+{
+    return bbSPIOpen((unsigned)cs, (unsigned)miso, (unsigned)mosi, (unsigned)sclk, (unsigned)baud, (unsigned)flags);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIClose
+  (JNIEnv *env, jclass class, jint cs)
+{
+    return bbSPIClose((unsigned)cs);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIXfer
+ * Signature: (I[B[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIXfer
+  (JNIEnv *env, jclass class, jint cs, jbyteArray writeData, jbyteArray readData, jint count)
+{
+	// obtain a pointer to the elements of the arrays and pin the memory
+    jbyte *writeBuffer = (*env)->GetByteArrayElements(env, writeData, 0);
+    jbyte *readBuffer = (*env)->GetByteArrayElements(env, readData, 0);
+
+    // bounds check to make sure byte count does not exceed either array length
+    jsize max_write = (*env)->GetArrayLength(env, writeData);
+    jsize max_read = (*env)->GetArrayLength(env, readData);
+    int length = count;
+    if (length > max_write) length = max_write;
+    if (length > max_read) length = max_read;
+
+    // perform the bit-banged SPI transfer into the native buffer arrays
+    jint result = bbSPIXfer((unsigned)cs, (char *)writeBuffer, (char *)readBuffer, (unsigned)length);
+
+	// unpin the reserved memory for 'writeData'; abort preserving any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, writeData, writeBuffer, JNI_ABORT);
+
+	// unpin the reserved memory for 'readData'; persist change to the Java array and free the native array
+	(*env)->ReleaseByteArrayElements(env, readData, readBuffer, 0);
+
+    // return the result
+	return result;
+}
+
 
 // *****************************************************************************************************
 // *****************************************************************************************************
@@ -27,6 +27,7 @@ package com.pi4j.context;
 
 import com.pi4j.config.Builder;
 import com.pi4j.context.impl.DefaultContextBuilder;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
 
@@ -175,6 +176,18 @@ public interface ContextBuilder extends Builder<Context> {
             return disableShutdownHook();
     }
 
+    /**
+     * <p>eventDispatcher.</p>
+     * <p>
+     * Deliver the events of all I/O instances created in this context asynchronously
+     * on the given dispatcher instead of on the thread that produced them.  The
+     * dispatcher is shut down when the context is shut down.
+     *
+     * @param dispatcher a {@link com.pi4j.event.EventDispatcher} object.
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder eventDispatcher(EventDispatcher dispatcher);
+
     /**
      * <p>toConfig.</p>
      *
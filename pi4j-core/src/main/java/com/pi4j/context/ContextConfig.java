@@ -25,6 +25,7 @@ package com.pi4j.context;
  * #L%
  */
 
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
 
@@ -92,6 +93,15 @@ public interface ContextConfig {
      * @return a boolean.
      */
     boolean enableShutdownHook();
+    /**
+     * <p>eventDispatcher.</p>
+     * <p>
+     * Dispatcher used to deliver the events of all I/O instances created in the context
+     * asynchronously; 'null' (the default) delivers events on the producing thread.
+     *
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    default EventDispatcher eventDispatcher() { return null; }
     /**
      * <p>getAutoInject.</p>
      *
@@ -29,6 +29,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextBuilder;
 import com.pi4j.context.ContextConfig;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.exception.Pi4JException;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
@@ -56,6 +57,7 @@ public class DefaultContextBuilder implements ContextBuilder {
     protected boolean autoDetectProviders = false;
     protected boolean autoInject = false;
     protected boolean enableShutdownHook = false;
+    protected EventDispatcher eventDispatcher = null;
 
     // default platform identifier
     protected String defaultPlatformId = null;
@@ -173,6 +175,13 @@ public class DefaultContextBuilder implements ContextBuilder {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder eventDispatcher(EventDispatcher dispatcher) {
+        this.eventDispatcher = dispatcher;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ContextBuilder property(String key, String value){
@@ -288,6 +297,9 @@ public class DefaultContextBuilder implements ContextBuilder {
             @Override
             public boolean autoInject() { return builder.autoInject; }
 
+            @Override
+            public EventDispatcher eventDispatcher() { return builder.eventDispatcher; }
+
             @Override
             public boolean autoDetectProviders() {
                 return builder.autoDetectProviders;
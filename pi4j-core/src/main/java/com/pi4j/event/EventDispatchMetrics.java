@@ -0,0 +1,137 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventDispatchMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Snapshot of the counters maintained by an {@link EventDispatcher}.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class EventDispatchMetrics {
+
+    protected final int queueDepth;
+    protected final int capacity;
+    protected final long dispatched;
+    protected final long dropped;
+    protected final long coalesced;
+    protected final long totalLatency;
+    protected final long maxLatency;
+
+    /**
+     * <p>Constructor for EventDispatchMetrics.</p>
+     *
+     * @param queueDepth number of events currently queued
+     * @param capacity maximum number of queued events
+     * @param dispatched number of events delivered to their listeners
+     * @param dropped number of events discarded because the queue was full
+     * @param coalesced number of queued events replaced by a newer event from the same source
+     * @param totalLatency sum of the latencies (nanoseconds) of all dispatched events
+     * @param maxLatency maximum latency (nanoseconds) of any dispatched event
+     */
+    public EventDispatchMetrics(int queueDepth, int capacity, long dispatched, long dropped,
+                                long coalesced, long totalLatency, long maxLatency) {
+        this.queueDepth = queueDepth;
+        this.capacity = capacity;
+        this.dispatched = dispatched;
+        this.dropped = dropped;
+        this.coalesced = coalesced;
+        this.totalLatency = totalLatency;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * <p>queueDepth.</p>
+     *
+     * @return the number of events currently waiting to be dispatched
+     */
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * <p>capacity.</p>
+     *
+     * @return the maximum number of events that may be queued
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * <p>dispatched.</p>
+     *
+     * @return the number of events delivered to their listeners
+     */
+    public long dispatched() {
+        return dispatched;
+    }
+
+    /**
+     * <p>dropped.</p>
+     *
+     * @return the number of events discarded because the queue was full
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * <p>coalesced.</p>
+     *
+     * @return the number of queued events superseded by a newer event from the same source
+     */
+    public long coalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Average time in nanoseconds from an event being submitted until all of its
+     * listeners have returned.
+     *
+     * @return a long.
+     */
+    public long averageLatency() {
+        return dispatched == 0 ? 0 : totalLatency / dispatched;
+    }
+
+    /**
+     * Maximum time in nanoseconds from an event being submitted until all of its
+     * listeners have returned.
+     *
+     * @return a long.
+     */
+    public long maxLatency() {
+        return maxLatency;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("<<EVENT DISPATCH METRICS>> QUEUE=%d/%d; DISPATCHED=%d; DROPPED=%d; COALESCED=%d; AVG-LATENCY=%dns; MAX-LATENCY=%dns",
+                queueDepth, capacity, dispatched, dropped, coalesced, averageLatency(), maxLatency);
+    }
+}
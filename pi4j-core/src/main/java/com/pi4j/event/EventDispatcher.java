@@ -0,0 +1,328 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventDispatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Asynchronous, bounded event dispatcher.
+ * <p>
+ * An {@link EventManager} configured with a dispatcher no longer invokes its listeners on
+ * the thread that produced the event (e.g. a native alert thread or GPIO monitoring thread);
+ * instead the event is placed on a bounded queue and delivered to the listeners on the
+ * dispatcher's executor.  Events are delivered one at a time in the order they were
+ * queued, so a slow listener delays later events but never stalls the producer (unless the
+ * {@link EventOverflowPolicy#BLOCK} policy is used and the queue is full).
+ * <p>
+ * A single dispatcher may be shared by any number of event managers, e.g. all I/O instances
+ * of a context (see {@link com.pi4j.context.ContextBuilder#eventDispatcher(EventDispatcher)}).
+ * Any {@link java.util.concurrent.Executor} may be used, including a virtual thread per task
+ * executor on Java 21+.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class EventDispatcher {
+
+    /** Constant <code>DEFAULT_CAPACITY=1024</code> */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(EventDispatcher.class);
+
+    // queued event; the task is replaced when a newer event from the same source is coalesced
+    // (COALESCE policy, queue full)
+    private static class Entry {
+        final Object source;
+        Runnable task;
+        long submitted;
+
+        Entry(Object source, Runnable task, long submitted) {
+            this.source = source;
+            this.task = task;
+            this.submitted = submitted;
+        }
+    }
+
+    protected final int capacity;
+    protected final EventOverflowPolicy policy;
+    protected final Executor executor;
+    protected final boolean ownsExecutor;
+
+    private final ArrayDeque<Entry> queue;
+    // latest queued event of each source (COALESCE policy)
+    private final Map<Object, Entry> pending = new HashMap<>();
+    private boolean draining = false;
+    private boolean shutdown = false;
+    private Thread drainThread = null;
+
+    private long dispatched = 0;
+    private long dropped = 0;
+    private long coalesced = 0;
+    private long totalLatency = 0;
+    private long maxLatency = 0;
+
+    /**
+     * Create a dispatcher with the default capacity and a dedicated daemon thread.
+     *
+     * @param policy overflow policy applied when the queue is full
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    public static EventDispatcher newInstance(EventOverflowPolicy policy) {
+        return newInstance(DEFAULT_CAPACITY, policy);
+    }
+
+    /**
+     * Create a dispatcher that delivers events on a dedicated daemon thread.
+     *
+     * @param capacity maximum number of queued events
+     * @param policy overflow policy applied when the queue is full
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    public static EventDispatcher newInstance(int capacity, EventOverflowPolicy policy) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pi4j-event-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new EventDispatcher(capacity, policy, executor, true);
+    }
+
+    /**
+     * Create a dispatcher that delivers events on the given executor.  The executor is not
+     * shut down when the dispatcher is shut down.
+     *
+     * @param capacity maximum number of queued events
+     * @param policy overflow policy applied when the queue is full
+     * @param executor executor used to deliver events to listeners
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    public static EventDispatcher newInstance(int capacity, EventOverflowPolicy policy, Executor executor) {
+        return new EventDispatcher(capacity, policy, executor, false);
+    }
+
+    /**
+     * <p>Constructor for EventDispatcher.</p>
+     *
+     * @param capacity maximum number of queued events
+     * @param policy overflow policy applied when the queue is full
+     * @param executor executor used to deliver events to listeners
+     * @param ownsExecutor true if the executor should be shut down with this dispatcher
+     */
+    protected EventDispatcher(int capacity, EventOverflowPolicy policy, Executor executor, boolean ownsExecutor) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Event dispatcher capacity must be at least 1; capacity=" + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Queue a task that delivers an event from the given source to its listeners.
+     *
+     * @param source the source (event manager) of the event; used to coalesce events
+     * @param task delivers the event to the listeners
+     */
+    public void submit(Object source, Runnable task) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            if(shutdown) {
+                logger.debug("event dispatcher is shutdown; event discarded");
+                dropped++;
+                return;
+            }
+
+            while(queue.size() >= capacity) {
+                if(policy == EventOverflowPolicy.BLOCK) {
+                    // a listener submitting a nested event while the queue is full would
+                    // wait on itself forever; deliver the nested event immediately instead
+                    if(Thread.currentThread() == drainThread) {
+                        break;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped++;
+                        return;
+                    }
+                    if(shutdown) {
+                        dropped++;
+                        return;
+                    }
+                } else {
+                    // coalesce with the latest queued event from the same source
+                    if(policy == EventOverflowPolicy.COALESCE) {
+                        Entry entry = pending.get(source);
+                        if(entry != null) {
+                            entry.task = task;
+                            entry.submitted = now;
+                            coalesced++;
+                            return;
+                        }
+                        // prefer dropping a queued event already superseded by a newer event
+                        // of its source, so the latest state of every source is kept
+                        if(dropSuperseded()) {
+                            dropped++;
+                            continue;
+                        }
+                    }
+                    Entry oldest = queue.pollFirst();
+                    pending.remove(oldest.source, oldest);
+                    dropped++;
+                }
+            }
+
+            // nested BLOCK submission from the dispatch thread is delivered inline (below)
+            if(queue.size() < capacity) {
+                Entry entry = new Entry(source, task, now);
+                queue.addLast(entry);
+                if(policy == EventOverflowPolicy.COALESCE) pending.put(source, entry);
+                if(!draining) {
+                    draining = true;
+                    try {
+                        executor.execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        draining = false;
+                        logger.error("event dispatcher executor rejected task", e);
+                    }
+                }
+                return;
+            }
+        }
+        run(task, now);
+    }
+
+    /**
+     * <p>metrics.</p>
+     *
+     * @return a {@link com.pi4j.event.EventDispatchMetrics} object.
+     */
+    public synchronized EventDispatchMetrics metrics() {
+        return new EventDispatchMetrics(queue.size(), capacity, dispatched, dropped, coalesced, totalLatency, maxLatency);
+    }
+
+    /**
+     * <p>policy.</p>
+     *
+     * @return a {@link com.pi4j.event.EventOverflowPolicy} object.
+     */
+    public EventOverflowPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * <p>capacity.</p>
+     *
+     * @return the maximum number of queued events
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Stop accepting events; queued events are still delivered.  The executor is shut
+     * down if it was created by this dispatcher.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            notifyAll();
+        }
+        if(ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * <p>isShutdown.</p>
+     *
+     * @return a boolean.
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    // remove the oldest queued event that is not the latest queued event of its source
+    private boolean dropSuperseded() {
+        for(Iterator<Entry> iterator = queue.iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            if(pending.get(entry.source) != entry) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        while(true) {
+            Entry entry;
+            Runnable task;
+            long submitted;
+            synchronized (this) {
+                entry = queue.pollFirst();
+                if(entry == null) {
+                    draining = false;
+                    drainThread = null;
+                    return;
+                }
+                pending.remove(entry.source, entry);
+                task = entry.task;
+                submitted = entry.submitted;
+                drainThread = Thread.currentThread();
+                notifyAll();
+            }
+            run(task, submitted);
+        }
+    }
+
+    private void run(Runnable task, long submitted) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+        long latency = System.nanoTime() - submitted;
+        synchronized (this) {
+            dispatched++;
+            totalLatency += latency;
+            if(latency > maxLatency) maxLatency = latency;
+        }
+    }
+}
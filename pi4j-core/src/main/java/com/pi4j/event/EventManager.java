@@ -37,6 +37,7 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
     private final SOURCE_TYPE source;
     private final Set<LISTENER_TYPE> listeners = new CopyOnWriteArraySet<>();
     private final EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate;
+    private volatile EventDispatcher dispatcher = null;
 
     public EventManager(SOURCE_TYPE source, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         this.source = source;
@@ -58,19 +59,44 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
         return this.source;
     }
 
-    public SOURCE_TYPE dispatch(EVENT_TYPE event){
-        listeners.forEach(listener->{
-            try {
-                this.delegate.dispatch(listener, event);
-            }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
-            }
-        });
+    public boolean isEmpty(){
+        return this.listeners.isEmpty();
+    }
+
+    /**
+     * Deliver events asynchronously on the given dispatcher instead of on the
+     * thread that produces them; 'null' restores synchronous delivery.
+     *
+     * @param dispatcher a {@link com.pi4j.event.EventDispatcher} object (may be null).
+     * @return the source of this event manager
+     */
+    public SOURCE_TYPE dispatcher(EventDispatcher dispatcher){
+        this.dispatcher = dispatcher;
         return this.source;
     }
 
+    public EventDispatcher dispatcher(){
+        return this.dispatcher;
+    }
+
+    public SOURCE_TYPE dispatch(EVENT_TYPE event){
+        return dispatch(event, this.delegate);
+    }
+
     public SOURCE_TYPE dispatch(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
+        // nothing to deliver; skip the queue entirely
+        if(listeners.isEmpty()) return this.source;
+
+        EventDispatcher dispatcher = this.dispatcher;
+        if(dispatcher == null) {
+            deliver(event, delegate);
+        } else {
+            dispatcher.submit(this, () -> deliver(event, delegate));
+        }
+        return this.source;
+    }
+
+    private void deliver(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         listeners.forEach(listener->{
             try {
                 delegate.dispatch(listener, event);
@@ -79,7 +105,6 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
                 logger.error(e.getMessage(), e);
             }
         });
-        return this.source;
     }
 
 }
@@ -0,0 +1,48 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventOverflowPolicy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Policy applied by an {@link EventDispatcher} when an event is submitted while its
+ * bounded queue is full.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public enum EventOverflowPolicy {
+    /** the producing thread waits until the queue has room for the event */
+    BLOCK,
+    /** the oldest queued event is discarded to make room for the new event */
+    DROP_OLDEST,
+    /**
+     * the latest queued event from the same source is replaced by the new event, so only
+     * the latest state of that source is delivered for the overflow; if the source has no
+     * queued event the oldest queued event that is superseded by a newer queued event of its
+     * source is discarded, or the oldest queued event if every queued event is the latest of
+     * its source.  While the queue has room every event is queued.
+     */
+    COALESCE
+}
@@ -130,7 +130,16 @@ public interface IODataReader extends Readable {
             length = buffer.capacity()-offset;
         }
 
-        // create a temporary byte array to read in the length of data bytes
+        // read straight into the backing array of heap buffers
+        if(buffer.hasArray()){
+            int actualLength = read(buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength < 0) return actualLength;
+            buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
+        // create a temporary byte array to read in the length of data bytes; providers
+        // override this method to read directly into the memory of direct buffers
         byte[] temp = new byte[length];
         int actualLength = read(temp, 0 ,length);
 
@@ -167,7 +167,17 @@ public interface IODataWriter {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return write(buffer.array(), offset, length);
+
+        // write straight from the backing array of heap buffers
+        if(buffer.hasArray()){
+            return write(buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+
+        // copy direct (or read-only) buffers to a temporary byte array; providers
+        // override this method to write directly from the memory of direct buffers
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return write(temp, 0, length);
     }
 
     /**
@@ -28,6 +28,7 @@ package com.pi4j.io.gpio.analog;
 import com.pi4j.context.Context;
 import com.pi4j.event.EventDelegate;
 import com.pi4j.event.EventManager;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.io.binding.AnalogBinding;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
@@ -115,6 +116,18 @@ public abstract class AnalogBase<ANALOG_TYPE
         bindings.process(event);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // deliver events on the context's asynchronous event dispatcher (if configured)
+        if(context.config().eventDispatcher() != null) {
+            valueChangeEventManager.dispatcher(context.config().eventDispatcher());
+        }
+        return (ANALOG_TYPE)this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE shutdown(Context context){
@@ -28,6 +28,7 @@ package com.pi4j.io.gpio.digital;
 import com.pi4j.context.Context;
 import com.pi4j.event.EventDelegate;
 import com.pi4j.event.EventManager;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
@@ -117,6 +118,18 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         bindings.process(event);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // deliver events on the context's asynchronous event dispatcher (if configured)
+        if(context.config().eventDispatcher() != null) {
+            stateChangeEventManager.dispatcher(context.config().eventDispatcher());
+        }
+        return (DIGITAL_TYPE)this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE shutdown(Context context) throws ShutdownException {
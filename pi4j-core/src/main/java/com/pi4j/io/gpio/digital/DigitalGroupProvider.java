@@ -0,0 +1,63 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalGroupProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+
+/**
+ * <p>DigitalGroupProvider interface.</p>
+ * <p>
+ * Optional capability of a digital input or output provider that can read or write
+ * several of its I/O instances together in a single hardware operation.  Providers
+ * without this capability are grouped by reading or writing each I/O instance in turn.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface DigitalGroupProvider {
+
+    /**
+     * Create a group over digital outputs created by this provider.
+     *
+     * @param outputs the outputs in bit order (bit 0 is the first output)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalOutputGroup} object, or 'null' if
+     *         this provider cannot group the given outputs.
+     */
+    default DigitalOutputGroup createOutputGroup(List<DigitalOutput> outputs) {
+        return null;
+    }
+
+    /**
+     * Create a group over digital inputs created by this provider.
+     *
+     * @param inputs the inputs in bit order (bit 0 is the first input)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputGroup} object, or 'null' if
+     *         this provider cannot group the given inputs.
+     */
+    default DigitalInputGroup createInputGroup(List<DigitalInput> inputs) {
+        return null;
+    }
+}
@@ -55,4 +55,22 @@ public interface DigitalInput extends Digital<DigitalInput, DigitalInputConfig,
      * @return a {@link com.pi4j.io.gpio.digital.PullResistance} object.
      */
     default PullResistance pull() { return config().pull(); }
+
+    /**
+     * Add listeners for the watchdog events of this input.  Watchdog events are only
+     * dispatched when a watchdog is configured and supported by the provider.
+     *
+     * @param listener a {@link DigitalWatchdogListener} object.
+     * @return this digital input
+     * @see DigitalInputConfigBuilder#watchdog(Long)
+     */
+    DigitalInput addWatchdogListener(DigitalWatchdogListener... listener);
+
+    /**
+     * <p>removeWatchdogListener.</p>
+     *
+     * @param listener a {@link DigitalWatchdogListener} object.
+     * @return this digital input
+     */
+    DigitalInput removeWatchdogListener(DigitalWatchdogListener... listener);
 }
@@ -25,6 +25,12 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventManager;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+
 /**
  * <p>Abstract DigitalInputBase class.</p>
  *
@@ -32,6 +38,10 @@ package com.pi4j.io.gpio.digital;
  * @version $Id: $Id
  */
 public abstract class DigitalInputBase extends DigitalBase<DigitalInput, DigitalInputConfig, DigitalInputProvider> implements DigitalInput {
+
+    // internal watchdog listeners collection
+    protected final EventManager<DigitalInput, DigitalWatchdogListener, DigitalWatchdogEvent> watchdogEventManager;
+
     /**
      * <p>Constructor for DigitalInputBase.</p>
      *
@@ -40,5 +50,53 @@ public abstract class DigitalInputBase extends DigitalBase<DigitalInput, Digital
      */
     public DigitalInputBase(DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
+
+        // create an event manager for digital watchdog events
+        watchdogEventManager = new EventManager(this,
+                (EventDelegate<DigitalWatchdogListener, DigitalWatchdogEvent>)
+                        (listener, event) -> listener.onDigitalWatchdog(event));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput addWatchdogListener(DigitalWatchdogListener... listener) {
+        watchdogEventManager.add(listener);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput removeWatchdogListener(DigitalWatchdogListener... listener) {
+        watchdogEventManager.remove(listener);
+        return this;
+    }
+
+    /**
+     * Dispatch DigitalWatchdogEvent when the configured watchdog timeout expired
+     *
+     * @param event DigitalWatchdogEvent
+     */
+    protected void dispatch(DigitalWatchdogEvent event){
+        watchdogEventManager.dispatch(event);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // deliver watchdog events on the context's asynchronous event dispatcher (if configured)
+        if(context.config().eventDispatcher() != null) {
+            watchdogEventManager.dispatcher(context.config().eventDispatcher());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        // remove all watchdog listeners
+        watchdogEventManager.clear();
+        return super.shutdown(context);
     }
 }
@@ -40,6 +40,8 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
     String PULL_RESISTANCE_KEY = "pull";
     /** Constant <code>DEBOUNCE_RESISTANCE_KEY="debounce"</code> */
     String DEBOUNCE_RESISTANCE_KEY = "debounce";
+    /** Constant <code>WATCHDOG_KEY="watchdog"</code> */
+    String WATCHDOG_KEY = "watchdog";
 
     /**
      * <p>pull.</p>
@@ -69,6 +71,19 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
      */
     default Long getDebounce(){ return debounce(); }
 
+    /**
+     * <p>watchdog.</p>
+     *
+     * @return the watchdog timeout in milliseconds, or null if no watchdog is configured
+     */
+    Long watchdog();
+    /**
+     * <p>getWatchdog.</p>
+     *
+     * @return the watchdog timeout in milliseconds, or null if no watchdog is configured
+     */
+    default Long getWatchdog(){ return watchdog(); }
+
     /**
      * <p>newBuilder.</p>
      *
@@ -63,6 +63,25 @@ public interface DigitalInputConfigBuilder extends DigitalConfigBuilder<DigitalI
      */
     DigitalInputConfigBuilder debounce(Long interval, TimeUnit units);
 
+    /**
+     * Configure a watchdog: providers supporting watchdogs dispatch a {@link DigitalWatchdogEvent}
+     * each time the input state did not change for the given timeout.
+     *
+     * @param milliseconds the watchdog timeout; 0 or null for no watchdog
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     * @see com.pi4j.io.gpio.digital.DigitalInput#addWatchdogListener(DigitalWatchdogListener...)
+     */
+    DigitalInputConfigBuilder watchdog(Long milliseconds);
+
+    /**
+     * <p>watchdog.</p>
+     *
+     * @param interval a {@link java.lang.Long} object.
+     * @param units a {@link java.util.concurrent.TimeUnit} object.
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder} object.
+     */
+    DigitalInputConfigBuilder watchdog(Long interval, TimeUnit units);
+
     /**
      * <p>newInstance.</p>
      *
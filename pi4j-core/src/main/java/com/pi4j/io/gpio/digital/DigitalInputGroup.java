@@ -0,0 +1,110 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalInputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalInputGroup;
+
+import java.util.List;
+
+/**
+ * <p>DigitalInputGroup interface.</p>
+ * <p>
+ * Reads a set of digital inputs (e.g. the data lines of a parallel bus) as a bitmask;
+ * bit 0 is the first input of the group.  When all inputs come from a provider that
+ * implements {@link DigitalGroupProvider} (e.g. the GpioD provider) all inputs are sampled
+ * in a single hardware operation; otherwise the inputs are read one after the other.
+ * <p>
+ * Closing the group returns the inputs to individual operation.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface DigitalInputGroup extends AutoCloseable {
+
+    /** Constant <code>MAX_SIZE=64</code> */
+    int MAX_SIZE = 64;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param inputs the inputs in bit order (bit 0 is the first input)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputGroup} object.
+     */
+    static DigitalInputGroup newInstance(DigitalInput ... inputs) {
+        return newInstance(List.of(inputs));
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param inputs the inputs in bit order (bit 0 is the first input)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInputGroup} object.
+     */
+    static DigitalInputGroup newInstance(List<DigitalInput> inputs) {
+        if(inputs.isEmpty() || inputs.size() > MAX_SIZE) {
+            throw new IllegalArgumentException("A digital input group requires 1-" + MAX_SIZE + " inputs; size=" + inputs.size());
+        }
+
+        // let the provider create an atomic group if all inputs come from the same provider
+        DigitalInputProvider provider = inputs.get(0).provider();
+        if(provider instanceof DigitalGroupProvider && inputs.stream().allMatch(input -> input.provider() == provider)) {
+            DigitalInputGroup group = ((DigitalGroupProvider) provider).createInputGroup(List.copyOf(inputs));
+            if(group != null) return group;
+        }
+        return new DefaultDigitalInputGroup(inputs);
+    }
+
+    /**
+     * <p>inputs.</p>
+     *
+     * @return the inputs of this group in bit order
+     */
+    List<DigitalInput> inputs();
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of inputs in this group
+     */
+    default int size() {
+        return inputs().size();
+    }
+
+    /**
+     * Read the state of all inputs; bit N is set if input N is HIGH.
+     *
+     * @return bitmask of input states
+     * @throws IOException if the inputs could not be read
+     */
+    long state() throws IOException;
+
+    /**
+     * Return the inputs to individual operation.
+     */
+    @Override
+    void close();
+}
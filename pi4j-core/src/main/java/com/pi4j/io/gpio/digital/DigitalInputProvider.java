@@ -111,4 +111,25 @@ public interface DigitalInputProvider extends DigitalProvider<DigitalInputProvid
                 .build();
         return (T)create(config);
     }
+
+    /**
+     * Read the states of all digital inputs created by this provider.
+     * <p>
+     * Providers that can read several pins in a single hardware operation (e.g. a GPIO bank
+     * register) override this method, so one call samples every input at the same instant.
+     * The default implementation reads the inputs one after the other.
+     *
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalSnapshot} of the inputs of this provider.
+     */
+    default DigitalSnapshot snapshot() {
+        long mask = 0;
+        long levels = 0;
+        for (DigitalInput input : context().registry().allByType(DigitalInput.class).values()) {
+            if (input.provider() != this) continue;
+            long bit = DigitalSnapshot.bit(input.config().address());
+            mask |= bit;
+            if (input.state().isHigh()) levels |= bit;
+        }
+        return new DigitalSnapshot(mask, levels, System.nanoTime());
+    }
 }
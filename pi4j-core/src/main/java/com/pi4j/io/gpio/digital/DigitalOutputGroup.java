@@ -0,0 +1,132 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalOutputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalOutputGroup;
+
+import java.util.List;
+
+/**
+ * <p>DigitalOutputGroup interface.</p>
+ * <p>
+ * Writes a set of digital outputs (e.g. the data lines of a parallel bus) as a bitmask;
+ * bit 0 is the first output of the group.  When all outputs come from a provider that
+ * implements {@link DigitalGroupProvider} (e.g. the GpioD provider) all outputs change in a
+ * single hardware operation without skew between the pins; otherwise the outputs are
+ * written one after the other.
+ * <p>
+ * While a group is open its outputs may still be used individually.  Closing the group
+ * returns the outputs to individual operation.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface DigitalOutputGroup extends AutoCloseable {
+
+    /** Constant <code>MAX_SIZE=64</code> */
+    int MAX_SIZE = 64;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param outputs the outputs in bit order (bit 0 is the first output)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalOutputGroup} object.
+     */
+    static DigitalOutputGroup newInstance(DigitalOutput ... outputs) {
+        return newInstance(List.of(outputs));
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param outputs the outputs in bit order (bit 0 is the first output)
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalOutputGroup} object.
+     */
+    static DigitalOutputGroup newInstance(List<DigitalOutput> outputs) {
+        if(outputs.isEmpty() || outputs.size() > MAX_SIZE) {
+            throw new IllegalArgumentException("A digital output group requires 1-" + MAX_SIZE + " outputs; size=" + outputs.size());
+        }
+
+        // let the provider create an atomic group if all outputs come from the same provider
+        DigitalOutputProvider provider = outputs.get(0).provider();
+        if(provider instanceof DigitalGroupProvider && outputs.stream().allMatch(output -> output.provider() == provider)) {
+            DigitalOutputGroup group = ((DigitalGroupProvider) provider).createOutputGroup(List.copyOf(outputs));
+            if(group != null) return group;
+        }
+        return new DefaultDigitalOutputGroup(outputs);
+    }
+
+    /**
+     * <p>outputs.</p>
+     *
+     * @return the outputs of this group in bit order
+     */
+    List<DigitalOutput> outputs();
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of outputs in this group
+     */
+    default int size() {
+        return outputs().size();
+    }
+
+    /**
+     * Set the state of all outputs; bit N set drives output N HIGH, cleared drives it LOW.
+     *
+     * @param values bitmask of output states
+     * @return this group
+     * @throws IOException if the outputs could not be written
+     */
+    DigitalOutputGroup state(long values) throws IOException;
+
+    /**
+     * Set the state of the outputs selected by the mask, leaving the other outputs unchanged.
+     *
+     * @param values bitmask of output states
+     * @param mask bitmask of the outputs to change
+     * @return this group
+     * @throws IOException if the outputs could not be written
+     */
+    default DigitalOutputGroup state(long values, long mask) throws IOException {
+        return state((state() & ~mask) | (values & mask));
+    }
+
+    /**
+     * <p>state.</p>
+     *
+     * @return the current output states as a bitmask (bit N is output N)
+     */
+    long state();
+
+    /**
+     * Return the outputs to individual operation.
+     */
+    @Override
+    void close();
+}
@@ -24,6 +24,10 @@ package com.pi4j.io.gpio.digital;
  * limitations under the License.
  * #L%
  */
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p>DigitalOutputProvider interface.</p>
  *
@@ -110,4 +114,56 @@ public interface DigitalOutputProvider extends DigitalProvider<DigitalOutputProv
                 .build();
         return (T)create(config);
     }
+
+    /**
+     * Get the states of all digital outputs created by this provider.
+     *
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalSnapshot} of the outputs of this provider.
+     */
+    default DigitalSnapshot snapshot() {
+        long mask = 0;
+        long levels = 0;
+        for (DigitalOutput output : context().registry().allByType(DigitalOutput.class).values()) {
+            if (output.provider() != this) continue;
+            long bit = DigitalSnapshot.bit(output.config().address());
+            mask |= bit;
+            if (output.state().isHigh()) levels |= bit;
+        }
+        return new DigitalSnapshot(mask, levels, System.nanoTime());
+    }
+
+    /**
+     * Set and clear several digital outputs created by this provider with one call.
+     * <p>
+     * Providers that can write several pins in a single hardware operation (e.g. the GPIO bank
+     * set and clear registers) override this method, so all outputs of each mask change at the
+     * same instant.  The default implementation writes the outputs one after the other.
+     *
+     * @param high the addresses of the outputs to set HIGH, bit N is address N
+     * @param low the addresses of the outputs to set LOW, bit N is address N
+     * @throws IllegalArgumentException if an address is in both masks, or if there is no
+     *         output of this provider for an address
+     */
+    default void update(long high, long low) {
+        if ((high & low) != 0) {
+            throw new IllegalArgumentException("Addresses cannot be set HIGH and LOW at the same time: " +
+                    Long.toBinaryString(high & low));
+        }
+        List<DigitalOutput> outputs = new ArrayList<>();
+        long mask = 0;
+        for (DigitalOutput output : context().registry().allByType(DigitalOutput.class).values()) {
+            if (output.provider() != this) continue;
+            long bit = DigitalSnapshot.bit(output.config().address());
+            if (((high | low) & bit) == 0) continue;
+            mask |= bit;
+            outputs.add(output);
+        }
+        if ((high | low) != mask) {
+            throw new IllegalArgumentException("No digital output of this provider for addresses: " +
+                    Long.toBinaryString((high | low) & ~mask));
+        }
+        for (DigitalOutput output : outputs) {
+            output.state(DigitalState.getState((high & DigitalSnapshot.bit(output.config().address())) != 0));
+        }
+    }
 }
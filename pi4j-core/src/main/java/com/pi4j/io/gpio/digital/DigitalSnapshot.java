@@ -0,0 +1,151 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalSnapshot.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>DigitalSnapshot class.</p>
+ * <p>
+ * The states of several digital I/O instances at one point in time, indexed by their
+ * address (0-63); see {@link DigitalInputProvider#snapshot()} and
+ * {@link DigitalOutputProvider#snapshot()}.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public final class DigitalSnapshot {
+
+    /** Constant <code>MAX_ADDRESS=63</code>, the highest address a snapshot can hold */
+    public static final int MAX_ADDRESS = 63;
+
+    private final long mask;
+    private final long levels;
+    private final long timestamp;
+
+    /**
+     * <p>Constructor for DigitalSnapshot.</p>
+     *
+     * @param mask the addresses included in the snapshot, bit N is address N
+     * @param levels the addresses that are HIGH, bit N is address N
+     * @param timestamp monotonic timestamp in nanoseconds at which the states were read
+     */
+    public DigitalSnapshot(long mask, long levels, long timestamp) {
+        this.mask = mask;
+        this.levels = levels & mask;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * The addresses included in this snapshot.
+     *
+     * @return a bit mask, bit N is address N
+     */
+    public long mask() {
+        return this.mask;
+    }
+
+    /**
+     * The addresses whose state is HIGH.
+     *
+     * @return a bit mask, bit N is address N
+     */
+    public long levels() {
+        return this.levels;
+    }
+
+    /**
+     * The monotonic timestamp (in nanoseconds, see {@link System#nanoTime()}) at which the states were read.
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * <p>contains.</p>
+     *
+     * @param address a digital I/O address
+     * @return true if the snapshot includes the given address
+     */
+    public boolean contains(int address) {
+        return address >= 0 && address <= MAX_ADDRESS && (mask & (1L << address)) != 0;
+    }
+
+    /**
+     * The state of the given address.
+     *
+     * @param address a digital I/O address included in this snapshot
+     * @return HIGH or LOW
+     * @throws IllegalArgumentException if the address is not included in this snapshot
+     */
+    public DigitalState state(int address) {
+        if (!contains(address)) {
+            throw new IllegalArgumentException("Address " + address + " is not included in this snapshot");
+        }
+        return (levels & (1L << address)) != 0 ? DigitalState.HIGH : DigitalState.LOW;
+    }
+
+    /**
+     * <p>isHigh.</p>
+     *
+     * @param address a digital I/O address included in this snapshot
+     * @return true if the state of the address is HIGH
+     */
+    public boolean isHigh(int address) {
+        return state(address).isHigh();
+    }
+
+    /**
+     * <p>isLow.</p>
+     *
+     * @param address a digital I/O address included in this snapshot
+     * @return true if the state of the address is LOW
+     */
+    public boolean isLow(int address) {
+        return !isHigh(address);
+    }
+
+    /**
+     * The bit of an address in the masks of a snapshot.
+     *
+     * @param address a digital I/O address (0-63)
+     * @return a bit mask with only the bit of the given address set
+     * @throws IllegalArgumentException if the address cannot be held by a snapshot
+     */
+    public static long bit(int address) {
+        if (address < 0 || address > MAX_ADDRESS) {
+            throw new IllegalArgumentException("Address " + address + " is out of the snapshot range 0-" + MAX_ADDRESS);
+        }
+        return 1L << address;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "<<DIGITAL SNAPSHOT>> MASK: [" + Long.toBinaryString(mask) + "] LEVELS: [" +
+                Long.toBinaryString(levels) + "] (TIMESTAMP=" + timestamp + ")";
+    }
+}
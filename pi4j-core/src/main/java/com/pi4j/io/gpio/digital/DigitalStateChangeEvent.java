@@ -36,20 +36,55 @@ package com.pi4j.io.gpio.digital;
  */
 public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements DigitalEvent {
 
+    /** Constant <code>NO_SEQUENCE=-1</code> used when the provider does not number its events */
+    public static final long NO_SEQUENCE = -1;
+
     // internal event copy of the changed digital state
     protected DigitalState state;
 
     protected DIGITAL_TYPE source;
 
+    // monotonic nanosecond timestamp of the state change and provider sequence number
+    protected long timestamp;
+    protected long sequence;
+
     /**
      * Default constructor
+     * <p>
+     * The event is timestamped with {@link System#nanoTime()} when it is created
+     * and carries no sequence number.
      *
      * @param state the value changed for this event instance
      * @param source a DIGITAL_TYPE object.
      */
     public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state){
+        this(source, state, System.nanoTime());
+    }
+
+    /**
+     * <p>Constructor for DigitalStateChangeEvent.</p>
+     *
+     * @param source a DIGITAL_TYPE object.
+     * @param state the value changed for this event instance
+     * @param timestamp monotonic timestamp in nanoseconds at which the state change was detected
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestamp){
+        this(source, state, timestamp, NO_SEQUENCE);
+    }
+
+    /**
+     * <p>Constructor for DigitalStateChangeEvent.</p>
+     *
+     * @param source a DIGITAL_TYPE object.
+     * @param state the value changed for this event instance
+     * @param timestamp monotonic timestamp in nanoseconds at which the state change was detected
+     * @param sequence provider assigned event sequence number or {@link #NO_SEQUENCE}
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestamp, long sequence){
         this.state = state; // cache a copy of the event instance state
         this.source = source; // cache digital I/O source
+        this.timestamp = timestamp;
+        this.sequence = sequence;
     }
 
     /**
@@ -67,6 +102,30 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         return this.source;
     }
 
+    /**
+     * The monotonic timestamp (in nanoseconds) at which the state change was detected.
+     * <p>
+     * Providers use the most precise clock available to them, e.g. the kernel event
+     * timestamp or the PiGpio daemon tick, so the value is only meaningful relative to
+     * other events from the same provider; use it to measure pulse widths and periods.
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * The provider assigned sequence number of this event, or {@link #NO_SEQUENCE}
+     * if the provider does not number its events.  Sequence numbers may wrap and
+     * may skip values for events delivered to other I/O instances.
+     *
+     * @return a long.
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
 
     /** {@inheritDoc} */
     @Override
@@ -78,7 +137,13 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         result.append(DigitalState.getInverseState(this.state()));
         result.append(" -> ");
         result.append(this.state());
-        result.append("]");
+        result.append("] (TIMESTAMP=");
+        result.append(this.timestamp());
+        if(this.sequence() != NO_SEQUENCE) {
+            result.append("; SEQUENCE=");
+            result.append(this.sequence());
+        }
+        result.append(")");
         return result.toString();
     }
 }
@@ -0,0 +1,109 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalWatchdogEvent.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>DigitalWatchdogEvent class.</p>
+ * <p>
+ * Dispatched by providers supporting watchdogs when the state of a digital input did
+ * not change for the configured watchdog timeout, as a heartbeat confirming its state.
+ *
+ * @see DigitalInputConfigBuilder#watchdog(Long)
+ */
+public class DigitalWatchdogEvent implements DigitalEvent {
+
+    protected final DigitalInput source;
+    protected final DigitalState state;
+    protected final long timestamp;
+    protected final long sequence;
+
+    /**
+     * <p>Constructor for DigitalWatchdogEvent.</p>
+     *
+     * @param source the digital input whose watchdog timed out
+     * @param state the current state of the digital input
+     * @param timestamp monotonic timestamp in nanoseconds at which the watchdog timed out
+     * @param sequence provider assigned event sequence number or {@link DigitalStateChangeEvent#NO_SEQUENCE}
+     */
+    public DigitalWatchdogEvent(DigitalInput source, DigitalState state, long timestamp, long sequence){
+        this.source = source;
+        this.state = state;
+        this.timestamp = timestamp;
+        this.sequence = sequence;
+    }
+
+    /**
+     * The current state of the digital input.
+     *
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalState} object.
+     */
+    public DigitalState state() {
+        return this.state;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput source() {
+        return this.source;
+    }
+
+    /**
+     * The monotonic timestamp (in nanoseconds) at which the watchdog timed out, comparable
+     * with the {@link DigitalStateChangeEvent#timestamp()} of the same provider.
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * The provider assigned sequence number of this event, or {@link DigitalStateChangeEvent#NO_SEQUENCE}.
+     *
+     * @return a long.
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+        result.append("<<DIGITAL WATCHDOG EVENT>> [");
+        result.append(source());
+        result.append("] STATE: [");
+        result.append(this.state());
+        result.append("] (TIMESTAMP=");
+        result.append(this.timestamp());
+        if(this.sequence() != DigitalStateChangeEvent.NO_SEQUENCE) {
+            result.append("; SEQUENCE=");
+            result.append(this.sequence());
+        }
+        result.append(")");
+        return result.toString();
+    }
+}
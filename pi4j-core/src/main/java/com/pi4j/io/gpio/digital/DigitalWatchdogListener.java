@@ -0,0 +1,38 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalWatchdogListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>DigitalWatchdogListener interface.</p>
+ * <p>
+ * Receives the periodic reports of a digital input whose state did not change
+ * for the configured watchdog timeout.
+ *
+ * @see DigitalInputConfigBuilder#watchdog(Long)
+ */
+public interface DigitalWatchdogListener extends DigitalListener<DigitalWatchdogEvent> {
+    void onDigitalWatchdog(DigitalWatchdogEvent event);
+}
@@ -54,6 +54,7 @@ public class DefaultDigitalInputConfig
     // private configuration properties
     protected PullResistance pullResistance = PullResistance.OFF;
     protected Long debounce = DigitalInput.DEFAULT_DEBOUNCE;
+    protected Long watchdog = null;
     protected DigitalState onState = DigitalState.HIGH;
 
     /**
@@ -79,6 +80,11 @@ public class DefaultDigitalInputConfig
             this.debounce = Long.parseLong(properties.get(DEBOUNCE_RESISTANCE_KEY));
         }
 
+        // load optional watchdog timeout from properties
+        if(properties.containsKey(WATCHDOG_KEY)){
+            this.watchdog = Long.parseLong(properties.get(WATCHDOG_KEY));
+        }
+
         // load on-state value property
         if(properties.containsKey(ON_STATE_KEY)){
             this.onState = DigitalState.parse(properties.get(ON_STATE_KEY));
@@ -95,6 +101,10 @@ public class DefaultDigitalInputConfig
     @Override
     public Long debounce() { return this.debounce; }
 
+    /** {@inheritDoc} */
+    @Override
+    public Long watchdog() { return this.watchdog; }
+
     @Override
     public DigitalState onState() {
         return this.onState;
@@ -87,4 +87,23 @@ public class DefaultDigitalInputConfigBuilder
     public DigitalInputConfigBuilder debounce(Long interval, TimeUnit units) {
         return debounce(units.toMicros(interval));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder watchdog(Long milliseconds) {
+        if(milliseconds == null || milliseconds == 0) {
+            this.properties.remove(DigitalInputConfig.WATCHDOG_KEY);
+        } else if(milliseconds < 0) {
+            throw new IllegalArgumentException("Watchdog timeout cannot be negative: " + milliseconds);
+        } else {
+            this.properties.put(DigitalInputConfig.WATCHDOG_KEY, milliseconds.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder watchdog(Long interval, TimeUnit units) {
+        return watchdog(units.toMillis(interval));
+    }
 }
@@ -0,0 +1,77 @@
+package com.pi4j.io.gpio.digital.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultDigitalInputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputGroup;
+
+import java.util.List;
+
+/**
+ * <p>DefaultDigitalInputGroup class.</p>
+ * <p>
+ * Software group for inputs whose provider cannot read several inputs at once; the
+ * inputs are read one after the other.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class DefaultDigitalInputGroup implements DigitalInputGroup {
+
+    private final List<DigitalInput> inputs;
+
+    /**
+     * <p>Constructor for DefaultDigitalInputGroup.</p>
+     *
+     * @param inputs the inputs in bit order (bit 0 is the first input)
+     */
+    public DefaultDigitalInputGroup(List<DigitalInput> inputs) {
+        this.inputs = List.copyOf(inputs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DigitalInput> inputs() {
+        return inputs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long state() throws IOException {
+        long values = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            if (inputs.get(i).isHigh()) values |= 1L << i;
+        }
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // nothing to release; the inputs were never taken out of individual operation
+    }
+}
@@ -0,0 +1,89 @@
+package com.pi4j.io.gpio.digital.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultDigitalOutputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputGroup;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.List;
+
+/**
+ * <p>DefaultDigitalOutputGroup class.</p>
+ * <p>
+ * Software group for outputs whose provider cannot write several outputs at once; only the
+ * outputs whose state differs from the requested state are written, one after the other.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class DefaultDigitalOutputGroup implements DigitalOutputGroup {
+
+    private final List<DigitalOutput> outputs;
+
+    /**
+     * <p>Constructor for DefaultDigitalOutputGroup.</p>
+     *
+     * @param outputs the outputs in bit order (bit 0 is the first output)
+     */
+    public DefaultDigitalOutputGroup(List<DigitalOutput> outputs) {
+        this.outputs = List.copyOf(outputs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DigitalOutput> outputs() {
+        return outputs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalOutputGroup state(long values) throws IOException {
+        for (int i = 0; i < outputs.size(); i++) {
+            DigitalState state = DigitalState.getState(((values >>> i) & 1) != 0);
+            DigitalOutput output = outputs.get(i);
+            if (!output.equals(state)) output.state(state);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long state() {
+        long values = 0;
+        for (int i = 0; i < outputs.size(); i++) {
+            if (outputs.get(i).isHigh()) values |= 1L << i;
+        }
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // nothing to release; the outputs were never taken out of individual operation
+    }
+}
@@ -31,6 +31,8 @@ import com.pi4j.io.IODataReader;
 import com.pi4j.io.IODataWriter;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * I2C I/O Interface for Pi4J I2C Bus/Device Communications
@@ -162,6 +164,55 @@ public interface I2C
         });
     }
 
+    /**
+     * Create a builder for a transaction whose segments address this device by default.
+     *
+     * @return a new {@link com.pi4j.io.i2c.I2CTransaction.Builder}
+     */
+    default I2CTransaction.Builder newTransaction() {
+        return I2CTransaction.newBuilder(device());
+    }
+
+    /**
+     * Transfer all segments of the given transaction while holding the bus lock.
+     * <p>
+     * Providers supporting combined transfers execute the transaction as a single
+     * bus transaction with repeated STARTs.  The default implementation performs the
+     * segments one after the other and only supports segments addressed to this device.
+     *
+     * @param transaction the transaction to transfer
+     *
+     * @return the total number of bytes read
+     */
+    default int transfer(I2CTransaction transaction) {
+        for (I2CTransaction.Segment segment : transaction.segments()) {
+            if (segment.address() != device()) {
+                throw new UnsupportedOperationException(
+                    "Segments for other devices than " + device() + " are not supported by this provider");
+            }
+        }
+        return execute(() -> {
+            int read = 0;
+            for (I2CTransaction.Segment segment : transaction.segments()) {
+                if (segment.isRead()) {
+                    int actual = read(segment.buffer(), segment.offset(), segment.length());
+                    if (actual != segment.length()) {
+                        throw new IllegalStateException(
+                            "Expected to read " + segment.length() + " bytes but only read " + actual + " bytes");
+                    }
+                    read += actual;
+                } else {
+                    int written = write(segment.buffer(), segment.offset(), segment.length());
+                    if (written != segment.length()) {
+                        throw new IllegalStateException(
+                            "Expected to write " + segment.length() + " bytes but only wrote " + written + " bytes");
+                    }
+                }
+            }
+            return read;
+        });
+    }
+
     /**
      * Get an encapsulated interface for reading and writing to a specific I2C device register
      *
@@ -190,4 +241,28 @@ public interface I2C
      * @return
      */
     <T> T execute(Callable<T> action);
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus with normal priority.
+     *
+     * @param action the action to perform, returning a value
+     * @param <T>    the result type of the action, if any
+     * @return a future completed with the result of the action
+     */
+    default <T> CompletableFuture<T> submit(Callable<T> action) {
+        return submit(action, I2CBus.Priority.NORMAL, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus, see
+     * {@link I2CBus#submit(I2C, Callable, I2CBus.Priority, long, TimeUnit)}.
+     *
+     * @param action   the action to perform, returning a value
+     * @param priority the priority class of the action
+     * @param deadline the time after submission by which the action must have been started; 0 for no deadline
+     * @param unit     the time unit of the deadline
+     * @param <T>      the result type of the action, if any
+     * @return a future completed with the result of the action
+     */
+    <T> CompletableFuture<T> submit(Callable<T> action, I2CBus.Priority priority, long deadline, TimeUnit unit);
 }
@@ -31,6 +31,8 @@ import com.pi4j.io.IOBase;
 import com.pi4j.io.i2c.impl.DefaultI2CRegister;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Abstract I2CBase class.</p>
@@ -89,6 +91,17 @@ public abstract class I2CBase<T extends I2CBus> extends IOBase<I2C, I2CConfig, I
         return this.i2CBus.execute(this, action);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <V> CompletableFuture<V> submit(Callable<V> action, I2CBus.Priority priority, long deadline,
+        TimeUnit unit) {
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        return this.i2CBus.submit(this, action, priority, deadline, unit);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,8 @@
 package com.pi4j.io.i2c;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This interface defines method to be performed on an I2C bus. Most importantly the {@link #execute(I2C, Callable)}
@@ -8,6 +10,14 @@ import java.util.concurrent.Callable;
  */
 public interface I2CBus {
 
+    /**
+     * Priority classes of asynchronously submitted actions. Queued actions of a higher priority class are always
+     * executed before those of a lower class.
+     */
+    enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
     /**
      * Executes the given action, which typically performs multiple I2C reads and/or writes on the I2C bus in a thread
      * safe manner, i.e. the bus is blocked till the action is completed.
@@ -19,4 +29,43 @@ public interface I2CBus {
      * @return the result of the action
      */
     <R> R execute(I2C i2c, Callable<R> action);
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus with normal priority.
+     *
+     * @param i2c    the device for which to perform the action
+     * @param action the action to perform
+     * @param <R>    the result type of the action, if any
+     *
+     * @return a future completed with the result of the action
+     */
+    default <R> CompletableFuture<R> submit(I2C i2c, Callable<R> action) {
+        return submit(i2c, action, Priority.NORMAL, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus. Actions are queued per bus and executed in
+     * order of their priority class by a single thread owning the bus. If the action has not been started within the
+     * given deadline, it is not executed and the future completes exceptionally with a
+     * {@link java.util.concurrent.TimeoutException}.
+     * <p>
+     * The default implementation executes the action synchronously.
+     *
+     * @param i2c      the device for which to perform the action
+     * @param action   the action to perform
+     * @param priority the priority class of the action
+     * @param deadline the time after submission by which the action must have been started; 0 for no deadline
+     * @param unit     the time unit of the deadline
+     * @param <R>      the result type of the action, if any
+     *
+     * @return a future completed with the result of the action
+     */
+    default <R> CompletableFuture<R> submit(I2C i2c, Callable<R> action, Priority priority, long deadline,
+        TimeUnit unit) {
+        try {
+            return CompletableFuture.completedFuture(execute(i2c, action));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -4,8 +4,13 @@ import com.pi4j.exception.Pi4JException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static java.text.MessageFormat.format;
@@ -17,12 +22,26 @@ public abstract class I2CBusBase implements I2CBus {
     public static final long DEFAULT_LOCK_ACQUIRE_TIMEOUT = 1000;
     public static final TimeUnit DEFAULT_LOCK_ACQUIRE_TIMEOUT_UNITS = TimeUnit.MILLISECONDS;
 
+    /**
+     * Maximum number of queued actions for the same device which are executed back to back, before the oldest action
+     * of another device in the same priority class gets its turn
+     */
+    public static final int MAX_COALESCED_ACTIONS = 16;
+
     protected final int bus;
 
     protected final long lockAquireTimeout;
     protected final TimeUnit lockAquireTimeoutUnit;
     private final ReentrantLock lock = new ReentrantLock(true);
 
+    /**
+     * Queues of asynchronously submitted actions, one per priority class in priority order, guarded by their own
+     * monitor
+     */
+    private final EnumMap<Priority, ArrayDeque<Action<?>>> queues = new EnumMap<>(Priority.class);
+    private Thread owner;
+    private boolean closed;
+
     public I2CBusBase(I2CConfig config) {
         if (config.bus() == null)
             throw new IllegalArgumentException("I2C bus must be specified");
@@ -31,6 +50,9 @@ public abstract class I2CBusBase implements I2CBus {
 
         this.lockAquireTimeout = DEFAULT_LOCK_ACQUIRE_TIMEOUT;
         this.lockAquireTimeoutUnit = DEFAULT_LOCK_ACQUIRE_TIMEOUT_UNITS;
+
+        for (Priority priority : Priority.values())
+            this.queues.put(priority, new ArrayDeque<>());
     }
 
     protected <R> R _execute(I2C i2c, Callable<R> action) {
@@ -57,4 +79,144 @@ public abstract class I2CBusBase implements I2CBus {
             throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus, e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The owning thread of this bus is started with the first submission. It executes each action with
+     * {@link #execute(I2C, Callable)}, and keeps holding the bus lock while the next action addresses the same device,
+     * so that the device does not need to be selected again. Within a priority class, queued actions for the device
+     * of the previous action are preferred over older actions for other devices, up to
+     * {@link #MAX_COALESCED_ACTIONS} in a row.
+     */
+    @Override
+    public <R> CompletableFuture<R> submit(I2C i2c, Callable<R> action, Priority priority, long deadline,
+        TimeUnit unit) {
+        if (i2c == null)
+            throw new NullPointerException("Parameter 'i2c' is mandatory!");
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        if (deadline < 0)
+            throw new IllegalArgumentException("A negative deadline is not supported.");
+
+        Action<R> queued = new Action<>(i2c, action, deadline == 0 ? 0 : System.nanoTime() + unit.toNanos(deadline));
+        synchronized (this.queues) {
+            if (this.closed)
+                return CompletableFuture.failedFuture(new Pi4JException("I2C bus " + this.bus + " is closed"));
+            if (this.owner == null) {
+                this.owner = new Thread(this::runActions, "pi4j-i2c-bus-" + this.bus);
+                this.owner.setDaemon(true);
+                this.owner.start();
+            }
+            this.queues.get(priority).add(queued);
+            this.queues.notifyAll();
+        }
+        return queued.future;
+    }
+
+    /**
+     * Stops the owning thread of this bus; queued actions which have not been started are cancelled.
+     */
+    public void close() {
+        synchronized (this.queues) {
+            this.closed = true;
+            for (ArrayDeque<Action<?>> queue : this.queues.values()) {
+                queue.forEach(action -> action.future.cancel(false));
+                queue.clear();
+            }
+            this.queues.notifyAll();
+        }
+    }
+
+    private void runActions() {
+        try {
+            Action<?> action = take();
+            while (action != null) {
+                this.lock.lock();
+                try {
+                    int device = action.i2c.device();
+                    int coalesced = 0;
+                    do {
+                        action.run();
+                        action = poll(device, ++coalesced < MAX_COALESCED_ACTIONS);
+                    } while (action != null && action.i2c.device() == device);
+                } finally {
+                    this.lock.unlock();
+                }
+                if (action == null)
+                    action = take();
+            }
+        } catch (InterruptedException e) {
+            logger.debug("I2C bus {} owner thread interrupted", this.bus);
+        }
+    }
+
+    /**
+     * Waits for the next queued action.
+     *
+     * @return the next action, or null when the bus has been closed
+     */
+    private Action<?> take() throws InterruptedException {
+        synchronized (this.queues) {
+            Action<?> action;
+            while ((action = poll(-1, false)) == null) {
+                if (this.closed)
+                    return null;
+                this.queues.wait();
+            }
+            return action;
+        }
+    }
+
+    /**
+     * Removes the next action from the highest non-empty priority class, preferring the oldest action for the given
+     * device when coalescing.
+     */
+    private Action<?> poll(int device, boolean coalesce) {
+        synchronized (this.queues) {
+            for (ArrayDeque<Action<?>> queue : this.queues.values()) {
+                if (queue.isEmpty())
+                    continue;
+                if (coalesce) {
+                    for (Iterator<Action<?>> it = queue.iterator(); it.hasNext(); ) {
+                        Action<?> action = it.next();
+                        if (action.i2c.device() == device) {
+                            it.remove();
+                            return action;
+                        }
+                    }
+                }
+                return queue.poll();
+            }
+            return null;
+        }
+    }
+
+    private final class Action<R> {
+        private final I2C i2c;
+        private final Callable<R> action;
+        private final long deadline;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private Action(I2C i2c, Callable<R> action, long deadline) {
+            this.i2c = i2c;
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        private void run() {
+            if (this.future.isDone())
+                return;
+            if (this.deadline != 0 && System.nanoTime() - this.deadline > 0) {
+                this.future.completeExceptionally(new TimeoutException(
+                    "Deadline of action for device " + this.i2c.device() + " on bus " + bus + " expired"));
+                return;
+            }
+            try {
+                this.future.complete(execute(this.i2c, this.action));
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.pi4j.io.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  I2CRegisterCache.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.i2c.impl.DefaultI2CRegisterCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in register cache for an I2C device.
+ * <p>
+ * Reads of registers marked as cacheable are answered from memory until the entry expires
+ * or is invalidated by a write to an overlapping register range; all other registers are
+ * volatile and always read from the bus.  Writes always go to the bus and, in write-through
+ * mode, update the cache.  Multi-byte reads are cached as a block starting at the register
+ * and are only answered from a block read or written at the same register.
+ * <p>
+ * Ranges are evaluated in the order they were declared, so a volatile range can carve
+ * status registers out of a larger cacheable range.
+ *
+ * @version $Id: $Id
+ */
+public interface I2CRegisterCache extends I2CRegisterDataReader, I2CRegisterDataWriter {
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param i2c the I2C device whose registers are cached
+     * @return a new register cache without any cacheable registers
+     */
+    static I2CRegisterCache newInstance(I2C i2c) {
+        return new DefaultI2CRegisterCache(i2c);
+    }
+
+    /**
+     * <p>i2c.</p>
+     *
+     * @return the cached I2C device
+     */
+    I2C i2c();
+
+    /**
+     * Mark a register range as cacheable without expiry.
+     *
+     * @param first the first register of the range
+     * @param last the last register of the range (inclusive)
+     * @return this cache
+     */
+    default I2CRegisterCache cacheable(int first, int last) {
+        return cacheable(first, last, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Mark a register range as cacheable; cached values are re-read from the bus after the given time.
+     *
+     * @param first the first register of the range
+     * @param last the last register of the range (inclusive)
+     * @param ttl the time to live of cached values; 0 for no expiry
+     * @param unit the time unit of the ttl
+     * @return this cache
+     */
+    I2CRegisterCache cacheable(int first, int last, long ttl, TimeUnit unit);
+
+    /**
+     * Mark a register range as volatile, i.e. always read from the bus.
+     *
+     * @param first the first register of the range
+     * @param last the last register of the range (inclusive)
+     * @return this cache
+     */
+    I2CRegisterCache volatileRegisters(int first, int last);
+
+    /**
+     * Select whether writes update the cache (write-through, the default) or only invalidate it.
+     *
+     * @param writeThrough true to store written values in the cache
+     * @return this cache
+     */
+    I2CRegisterCache writeThrough(boolean writeThrough);
+
+    /**
+     * Get an encapsulated interface for reading and writing a specific register through this cache.
+     *
+     * @param address the register address
+     * @return a {@link com.pi4j.io.i2c.I2CRegister} object.
+     */
+    I2CRegister register(int address);
+
+    /**
+     * Discard all cached values.
+     */
+    void invalidate();
+
+    /**
+     * Discard the cached values covering the given register.
+     *
+     * @param register the register address
+     */
+    void invalidate(int register);
+
+    /**
+     * <p>hits.</p>
+     *
+     * @return the number of reads answered from the cache
+     */
+    long hits();
+
+    /**
+     * <p>misses.</p>
+     *
+     * @return the number of reads of cacheable registers which went to the bus
+     */
+    long misses();
+
+    /**
+     * Reset the hit and miss counters.
+     */
+    void resetStatistics();
+}
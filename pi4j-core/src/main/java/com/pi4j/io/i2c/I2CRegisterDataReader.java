@@ -249,12 +249,22 @@ public interface I2CRegisterDataReader {
             length = buffer.capacity() - offset;
         }
 
-        int actualLength = readRegister(register, buffer.array(), offset, length);
+        int actualLength;
+        if (buffer.hasArray()) {
+            // read straight into the backing array of heap buffers
+            actualLength = readRegister(register, buffer.array(), buffer.arrayOffset() + offset, length);
+        } else {
+            // read direct buffers through a temporary byte array; providers override
+            // this method to read directly into the memory of direct buffers
+            byte[] temp = new byte[length];
+            actualLength = readRegister(register, temp, 0, length);
+            if (actualLength > 0) buffer.duplicate().position(offset).put(temp, 0, actualLength);
+        }
 
         // return any error codes (result < 0)
         if (actualLength < 0) return actualLength;
 
-        // copy the data from the temporary byte array into the return buffer at the given offset
+        // advance the buffer position past the data read at the given offset
         buffer.position(offset + actualLength);
 
         // return actual number of bytes read
@@ -307,12 +317,22 @@ public interface I2CRegisterDataReader {
             length = buffer.capacity() - offset;
         }
 
-        int actualLength = readRegister(register, buffer.array(), offset, length);
+        int actualLength;
+        if (buffer.hasArray()) {
+            // read straight into the backing array of heap buffers
+            actualLength = readRegister(register, buffer.array(), buffer.arrayOffset() + offset, length);
+        } else {
+            // read direct buffers through a temporary byte array; providers override
+            // this method to read directly into the memory of direct buffers
+            byte[] temp = new byte[length];
+            actualLength = readRegister(register, temp, 0, length);
+            if (actualLength > 0) buffer.duplicate().position(offset).put(temp, 0, actualLength);
+        }
 
         // return any error codes (result < 0)
         if (actualLength < 0) return actualLength;
 
-        // copy the data from the temporary byte array into the return buffer at the given offset
+        // advance the buffer position past the data read at the given offset
         buffer.position(offset + actualLength);
 
         // return actual number of bytes read
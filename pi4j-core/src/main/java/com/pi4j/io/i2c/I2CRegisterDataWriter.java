@@ -217,7 +217,16 @@ public interface I2CRegisterDataWriter {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return writeRegister(register, buffer.array(), offset, length);
+
+        // write straight from the backing array of heap buffers
+        if(buffer.hasArray()){
+            return writeRegister(register, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+
+        // copy direct (or read-only) buffers to a temporary byte array
+        byte[] temp = new byte[length];
+        buffer.duplicate().position(offset).get(temp);
+        return writeRegister(register, temp, 0, length);
     }
 
 
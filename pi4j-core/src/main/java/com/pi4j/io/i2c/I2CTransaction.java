@@ -0,0 +1,266 @@
+package com.pi4j.io.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  I2CTransaction.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>I2CTransaction class.</p>
+ * <p>
+ * Describes a sequence of write and read segments which are transferred on one I2C bus
+ * as a single combined transaction, with a repeated START between the segments and a
+ * single STOP at the end.  Segments may address different devices on the same bus.
+ * </p>
+ * <p>
+ * Read segments receive their data in the buffers given to the builder, so a transaction
+ * can be built once and transferred repeatedly.
+ * </p>
+ *
+ * @see I2C#transfer(I2CTransaction)
+ */
+public class I2CTransaction {
+
+    /** Constant <code>MAX_SEGMENTS=42</code>; the message limit of the Linux I2C_RDWR ioctl */
+    public static final int MAX_SEGMENTS = 42;
+
+    private final List<Segment> segments;
+    private final int writeLength;
+    private final int readLength;
+
+    private I2CTransaction(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+        int write = 0, read = 0;
+        for (Segment segment : segments) {
+            if (segment.isRead()) read += segment.length();
+            else write += segment.length();
+        }
+        this.writeLength = write;
+        this.readLength = read;
+    }
+
+    /**
+     * <p>newBuilder.</p>
+     *
+     * @param address the default device address of the segments
+     * @return a {@link com.pi4j.io.i2c.I2CTransaction.Builder} object.
+     */
+    public static Builder newBuilder(int address) {
+        return new Builder(address);
+    }
+
+    /**
+     * <p>segments.</p>
+     *
+     * @return the segments of the transaction, in transfer order
+     */
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return segments.size();
+    }
+
+    /**
+     * <p>writeLength.</p>
+     *
+     * @return the total number of bytes written by the transaction
+     */
+    public int writeLength() {
+        return writeLength;
+    }
+
+    /**
+     * <p>readLength.</p>
+     *
+     * @return the total number of bytes read by the transaction
+     */
+    public int readLength() {
+        return readLength;
+    }
+
+    /**
+     * A single write or read message of a transaction.
+     */
+    public static final class Segment {
+        private final int address;
+        private final boolean read;
+        private final byte[] buffer;
+        private final int offset;
+        private final int length;
+
+        private Segment(int address, boolean read, byte[] buffer, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (address < 0 || address > 0x7f)
+                throw new IllegalArgumentException("Invalid I2C device address: " + address);
+            this.address = address;
+            this.read = read;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * @return the device address of the segment
+         */
+        public int address() {
+            return address;
+        }
+
+        /**
+         * @return true for a read segment, false for a write segment
+         */
+        public boolean isRead() {
+            return read;
+        }
+
+        /**
+         * @return the data to write, or the buffer receiving the read data
+         */
+        public byte[] buffer() {
+            return buffer;
+        }
+
+        /**
+         * @return the offset of the segment data in the buffer
+         */
+        public int offset() {
+            return offset;
+        }
+
+        /**
+         * @return the number of bytes to write or read
+         */
+        public int length() {
+            return length;
+        }
+    }
+
+    /**
+     * Builder of an {@link I2CTransaction}.
+     */
+    public static final class Builder {
+        private final int address;
+        private final List<Segment> segments = new ArrayList<>();
+
+        private Builder(int address) {
+            this.address = address;
+        }
+
+        /**
+         * Append a write segment to the default device.
+         *
+         * @param data the data to write
+         * @return this builder
+         */
+        public Builder write(byte... data) {
+            return write(address, data, 0, data.length);
+        }
+
+        /**
+         * Append a write segment to the default device.
+         *
+         * @param data the data to write
+         * @param offset the offset of the data
+         * @param length the number of bytes to write
+         * @return this builder
+         */
+        public Builder write(byte[] data, int offset, int length) {
+            return write(address, data, offset, length);
+        }
+
+        /**
+         * Append a write segment to the given device.
+         *
+         * @param address the device address
+         * @param data the data to write
+         * @param offset the offset of the data
+         * @param length the number of bytes to write
+         * @return this builder
+         */
+        public Builder write(int address, byte[] data, int offset, int length) {
+            segments.add(new Segment(address, false, data, offset, length));
+            return this;
+        }
+
+        /**
+         * Append a read segment from the default device.
+         *
+         * @param buffer receives the read data
+         * @return this builder
+         */
+        public Builder read(byte[] buffer) {
+            return read(address, buffer, 0, buffer.length);
+        }
+
+        /**
+         * Append a read segment from the default device.
+         *
+         * @param buffer receives the read data
+         * @param offset the offset in the buffer
+         * @param length the number of bytes to read
+         * @return this builder
+         */
+        public Builder read(byte[] buffer, int offset, int length) {
+            return read(address, buffer, offset, length);
+        }
+
+        /**
+         * Append a read segment from the given device.
+         *
+         * @param address the device address
+         * @param buffer receives the read data
+         * @param offset the offset in the buffer
+         * @param length the number of bytes to read
+         * @return this builder
+         */
+        public Builder read(int address, byte[] buffer, int offset, int length) {
+            segments.add(new Segment(address, true, buffer, offset, length));
+            return this;
+        }
+
+        /**
+         * <p>build.</p>
+         *
+         * @return a new {@link I2CTransaction} of the appended segments
+         */
+        public I2CTransaction build() {
+            if (segments.isEmpty())
+                throw new IllegalStateException("An I2C transaction requires at least one segment");
+            if (segments.size() > MAX_SEGMENTS)
+                throw new IllegalStateException("An I2C transaction supports at most " + MAX_SEGMENTS + " segments");
+            return new I2CTransaction(new ArrayList<>(segments));
+        }
+    }
+}
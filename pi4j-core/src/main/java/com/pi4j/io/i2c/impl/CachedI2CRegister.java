@@ -0,0 +1,141 @@
+package com.pi4j.io.i2c.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  CachedI2CRegister.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.i2c.I2CRegister;
+
+import java.util.Objects;
+
+/**
+ * <p>CachedI2CRegister class.</p>
+ * <p>
+ * An I2C device register which reads and writes through a {@link DefaultI2CRegisterCache}.
+ * </p>
+ *
+ * @version $Id: $Id
+ */
+public class CachedI2CRegister implements I2CRegister {
+
+    protected final int address;
+    protected final DefaultI2CRegisterCache cache;
+
+    /**
+     * <p>Constructor for CachedI2CRegister.</p>
+     *
+     * @param cache the register cache of the device
+     * @param address the register address
+     */
+    public CachedI2CRegister(DefaultI2CRegisterCache cache, int address) {
+        this.cache = cache;
+        this.address = address;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAddress() {
+        return this.address;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        return this.cache.writeRegister(this.address, b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return this.cache.writeRegister(this.address, data, offset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeWord(int word) {
+        this.cache.writeRegisterWord(this.address, word);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readWord() {
+        return this.cache.readRegisterWord(this.address);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeReadWord(int word) {
+        return this.cache.writeReadRegisterWord(this.address, word);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        return this.cache.readRegister(this.address);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return this.cache.readRegister(this.address, buffer, offset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readRegister(int register) {
+        return this.cache.readRegister(register);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
+        return this.cache.readRegister(register, buffer, offset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readRegister(int register, byte[] buffer, int offset, int length) {
+        return this.cache.readRegister(register, buffer, offset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeRegister(int register, byte b) {
+        return this.cache.writeRegister(register, b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeRegister(int register, byte[] data, int offset, int length) {
+        return this.cache.writeRegister(register, data, offset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeRegister(byte[] register, byte[] data, int offset, int length) {
+        return this.cache.writeRegister(register, data, offset, length);
+    }
+}
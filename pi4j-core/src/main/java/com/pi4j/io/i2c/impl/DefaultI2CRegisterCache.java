@@ -0,0 +1,331 @@
+package com.pi4j.io.i2c.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultI2CRegisterCache.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CRegister;
+import com.pi4j.io.i2c.I2CRegisterCache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>DefaultI2CRegisterCache class.</p>
+ *
+ * @version $Id: $Id
+ */
+public class DefaultI2CRegisterCache implements I2CRegisterCache {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final long VOLATILE = -1;
+
+    protected final I2C i2c;
+
+    private final List<Range> ranges = new ArrayList<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private boolean writeThrough = true;
+    private long hits;
+    private long misses;
+
+    /**
+     * <p>Constructor for DefaultI2CRegisterCache.</p>
+     *
+     * @param i2c the I2C device whose registers are cached
+     */
+    public DefaultI2CRegisterCache(I2C i2c) {
+        this.i2c = Objects.requireNonNull(i2c);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public I2C i2c() {
+        return this.i2c;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized I2CRegisterCache cacheable(int first, int last, long ttl, TimeUnit unit) {
+        if (ttl < 0) throw new IllegalArgumentException("A negative time to live is not supported.");
+        this.ranges.add(new Range(first, last, ttl == 0 ? NO_EXPIRY : unit.toNanos(ttl)));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized I2CRegisterCache volatileRegisters(int first, int last) {
+        this.ranges.add(new Range(first, last, VOLATILE));
+        invalidate(first, last - first + 1);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized I2CRegisterCache writeThrough(boolean writeThrough) {
+        this.writeThrough = writeThrough;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public I2CRegister register(int address) {
+        return new CachedI2CRegister(this, address);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void invalidate() {
+        this.entries.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void invalidate(int register) {
+        invalidate(register, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void resetStatistics() {
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // CACHED REGISTER READS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int readRegister(int register) {
+        long ttl = timeToLive(register, 1);
+        if (ttl == VOLATILE) return this.i2c.readRegister(register);
+
+        Entry entry = lookup(register, 1);
+        if (entry != null) return entry.data[0] & 0xff;
+
+        int value = this.i2c.readRegister(register);
+        if (value >= 0) store(register, new byte[] { (byte) value }, ttl);
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int readRegister(int register, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        long ttl = timeToLive(register, length);
+        if (ttl == VOLATILE) return this.i2c.readRegister(register, buffer, offset, length);
+
+        Entry entry = lookup(register, length);
+        if (entry != null) {
+            System.arraycopy(entry.data, 0, buffer, offset, length);
+            return length;
+        }
+
+        int actual = this.i2c.readRegister(register, buffer, offset, length);
+        if (actual == length) store(register, copy(buffer, offset, length), ttl);
+        return actual;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int readRegisterWord(int register) {
+        long ttl = timeToLive(register, 2);
+        if (ttl == VOLATILE) return this.i2c.readRegisterWord(register);
+
+        Entry entry = lookup(register, 2);
+        if (entry != null) return ((entry.data[0] & 0xff) << 8) | (entry.data[1] & 0xff);
+
+        // use the word read of the device, which may be an optimized bus transfer
+        int word = this.i2c.readRegisterWord(register);
+        store(register, new byte[] { (byte) (word >> 8), (byte) word }, ttl);
+        return word;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Multi-byte register addresses are not cached.
+     */
+    @Override
+    public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
+        return this.i2c.readRegister(register, buffer, offset, length);
+    }
+
+    // -------------------------------------------------------------------
+    // WRITE-THROUGH REGISTER WRITES
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int writeRegister(int register, byte b) {
+        invalidate(register, 1);
+        int result = this.i2c.writeRegister(register, b);
+        written(register, new byte[] { b });
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int writeRegisterWord(int register, int word) {
+        invalidate(register, 2);
+        int result = this.i2c.writeRegisterWord(register, word);
+        written(register, new byte[] { (byte) (word >> 8), (byte) word });
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int writeRegister(int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        invalidate(register, length);
+        int result = this.i2c.writeRegister(register, data, offset, length);
+        written(register, copy(data, offset, length));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Multi-byte register addresses are not cached, so the whole cache is invalidated.
+     */
+    @Override
+    public synchronized int writeRegister(byte[] register, byte[] data, int offset, int length) {
+        invalidate();
+        return this.i2c.writeRegister(register, data, offset, length);
+    }
+
+    /**
+     * Invalidate a register before a write which cannot be cached, e.g. a process call.
+     */
+    synchronized int writeReadRegisterWord(int register, int word) {
+        invalidate(register, 2);
+        return this.i2c.writeReadRegisterWord(register, word);
+    }
+
+    // -------------------------------------------------------------------
+    // Private section
+    // -------------------------------------------------------------------
+
+    /**
+     * @return the shortest time to live of the given register range in nanoseconds,
+     * or VOLATILE if any register of the range is not cacheable
+     */
+    private long timeToLive(int register, int length) {
+        long ttl = NO_EXPIRY;
+        for (int r = register; r < register + length; r++) {
+            long rttl = VOLATILE;
+            for (Range range : this.ranges) {
+                if (range.contains(r)) rttl = range.ttl;
+            }
+            if (rttl == VOLATILE) return VOLATILE;
+            ttl = Math.min(ttl, rttl);
+        }
+        return ttl;
+    }
+
+    private Entry lookup(int register, int length) {
+        Entry entry = this.entries.get(register);
+        if (entry != null && entry.data.length >= length && !entry.isExpired()) {
+            this.hits++;
+            return entry;
+        }
+        this.misses++;
+        return null;
+    }
+
+    private void store(int register, byte[] data, long ttl) {
+        this.entries.put(register, new Entry(data, ttl));
+    }
+
+    private void written(int register, byte[] data) {
+        if (!this.writeThrough) return;
+        long ttl = timeToLive(register, data.length);
+        if (ttl != VOLATILE) store(register, data, ttl);
+    }
+
+    /**
+     * Remove all entries overlapping the given register range; devices typically
+     * auto-increment the register address on multi-byte transfers.
+     */
+    private void invalidate(int register, int length) {
+        int end = register + length;
+        this.entries.entrySet().removeIf(e -> e.getKey() < end && e.getKey() + e.getValue().data.length > register);
+    }
+
+    private static byte[] copy(byte[] data, int offset, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(data, offset, copy, 0, length);
+        return copy;
+    }
+
+    private static final class Range {
+        private final int first;
+        private final int last;
+        private final long ttl;
+
+        private Range(int first, int last, long ttl) {
+            if (first > last) throw new IllegalArgumentException("Invalid register range: " + first + "-" + last);
+            this.first = first;
+            this.last = last;
+            this.ttl = ttl;
+        }
+
+        private boolean contains(int register) {
+            return register >= first && register <= last;
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] data;
+        private final long stored = System.nanoTime();
+        private final long ttl;
+
+        private Entry(byte[] data, long ttl) {
+            this.data = data;
+            this.ttl = ttl;
+        }
+
+        private boolean isExpired() {
+            return ttl != NO_EXPIRY && System.nanoTime() - stored >= ttl;
+        }
+    }
+}
@@ -91,6 +91,34 @@ public interface Serial extends IO<Serial, SerialConfig, SerialProvider>, AutoCl
         }
     }
 
+    /**
+     * Add listeners receiving the data as it arrives, instead of polling {@link #available()}.
+     * <p>
+     * While the port has listeners, all received data is read and delivered to them; reading the
+     * port directly at the same time yields unpredictable results.
+     *
+     * @param listener one or more {@link com.pi4j.io.serial.SerialDataListener} objects.
+     * @return this serial port
+     */
+    Serial addListener(SerialDataListener... listener);
+
+    /**
+     * Add a listener receiving complete frames of the data as it arrives.
+     *
+     * @param framing how the data is split into frames
+     * @param listener the listener receiving the frames
+     * @return this serial port
+     */
+    Serial addListener(SerialFraming framing, SerialDataListener listener);
+
+    /**
+     * Remove listeners, with or without framing.
+     *
+     * @param listener one or more {@link com.pi4j.io.serial.SerialDataListener} objects.
+     * @return this serial port
+     */
+    Serial removeListener(SerialDataListener... listener);
+
     /**
      * <p>open.</p>
      */
@@ -25,10 +25,20 @@ package com.pi4j.io.serial;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventManager;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.IOBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * <p>Abstract SerialBase class.</p>
  *
@@ -40,6 +50,31 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
     Logger logger = LoggerFactory.getLogger(this.getClass());
     protected boolean isOpen = false;
 
+    // listeners receiving the raw data as it is read
+    protected final EventManager<Serial, SerialDataListener, SerialDataEvent> dataEventManager;
+
+    // listeners receiving complete frames, each with its own framing state
+    private final List<FramedListener> framedListeners = new CopyOnWriteArrayList<>();
+    private boolean receiving = false;
+
+    private class FramedListener {
+        final SerialDataListener listener;
+        final SerialFraming.Decoder decoder;
+        final EventManager<Serial, SerialDataListener, SerialDataEvent> eventManager;
+
+        FramedListener(SerialFraming framing, SerialDataListener listener) {
+            this.listener = listener;
+            this.decoder = framing.newDecoder();
+            this.eventManager = new EventManager<>(SerialBase.this, SerialDataListener::onDataReceived);
+            this.eventManager.add(listener);
+            this.eventManager.dispatcher(dataEventManager.dispatcher());
+        }
+
+        void dispatch(byte[] frame, long timestamp) {
+            eventManager.dispatch(new SerialDataEvent(SerialBase.this, frame, timestamp));
+        }
+    }
+
     /**
      * <p>Constructor for SerialBase.</p>
      *
@@ -49,6 +84,145 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
     public SerialBase(SerialProvider provider, SerialConfig config){
         super(provider, config);
         logger.trace("created instance with config: {}", config);
+
+        // create an event manager for serial data events
+        dataEventManager = new EventManager(this,
+                (EventDelegate<SerialDataListener, SerialDataEvent>)
+                        (listener, event) -> listener.onDataReceived(event));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // deliver events on the context's asynchronous event dispatcher (if configured)
+        EventDispatcher dispatcher = context.config().eventDispatcher();
+        if(dispatcher != null) {
+            dataEventManager.dispatcher(dispatcher);
+            framedListeners.forEach(framed -> framed.eventManager.dispatcher(dispatcher));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial shutdown(Context context) throws ShutdownException {
+        // remove all listeners
+        dataEventManager.clear();
+        framedListeners.clear();
+        updateReceiving();
+        return super.shutdown(context);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial addListener(SerialDataListener... listener) {
+        dataEventManager.add(listener);
+        updateReceiving();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial addListener(SerialFraming framing, SerialDataListener listener) {
+        framedListeners.add(new FramedListener(framing, listener));
+        updateReceiving();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial removeListener(SerialDataListener... listener) {
+        dataEventManager.remove(listener);
+        List<SerialDataListener> removed = Arrays.asList(listener);
+        framedListeners.removeIf(framed -> removed.contains(framed.listener));
+        updateReceiving();
+        return this;
+    }
+
+    /**
+     * Start or stop receiving data depending on whether there are listeners.
+     */
+    protected synchronized void updateReceiving() {
+        boolean listening = !dataEventManager.isEmpty() || !framedListeners.isEmpty();
+        if(listening == receiving) return;
+        receiving = listening;
+        if(listening) {
+            startReceiving();
+        } else {
+            stopReceiving();
+        }
+    }
+
+    /**
+     * <p>isReceiving.</p>
+     *
+     * @return true while data is received for listeners
+     */
+    protected synchronized boolean isReceiving() {
+        return receiving;
+    }
+
+    /**
+     * Start receiving data for the listeners of this port.  By default the port is polled by the
+     * shared {@link SerialDataMonitor}; providers that can wait for input natively override this
+     * method and pass the data read to {@link #receive(byte[], int, int, long)}.
+     */
+    protected void startReceiving() {
+        SerialDataMonitor.getDefault().register(this);
+    }
+
+    /**
+     * Stop receiving data for listeners, see {@link #startReceiving()}.
+     */
+    protected void stopReceiving() {
+        SerialDataMonitor.getDefault().unregister(this);
+    }
+
+    /**
+     * Deliver data read from the port to the listeners; raw listeners get a copy of the data,
+     * framed listeners every frame it completes.  Called by the thread receiving the data.
+     *
+     * @param data the buffer holding the data read
+     * @param offset the offset of the data in the buffer
+     * @param length the number of bytes read
+     * @param timestamp monotonic timestamp in nanoseconds at which the data was read
+     */
+    public void receive(byte[] data, int offset, int length, long timestamp) {
+        if(length <= 0) return;
+        if(!dataEventManager.isEmpty()) {
+            dataEventManager.dispatch(new SerialDataEvent(this, Arrays.copyOfRange(data, offset, offset + length), timestamp));
+        }
+        for(FramedListener framed : framedListeners) {
+            framed.decoder.append(data, offset, length, timestamp, frame -> framed.dispatch(frame, timestamp));
+        }
+    }
+
+    /**
+     * The time at which the next pending frame completes because the line has been idle, see
+     * {@link SerialFraming#idle(long, java.util.concurrent.TimeUnit)}.
+     *
+     * @return a {@link System#nanoTime()} deadline, or {@link Long#MAX_VALUE} if there is none
+     */
+    public long receiveDeadline() {
+        long deadline = Long.MAX_VALUE;
+        for(FramedListener framed : framedListeners) {
+            deadline = Math.min(deadline, framed.decoder.deadline());
+        }
+        return deadline;
+    }
+
+    /**
+     * Deliver the frames completed by idleness at the given time.  Called by the thread
+     * receiving the data, no later than {@link #receiveDeadline()}.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void expire(long now) {
+        for(FramedListener framed : framedListeners) {
+            framed.decoder.expire(now, frame -> framed.dispatch(frame, now));
+        }
     }
 
     /** {@inheritDoc} */
@@ -61,6 +235,8 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
     @Override
     public void open() {
         logger.trace("invoked 'open()'");
+        // listeners are kept when the port is closed; receive their data again after a re-open
+        updateReceiving();
     }
 
     /** {@inheritDoc} */
@@ -68,5 +244,11 @@ public abstract class SerialBase extends IOBase<Serial, SerialConfig, SerialProv
     public void close() {
         logger.trace("invoked 'closed()'");
         this.isOpen = false;
+        synchronized (this) {
+            if(receiving) {
+                receiving = false;
+                stopReceiving();
+            }
+        }
     }
 }
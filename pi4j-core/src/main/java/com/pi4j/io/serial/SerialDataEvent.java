@@ -0,0 +1,122 @@
+package com.pi4j.io.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  SerialDataEvent.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.Event;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>SerialDataEvent class.</p>
+ * <p>
+ * Carries the bytes received on a serial port: either everything read in one go, or a single
+ * complete frame if the listener was added with a {@link SerialFraming}.  The data array is
+ * owned by the event and not reused.
+ */
+public class SerialDataEvent implements Event {
+
+    protected final Serial source;
+    protected final byte[] data;
+
+    // monotonic nanosecond timestamp at which the (last of the) data was received
+    protected final long timestamp;
+
+    /**
+     * <p>Constructor for SerialDataEvent.</p>
+     *
+     * @param source the serial port on which the data was received
+     * @param data the received data; the event takes ownership of the array
+     * @param timestamp monotonic timestamp in nanoseconds at which the data was received
+     */
+    public SerialDataEvent(Serial source, byte[] data, long timestamp) {
+        this.source = source;
+        this.data = data;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * <p>source.</p>
+     *
+     * @return the serial port on which the data was received
+     */
+    public Serial source() {
+        return this.source;
+    }
+
+    /**
+     * The received data.
+     *
+     * @return a byte array.
+     */
+    public byte[] data() {
+        return this.data;
+    }
+
+    /**
+     * The number of bytes received.
+     *
+     * @return an int.
+     */
+    public int length() {
+        return this.data.length;
+    }
+
+    /**
+     * The received data decoded with the given charset.
+     *
+     * @param charset a {@link java.nio.charset.Charset} object.
+     * @return a {@link java.lang.String} object.
+     */
+    public String asString(Charset charset) {
+        return new String(this.data, charset);
+    }
+
+    /**
+     * The received data decoded as US-ASCII.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String asString() {
+        return asString(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The monotonic timestamp (in nanoseconds, see {@link System#nanoTime()}) at which the
+     * data, or the last part of the frame, was received.
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "<<SERIAL DATA EVENT>> [" + source() + "] LENGTH: [" + length() + "] (TIMESTAMP=" + timestamp() + ")";
+    }
+}
@@ -0,0 +1,148 @@
+package com.pi4j.io.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  SerialDataMonitor.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>SerialDataMonitor class.</p>
+ * <p>
+ * Receives the data of all serial ports with listeners on a single thread, for providers that
+ * cannot wait for input natively.  Every port is polled with {@link Serial#available()} at a
+ * fixed interval and the available bytes are handed to {@link SerialBase#receive(byte[], int, int, long)}.
+ * The thread is started with the first port and stops when the last port is removed.
+ * <p>
+ * Providers that can wait for input of many ports at once (e.g. with poll/epoll) override
+ * {@link SerialBase#startReceiving()} and {@link SerialBase#stopReceiving()} instead.
+ */
+public class SerialDataMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerialDataMonitor.class);
+
+    /** Constant <code>NAME="pi4j-serial-monitor"</code> */
+    public static final String NAME = "pi4j-serial-monitor";
+
+    /** Constant <code>DEFAULT_INTERVAL_MILLIS=5</code> */
+    public static final long DEFAULT_INTERVAL_MILLIS = 5;
+
+    private static final SerialDataMonitor DEFAULT = new SerialDataMonitor(DEFAULT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+    private final long intervalNanos;
+    private final CopyOnWriteArrayList<SerialBase> ports = new CopyOnWriteArrayList<>();
+    private final byte[] buffer = new byte[4096];
+    private Thread thread;
+
+    /**
+     * <p>Constructor for SerialDataMonitor.</p>
+     *
+     * @param interval the interval at which the ports are polled
+     * @param unit the unit of the interval
+     */
+    public SerialDataMonitor(long interval, TimeUnit unit) {
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * The monitor shared by all serial ports that do not provide their own.
+     *
+     * @return a {@link SerialDataMonitor}
+     */
+    public static SerialDataMonitor getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Start receiving the data of the given port.
+     *
+     * @param serial a {@link SerialBase} object.
+     */
+    public synchronized void register(SerialBase serial) {
+        ports.addIfAbsent(serial);
+        if (thread == null) {
+            thread = new Thread(this::run, NAME);
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Stop receiving the data of the given port.
+     *
+     * @param serial a {@link SerialBase} object.
+     */
+    public synchronized void unregister(SerialBase serial) {
+        ports.remove(serial);
+    }
+
+    private synchronized boolean idle() {
+        if (!ports.isEmpty()) return false;
+        thread = null;
+        return true;
+    }
+
+    private void run() {
+        logger.debug("serial monitor started");
+        while (!idle()) {
+            long deadline = Long.MAX_VALUE;
+            for (SerialBase serial : ports) {
+                try {
+                    poll(serial);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+                deadline = Math.min(deadline, serial.receiveDeadline());
+            }
+
+            // wake up early to complete idle frames on time
+            long wait = intervalNanos;
+            if (deadline != Long.MAX_VALUE) {
+                wait = Math.max(0, Math.min(wait, deadline - System.nanoTime()));
+            }
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+        logger.debug("serial monitor stopped");
+    }
+
+    private void poll(SerialBase serial) {
+        int available = serial.available();
+        while (available > 0) {
+            int count = serial.read(buffer, 0, Math.min(available, buffer.length));
+            if (count <= 0) break;
+            serial.receive(buffer, 0, count, System.nanoTime());
+            available -= count;
+        }
+        serial.expire(System.nanoTime());
+    }
+}
@@ -0,0 +1,328 @@
+package com.pi4j.io.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  SerialFraming.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Describes how the bytes received on a serial port are split into frames before they are
+ * delivered to a {@link SerialDataListener}, see {@link Serial#addListener(SerialFraming, SerialDataListener)}.
+ * <ul>
+ *     <li>{@link #delimiter(byte...)}: frames end with a delimiter sequence, e.g. a line feed; the
+ *     delimiter is not included in the frame</li>
+ *     <li>{@link #fixedLength(int)}: frames have a fixed number of bytes</li>
+ *     <li>{@link #lengthPrefixed(int, ByteOrder)}: frames start with an unsigned 1, 2 or 4 byte
+ *     length of the payload that follows; only the payload is delivered</li>
+ *     <li>{@link #idle(long, TimeUnit)}: a frame ends when no bytes were received for the given time</li>
+ * </ul>
+ * Instances are immutable and may be shared; every listener keeps its own framing state.  Data
+ * that grows beyond {@link #maxLength()} without completing a frame is discarded.
+ */
+public final class SerialFraming {
+
+    /** Constant <code>DEFAULT_MAX_LENGTH=65536</code> */
+    public static final int DEFAULT_MAX_LENGTH = 65536;
+
+    /**
+     * The kind of framing.
+     */
+    public enum Type {
+        DELIMITER,
+        FIXED_LENGTH,
+        LENGTH_PREFIXED,
+        IDLE
+    }
+
+    private final Type type;
+    private final byte[] delimiter;
+    private final int length;
+    private final ByteOrder order;
+    private final long idleNanos;
+    private final int maxLength;
+
+    private SerialFraming(Type type, byte[] delimiter, int length, ByteOrder order, long idleNanos, int maxLength) {
+        this.type = type;
+        this.delimiter = delimiter;
+        this.length = length;
+        this.order = order;
+        this.idleNanos = idleNanos;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Frames ending with the given delimiter sequence.
+     *
+     * @param delimiter one or more bytes
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming delimiter(byte... delimiter) {
+        if (delimiter.length == 0) {
+            throw new IllegalArgumentException("The delimiter must not be empty");
+        }
+        return new SerialFraming(Type.DELIMITER, delimiter.clone(), 0, null, 0, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Frames ending with the given (US-ASCII) delimiter, e.g. "\r\n".
+     *
+     * @param delimiter a non-empty string
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming delimiter(String delimiter) {
+        return delimiter(delimiter.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Frames of a fixed number of bytes.
+     *
+     * @param length the frame length
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming fixedLength(int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("The frame length must be positive");
+        }
+        return new SerialFraming(Type.FIXED_LENGTH, null, length, null, 0, Math.max(length, DEFAULT_MAX_LENGTH));
+    }
+
+    /**
+     * Frames starting with the big-endian length of the payload.
+     *
+     * @param prefixLength the number of bytes of the length prefix; 1, 2 or 4
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming lengthPrefixed(int prefixLength) {
+        return lengthPrefixed(prefixLength, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Frames starting with the length of the payload.
+     *
+     * @param prefixLength the number of bytes of the length prefix; 1, 2 or 4
+     * @param order the byte order of the length prefix
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming lengthPrefixed(int prefixLength, ByteOrder order) {
+        if (prefixLength != 1 && prefixLength != 2 && prefixLength != 4) {
+            throw new IllegalArgumentException("The length prefix must have 1, 2 or 4 bytes");
+        }
+        return new SerialFraming(Type.LENGTH_PREFIXED, null, prefixLength, Objects.requireNonNull(order), 0,
+            DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Frames ending when no data was received for the given time.
+     *
+     * @param timeout the idle time
+     * @param unit the unit of the idle time
+     * @return a new {@link SerialFraming}
+     */
+    public static SerialFraming idle(long timeout, TimeUnit unit) {
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("The idle timeout must be positive");
+        }
+        return new SerialFraming(Type.IDLE, null, 0, null, nanos, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * A copy of this framing with the given maximum frame length.
+     *
+     * @param maxLength the maximum number of bytes buffered for a frame
+     * @return a new {@link SerialFraming}
+     */
+    public SerialFraming maxLength(int maxLength) {
+        if (maxLength <= 0 || (type == Type.FIXED_LENGTH && maxLength < length)) {
+            throw new IllegalArgumentException("Invalid maximum frame length " + maxLength);
+        }
+        return new SerialFraming(type, delimiter, length, order, idleNanos, maxLength);
+    }
+
+    /**
+     * <p>type.</p>
+     *
+     * @return the kind of framing
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * <p>maxLength.</p>
+     *
+     * @return the maximum number of bytes buffered for a frame
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        switch (type) {
+            case DELIMITER:
+                return "SerialFraming[DELIMITER " + Arrays.toString(delimiter) + "]";
+            case FIXED_LENGTH:
+                return "SerialFraming[FIXED_LENGTH " + length + "]";
+            case LENGTH_PREFIXED:
+                return "SerialFraming[LENGTH_PREFIXED " + length + " " + order + "]";
+            default:
+                return "SerialFraming[IDLE " + idleNanos + "ns]";
+        }
+    }
+
+    Decoder newDecoder() {
+        return new Decoder();
+    }
+
+    /**
+     * The framing state of a single listener; only used by the thread receiving the data.
+     */
+    final class Decoder {
+
+        private byte[] buffer = new byte[64];
+        private int size = 0;
+        // position from which to continue searching for a delimiter
+        private int scanned = 0;
+        private long received;
+
+        /**
+         * Append received data and pass every completed frame to the consumer.
+         */
+        void append(byte[] data, int offset, int count, long timestamp, Consumer<byte[]> frames) {
+            received = timestamp;
+            while (count > 0) {
+                if (size == maxLength) {
+                    // no frame within the maximum length; drop what we have and resynchronize
+                    size = 0;
+                    scanned = 0;
+                }
+                int chunk = Math.min(count, maxLength - size);
+                ensureCapacity(size + chunk);
+                System.arraycopy(data, offset, buffer, size, chunk);
+                size += chunk;
+                offset += chunk;
+                count -= chunk;
+                extract(frames);
+            }
+        }
+
+        private void extract(Consumer<byte[]> frames) {
+            int start = 0;
+            switch (type) {
+                case DELIMITER:
+                    for (int i = Math.max(scanned, start); i + delimiter.length <= size; ) {
+                        if (matches(i)) {
+                            frames.accept(Arrays.copyOfRange(buffer, start, i));
+                            start = i + delimiter.length;
+                            i = start;
+                        } else {
+                            i++;
+                        }
+                    }
+                    break;
+                case FIXED_LENGTH:
+                    while (size - start >= length) {
+                        frames.accept(Arrays.copyOfRange(buffer, start, start + length));
+                        start += length;
+                    }
+                    break;
+                case LENGTH_PREFIXED:
+                    while (size - start >= length) {
+                        long payload = prefix(start);
+                        if (payload > maxLength - length) {
+                            // corrupt or oversized length; drop everything buffered
+                            start = size;
+                            break;
+                        }
+                        if (size - start < length + payload) break;
+                        frames.accept(Arrays.copyOfRange(buffer, start + length, start + length + (int) payload));
+                        start += length + (int) payload;
+                    }
+                    break;
+                default:
+                    // IDLE frames are completed by expire()
+                    break;
+            }
+            compact(start);
+        }
+
+        /**
+         * The time at which the pending frame completes due to idleness, or {@link Long#MAX_VALUE}.
+         */
+        long deadline() {
+            return type == Type.IDLE && size > 0 ? received + idleNanos : Long.MAX_VALUE;
+        }
+
+        /**
+         * Complete the pending idle frame if its deadline has passed.
+         */
+        void expire(long now, Consumer<byte[]> frames) {
+            if (size > 0 && now - deadline() >= 0) {
+                frames.accept(Arrays.copyOf(buffer, size));
+                size = 0;
+            }
+        }
+
+        private boolean matches(int index) {
+            for (int i = 0; i < delimiter.length; i++) {
+                if (buffer[index + i] != delimiter[i]) return false;
+            }
+            return true;
+        }
+
+        private long prefix(int index) {
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                int b = buffer[index + (order == ByteOrder.BIG_ENDIAN ? i : length - 1 - i)] & 0xFF;
+                value = (value << 8) | b;
+            }
+            return value;
+        }
+
+        private void compact(int start) {
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, size - start);
+                size -= start;
+            }
+            // a delimiter may begin in the last (delimiter.length - 1) bytes
+            if (type == Type.DELIMITER) {
+                scanned = Math.max(0, size - delimiter.length + 1);
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(capacity, Math.min(buffer.length * 2, maxLength)));
+            }
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.pi4j.io.IODataReader;
 import com.pi4j.io.IODataWriter;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * <p>Spi interface.</p>
@@ -248,9 +249,21 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
             numberOfBytes = write.capacity()-writeOffset;
         }
 
+        // write straight from the backing array of heap buffers, or copy direct buffers;
+        // providers override this method to transfer directly from/to the memory of direct buffers
+        byte[] tx;
+        int txOffset = 0;
+        if(write.hasArray()){
+            tx = write.array();
+            txOffset = write.arrayOffset() + writeOffset;
+        } else {
+            tx = new byte[numberOfBytes];
+            write.duplicate().position(writeOffset).get(tx);
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[numberOfBytes];
-        int actualLength =transfer(write.array(), 0 , temp, 0, numberOfBytes);
+        int actualLength =transfer(tx, txOffset, temp, 0, numberOfBytes);
 
         // return any error codes ( < 0)
         if(actualLength < 0) return actualLength;
@@ -341,26 +354,89 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
      * @see "http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite"
      */
     default int transfer(ByteBuffer buffer, int offset, int length) {
-        // perform bounds checking on requested length versus total remaining size available
-        if(length > (buffer.capacity()-offset)){
-            length = buffer.capacity()-offset;
+        return transfer(buffer, offset, buffer, offset, length);
+    }
+
+    /**
+     * Transfer all segments of the given transaction as a single SPI message, keeping
+     * the chip select asserted between the segments.
+     * <p>
+     * Providers supporting multi-transfer messages honour the per segment chip select
+     * change, delay, speed and word size.  The default implementation clocks all segments
+     * as one full duplex transfer and does not support segment options.
+     *
+     * @param transaction the transaction to transfer
+     * @return the total number of bytes transferred, or a negative error code
+     */
+    default int transfer(SpiTransaction transaction) {
+        for (SpiTransaction.Segment segment : transaction.segments()) {
+            if (segment.hasOptions()) {
+                throw new UnsupportedOperationException(
+                    "SPI segment options are not supported by this provider");
+            }
         }
 
-        // create a temporary byte array to read in the length of data bytes
-        byte[] temp = new byte[length];
-        int actualLength =transfer(buffer.array(), 0 , temp, 0, length);
+        // concatenate the segments into a single full duplex transfer
+        int length = transaction.length();
+        byte[] write = new byte[length];
+        byte[] read = new byte[length];
+        int position = 0;
+        for (SpiTransaction.Segment segment : transaction.segments()) {
+            if (segment.write() != null)
+                System.arraycopy(segment.write(), segment.writeOffset(), write, position, segment.length());
+            position += segment.length();
+        }
 
-        // return any error codes ( < 0)
-        if(actualLength < 0) return actualLength;
+        int result = transfer(write, 0, read, 0, length);
+        if (result < 0) return result;
 
-        // perform bounds checking on number of bytes read versus the length requested
-        if(actualLength < length) length = actualLength;
+        // distribute the read data to the segments
+        position = 0;
+        for (SpiTransaction.Segment segment : transaction.segments()) {
+            if (segment.read() != null)
+                System.arraycopy(read, position, segment.read(), segment.readOffset(), segment.length());
+            position += segment.length();
+        }
+        return length;
+    }
 
-        // copy the data from the temporary byte array into the return buffer at the given offset
-        buffer.position(offset);
-        buffer.put(temp, 0, length);
+    /**
+     * Clock the given frame 'count' times, starting a frame every 'intervalNanos' nanoseconds
+     * (best effort), and store the received frames back to back in the buffer at the given offset.
+     * <p>
+     * The default implementation transfers the frames one by one, pacing them on the calling
+     * thread.  Providers may batch the frames into fewer driver calls.
+     *
+     * @param frame the frame to write for every transfer
+     * @param count the number of transfers
+     * @param intervalNanos the interval between the starts of consecutive frames
+     * @param read the buffer receiving count * frame.length bytes
+     * @param offset the offset in the read buffer
+     * @return the number of bytes received, or a negative error code
+     */
+    default int transferRepeated(byte[] frame, int count, long intervalNanos, ByteBuffer read, int offset) {
+        int length = frame.length;
+        Objects.checkFromIndexSize(offset, count * length, read.capacity());
+        byte[] temp = new byte[length];
+        long next = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                next += intervalNanos;
+                SpiStream.awaitNanos(next);
+            }
+            int result = transfer(frame, 0, temp, 0, length);
+            if (result < 0) return result;
+            read.duplicate().position(offset + i * length).put(temp);
+        }
+        return count * length;
+    }
 
-        // return actual number of bytes read
-        return length;
+    /**
+     * Create a builder for a continuous acquisition stream on this device.
+     *
+     * @return a new {@link com.pi4j.io.spi.SpiStream.Builder}
+     */
+    default SpiStream.Builder newStream() {
+        return SpiStream.newBuilder(this);
     }
 }
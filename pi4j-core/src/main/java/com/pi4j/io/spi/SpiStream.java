@@ -0,0 +1,465 @@
+package com.pi4j.io.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  SpiStream.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>SpiStream class.</p>
+ * <p>
+ * Continuously clocks a fixed frame (e.g. an ADC conversion command) at a target rate on a
+ * dedicated acquisition thread and collects the received frames in blocks.  The blocks are
+ * direct byte buffers kept in a single producer / single consumer ring; a consumer pulls
+ * filled blocks with {@link #poll()} or {@link #poll(long, TimeUnit)} and hands each block
+ * back with {@link Block#release()} before pulling the next one.  If the consumer falls
+ * behind and the ring is full, the acquired block is dropped and counted as an overrun.
+ * </p>
+ * <p>
+ * Each block is acquired with a single call to
+ * {@link Spi#transferRepeated(byte[], int, long, ByteBuffer, int)}, which providers may
+ * implement by batching the frames in the kernel.  Rate and jitter statistics are therefore
+ * measured per block.
+ * </p>
+ *
+ * @see Spi#newStream()
+ */
+public class SpiStream implements AutoCloseable {
+
+    // remaining wait below which the acquisition thread spins instead of parking
+    private static final long SPIN_NANOS = 50_000;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final Spi spi;
+    private final byte[] frame;
+    private final long intervalNanos;
+    private final int framesPerBlock;
+    private final Block[] ring;
+    private final Block scratch;
+
+    // ring indexes; written by the acquisition thread and the consumer respectively
+    private volatile long writeIndex;
+    private volatile long readIndex;
+    private volatile Thread waiter;
+
+    private volatile boolean running;
+    private volatile Throwable failure;
+    private Thread thread;
+
+    // statistics, written by the acquisition thread only; a reset is requested through a flag
+    private volatile boolean resetRequested;
+    private volatile long startNanos;
+    private volatile long lastNanos;
+    private volatile long blocks;
+    private volatile long overruns;
+    private volatile long jitterSumNanos;
+    private volatile long maxJitterNanos;
+
+    private SpiStream(Builder builder) {
+        this.spi = builder.spi;
+        this.frame = builder.frame;
+        this.intervalNanos = 1_000_000_000L / builder.rate;
+        this.framesPerBlock = builder.framesPerBlock;
+        this.ring = new Block[builder.blocks];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new Block(frame.length * framesPerBlock);
+        }
+        this.scratch = new Block(frame.length * framesPerBlock);
+    }
+
+    /**
+     * <p>newBuilder.</p>
+     *
+     * @param spi the SPI device to acquire from
+     * @return a {@link com.pi4j.io.spi.SpiStream.Builder} object.
+     */
+    public static Builder newBuilder(Spi spi) {
+        return new Builder(spi);
+    }
+
+    /**
+     * Start the acquisition thread.
+     *
+     * @return this stream
+     */
+    public synchronized SpiStream start() {
+        if (running) return this;
+        running = true;
+        thread = new Thread(this::acquire, "pi4j-spi-stream-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * Stop the acquisition thread; blocks already filled can still be polled.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        // a reset requested after the last acquired block
+        if (resetRequested) {
+            resetRequested = false;
+            clearStatistics();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * <p>isRunning.</p>
+     *
+     * @return true while the acquisition thread is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get the next filled block without waiting.  The same block is returned until it is released.
+     *
+     * @return the oldest filled block, or null if none is available
+     * @throws IllegalStateException if the acquisition failed
+     */
+    public Block poll() {
+        long read = readIndex;
+        if (read != writeIndex) {
+            return ring[(int) (read % ring.length)];
+        }
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("SPI stream acquisition failed", cause);
+        }
+        return null;
+    }
+
+    /**
+     * Get the next filled block, waiting up to the given time for one to become available.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return the oldest filled block, or null if none became available in time or the stream stopped
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Block poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            Block block = poll();
+            if (block != null) return block;
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) return null;
+            waiter = Thread.currentThread();
+            if (readIndex == writeIndex) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            waiter = null;
+            if (Thread.interrupted()) throw new InterruptedException();
+        }
+    }
+
+    /**
+     * <p>blocks.</p>
+     *
+     * @return the number of blocks acquired, including dropped blocks
+     */
+    public long blocks() {
+        return blocks;
+    }
+
+    /**
+     * <p>overruns.</p>
+     *
+     * @return the number of blocks dropped because no free block was available in the ring
+     */
+    public long overruns() {
+        return overruns;
+    }
+
+    /**
+     * <p>rate.</p>
+     *
+     * @return the actual number of frames acquired per second
+     */
+    public double rate() {
+        // the start times of the first and last block are (blocks - 1) block periods apart
+        long intervals = blocks - 1;
+        long elapsed = lastNanos - startNanos;
+        if (intervals <= 0 || elapsed <= 0) return 0;
+        return (double) intervals * framesPerBlock * 1_000_000_000L / elapsed;
+    }
+
+    /**
+     * <p>meanJitterNanos.</p>
+     *
+     * @return the mean deviation of the block start intervals from the nominal block period
+     */
+    public long meanJitterNanos() {
+        long intervals = blocks - 1;
+        return intervals > 0 ? jitterSumNanos / intervals : 0;
+    }
+
+    /**
+     * <p>maxJitterNanos.</p>
+     *
+     * @return the maximum deviation of a block start interval from the nominal block period
+     */
+    public long maxJitterNanos() {
+        return maxJitterNanos;
+    }
+
+    /**
+     * Reset the rate, jitter and overrun statistics.  While the stream is running the reset
+     * takes effect with the next acquired block.
+     */
+    public synchronized void resetStatistics() {
+        if (thread != null && thread.isAlive()) {
+            // the statistics are only written by the acquisition thread, which performs the reset
+            resetRequested = true;
+        } else {
+            clearStatistics();
+        }
+    }
+
+    private void clearStatistics() {
+        blocks = 0;
+        overruns = 0;
+        jitterSumNanos = 0;
+        maxJitterNanos = 0;
+    }
+
+    private void acquire() {
+        long period = intervalNanos * framesPerBlock;
+        long next = System.nanoTime();
+        long previous = 0;
+        try {
+            while (running) {
+                long start = System.nanoTime();
+                boolean full = writeIndex - readIndex >= ring.length;
+                Block block = full ? scratch : ring[(int) (writeIndex % ring.length)];
+                block.data.clear();
+                int result = spi.transferRepeated(frame, framesPerBlock, intervalNanos, block.data, 0);
+                if (result < 0) {
+                    throw new IllegalStateException("SPI transfer failed: " + result);
+                }
+                block.timestamp = start;
+
+                // statistics
+                if (resetRequested) {
+                    resetRequested = false;
+                    clearStatistics();
+                }
+                long count = blocks;
+                if (count == 0) {
+                    startNanos = start;
+                } else {
+                    long jitter = Math.abs(start - previous - period);
+                    jitterSumNanos += jitter;
+                    if (jitter > maxJitterNanos) maxJitterNanos = jitter;
+                }
+                previous = start;
+                lastNanos = start;
+                blocks = count + 1;
+
+                // publish the block or count the overrun
+                if (full) {
+                    overruns++;
+                } else {
+                    writeIndex++;
+                    Thread w = waiter;
+                    if (w != null) LockSupport.unpark(w);
+                }
+
+                // wait for the start of the next block; restart the schedule when far behind
+                next += period;
+                long now = System.nanoTime();
+                if (now - next > period) {
+                    next = now;
+                }
+                awaitNanos(next);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            running = false;
+            Thread w = waiter;
+            if (w != null) LockSupport.unpark(w);
+        }
+    }
+
+    private void release(Block block) {
+        if (readIndex != writeIndex && ring[(int) (readIndex % ring.length)] == block) {
+            readIndex++;
+        }
+    }
+
+    /**
+     * Wait until the given {@link System#nanoTime()} deadline, parking for the bulk
+     * of the wait and spinning for the remainder.
+     *
+     * @param deadline the deadline to wait for
+     */
+    static void awaitNanos(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * A block of consecutive frames received by the stream.
+     */
+    public final class Block {
+        private final ByteBuffer data;
+        private long timestamp;
+
+        private Block(int capacity) {
+            this.data = ByteBuffer.allocateDirect(capacity);
+        }
+
+        /**
+         * @return a direct buffer holding the received frames back to back
+         */
+        public ByteBuffer data() {
+            return data;
+        }
+
+        /**
+         * @return the number of frames in the block
+         */
+        public int frames() {
+            return framesPerBlock;
+        }
+
+        /**
+         * @return the {@link System#nanoTime()} at which the acquisition of the block started
+         */
+        public long timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Hand the block back to the stream for reuse.
+         */
+        public void release() {
+            SpiStream.this.release(this);
+        }
+    }
+
+    /**
+     * Builder of a {@link SpiStream}.
+     */
+    public static final class Builder {
+        private final Spi spi;
+        private byte[] frame;
+        private int rate;
+        private int framesPerBlock = 64;
+        private int blocks = 8;
+
+        private Builder(Spi spi) {
+            this.spi = Objects.requireNonNull(spi);
+        }
+
+        /**
+         * Set the frame clocked out for every sample; the received bytes of each frame are stored.
+         *
+         * @param frame the frame template
+         * @return this builder
+         */
+        public Builder frame(byte... frame) {
+            this.frame = frame.clone();
+            return this;
+        }
+
+        /**
+         * Set the target number of frames per second.
+         *
+         * @param hz the sample rate
+         * @return this builder
+         */
+        public Builder rate(int hz) {
+            this.rate = hz;
+            return this;
+        }
+
+        /**
+         * Set the number of frames per block; defaults to 64.
+         *
+         * @param frames the number of frames
+         * @return this builder
+         */
+        public Builder framesPerBlock(int frames) {
+            this.framesPerBlock = frames;
+            return this;
+        }
+
+        /**
+         * Set the number of blocks in the ring; defaults to 8.
+         *
+         * @param blocks the number of blocks
+         * @return this builder
+         */
+        public Builder blocks(int blocks) {
+            this.blocks = blocks;
+            return this;
+        }
+
+        /**
+         * <p>build.</p>
+         *
+         * @return a new, not yet started {@link SpiStream}
+         */
+        public SpiStream build() {
+            if (frame == null || frame.length == 0)
+                throw new IllegalStateException("A SPI stream requires a frame");
+            if (rate <= 0 || rate > 1_000_000_000)
+                throw new IllegalStateException("Invalid SPI stream rate: " + rate + "Hz");
+            if (framesPerBlock <= 0 || blocks <= 0)
+                throw new IllegalStateException("A SPI stream requires at least one frame per block and one block");
+            return new SpiStream(this);
+        }
+    }
+}
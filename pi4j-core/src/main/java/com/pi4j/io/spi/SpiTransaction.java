@@ -0,0 +1,356 @@
+package com.pi4j.io.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  SpiTransaction.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>SpiTransaction class.</p>
+ * <p>
+ * Describes a sequence of segments which are transferred to one SPI device as a single
+ * message, keeping the chip select asserted between the segments unless a segment
+ * requests a chip select change.  Each segment is a full duplex transfer, a write only
+ * or a read only transfer and may override the delay, clock speed and word size of the
+ * device configuration.
+ * </p>
+ * <p>
+ * Read data is stored in the buffers given to the builder, so a transaction can be built
+ * once and transferred repeatedly.
+ * </p>
+ *
+ * @see Spi#transfer(SpiTransaction)
+ */
+public class SpiTransaction {
+
+    /** Constant <code>MAX_SEGMENTS=511</code>; the message limit of the Linux SPI_IOC_MESSAGE ioctl */
+    public static final int MAX_SEGMENTS = 511;
+
+    private final List<Segment> segments;
+    private final int length;
+
+    private SpiTransaction(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+        int length = 0;
+        for (Segment segment : segments) {
+            length += segment.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * <p>newBuilder.</p>
+     *
+     * @return a {@link com.pi4j.io.spi.SpiTransaction.Builder} object.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * <p>segments.</p>
+     *
+     * @return the segments of the transaction, in transfer order
+     */
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return segments.size();
+    }
+
+    /**
+     * <p>length.</p>
+     *
+     * @return the total number of bytes clocked by the transaction
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * A single transfer of a transaction.
+     */
+    public static final class Segment {
+        private final byte[] write;
+        private final int writeOffset;
+        private final byte[] read;
+        private final int readOffset;
+        private final int length;
+        private final boolean csChange;
+        private final int delayMicros;
+        private final int speedHz;
+        private final int bitsPerWord;
+
+        private Segment(byte[] write, int writeOffset, byte[] read, int readOffset, int length,
+                        boolean csChange, int delayMicros, int speedHz, int bitsPerWord) {
+            if (write == null && read == null)
+                throw new IllegalArgumentException("A SPI segment requires a write or a read buffer");
+            if (write != null) Objects.checkFromIndexSize(writeOffset, length, write.length);
+            if (read != null) Objects.checkFromIndexSize(readOffset, length, read.length);
+            if (delayMicros < 0 || delayMicros > 0xffff)
+                throw new IllegalArgumentException("Invalid SPI delay: " + delayMicros + "us");
+            if (speedHz < 0)
+                throw new IllegalArgumentException("Invalid SPI speed: " + speedHz + "Hz");
+            if (bitsPerWord < 0 || bitsPerWord > 32)
+                throw new IllegalArgumentException("Invalid SPI word size: " + bitsPerWord + " bits");
+            this.write = write;
+            this.writeOffset = writeOffset;
+            this.read = read;
+            this.readOffset = readOffset;
+            this.length = length;
+            this.csChange = csChange;
+            this.delayMicros = delayMicros;
+            this.speedHz = speedHz;
+            this.bitsPerWord = bitsPerWord;
+        }
+
+        private Segment with(boolean csChange, int delayMicros, int speedHz, int bitsPerWord) {
+            return new Segment(write, writeOffset, read, readOffset, length, csChange, delayMicros, speedHz, bitsPerWord);
+        }
+
+        /**
+         * @return the data to write, or null if zeros are clocked out
+         */
+        public byte[] write() {
+            return write;
+        }
+
+        /**
+         * @return the offset of the data to write
+         */
+        public int writeOffset() {
+            return writeOffset;
+        }
+
+        /**
+         * @return the buffer receiving the read data, or null if the read data is discarded
+         */
+        public byte[] read() {
+            return read;
+        }
+
+        /**
+         * @return the offset in the read buffer
+         */
+        public int readOffset() {
+            return readOffset;
+        }
+
+        /**
+         * @return the number of bytes to transfer
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @return true if the chip select is deasserted after the segment
+         */
+        public boolean csChange() {
+            return csChange;
+        }
+
+        /**
+         * @return the delay after the segment in microseconds
+         */
+        public int delayMicros() {
+            return delayMicros;
+        }
+
+        /**
+         * @return the clock speed of the segment, or 0 for the configured baud rate
+         */
+        public int speedHz() {
+            return speedHz;
+        }
+
+        /**
+         * @return the word size of the segment, or 0 for the device default
+         */
+        public int bitsPerWord() {
+            return bitsPerWord;
+        }
+
+        /**
+         * @return true if the segment overrides any of the device defaults
+         */
+        public boolean hasOptions() {
+            return csChange || delayMicros != 0 || speedHz != 0 || bitsPerWord != 0;
+        }
+    }
+
+    /**
+     * Builder of a {@link SpiTransaction}.  The segment options apply to the last
+     * appended segment.
+     */
+    public static final class Builder {
+        private final List<Segment> segments = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Append a write only segment.
+         *
+         * @param data the data to write
+         * @return this builder
+         */
+        public Builder write(byte... data) {
+            return write(data, 0, data.length);
+        }
+
+        /**
+         * Append a write only segment.
+         *
+         * @param data the data to write
+         * @param offset the offset of the data
+         * @param length the number of bytes to write
+         * @return this builder
+         */
+        public Builder write(byte[] data, int offset, int length) {
+            return add(new Segment(data, offset, null, 0, length, false, 0, 0, 0));
+        }
+
+        /**
+         * Append a read only segment, clocking out zeros.
+         *
+         * @param buffer receives the read data
+         * @return this builder
+         */
+        public Builder read(byte[] buffer) {
+            return read(buffer, 0, buffer.length);
+        }
+
+        /**
+         * Append a read only segment, clocking out zeros.
+         *
+         * @param buffer receives the read data
+         * @param offset the offset in the buffer
+         * @param length the number of bytes to read
+         * @return this builder
+         */
+        public Builder read(byte[] buffer, int offset, int length) {
+            return add(new Segment(null, 0, buffer, offset, length, false, 0, 0, 0));
+        }
+
+        /**
+         * Append a full duplex segment.
+         *
+         * @param write the data to write
+         * @param writeOffset the offset of the data to write
+         * @param read receives the read data
+         * @param readOffset the offset in the read buffer
+         * @param length the number of bytes to transfer
+         * @return this builder
+         */
+        public Builder transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int length) {
+            return add(new Segment(Objects.requireNonNull(write), writeOffset,
+                Objects.requireNonNull(read), readOffset, length, false, 0, 0, 0));
+        }
+
+        /**
+         * Deassert the chip select after the last segment.  On the final segment of a
+         * transaction this keeps the chip select asserted until the next message instead.
+         *
+         * @return this builder
+         */
+        public Builder csChange() {
+            Segment s = last();
+            return replace(s.with(true, s.delayMicros, s.speedHz, s.bitsPerWord));
+        }
+
+        /**
+         * Delay after the last segment before the chip select changes or the next segment starts.
+         *
+         * @param micros the delay in microseconds, at most 65535
+         * @return this builder
+         */
+        public Builder delay(int micros) {
+            Segment s = last();
+            return replace(s.with(s.csChange, micros, s.speedHz, s.bitsPerWord));
+        }
+
+        /**
+         * Override the clock speed of the last segment.
+         *
+         * @param hz the clock speed in Hz
+         * @return this builder
+         */
+        public Builder speed(int hz) {
+            Segment s = last();
+            return replace(s.with(s.csChange, s.delayMicros, hz, s.bitsPerWord));
+        }
+
+        /**
+         * Override the word size of the last segment.
+         *
+         * @param bits the number of bits per word
+         * @return this builder
+         */
+        public Builder bitsPerWord(int bits) {
+            Segment s = last();
+            return replace(s.with(s.csChange, s.delayMicros, s.speedHz, bits));
+        }
+
+        /**
+         * <p>build.</p>
+         *
+         * @return a new {@link SpiTransaction} of the appended segments
+         */
+        public SpiTransaction build() {
+            if (segments.isEmpty())
+                throw new IllegalStateException("A SPI transaction requires at least one segment");
+            if (segments.size() > MAX_SEGMENTS)
+                throw new IllegalStateException("A SPI transaction supports at most " + MAX_SEGMENTS + " segments");
+            return new SpiTransaction(new ArrayList<>(segments));
+        }
+
+        private Builder add(Segment segment) {
+            segments.add(segment);
+            return this;
+        }
+
+        private Builder replace(Segment segment) {
+            segments.set(segments.size() - 1, segment);
+            return this;
+        }
+
+        private Segment last() {
+            if (segments.isEmpty())
+                throw new IllegalStateException("No segment to apply the option to");
+            return segments.get(segments.size() - 1);
+        }
+    }
+}
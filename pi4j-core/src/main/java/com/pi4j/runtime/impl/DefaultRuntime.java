@@ -210,6 +210,11 @@ public class DefaultRuntime implements Runtime {
             // shutdown executor pool
             this.executorPool.destroy();
 
+            // shutdown the asynchronous event dispatcher
+            if (this.context.config().eventDispatcher() != null) {
+                this.context.config().eventDispatcher().shutdown();
+            }
+
         } catch (Exception e) {
             logger.error("failed to 'shutdown(); '", e);
             throw new ShutdownException(e);
@@ -0,0 +1,307 @@
+package com.pi4j.test.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputOnTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class EventDispatcherTest {
+
+    private Context pi4j;
+    private EventDispatcher dispatcher;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider and an asynchronous event dispatcher
+        dispatcher = EventDispatcher.newInstance(16, EventOverflowPolicy.DROP_OLDEST);
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .eventDispatcher(dispatcher)
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testAsyncDispatch() throws InterruptedException {
+
+        // create GPIO digital input instance
+        var input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .name("Test Digital Input")
+            .address(1)
+            .build());
+
+        // capture the thread the listener is invoked on
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> listenerThread = new AtomicReference<>();
+        input.addListener((DigitalStateChangeListener) event -> {
+            listenerThread.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        // simulate a state change
+        ((MockDigitalInput)input).mockState(DigitalState.HIGH);
+
+        // ensure the event was delivered on the dispatcher thread rather than the producing thread
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), listenerThread.get());
+        assertEquals(0, dispatcher.metrics().dropped());
+    }
+
+    /**
+     * Submit an event whose listener blocks the dispatch thread until released, and wait
+     * until it is being delivered; later events stay queued behind it.
+     */
+    private CountDownLatch blockDispatcher(EventDispatcher dispatcher, List<String> delivered) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.submit("blocker", () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add("blocker");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    /**
+     * Submit an event that records its name when delivered.
+     */
+    private void submit(EventDispatcher dispatcher, Object source, String name, List<String> delivered) {
+        dispatcher.submit(source, () -> delivered.add(name));
+    }
+
+    /**
+     * Wait until the given number of events has been delivered.
+     */
+    private void awaitDispatched(EventDispatcher dispatcher, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.metrics().dispatched() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, dispatcher.metrics().dispatched());
+    }
+
+    @Test
+    public void testDropOldestOverflow() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(2, EventOverflowPolicy.DROP_OLDEST);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try {
+            CountDownLatch release = blockDispatcher(dispatcher, delivered);
+            submit(dispatcher, "a", "1", delivered);
+            submit(dispatcher, "a", "2", delivered);
+            assertEquals(2, dispatcher.metrics().queueDepth());
+            assertEquals(0, dispatcher.metrics().dropped());
+
+            // the queue is full; each new event discards the oldest queued event
+            submit(dispatcher, "a", "3", delivered);
+            submit(dispatcher, "b", "4", delivered);
+            assertEquals(2, dispatcher.metrics().queueDepth());
+            assertEquals(2, dispatcher.metrics().dropped());
+
+            release.countDown();
+            awaitDispatched(dispatcher, 3);
+            assertEquals(List.of("blocker", "3", "4"), delivered);
+            assertEquals(0, dispatcher.metrics().queueDepth());
+            assertEquals(0, dispatcher.metrics().coalesced());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalesceOverflow() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(2, EventOverflowPolicy.COALESCE);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try {
+            CountDownLatch release = blockDispatcher(dispatcher, delivered);
+
+            // events from the same source are not coalesced while the queue has room
+            submit(dispatcher, "a", "a1", delivered);
+            submit(dispatcher, "a", "a2", delivered);
+            assertEquals(2, dispatcher.metrics().queueDepth());
+            assertEquals(0, dispatcher.metrics().coalesced());
+
+            // the queue is full; the latest queued event of the source is replaced
+            submit(dispatcher, "a", "a3", delivered);
+            assertEquals(2, dispatcher.metrics().queueDepth());
+            assertEquals(1, dispatcher.metrics().coalesced());
+            assertEquals(0, dispatcher.metrics().dropped());
+
+            // a source without a queued event discards the superseded (oldest) queued event
+            submit(dispatcher, "b", "b1", delivered);
+            assertEquals(2, dispatcher.metrics().queueDepth());
+            assertEquals(1, dispatcher.metrics().dropped());
+
+            release.countDown();
+            awaitDispatched(dispatcher, 3);
+            assertEquals(List.of("blocker", "a3", "b1"), delivered);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalesceKeepsLatestStates() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(3, EventOverflowPolicy.COALESCE);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try {
+            CountDownLatch release = blockDispatcher(dispatcher, delivered);
+            submit(dispatcher, "a", "a1", delivered);
+            submit(dispatcher, "b", "b1", delivered);
+            submit(dispatcher, "a", "a2", delivered);
+
+            // the oldest event superseded by a newer event of its source is dropped first,
+            // keeping the only queued state of source b
+            submit(dispatcher, "c", "c1", delivered);
+            assertEquals(1, dispatcher.metrics().dropped());
+
+            // every queued event is the latest of its source; the oldest is dropped
+            submit(dispatcher, "d", "d1", delivered);
+            assertEquals(2, dispatcher.metrics().dropped());
+            assertEquals(0, dispatcher.metrics().coalesced());
+
+            release.countDown();
+            awaitDispatched(dispatcher, 4);
+            assertEquals(List.of("blocker", "a2", "c1", "d1"), delivered);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockOverflow() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(1, EventOverflowPolicy.BLOCK);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try {
+            CountDownLatch release = blockDispatcher(dispatcher, delivered);
+            submit(dispatcher, "a", "1", delivered);
+            assertEquals(1, dispatcher.metrics().queueDepth());
+
+            // the queue is full; the producer waits until the queued event is taken
+            CountDownLatch submitted = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                submit(dispatcher, "a", "2", delivered);
+                submitted.countDown();
+            });
+            producer.start();
+            assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            assertTrue(submitted.await(5, TimeUnit.SECONDS));
+            awaitDispatched(dispatcher, 3);
+            assertEquals(List.of("blocker", "1", "2"), delivered);
+            assertEquals(0, dispatcher.metrics().dropped());
+            assertEquals(0, dispatcher.metrics().coalesced());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockNestedSubmit() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(1, EventOverflowPolicy.BLOCK);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch queued = new CountDownLatch(1);
+        try {
+            // a listener submitting an event while the queue is full must not wait on itself
+            dispatcher.submit("a", () -> {
+                try {
+                    queued.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                submit(dispatcher, "b", "nested", delivered);
+                delivered.add("outer");
+            });
+            submit(dispatcher, "a", "1", delivered);
+            queued.countDown();
+
+            // the nested event is delivered inline on the dispatch thread
+            awaitDispatched(dispatcher, 3);
+            assertEquals(List.of("nested", "outer", "1"), delivered);
+            assertEquals(0, dispatcher.metrics().dropped());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testLatencyMetrics() throws InterruptedException {
+        EventDispatcher dispatcher = EventDispatcher.newInstance(4, EventOverflowPolicy.DROP_OLDEST);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try {
+            CountDownLatch release = blockDispatcher(dispatcher, delivered);
+            submit(dispatcher, "a", "1", delivered);
+            Thread.sleep(20);
+            release.countDown();
+            awaitDispatched(dispatcher, 2);
+
+            // the queued event waited behind the blocked listener
+            var metrics = dispatcher.metrics();
+            assertEquals(4, metrics.capacity());
+            assertEquals(0, metrics.queueDepth());
+            assertTrue(metrics.maxLatency() >= TimeUnit.MILLISECONDS.toNanos(20));
+            assertTrue(metrics.averageLatency() > 0);
+            assertTrue(metrics.averageLatency() <= metrics.maxLatency());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+}
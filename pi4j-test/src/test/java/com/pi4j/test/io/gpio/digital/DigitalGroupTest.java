@@ -0,0 +1,126 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalGroupTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputGroup;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputGroup;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalGroupTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input and output providers
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance(), MockDigitalOutputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testOutputGroupState() {
+
+        // create a group of three GPIO digital outputs
+        DigitalOutput[] outputs = new DigitalOutput[3];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("test-output-" + i)
+                .address(i + 1)
+                .shutdown(DigitalState.LOW)
+                .build());
+        }
+        DigitalOutputGroup group = DigitalOutputGroup.newInstance(outputs);
+        assertEquals(3, group.size());
+
+        // bit N drives output N
+        group.state(0b101);
+        assertTrue(outputs[0].isHigh());
+        assertTrue(outputs[1].isLow());
+        assertTrue(outputs[2].isHigh());
+        assertEquals(0b101, group.state());
+
+        // only the masked outputs change
+        group.state(0b010, 0b011);
+        assertTrue(outputs[0].isLow());
+        assertTrue(outputs[1].isHigh());
+        assertTrue(outputs[2].isHigh());
+        assertEquals(0b110, group.state());
+
+        // individual writes remain visible to the group
+        outputs[0].high();
+        assertEquals(0b111, group.state());
+        group.close();
+    }
+
+    @Test
+    public void testInputGroupState() {
+
+        // create a group of two GPIO digital inputs
+        DigitalInput[] inputs = new DigitalInput[2];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+                .id("test-input-" + i)
+                .address(i + 10)
+                .build());
+        }
+        DigitalInputGroup group = DigitalInputGroup.newInstance(inputs);
+
+        ((MockDigitalInput) inputs[1]).mockState(DigitalState.HIGH);
+        assertEquals(0b10, group.state());
+        ((MockDigitalInput) inputs[0]).mockState(DigitalState.HIGH);
+        assertEquals(0b11, group.state());
+        group.close();
+    }
+
+    @Test
+    public void testGroupSizeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> DigitalOutputGroup.newInstance());
+    }
+}
@@ -0,0 +1,91 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputEventTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalInputEventTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital iput provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testEventTimestampAndSequence() {
+
+        // create GPIO digital input instance
+        var input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .name("Test Digital Input")
+            .address(1)
+            .build());
+
+        // capture the change events
+        List<DigitalStateChangeEvent> events = new ArrayList<>();
+        input.addListener((DigitalStateChangeListener) events::add);
+
+        // simulate a 1500 microsecond pulse
+        MockDigitalInput mockInput = (MockDigitalInput)input;
+        mockInput.mockState(DigitalState.HIGH, 1_000_000L);
+        mockInput.mockState(DigitalState.LOW, 2_500_000L);
+
+        // ensure the provider timestamps and sequence numbers are preserved
+        assertEquals(2, events.size());
+        assertEquals(DigitalState.HIGH, events.get(0).state());
+        assertEquals(1_500_000L, events.get(1).timestamp() - events.get(0).timestamp());
+        assertEquals(events.get(0).sequence() + 1, events.get(1).sequence());
+    }
+}
@@ -0,0 +1,112 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalSnapshotTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalSnapshot;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DigitalSnapshotTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input and output providers
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance(), MockDigitalOutputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testInputSnapshot() {
+        MockDigitalInput[] inputs = new MockDigitalInput[3];
+        int[] addresses = { 2, 17, 40 };
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+                .id("test-input-" + i)
+                .address(addresses[i])
+                .build());
+        }
+        inputs[0].mockState(DigitalState.HIGH);
+        inputs[1].mockState(DigitalState.LOW);
+        inputs[2].mockState(DigitalState.HIGH);
+
+        DigitalSnapshot snapshot = pi4j.din().snapshot();
+        assertEquals((1L << 2) | (1L << 17) | (1L << 40), snapshot.mask());
+        assertEquals((1L << 2) | (1L << 40), snapshot.levels());
+        assertTrue(snapshot.isHigh(2));
+        assertTrue(snapshot.isLow(17));
+        assertEquals(DigitalState.HIGH, snapshot.state(40));
+        assertFalse(snapshot.contains(3));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.state(3));
+    }
+
+    @Test
+    public void testOutputUpdate() {
+        DigitalOutput[] outputs = new DigitalOutput[4];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("test-output-" + i)
+                .address(i + 4)
+                .initial(DigitalState.LOW)
+                .shutdown(DigitalState.LOW)
+                .build());
+        }
+
+        // set 4 and 6, clear 5; 7 is left alone
+        outputs[3].high();
+        pi4j.dout().update(0b0101_0000L, 0b0010_0000L);
+        assertTrue(outputs[0].isHigh());
+        assertTrue(outputs[1].isLow());
+        assertTrue(outputs[2].isHigh());
+        assertTrue(outputs[3].isHigh());
+        assertEquals(0b1101_0000L, pi4j.dout().snapshot().levels());
+        assertEquals(0b1111_0000L, pi4j.dout().snapshot().mask());
+
+        // addresses without an output, or in both masks, are rejected
+        assertThrows(IllegalArgumentException.class, () -> pi4j.dout().update(1L << 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> pi4j.dout().update(1L << 4, 1L << 4));
+    }
+}
@@ -0,0 +1,105 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalWatchdogTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalWatchdogEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DigitalWatchdogTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testWatchdogConfig() {
+        DigitalInput input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("watchdog-input")
+            .address(4)
+            .watchdog(2L, TimeUnit.SECONDS)
+            .build());
+        assertEquals(2000L, (long) input.config().watchdog());
+
+        DigitalInput other = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("no-watchdog-input")
+            .address(5)
+            .build());
+        assertNull(other.config().watchdog());
+    }
+
+    @Test
+    public void testWatchdogEvents() {
+        MockDigitalInput input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("watchdog-input")
+            .address(4)
+            .watchdog(100L)
+            .build());
+
+        List<DigitalWatchdogEvent> watchdogs = new ArrayList<>();
+        List<DigitalState> changes = new ArrayList<>();
+        input.addWatchdogListener(watchdogs::add);
+        input.addListener(event -> changes.add(event.state()));
+
+        input.mockState(DigitalState.HIGH);
+        input.mockWatchdog();
+
+        // watchdog events are delivered separately from state changes
+        assertEquals(1, changes.size());
+        assertEquals(1, watchdogs.size());
+        assertSame(input, watchdogs.get(0).source());
+        assertEquals(DigitalState.HIGH, watchdogs.get(0).state());
+
+        // sequence numbers are shared with state change events
+        assertEquals(2L, watchdogs.get(0).sequence());
+    }
+}
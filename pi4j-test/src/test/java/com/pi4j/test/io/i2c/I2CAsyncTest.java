@@ -0,0 +1,119 @@
+package com.pi4j.test.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CAsyncTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CBus;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class I2CAsyncTest {
+
+    private static final int I2C_BUS = 1;
+    private static final int I2C_DEVICE = 0x04;
+
+    private Context pi4j;
+    private I2C i2c;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        var config = I2C.newConfigBuilder(pi4j)
+            .id("my-i2c-bus")
+            .name("My I2C Bus")
+            .bus(I2C_BUS)
+            .device(I2C_DEVICE)
+            .build();
+        i2c = pi4j.i2c().create(config);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            i2c.close();
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+        i2c.write((byte) 0x2a);
+        CompletableFuture<Integer> future = i2c.submit(() -> i2c.read());
+        assertEquals(0x2a, (int) future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        // keep the bus busy while the other actions are queued
+        CompletableFuture<Boolean> blocking = i2c.submit(() -> {
+            started.countDown();
+            return release.await(1, TimeUnit.SECONDS);
+        });
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> low = i2c.submit(() -> order.add("low"), I2CBus.Priority.LOW, 0, TimeUnit.MILLISECONDS);
+        CompletableFuture<Boolean> normal = i2c.submit(() -> order.add("normal"));
+        CompletableFuture<Boolean> high = i2c.submit(() -> order.add("high"), I2CBus.Priority.HIGH, 0, TimeUnit.MILLISECONDS);
+        release.countDown();
+
+        CompletableFuture.allOf(blocking, low, normal, high).get(1, TimeUnit.SECONDS);
+        assertEquals(List.of("high", "normal", "low"), order);
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        i2c.submit(() -> release.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Integer> late = i2c.submit(() -> 1, I2CBus.Priority.NORMAL, 10, TimeUnit.MILLISECONDS);
+        Thread.sleep(50);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> late.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+    }
+}
@@ -158,4 +158,39 @@ public class I2CRawDataTest {
             assertArrayEquals(sample, result);
         }
     }
+
+    @Test
+    public void testRawDataDirectAndSlicedBuffers() {
+
+        // create I2C config
+        var config  = I2C.newConfigBuilder(pi4j)
+                .id("my-i2c-bus")
+                .name("My I2C Bus")
+                .bus(I2C_BUS)
+                .device(I2C_DEVICE)
+                .build();
+
+        // use try-with-resources to auto-close I2C when complete
+        try (var i2c = pi4j.i2c().create(config)) {
+
+            // write from a direct buffer and from a heap buffer slice with a non-zero array offset
+            ByteBuffer direct = ByteBuffer.allocateDirect(SAMPLE_BYTE_ARRAY.length);
+            direct.put(SAMPLE_BYTE_ARRAY).flip();
+            assertEquals(SAMPLE_BYTE_ARRAY.length, i2c.write(direct, 0, direct.capacity()));
+            ByteBuffer slice = ByteBuffer.wrap(SAMPLE_BUFFER_ARRAY).position(4).slice();
+            assertEquals(6, i2c.write(slice, 0, slice.capacity()));
+
+            // read into a direct buffer and into a heap buffer slice
+            ByteBuffer read = ByteBuffer.allocateDirect(SAMPLE_BYTE_ARRAY.length);
+            assertEquals(SAMPLE_BYTE_ARRAY.length, i2c.read(read, 0, read.capacity()));
+            byte[] bytes = new byte[SAMPLE_BYTE_ARRAY.length];
+            read.get(0, bytes);
+            assertArrayEquals(SAMPLE_BYTE_ARRAY, bytes);
+
+            byte[] backing = new byte[8];
+            ByteBuffer readSlice = ByteBuffer.wrap(backing).position(2).slice();
+            assertEquals(6, i2c.read(readSlice, 0, readSlice.capacity()));
+            assertArrayEquals(new byte[] { 0, 0, 14, 15, 16, 17, 18, 19 }, backing);
+        }
+    }
 }
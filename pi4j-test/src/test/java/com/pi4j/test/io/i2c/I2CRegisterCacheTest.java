@@ -0,0 +1,167 @@
+package com.pi4j.test.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CRegisterCacheTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CRegister;
+import com.pi4j.io.i2c.I2CRegisterCache;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * The mock I2C device queues register writes and pops them on reads,
+ * so every bus read in these tests consumes a value.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class I2CRegisterCacheTest {
+
+    private static final int I2C_BUS = 1;
+    private static final int I2C_DEVICE = 0x04;
+
+    private Context pi4j;
+    private I2C i2c;
+    private I2CRegisterCache cache;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+        var config = I2C.newConfigBuilder(pi4j)
+            .id("my-i2c-bus")
+            .name("My I2C Bus")
+            .bus(I2C_BUS)
+            .device(I2C_DEVICE)
+            .build();
+        i2c = pi4j.i2c().create(config);
+        cache = I2CRegisterCache.newInstance(i2c)
+            .cacheable(0x00, 0x0f)
+            .volatileRegisters(0x05, 0x05);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            i2c.close();
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testCachedRead() {
+        i2c.writeRegister(0x01, (byte) 0x2a);
+
+        assertEquals(0x2a, cache.readRegister(0x01));
+        assertEquals(0x2a, cache.readRegister(0x01));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testVolatileRead() {
+        i2c.writeRegister(0x05, (byte) 1);
+        i2c.writeRegister(0x05, (byte) 2);
+        i2c.writeRegister(0x20, (byte) 3);
+        i2c.writeRegister(0x20, (byte) 4);
+
+        assertEquals(1, cache.readRegister(0x05));
+        assertEquals(2, cache.readRegister(0x05));
+        assertEquals(3, cache.readRegister(0x20));
+        assertEquals(4, cache.readRegister(0x20));
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    public void testWriteThrough() {
+        cache.writeRegister(0x02, (byte) 7);
+        assertEquals(7, cache.readRegister(0x02));
+        assertEquals(1, cache.hits());
+
+        cache.writeRegister(0x08, new byte[] { 1, 2, 3 });
+        byte[] buffer = new byte[3];
+        assertEquals(3, cache.readRegister(0x08, buffer));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, buffer);
+        assertEquals(2, cache.hits());
+
+        // a write inside the block invalidates it, so the block is read from the bus
+        cache.writeRegister(0x09, (byte) 9);
+        buffer = new byte[3];
+        assertEquals(3, cache.readRegister(0x08, buffer));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, buffer);
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testWriteInvalidate() {
+        cache.writeThrough(false);
+        cache.writeRegister(0x02, (byte) 7);
+        cache.writeRegister(0x02, (byte) 8);
+        assertEquals(7, cache.readRegister(0x02));
+        assertEquals(7, cache.readRegister(0x02));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        cache.cacheable(0x10, 0x10, 20, TimeUnit.MILLISECONDS);
+        i2c.writeRegister(0x10, (byte) 1);
+        i2c.writeRegister(0x10, (byte) 2);
+
+        assertEquals(1, cache.readRegister(0x10));
+        assertEquals(1, cache.readRegister(0x10));
+        Thread.sleep(40);
+        assertEquals(2, cache.readRegister(0x10));
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    public void testCachedRegister() {
+        I2CRegister register = cache.register(0x03);
+        i2c.writeRegister(0x03, (byte) 4);
+
+        assertEquals(4, register.read());
+        assertEquals(4, register.read());
+        assertEquals(1, cache.hits());
+
+        cache.invalidate(0x03);
+        register.write((byte) 5);
+        assertEquals(5, register.read());
+        assertEquals(2, cache.hits());
+    }
+}
@@ -0,0 +1,111 @@
+package com.pi4j.test.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CSmbusBufferTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.pi4j.plugin.linuxfs.provider.i2c.I2CConstants;
+import com.pi4j.plugin.linuxfs.provider.i2c.I2CSmbusBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the encoding of struct i2c_smbus_ioctl_data against the kernel layout
+ * {read_write = 0, command = 1, size = 4, data = 8} without issuing the ioctl.
+ */
+public class I2CSmbusBufferTest {
+
+    private static final int WORD_SIZE = "64".equals(System.getProperty("sun.arch.data.model")) ? 8 : 4;
+
+    /**
+     * Captures the structure and pointer offsets passed to the ioctl.
+     */
+    private static class CapturingSmbusBuffer extends I2CSmbusBuffer {
+        ByteBuffer data;
+        int[] offsets;
+
+        CapturingSmbusBuffer() {
+            super(null);
+        }
+
+        @Override
+        protected void ioctl(ByteBuffer data, IntBuffer offsets) {
+            this.data = data;
+            this.offsets = new int[offsets.remaining()];
+            offsets.duplicate().get(this.offsets);
+        }
+    }
+
+    @Test
+    public void testStructureLayout() {
+        assertEquals(0, I2CSmbusBuffer.READ_WRITE_OFFSET);
+        assertEquals(1, I2CSmbusBuffer.COMMAND_OFFSET);
+        assertEquals(4, I2CSmbusBuffer.SIZE_OFFSET);
+        assertEquals(8, I2CSmbusBuffer.DATA_POINTER_OFFSET);
+        assertEquals(8 + WORD_SIZE, I2CSmbusBuffer.DATA_OFFSET);
+    }
+
+    @Test
+    public void testWriteByteDataEncoding() throws IOException {
+        CapturingSmbusBuffer buffer = new CapturingSmbusBuffer();
+        buffer.writeByteData(0x42, (byte) 0x7f);
+
+        assertEquals(I2CConstants.I2C_SMBUS_WRITE, buffer.data.get(0));
+        assertEquals(0x42, buffer.data.get(1));
+        assertEquals(I2CConstants.I2C_SMBUS_BYTE_DATA, buffer.data.getInt(4));
+        assertArrayEquals(new int[] { 8, 8 + WORD_SIZE }, buffer.offsets);
+        assertEquals(0x7f, buffer.data.get(8 + WORD_SIZE));
+    }
+
+    @Test
+    public void testReadWordDataEncoding() throws IOException {
+        CapturingSmbusBuffer buffer = new CapturingSmbusBuffer();
+        buffer.readWordData(0xa5);
+
+        assertEquals(I2CConstants.I2C_SMBUS_READ, buffer.data.get(0));
+        assertEquals((byte) 0xa5, buffer.data.get(1));
+        assertEquals(I2CConstants.I2C_SMBUS_WORD_DATA, buffer.data.getInt(4));
+        assertArrayEquals(new int[] { 8, 8 + WORD_SIZE }, buffer.offsets);
+    }
+
+    @Test
+    public void testI2CBlockDataEncoding() throws IOException {
+        CapturingSmbusBuffer buffer = new CapturingSmbusBuffer();
+        buffer.writeI2CBlockData(0x10, new byte[] { 0, 1, 2, 3, 4 }, 1, 3);
+
+        assertEquals(I2CConstants.I2C_SMBUS_WRITE, buffer.data.get(0));
+        assertEquals(0x10, buffer.data.get(1));
+        assertEquals(I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA, buffer.data.getInt(4));
+        assertEquals(3, buffer.data.get(8 + WORD_SIZE));
+        assertEquals(1, buffer.data.get(9 + WORD_SIZE));
+        assertEquals(2, buffer.data.get(10 + WORD_SIZE));
+        assertEquals(3, buffer.data.get(11 + WORD_SIZE));
+    }
+}
@@ -0,0 +1,122 @@
+package com.pi4j.test.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CTransactionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CTransaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class I2CTransactionTest {
+
+    private static final int I2C_BUS = 1;
+    private static final int I2C_DEVICE = 0x04;
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private I2C createI2C() {
+        var config = I2C.newConfigBuilder(pi4j)
+            .id("my-i2c-bus")
+            .name("My I2C Bus")
+            .bus(I2C_BUS)
+            .device(I2C_DEVICE)
+            .build();
+        return pi4j.i2c().create(config);
+    }
+
+    @Test
+    public void testTransferSegments() {
+        try (var i2c = createI2C()) {
+            byte[] first = new byte[2];
+            byte[] second = new byte[5];
+            I2CTransaction transaction = i2c.newTransaction()
+                .write((byte) 1, (byte) 2)
+                .write(new byte[] { 0, 3, 4, 5, 0 }, 1, 3)
+                .read(first)
+                .read(second, 2, 3)
+                .build();
+
+            assertEquals(4, transaction.size());
+            assertEquals(5, transaction.writeLength());
+            assertEquals(5, transaction.readLength());
+
+            // the mock device returns the written bytes in order
+            assertEquals(5, i2c.transfer(transaction));
+            assertArrayEquals(new byte[] { 1, 2 }, first);
+            assertArrayEquals(new byte[] { 0, 0, 3, 4, 5 }, second);
+        }
+    }
+
+    @Test
+    public void testSegmentsForOtherDevices() {
+        try (var i2c = createI2C()) {
+            I2CTransaction transaction = i2c.newTransaction()
+                .write((byte) 1)
+                .read(I2C_DEVICE + 1, new byte[1], 0, 1)
+                .build();
+            assertThrows(UnsupportedOperationException.class, () -> i2c.transfer(transaction));
+        }
+    }
+
+    @Test
+    public void testInvalidTransactions() {
+        assertThrows(IllegalStateException.class, () -> I2CTransaction.newBuilder(I2C_DEVICE).build());
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> I2CTransaction.newBuilder(I2C_DEVICE).read(new byte[2], 1, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> I2CTransaction.newBuilder(0x80).write((byte) 1));
+
+        I2CTransaction.Builder builder = I2CTransaction.newBuilder(I2C_DEVICE);
+        for (int i = 0; i <= I2CTransaction.MAX_SEGMENTS; i++) {
+            builder.write((byte) i);
+        }
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pi4j.test.io.serial;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  SerialListenerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialDataEvent;
+import com.pi4j.io.serial.SerialDataListener;
+import com.pi4j.io.serial.SerialFraming;
+import com.pi4j.plugin.mock.provider.serial.MockSerialProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SerialListenerTest {
+
+    private Context pi4j;
+    private Serial serial;
+
+    @BeforeEach
+    public void beforeEach() {
+        pi4j = Pi4J.newContextBuilder()
+                .add(MockSerialProvider.newInstance())
+                .build();
+
+        // the mock serial port loops written data back to its input
+        serial = pi4j.create(Serial.newConfigBuilder(pi4j)
+                .id("my-serial")
+                .device("mock-serial-port")
+                .build());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        pi4j.shutdown();
+    }
+
+    private static String next(BlockingQueue<SerialDataEvent> events) throws InterruptedException {
+        SerialDataEvent event = events.poll(2, TimeUnit.SECONDS);
+        assertNotNull(event);
+        return event.asString();
+    }
+
+    @Test
+    public void testDelimitedFrames() throws Exception {
+        BlockingQueue<SerialDataEvent> frames = new LinkedBlockingQueue<>();
+        serial.addListener(SerialFraming.delimiter("\r\n"), frames::add);
+
+        serial.write("first\r\nsec".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("first", next(frames));
+
+        serial.write("ond\r".getBytes(StandardCharsets.US_ASCII));
+        serial.write("\n\r\nthird\r\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("second", next(frames));
+        assertEquals("", next(frames));
+        assertEquals("third", next(frames));
+    }
+
+    @Test
+    public void testRawAndLengthPrefixedListeners() throws Exception {
+        BlockingQueue<SerialDataEvent> raw = new LinkedBlockingQueue<>();
+        BlockingQueue<SerialDataEvent> frames = new LinkedBlockingQueue<>();
+        SerialDataListener rawListener = raw::add;
+        SerialDataListener frameListener = frames::add;
+        serial.addListener(rawListener);
+        serial.addListener(SerialFraming.lengthPrefixed(2), frameListener);
+
+        serial.write(new byte[] { 0, 3, 'a', 'b', 'c', 0, 2, 'd' });
+        serial.write(new byte[] { 'e', 0, 0 });
+        assertEquals("abc", next(frames));
+        assertEquals("de", next(frames));
+        assertEquals("", next(frames));
+
+        // the raw listener received every byte, in order
+        StringBuilder received = new StringBuilder();
+        while (received.length() < 11) {
+            received.append(next(raw));
+        }
+        assertEquals("\0\3abc\0\2de\0\0", received.toString());
+
+        // without listeners nothing is read from the port anymore
+        serial.removeListener(rawListener, frameListener);
+        serial.write((byte) 'x');
+        Thread.sleep(50);
+        assertEquals(1, serial.available());
+    }
+
+    @Test
+    public void testIdleFrames() throws Exception {
+        BlockingQueue<SerialDataEvent> frames = new LinkedBlockingQueue<>();
+        serial.addListener(SerialFraming.idle(50, TimeUnit.MILLISECONDS), frames::add);
+
+        serial.write("abc".getBytes(StandardCharsets.US_ASCII));
+        Thread.sleep(10);
+        serial.write("def".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("abcdef", next(frames));
+
+        serial.write("ghi".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("ghi", next(frames));
+    }
+
+    @Test
+    public void testListenersAfterReopen() throws Exception {
+        BlockingQueue<SerialDataEvent> raw = new LinkedBlockingQueue<>();
+        BlockingQueue<SerialDataEvent> frames = new LinkedBlockingQueue<>();
+        serial.addListener(raw::add);
+        serial.addListener(SerialFraming.delimiter("\n"), frames::add);
+
+        serial.write("a\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("a\n", next(raw));
+        assertEquals("a", next(frames));
+
+        // the listeners are kept when the port is closed and receive data again once it is re-opened
+        serial.close();
+        serial.open();
+        serial.write("b\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("b\n", next(raw));
+        assertEquals("b", next(frames));
+    }
+}
@@ -0,0 +1,159 @@
+package com.pi4j.test.io.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  SpiStreamTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiChipSelect;
+import com.pi4j.io.spi.SpiStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpiStreamTest {
+
+    private static final byte[] FRAME = new byte[] { 0x01, (byte) 0x80, 0x00 };
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private Spi createSpi() {
+        var config = Spi.newConfigBuilder(pi4j)
+            .id("my-spi")
+            .chipSelect(SpiChipSelect.CS_0)
+            .bus(SpiBus.BUS_0)
+            .build();
+        return pi4j.spi().create(config);
+    }
+
+    @Test
+    public void testStreamBlocks() throws InterruptedException {
+        try (var spi = createSpi();
+             SpiStream stream = spi.newStream().frame(FRAME).rate(500).framesPerBlock(8).blocks(4).build()) {
+            stream.start();
+            assertTrue(stream.isRunning());
+
+            for (int b = 0; b < 10; b++) {
+                SpiStream.Block block = stream.poll(5, TimeUnit.SECONDS);
+                assertNotNull(block);
+                assertEquals(8, block.frames());
+                assertEquals(8 * FRAME.length, block.data().capacity());
+
+                // the mock returns the previously written frame, so all but the very first frame echo the template
+                for (int f = b == 0 ? 1 : 0; f < block.frames(); f++) {
+                    for (int i = 0; i < FRAME.length; i++) {
+                        assertEquals(FRAME[i], block.data().get(f * FRAME.length + i));
+                    }
+                }
+                block.release();
+            }
+
+            stream.stop();
+            assertFalse(stream.isRunning());
+            assertTrue(stream.blocks() >= 10);
+            // the stream paces its blocks to the configured rate
+            assertEquals(500, stream.rate(), 500 * 0.1, "rate=" + stream.rate());
+            assertTrue(stream.maxJitterNanos() >= stream.meanJitterNanos());
+        }
+    }
+
+    @Test
+    public void testOverrun() throws InterruptedException {
+        try (var spi = createSpi();
+             SpiStream stream = spi.newStream().frame(FRAME).rate(10000).framesPerBlock(2).blocks(1).build()) {
+            stream.start();
+
+            // hold on to the only block of the ring, so further blocks are dropped
+            SpiStream.Block block = stream.poll(5, TimeUnit.SECONDS);
+            assertNotNull(block);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (stream.overruns() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(stream.overruns() > 0);
+            assertSame(block, stream.poll());
+
+            block.release();
+            assertNotNull(stream.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testInvalidStreams() {
+        try (var spi = createSpi()) {
+            assertThrows(IllegalStateException.class, () -> spi.newStream().rate(1000).build());
+            assertThrows(IllegalStateException.class, () -> spi.newStream().frame(FRAME).build());
+            assertThrows(IllegalStateException.class, () -> spi.newStream().frame(FRAME).rate(1000).blocks(0).build());
+        }
+    }
+
+    @Test
+    public void testResetStatistics() throws InterruptedException {
+        try (var spi = createSpi();
+             SpiStream stream = spi.newStream().frame(FRAME).rate(2000).framesPerBlock(8).blocks(4).build()) {
+            stream.start();
+            for (int b = 0; b < 5; b++) {
+                SpiStream.Block block = stream.poll(5, TimeUnit.SECONDS);
+                assertNotNull(block);
+                block.release();
+            }
+
+            // the acquisition thread restarts its statistics with the next block
+            long before = stream.blocks();
+            assertTrue(before >= 5);
+            stream.resetStatistics();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (stream.blocks() >= before && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(stream.blocks() < before, "blocks=" + stream.blocks());
+            stream.stop();
+
+            // a stopped stream is reset immediately
+            stream.resetStatistics();
+            assertEquals(0, stream.blocks());
+            assertEquals(0.0, stream.rate());
+        }
+    }
+}
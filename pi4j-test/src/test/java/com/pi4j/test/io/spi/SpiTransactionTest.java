@@ -0,0 +1,117 @@
+package com.pi4j.test.io.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  SpiTransactionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiChipSelect;
+import com.pi4j.io.spi.SpiTransaction;
+import com.pi4j.plugin.mock.provider.spi.MockSpi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpiTransactionTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().autoDetectMockPlugins().autoDetectPlatforms().build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private Spi createSpi() {
+        var config = Spi.newConfigBuilder(pi4j)
+            .id("my-spi")
+            .chipSelect(SpiChipSelect.CS_0)
+            .bus(SpiBus.BUS_0)
+            .build();
+        return pi4j.spi().create(config);
+    }
+
+    @Test
+    public void testCommandThenData() {
+        try (var spi = createSpi()) {
+            // prepare the bytes returned while clocking the transaction
+            spi.write(new byte[] { 0, 0, 0x11, 0x22, 0x33 });
+
+            byte[] data = new byte[3];
+            SpiTransaction transaction = SpiTransaction.newBuilder()
+                .write((byte) 0x0b, (byte) 0x40)
+                .read(data)
+                .build();
+            assertEquals(2, transaction.size());
+            assertEquals(5, transaction.length());
+
+            assertEquals(5, spi.transfer(transaction));
+            assertArrayEquals(new byte[] { 0x11, 0x22, 0x33 }, data);
+
+            // the command was clocked out, followed by zeros for the read segment
+            assertArrayEquals(new byte[] { 0x0b, 0x40, 0, 0, 0 }, ((MockSpi) spi).readEntireMockBuffer());
+        }
+    }
+
+    @Test
+    public void testSegmentOptions() {
+        SpiTransaction transaction = SpiTransaction.newBuilder()
+            .write((byte) 0x01).csChange().delay(10)
+            .read(new byte[2]).speed(500000).bitsPerWord(8)
+            .build();
+        SpiTransaction.Segment first = transaction.segments().get(0);
+        SpiTransaction.Segment second = transaction.segments().get(1);
+        assertTrue(first.csChange());
+        assertEquals(10, first.delayMicros());
+        assertEquals(0, first.speedHz());
+        assertFalse(second.csChange());
+        assertEquals(500000, second.speedHz());
+        assertEquals(8, second.bitsPerWord());
+
+        // the mock provider only supports plain transactions
+        try (var spi = createSpi()) {
+            assertThrows(UnsupportedOperationException.class, () -> spi.transfer(transaction));
+        }
+    }
+
+    @Test
+    public void testInvalidTransactions() {
+        assertThrows(IllegalStateException.class, () -> SpiTransaction.newBuilder().build());
+        assertThrows(IllegalStateException.class, () -> SpiTransaction.newBuilder().csChange());
+        assertThrows(IllegalArgumentException.class, () -> SpiTransaction.newBuilder().write((byte) 1).delay(0x10000));
+        assertThrows(IndexOutOfBoundsException.class, () -> SpiTransaction.newBuilder().read(new byte[2], 1, 2));
+    }
+}
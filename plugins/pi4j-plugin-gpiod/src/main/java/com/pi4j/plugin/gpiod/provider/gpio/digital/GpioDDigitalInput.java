@@ -8,8 +8,6 @@ import com.pi4j.library.gpiod.internal.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Future;
-
 /**
  * <p>PiGpioDigitalOutput class.</p>
  *
@@ -18,12 +16,12 @@ import java.util.concurrent.Future;
  */
 public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInput.class);
-    private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
     private final GpioLine line;
     private final long debounceNs;
-    private volatile boolean inputListenerRun;
-    private volatile boolean inputListenerActive;
-    private Future<?> inputListener;
+    private boolean registered;
+    private DigitalState lastState = null;
+    private GpioDDigitalInputGroup group;
+    private int groupIndex;
 
     /**
      * <p>Constructor for GpioDDigitalInput.</p>
@@ -49,110 +47,92 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
             if (this.line.getDirection() == LineDirection.OUTPUT)
                 GpioDContext.getInstance().closeLine(this.line);
 
-            switch (this.config.getPull()) {
-                case PULL_UP:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_PULL_UP.getVal());
-                    break;
-                case PULL_DOWN:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_PULL_DOWN.getVal());
-                    break;
-                case OFF:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_DISABLE.getVal());
-                    break;
-            }
+            requestLine();
         } catch (GpioDException e) {
             throw new InitializeException("Failed to initialize input " + this.id, e);
         }
         super.initialize(context);
 
-        this.inputListenerRun = true;
-        this.inputListener = context.submitTask(this::monitorLineEvents);
+        // edge events of all inputs are monitored and debounced on the shared event loop thread
+        GpioDContext.getInstance().getEventLoop().register(this.line, this.debounceNs, this::onLineEvent);
+        this.registered = true;
         return this;
     }
 
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
         super.shutdown(context);
-        if (this.inputListener != null)
-            shutdownInputListener();
-        return this;
-    }
-
-    private void shutdownInputListener() {
-        this.inputListenerRun = true;
-        if (!this.inputListenerActive)
-            return;
-        if (this.inputListener.isDone())
-            return;
-
-        if (!this.inputListener.cancel(true))
-            logger.error("Failed to cancel input listener!");
-
-        long start = System.currentTimeMillis();
-        while (this.inputListenerActive) {
-            if (System.currentTimeMillis() - start > 5000L)
-                throw new IllegalArgumentException("Input listener didn't stop in 5s");
-            try {
-                Thread.sleep(0L, 500);
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted, while waiting for input listener to stop");
-            }
+        if (this.registered) {
+            GpioDContext.getInstance().getEventLoop().unregister(this.line);
+            this.registered = false;
+            logger.info("Shutdown input listener for {}", this.id);
         }
-
-        logger.info("Shutdown input listener for {}", this.id);
+        return this;
     }
 
     @Override
     public DigitalState state() {
+        GpioDDigitalInputGroup group = this.group;
+        // the line of a grouped input can only be read through its bulk request
+        if (group != null) {
+            DigitalState state = group.state(this.groupIndex);
+            if (state != null)
+                return state;
+        }
         return DigitalState.getState(this.line.getValue());
     }
 
-    private void monitorLineEvents() {
-        this.inputListenerActive = true;
-        GpioDContext gpioDContext = GpioDContext.getInstance();
-        DigitalState lastState = null;
-        GpioLineEvent lineEvent = GpioDContext.getInstance().openLineEvent();
-
-        try {
-            while (this.inputListenerRun && this.inputListener != null && !this.inputListener.isCancelled()) {
-                long debounceNs = this.debounceNs;
-                // We have to use this function before calling eventRead() directly, since native methods can't be interrupted.
-                // eventRead() is blocking and prevents thread interrupt while running
-                while (!this.line.eventWait(inputMaxWaitNs)) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-                }
+    GpioLine line() {
+        return this.line;
+    }
 
-                this.line.eventRead(lineEvent);
-                long currentTime = System.nanoTime();
+    int lineFlags() {
+        switch (this.config.getPull()) {
+            case PULL_UP:
+                return LineRequestFlag.BIAS_PULL_UP.getVal();
+            case PULL_DOWN:
+                return LineRequestFlag.BIAS_PULL_DOWN.getVal();
+            default:
+                return LineRequestFlag.BIAS_DISABLE.getVal();
+        }
+    }
 
-                // Perform debouncing
-                // If the event is too new to be sure that it is debounced then ...
-                while (lineEvent.getTimeNs() + debounceNs >= currentTime) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
+    private void requestLine() {
+        this.line.requestBothEdgeEventsFlags(this.config.getId(), lineFlags());
+    }
 
-                    // ... wait for remaining debounce time and watch out for new event(s)
-                    if (this.line.eventWait(
-                        Math.min(inputMaxWaitNs, lineEvent.getTimeNs() + debounceNs - currentTime))) {
-                        // Repeat if a second event occurred withing debounce interval
-                        this.line.eventRead(lineEvent);
-                    }
+    /**
+     * Stop monitoring the line so it can be requested by the group; no change events are
+     * dispatched while the input is grouped.
+     */
+    synchronized void joinGroup(GpioDDigitalInputGroup group, int index) {
+        if (this.registered)
+            GpioDContext.getInstance().getEventLoop().unregister(this.line);
+        GpioDContext.getInstance().closeLine(this.line);
+        this.group = group;
+        this.groupIndex = index;
+    }
 
-                    currentTime = System.nanoTime();
-                }
+    /**
+     * Request the line for edge events again after the group released it.
+     */
+    synchronized void leaveGroup() {
+        this.group = null;
+        requestLine();
+        this.lastState = DigitalState.getState(this.line.getValue());
+        if (this.registered)
+            GpioDContext.getInstance().getEventLoop().register(this.line, this.debounceNs, this::onLineEvent);
+    }
 
-                // Apply event only if the new state is not the same as the last state.
-                DigitalState newState = DigitalState.getState(lineEvent.getType() == LineEvent.RISING_EDGE);
-                if (lastState != newState) {
-                    lastState = newState;
-                    this.dispatch(new DigitalStateChangeEvent<>(this, newState));
-                }
-            }
-        } finally {
-            if (lineEvent != null)
-                gpioDContext.closeLineEvent(lineEvent);
-            this.inputListenerActive = false;
+    /**
+     * Invoked on the event loop thread with each debounced edge event of this line.
+     */
+    private void onLineEvent(GpioLine line, LineEvent type, long timestampNs) {
+        // Apply event only if the new state is not the same as the last state.
+        DigitalState newState = DigitalState.getState(type == LineEvent.RISING_EDGE);
+        if (this.lastState != newState) {
+            this.lastState = newState;
+            this.dispatch(new DigitalStateChangeEvent<>(this, newState, timestampNs));
         }
     }
 }
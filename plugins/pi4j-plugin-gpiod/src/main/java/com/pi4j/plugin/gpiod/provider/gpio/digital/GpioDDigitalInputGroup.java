@@ -0,0 +1,146 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: GPIOD I/O Providers
+ * FILENAME      :  GpioDDigitalInputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputGroup;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLine;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>GpioDDigitalInputGroup class.</p>
+ * <p>
+ * Requests the lines of all inputs of the group as one bulk request, so every read of the
+ * group samples all lines with a single ioctl.  Edge events are only available for lines
+ * requested individually, so the inputs do not dispatch change events while the group is open.
+ *
+ * @version $Id: $Id
+ */
+public class GpioDDigitalInputGroup implements DigitalInputGroup {
+    private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInputGroup.class);
+
+    private final List<GpioDDigitalInput> members;
+    private final List<DigitalInput> inputs;
+    private final GpioLineBulk bulk;
+    private final int[] values;
+    private boolean closed = false;
+
+    /**
+     * <p>Constructor for GpioDDigitalInputGroup.</p>
+     *
+     * @param members the inputs in bit order (bit 0 is the first input); all with the same pull resistance
+     */
+    GpioDDigitalInputGroup(List<GpioDDigitalInput> members) {
+        this.members = List.copyOf(members);
+        this.inputs = List.copyOf(members);
+        List<GpioLine> lines = new ArrayList<>();
+        for (GpioDDigitalInput member : members)
+            lines.add(member.line());
+        this.bulk = new GpioLineBulk(lines);
+        this.values = new int[members.size()];
+    }
+
+    /**
+     * Move the lines of all members from their individual edge event requests to the bulk request.
+     */
+    synchronized void open() {
+        for (int i = 0; i < this.values.length; i++)
+            this.members.get(i).joinGroup(this, i);
+        try {
+            this.bulk.requestInputFlags(this.members.get(0).id(), this.members.get(0).lineFlags());
+        } catch (GpioDException e) {
+            this.closed = true;
+            restoreLines();
+            throw new IOException("Failed to request lines for input group " + this.inputs, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DigitalInput> inputs() {
+        return this.inputs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long state() throws IOException {
+        if (this.closed)
+            throw new IOException("Input group " + this.inputs + " is closed");
+        try {
+            this.bulk.getValues(this.values);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to read state of input group " + this.inputs, e);
+        }
+        long state = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != 0)
+                state |= 1L << i;
+        }
+        return state;
+    }
+
+    /**
+     * Read the state of a single member through the bulk request.
+     *
+     * @return the state or null if the group has been closed and the member owns its line again
+     */
+    synchronized DigitalState state(int index) {
+        if (this.closed)
+            return null;
+        this.bulk.getValues(this.values);
+        return DigitalState.getState(this.values[index]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.bulk.release();
+        restoreLines();
+    }
+
+    private void restoreLines() {
+        for (GpioDDigitalInput member : this.members) {
+            try {
+                member.leaveGroup();
+            } catch (GpioDException e) {
+                logger.error("Failed to restore line of input " + member.id(), e);
+            }
+        }
+    }
+}
@@ -4,14 +4,19 @@ package com.pi4j.plugin.gpiod.provider.gpio.digital;
 import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalGroupProvider;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputGroup;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
 import com.pi4j.library.gpiod.internal.GpioDContext;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
-public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase implements GpioDDigitalInputProvider {
+import java.util.ArrayList;
+import java.util.List;
+
+public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase implements GpioDDigitalInputProvider, DigitalGroupProvider {
 
     /**
      * <p>Constructor for GpioDDigitalInputProviderImpl.</p>
@@ -33,6 +38,27 @@ public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase impl
         return digitalInput;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lines of the inputs are requested as a single bulk request so they are read with one ioctl.
+     */
+    @Override
+    public DigitalInputGroup createInputGroup(List<DigitalInput> inputs) {
+        List<GpioDDigitalInput> members = new ArrayList<>();
+        for (DigitalInput input : inputs) {
+            if (!(input instanceof GpioDDigitalInput) || members.contains(input))
+                return null;
+            // a bulk request applies the same bias flags to all lines
+            if (!members.isEmpty() && members.get(0).lineFlags() != ((GpioDDigitalInput) input).lineFlags())
+                return null;
+            members.add((GpioDDigitalInput) input);
+        }
+        GpioDDigitalInputGroup group = new GpioDDigitalInputGroup(members);
+        group.open();
+        return group;
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
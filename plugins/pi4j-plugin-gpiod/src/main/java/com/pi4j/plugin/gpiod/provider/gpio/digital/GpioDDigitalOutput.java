@@ -45,6 +45,8 @@ import com.pi4j.library.gpiod.internal.LineDirection;
  */
 public class GpioDDigitalOutput extends DigitalOutputBase implements DigitalOutput {
     private final GpioLine line;
+    private GpioDDigitalOutputGroup group;
+    private int groupIndex;
 
     /**
      * <p>Constructor for GpioDDigitalOutput.</p>
@@ -71,7 +73,7 @@ public class GpioDDigitalOutput extends DigitalOutputBase implements DigitalOutp
                 initialState = this.config.initialState().value().intValue();
             if (this.line.getDirection() == LineDirection.INPUT)
                 GpioDContext.getInstance().closeLine(this.line);
-            this.line.requestOutput(this.config.getId(), initialState);
+            requestLine(initialState);
         } catch (GpioDException e) {
             throw new InitializeException("Failed to initialize output " + this.id, e);
         }
@@ -91,10 +93,37 @@ public class GpioDDigitalOutput extends DigitalOutputBase implements DigitalOutp
     @Override
     public DigitalOutput state(DigitalState state) throws IOException {
         try {
-            this.line.setValue(state.value().intValue());
+            GpioDDigitalOutputGroup group = this.group;
+            // the line of a grouped output can only be written through its bulk request
+            if (group == null || !group.state(this.groupIndex, state))
+                this.line.setValue(state.value().intValue());
         } catch (GpioDException e) {
             throw new IOException("Failed to set state for output " + this.id + " to " + state, e);
         }
         return super.state(state);
     }
+
+    GpioLine line() {
+        return this.line;
+    }
+
+    void requestLine(int value) {
+        this.line.requestOutput(this.config.getId(), value);
+    }
+
+    void joinGroup(GpioDDigitalOutputGroup group, int index) {
+        this.group = group;
+        this.groupIndex = index;
+    }
+
+    void leaveGroup() {
+        this.group = null;
+    }
+
+    /**
+     * Update the cached state and notify the listeners after the line has been written by the group.
+     */
+    void groupStateChanged(DigitalState state) {
+        super.state(state);
+    }
 }
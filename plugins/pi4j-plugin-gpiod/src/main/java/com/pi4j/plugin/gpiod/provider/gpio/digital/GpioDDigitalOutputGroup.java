@@ -0,0 +1,186 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: GPIOD I/O Providers
+ * FILENAME      :  GpioDDigitalOutputGroup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputGroup;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLine;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>GpioDDigitalOutputGroup class.</p>
+ * <p>
+ * Requests the lines of all outputs of the group as one bulk request, so every write of the
+ * group sets all lines with a single ioctl.  The kernel only accepts writes of a bulk request
+ * through the whole bulk, so while the group is open a write of a single output rewrites all
+ * lines of the group with their cached values.
+ *
+ * @version $Id: $Id
+ */
+public class GpioDDigitalOutputGroup implements DigitalOutputGroup {
+    private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalOutputGroup.class);
+
+    private final List<GpioDDigitalOutput> members;
+    private final List<DigitalOutput> outputs;
+    private final GpioLineBulk bulk;
+    private final int[] values;
+    private boolean closed = false;
+
+    /**
+     * <p>Constructor for GpioDDigitalOutputGroup.</p>
+     *
+     * @param members the outputs in bit order (bit 0 is the first output)
+     */
+    GpioDDigitalOutputGroup(List<GpioDDigitalOutput> members) {
+        this.members = List.copyOf(members);
+        this.outputs = List.copyOf(members);
+        List<GpioLine> lines = new ArrayList<>();
+        for (GpioDDigitalOutput member : members)
+            lines.add(member.line());
+        this.bulk = new GpioLineBulk(lines);
+        this.values = new int[members.size()];
+    }
+
+    /**
+     * Move the lines of all members from their individual requests to the bulk request. The
+     * current output states are kept as initial values of the bulk request.
+     */
+    synchronized void open() {
+        for (int i = 0; i < this.values.length; i++) {
+            GpioDDigitalOutput member = this.members.get(i);
+            this.values[i] = member.state().value().intValue();
+            GpioDContext.getInstance().closeLine(member.line());
+        }
+        try {
+            this.bulk.requestOutputFlags(this.members.get(0).id(), 0, this.values);
+        } catch (GpioDException e) {
+            restoreLines();
+            throw new IOException("Failed to request lines for output group " + this.outputs, e);
+        }
+        for (int i = 0; i < this.values.length; i++)
+            this.members.get(i).joinGroup(this, i);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DigitalOutput> outputs() {
+        return this.outputs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutputGroup state(long values) throws IOException {
+        long changed = 0;
+        synchronized (this) {
+            if (this.closed)
+                throw new IOException("Output group " + this.outputs + " is closed");
+            int[] previous = this.values.clone();
+            for (int i = 0; i < this.values.length; i++)
+                this.values[i] = (int) ((values >>> i) & 1);
+            try {
+                this.bulk.setValues(this.values);
+            } catch (GpioDException e) {
+                System.arraycopy(previous, 0, this.values, 0, previous.length);
+                throw new IOException("Failed to set state for output group " + this.outputs, e);
+            }
+            for (int i = 0; i < this.values.length; i++) {
+                if (this.values[i] != previous[i])
+                    changed |= 1L << i;
+            }
+        }
+
+        // update the cached output states and notify the listeners outside of the lock
+        while (changed != 0) {
+            int i = Long.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            this.members.get(i).groupStateChanged(DigitalState.getState(((values >>> i) & 1) != 0));
+        }
+        return this;
+    }
+
+    /**
+     * Write the state of a single member through the bulk request.
+     *
+     * @return false if the group has been closed and the member owns its line again
+     */
+    synchronized boolean state(int index, DigitalState state) {
+        if (this.closed)
+            return false;
+        int previous = this.values[index];
+        this.values[index] = state.value().intValue();
+        try {
+            this.bulk.setValues(this.values);
+        } catch (GpioDException e) {
+            this.values[index] = previous;
+            throw e;
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long state() {
+        long state = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != 0)
+                state |= 1L << i;
+        }
+        return state;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        for (GpioDDigitalOutput member : this.members)
+            member.leaveGroup();
+        this.bulk.release();
+        restoreLines();
+    }
+
+    private void restoreLines() {
+        for (int i = 0; i < this.values.length; i++) {
+            try {
+                this.members.get(i).requestLine(this.values[i]);
+            } catch (GpioDException e) {
+                logger.error("Failed to restore line of output " + this.members.get(i).id(), e);
+            }
+        }
+    }
+}
@@ -30,20 +30,25 @@ package com.pi4j.plugin.gpiod.provider.gpio.digital;
 import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalGroupProvider;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputGroup;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
 import com.pi4j.library.gpiod.internal.GpioDContext;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p>PiGpioDigitalOutputProviderImpl class.</p>
  *
  * @author Alexander Liggesmeyer (<a href="https://alexander.liggesmeyer.net/">https://alexander.liggesmeyer.net/</a>)
  * @version $Id: $Id
  */
-public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase implements GpioDDigitalOutputProvider {
+public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase implements GpioDDigitalOutputProvider, DigitalGroupProvider {
 
     /**
      * <p>Constructor for PiGpioDigitalOutputProviderImpl.</p>
@@ -65,6 +70,24 @@ public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase im
         return digitalOutput;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lines of the outputs are requested as a single bulk request so they are written with one ioctl.
+     */
+    @Override
+    public DigitalOutputGroup createOutputGroup(List<DigitalOutput> outputs) {
+        List<GpioDDigitalOutput> members = new ArrayList<>();
+        for (DigitalOutput output : outputs) {
+            if (!(output instanceof GpioDDigitalOutput) || members.contains(output))
+                return null;
+            members.add((GpioDDigitalOutput) output);
+        }
+        GpioDDigitalOutputGroup group = new GpioDDigitalOutputGroup(members);
+        group.open();
+        return group;
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
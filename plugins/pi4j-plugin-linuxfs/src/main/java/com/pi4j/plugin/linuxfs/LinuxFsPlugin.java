@@ -37,6 +37,7 @@ import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
 import com.pi4j.plugin.linuxfs.provider.pwm.LinuxFsPwmProvider;
 import com.pi4j.plugin.linuxfs.internal.LinuxPwm;
+import com.pi4j.plugin.linuxfs.provider.serial.LinuxFsSerialProvider;
 import com.pi4j.plugin.linuxfs.provider.spi.LinuxFsSpiProvider;
 import com.pi4j.provider.Provider;
 import org.slf4j.Logger;
@@ -105,9 +106,9 @@ public class LinuxFsPlugin implements Plugin {
     public static final String SPI_PROVIDER_NAME = NAME + " SPI Provider";
     public static final String SPI_PROVIDER_ID = ID + "-spi";
 
-//    // Serial Provider name and unique ID
-//    public static final String SERIAL_PROVIDER_NAME = NAME + " Serial Provider";
-//    public static final String SERIAL_PROVIDER_ID = ID + "-serial";
+    // Serial Provider name and unique ID
+    public static final String SERIAL_PROVIDER_NAME = NAME + " Serial Provider";
+    public static final String SERIAL_PROVIDER_ID = ID + "-serial";
 
     public static String DEFAULT_GPIO_FILESYSTEM_PATH = LinuxGpio.DEFAULT_SYSTEM_PATH;
     public static String DEFAULT_PWM_FILESYSTEM_PATH = LinuxPwm.DEFAULT_SYSTEM_PATH;
@@ -157,7 +158,8 @@ public class LinuxFsPlugin implements Plugin {
             LinuxFsDigitalOutputProvider.newInstance(gpioFileSystemPath),
             LinuxFsPwmProvider.newInstance(pwmFileSystemPath, pwmChip),
             LinuxFsI2CProvider.newInstance(),
-            LinuxFsSpiProvider.newInstance()
+            LinuxFsSpiProvider.newInstance(),
+            LinuxFsSerialProvider.newInstance()
         };
 
         // register the LinuxFS I/O Providers with the plugin service
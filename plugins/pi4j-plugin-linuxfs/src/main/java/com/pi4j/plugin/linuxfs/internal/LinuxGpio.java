@@ -49,6 +49,9 @@ public class LinuxGpio {
     protected final int address;
     protected final String pinPath;
 
+    // the 'value' file stays open while the pin is exported
+    protected final LinuxSysfsAttribute value;
+
     public enum Direction{
         IN,
         OUT,
@@ -73,6 +76,7 @@ public class LinuxGpio {
         this.address = address;
         this.systemPath = systemPath;
         this.pinPath = Paths.get(systemPath, String.format("gpio%d", address)).toString();
+        this.value = new LinuxSysfsAttribute(Paths.get(pinPath, "value"));
     }
 
     /**
@@ -100,6 +104,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void unexport() throws IOException {
+        value.close();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -184,8 +189,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void setState(DigitalState state) throws IOException {
-        var path = Paths.get(pinPath,"value");
-        Files.writeString(path, (state.isHigh() ? "1" : "0"));
+        value.writeChar(state.isHigh() ? '1' : '0');
     }
 
     /**
@@ -204,8 +208,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public DigitalState getState() throws IOException {
-        var path = Paths.get(pinPath,"value");
-        return DigitalState.parse(Files.readString(path).trim());
+        return value.readChar() == '1' ? DigitalState.HIGH : DigitalState.LOW;
     }
 
     /**
@@ -0,0 +1,263 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioPoller.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>LinuxGpioPoller class.</p>
+ * <p>
+ * Waits for the edge interrupts of all monitored sysfs GPIO inputs on a single thread.  The
+ * 'value' file of every input with a configured 'edge' is kept open; the kernel signals an
+ * edge on such a file as POLLPRI|POLLERR, after which the value is re-read from offset 0.
+ * A pipe is polled together with the inputs to wake the thread when inputs are added or
+ * removed.
+ *
+ * @see "https://www.kernel.org/doc/Documentation/gpio/sysfs.txt"
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class LinuxGpioPoller implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxGpioPoller.class);
+
+    /** Constant <code>NAME="pi4j-linuxfs-gpio-poller"</code> */
+    public static final String NAME = "pi4j-linuxfs-gpio-poller";
+
+    private static final short EDGE_EVENTS = LinuxLibC.POLLPRI | LinuxLibC.POLLERR;
+
+    /**
+     * Receives the value of a monitored input after each edge.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onEdge(DigitalState state, long timestamp);
+    }
+
+    private static class Registration {
+        final LinuxGpio gpio;
+        final int fd;
+        final Listener listener;
+        boolean closed = false;
+
+        Registration(LinuxGpio gpio, int fd, Listener listener) {
+            this.gpio = gpio;
+            this.fd = fd;
+            this.listener = listener;
+        }
+    }
+
+    private final LinuxLibC libc;
+    private final List<Registration> registrations = new ArrayList<>();
+    private final byte[] value = new byte[2];
+    private final byte[] wake = new byte[] { 1 };
+    private final int[] wakePipe = new int[2];
+    private volatile boolean changed;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * <p>Constructor for LinuxGpioPoller.</p>
+     */
+    public LinuxGpioPoller() {
+        this(LinuxLibC.INSTANCE);
+    }
+
+    /**
+     * <p>Constructor for LinuxGpioPoller.</p>
+     *
+     * @param libc a {@link LinuxLibC} object.
+     */
+    public LinuxGpioPoller(LinuxLibC libc) {
+        this.libc = libc;
+    }
+
+    /**
+     * Start monitoring an exported input whose 'edge' has been configured.  The poller thread
+     * is started with the first registration.
+     *
+     * @param gpio an exported GPIO with a configured interrupt edge
+     * @param listener receives the new value after each edge
+     * @throws IOException if the 'value' file cannot be opened
+     */
+    public synchronized void register(LinuxGpio gpio, Listener listener) throws IOException {
+        start();
+        String path = Paths.get(gpio.pinPath(), "value").toString();
+        int fd = libc.open(path, LinuxLibC.O_RDONLY | LinuxLibC.O_NONBLOCK);
+        if (fd < 0) {
+            throw new IOException("Failed to open " + path + "; errno=" + Native.getLastError());
+        }
+        // an initial read consumes the pending notification; poll blocks until the next edge from now on
+        readValue(fd, new byte[2]);
+        registrations.add(new Registration(gpio, fd, listener));
+        wakeup();
+        logger.trace("monitoring GPIO {} (fd {})", gpio.pinPath(), fd);
+    }
+
+    /**
+     * Stop monitoring an input.  Once this method returns the listener is no longer invoked; an
+     * invocation in progress on the poller thread completes before this method returns (unless
+     * it is called from the listener itself).
+     *
+     * @param gpio a registered GPIO
+     */
+    public void unregister(LinuxGpio gpio) {
+        List<Registration> removed = new ArrayList<>();
+        synchronized (this) {
+            for (var iterator = registrations.iterator(); iterator.hasNext(); ) {
+                Registration registration = iterator.next();
+                if (registration.gpio != gpio) continue;
+                iterator.remove();
+                removed.add(registration);
+            }
+            wakeup();
+        }
+        // the registration lock is held while the listener runs; waiting for it outside of the
+        // poller lock lets a listener (un)register other inputs without a deadlock
+        for (Registration registration : removed) {
+            synchronized (registration) {
+                registration.closed = true;
+                libc.close(registration.fd);
+            }
+            logger.trace("stopped monitoring GPIO {} (fd {})", gpio.pinPath(), registration.fd);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (thread == null) return;
+        running = false;
+        wakeup();
+        try {
+            thread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Registration registration : registrations) {
+            synchronized (registration) {
+                registration.closed = true;
+                libc.close(registration.fd);
+            }
+        }
+        registrations.clear();
+        libc.close(wakePipe[0]);
+        libc.close(wakePipe[1]);
+        thread = null;
+    }
+
+    private void start() throws IOException {
+        if (thread != null) return;
+        if (libc.pipe(wakePipe) < 0) {
+            throw new IOException("Failed to create poller wakeup pipe; errno=" + Native.getLastError());
+        }
+        running = true;
+        thread = new Thread(this::run, NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void wakeup() {
+        changed = true;
+        libc.write(wakePipe[1], wake, 1);
+    }
+
+    private synchronized Registration[] snapshot() {
+        changed = false;
+        return registrations.toArray(new Registration[0]);
+    }
+
+    private int readValue(int fd, byte[] buffer) {
+        libc.lseek(fd, 0, LinuxLibC.SEEK_SET);
+        return libc.read(fd, buffer, buffer.length);
+    }
+
+    private void run() {
+        logger.debug("GPIO poller started");
+        Registration[] polled = new Registration[0];
+        Memory fds = null;
+        byte[] drain = new byte[64];
+        while (running) {
+            // rebuild the pollfd array only when the monitored inputs have changed
+            if (changed || fds == null) {
+                polled = snapshot();
+                fds = new Memory((long) (polled.length + 1) * LinuxLibC.POLLFD_SIZE);
+                fds.setInt(0, wakePipe[0]);
+                fds.setShort(LinuxLibC.POLLFD_EVENTS_OFFSET, LinuxLibC.POLLIN);
+                for (int i = 0; i < polled.length; i++) {
+                    long offset = (long) (i + 1) * LinuxLibC.POLLFD_SIZE;
+                    fds.setInt(offset, polled[i].fd);
+                    fds.setShort(offset + LinuxLibC.POLLFD_EVENTS_OFFSET, EDGE_EVENTS);
+                }
+            }
+
+            int count = libc.poll(fds, polled.length + 1, -1);
+            long timestamp = System.nanoTime();
+            if (count < 0) {
+                // EINTR; any other error is logged and polling continues
+                logger.trace("poll failed; errno={}", Native.getLastError());
+                continue;
+            }
+            if ((fds.getShort(LinuxLibC.POLLFD_REVENTS_OFFSET) & LinuxLibC.POLLIN) != 0) {
+                libc.read(wakePipe[0], drain, drain.length);
+            }
+            for (int i = 0; i < polled.length; i++) {
+                long offset = (long) (i + 1) * LinuxLibC.POLLFD_SIZE;
+                if ((fds.getShort(offset + LinuxLibC.POLLFD_REVENTS_OFFSET) & EDGE_EVENTS) != 0) {
+                    dispatch(polled[i], timestamp);
+                }
+            }
+        }
+        logger.debug("GPIO poller stopped");
+    }
+
+    private void dispatch(Registration registration, long timestamp) {
+        // the listener is invoked under the registration lock, so unregister waits for it
+        synchronized (registration) {
+            // the input may have been unregistered (and its fd closed) while polling
+            if (registration.closed) return;
+            if (readValue(registration.fd, value) < 1) return;
+            DigitalState state = value[0] == '1' ? DigitalState.HIGH : DigitalState.LOW;
+            try {
+                registration.listener.onEdge(state, timestamp);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+}
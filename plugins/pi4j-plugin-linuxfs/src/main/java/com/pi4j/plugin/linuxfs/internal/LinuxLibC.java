@@ -2,6 +2,7 @@ package com.pi4j.plugin.linuxfs.internal;
 
 import com.sun.jna.Library;
 import com.sun.jna.Native;
+import com.sun.jna.Pointer;
 
 /**
  * C library functions.
@@ -25,10 +26,38 @@ public interface LinuxLibC extends Library {
 
     ///////////////////////////////////
     // fcntl.h
+    int O_RDONLY = 00000000;
     int O_WRONLY = 00000001;
     int O_RDWR = 00000002;
+    int O_NOCTTY = 00000400;
     int O_NONBLOCK = 00004000;
 
+    int F_GETFL = 3;
+    int F_SETFL = 4;
+
+    ///////////////////////////////////
+    // errno.h
+    int EINTR = 4;
+    int EAGAIN = 11;
+
+    ///////////////////////////////////
+    // poll.h
+    short POLLIN = 0x001;
+    short POLLPRI = 0x002;
+    short POLLOUT = 0x004;
+    short POLLERR = 0x008;
+    short POLLHUP = 0x010;
+    short POLLNVAL = 0x020;
+
+    // struct pollfd { int fd; short events; short revents; }
+    int POLLFD_SIZE = 8;
+    int POLLFD_EVENTS_OFFSET = 4;
+    int POLLFD_REVENTS_OFFSET = 6;
+
+    ///////////////////////////////////
+    // unistd.h
+    int SEEK_SET = 0;
+
     ///////////////////////////////////
     // ioctl.h
     int _IOC_NRBITS = 8;
@@ -51,9 +80,78 @@ public interface LinuxLibC extends Library {
                 ((size) << _IOC_SIZESHIFT));
     }
 
+    ///////////////////////////////////
+    // termios.h
+    // struct termios { tcflag_t c_iflag, c_oflag, c_cflag, c_lflag; cc_t c_line; cc_t c_cc[32];
+    //                  speed_t c_ispeed, c_ospeed; }
+    int TERMIOS_SIZE = 60;
+    int TERMIOS_IFLAG_OFFSET = 0;
+    int TERMIOS_CFLAG_OFFSET = 8;
+    int TERMIOS_CC_OFFSET = 17;
+
+    int VTIME = 5;
+    int VMIN = 6;
+
+    int INPCK = 0000020;
+    int IXON = 0002000;
+    int IXANY = 0004000;
+    int IXOFF = 0010000;
+
+    int CSIZE = 0000060;
+    int CS5 = 0000000;
+    int CS6 = 0000020;
+    int CS7 = 0000040;
+    int CS8 = 0000060;
+    int CSTOPB = 0000100;
+    int CREAD = 0000200;
+    int PARENB = 0000400;
+    int PARODD = 0001000;
+    int CLOCAL = 0004000;
+    int CMSPAR = 010000000000;
+    int CRTSCTS = 020000000000;
+
+    int TCSANOW = 0;
+    int TCIFLUSH = 0;
+    int TCOFLUSH = 1;
+    int TCIOFLUSH = 2;
+
+    // ioctl-types.h
+    int FIONREAD = 0x541B;
+
+    int tcgetattr(int fd, Pointer termios);
+
+    int tcsetattr(int fd, int optionalActions, Pointer termios);
+
+    void cfmakeraw(Pointer termios);
+
+    int cfsetispeed(Pointer termios, int speed);
+
+    int cfsetospeed(Pointer termios, int speed);
+
+    int tcflush(int fd, int queueSelector);
+
+    int tcdrain(int fd);
+
     int ioctl(int filedes, long op, Object... args);
 
+    int fcntl(int fd, int cmd, int arg);
+
     int open(String pathname, int flags);
 
     int close(int fd);
+
+    int poll(Pointer fds, int nfds, int timeout);
+
+    // only used to rewind to offset 0, so a 32 bit offset is sufficient on every ABI
+    int lseek(int fd, int offset, int whence);
+
+    int read(int fd, byte[] buf, int count);
+
+    int read(int fd, Pointer buf, int count);
+
+    int write(int fd, byte[] buf, int count);
+
+    int write(int fd, Pointer buf, int count);
+
+    int pipe(int[] fds);
 }
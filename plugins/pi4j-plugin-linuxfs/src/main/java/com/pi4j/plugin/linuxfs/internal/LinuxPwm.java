@@ -61,6 +61,11 @@ public class LinuxPwm {
     protected final int address;
     protected final String pwmPath;
 
+    // the frequently accessed attribute files stay open while the channel is exported
+    protected final LinuxSysfsAttribute enable;
+    protected final LinuxSysfsAttribute period;
+    protected final LinuxSysfsAttribute dutyCycle;
+
     public enum Polarity{
         NORMAL,
         INVERSED,
@@ -79,6 +84,9 @@ public class LinuxPwm {
         this.address = address;
         this.systemPath = Paths.get(systemPath, String.format("pwmchip%d", chip)).toString();
         this.pwmPath = Paths.get(this.systemPath, String.format("pwm%d", address)).toString();
+        this.enable = new LinuxSysfsAttribute(Paths.get(pwmPath, "enable"));
+        this.period = new LinuxSysfsAttribute(Paths.get(pwmPath, "period"));
+        this.dutyCycle = new LinuxSysfsAttribute(Paths.get(pwmPath, "duty_cycle"));
     }
 
     /**
@@ -143,6 +151,9 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public void unexport() throws IOException {
+        enable.close();
+        period.close();
+        dutyCycle.close();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -240,8 +251,7 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public void setEnabled(boolean enabled) throws IOException {
-        var path = Paths.get(pwmPath,"enable");
-        Files.writeString(path, (enabled ? "1" : "0"));
+        enable.writeChar(enabled ? '1' : '0');
     }
 
     /**
@@ -261,8 +271,7 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public boolean isEnabled() throws IOException {
-        var path = Paths.get(pwmPath,"enable");
-        return Files.readString(path).trim().equalsIgnoreCase("1");
+        return enable.readChar() == '1';
     }
 
     /**
@@ -286,13 +295,12 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public void setPeriod(long period) throws IOException {
-        var path = Paths.get(pwmPath,"period");
-        Files.writeString(path, Long.toUnsignedString(period));
+        if (period < 0) this.period.writeString(Long.toUnsignedString(period));
+        else this.period.writeLong(period);
     }
 
     public void setPeriod(Number period) throws IOException {
-        var path = Paths.get(pwmPath,"period");
-        Files.writeString(path, period.toString());
+        this.period.writeString(period.toString());
     }
 
     /**
@@ -314,8 +322,7 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public long getPeriod() throws IOException {
-        var path = Paths.get(pwmPath,"period");
-        return Long.parseLong(Files.readString(path).trim());
+        return period.readLong();
     }
 
     /**
@@ -337,8 +344,7 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public void setDutyCycle(long dutyCycle) throws IOException {
-        var path = Paths.get(pwmPath,"duty_cycle");
-        Files.writeString(path, Long.toString(dutyCycle));
+        this.dutyCycle.writeLong(dutyCycle);
     }
 
     /**
@@ -360,8 +366,7 @@ public class LinuxPwm {
      * @throws IOException if any.
      */
     public long getDutyCycle() throws IOException {
-        var path = Paths.get(pwmPath,"duty_cycle");
-        return Long.parseLong(Files.readString(path).trim());
+        return dutyCycle.readLong();
     }
 
     /**
@@ -0,0 +1,198 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxSysfsAttribute.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>LinuxSysfsAttribute class.</p>
+ * <p>
+ * A sysfs attribute file (e.g. a GPIO 'value' or a PWM 'duty_cycle') that is kept open between
+ * accesses.  Every read and write is a single positional read or write at offset 0 through a
+ * preallocated buffer, so repeated accesses neither re-open the file nor allocate Strings.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class LinuxSysfsAttribute implements AutoCloseable {
+
+    // large enough for any decimal long value plus sign and newline
+    private static final int BUFFER_SIZE = 24;
+
+    private final Path path;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel channel;
+
+    /**
+     * <p>Constructor for LinuxSysfsAttribute.</p>
+     *
+     * @param path the path of the attribute file
+     */
+    public LinuxSysfsAttribute(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * <p>path.</p>
+     *
+     * @return the path of the attribute file
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Read the first character of the attribute (e.g. '0' or '1').
+     *
+     * @return the first character of the attribute value
+     * @throws java.io.IOException if any.
+     */
+    public synchronized char readChar() throws IOException {
+        if (read() < 1) throw new IOException("No data available from " + path);
+        return (char) buffer.get(0);
+    }
+
+    /**
+     * Read the attribute as a decimal number.
+     *
+     * @return the numeric attribute value
+     * @throws java.io.IOException if any.
+     */
+    public synchronized long readLong() throws IOException {
+        int length = read();
+        long value = 0;
+        boolean negative = false;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(i);
+            if (b == '-' && i == 0) {
+                negative = true;
+            } else if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                digits++;
+            } else if (b == '\n' || b == ' ') {
+                break;
+            } else {
+                throw new NumberFormatException("Invalid numeric value in " + path);
+            }
+        }
+        if (digits == 0) throw new NumberFormatException("No numeric value in " + path);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Write a single character (e.g. '0' or '1') to the attribute.
+     *
+     * @param value the character to write
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void writeChar(char value) throws IOException {
+        buffer.clear();
+        buffer.put((byte) value).flip();
+        write();
+    }
+
+    /**
+     * Write a decimal number to the attribute.
+     *
+     * @param value the number to write
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void writeLong(long value) throws IOException {
+        // format the digits from the end of the buffer backwards
+        buffer.clear();
+        int position = BUFFER_SIZE;
+        boolean negative = value < 0;
+        do {
+            buffer.put(--position, (byte) ('0' + Math.abs(value % 10)));
+            value /= 10;
+        } while (value != 0);
+        if (negative) buffer.put(--position, (byte) '-');
+        buffer.position(position);
+        write();
+    }
+
+    /**
+     * Write an arbitrary ASCII value to the attribute.
+     *
+     * @param value the value to write
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void writeString(CharSequence value) throws IOException {
+        if (value.length() > BUFFER_SIZE) {
+            throw new IOException("Value too long for " + path + ": " + value);
+        }
+        buffer.clear();
+        for (int i = 0; i < value.length(); i++) buffer.put((byte) value.charAt(i));
+        buffer.flip();
+        write();
+    }
+
+    /**
+     * Close the attribute file; it is re-opened on the next access.
+     */
+    @Override
+    public synchronized void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing more to release
+        }
+        channel = null;
+    }
+
+    private int read() throws IOException {
+        buffer.clear();
+        int length = channel().read(buffer, 0);
+        return Math.max(length, 0);
+    }
+
+    private void write() throws IOException {
+        // sysfs stores a value with a single write call; the buffer holds the remaining bytes to write
+        channel().write(buffer, 0);
+    }
+
+    private FileChannel channel() throws IOException {
+        // an interrupt during a read or write closes the channel (ClosedByInterruptException); re-open it
+        if (channel == null || !channel.isOpen()) {
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (AccessDeniedException e) {
+                // read-only attribute
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            }
+        }
+        return channel;
+    }
+}
@@ -33,12 +33,10 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioPoller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.file.*;
-import java.util.concurrent.Future;
-
 /**
  * <p>LinuxFsDigitalInput class.</p>
  *
@@ -50,7 +48,9 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
     protected final LinuxGpio gpio;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     protected DigitalState state = DigitalState.UNKNOWN;
-    private Future<?> inputListener;
+    private final LinuxGpioPoller poller;
+    private boolean interruptEnabled = false;
+    private boolean monitored = false;
 
     /**
      * <p>Constructor for LinuxFsDigitalInput.</p>
@@ -58,10 +58,12 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
      * @param gpio a {@link LinuxGpio} linux file system GPIO object.
      * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
      * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
+     * @param poller a {@link LinuxGpioPoller} shared by all inputs of the provider.
      */
-    public LinuxFsDigitalInput(LinuxGpio gpio, DigitalInputProvider provider, DigitalInputConfig config){
+    public LinuxFsDigitalInput(LinuxGpio gpio, DigitalInputProvider provider, DigitalInputConfig config, LinuxGpioPoller poller){
         super(provider, config);
         this.gpio = gpio;
+        this.poller = poller;
     }
 
     @Override
@@ -111,7 +113,10 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 
         // [INTERRUPT] enable GPIO interrupt via Linux File System (if supported)
         try {
-            if (gpio.isInterruptSupported()) gpio.interruptEdge(LinuxGpio.Edge.BOTH);
+            if (gpio.isInterruptSupported()) {
+                gpio.interruptEdge(LinuxGpio.Edge.BOTH);
+                this.interruptEnabled = true;
+            }
         } catch (java.io.IOException e) {
             logger.error(e.getMessage(), e);
             throw new InitializeException("Unable to set GPIO [" + config.address() + "] INTERRUPT EDGE=[BOTH] @ <" + gpio.pinPath() + ">; " + e.getMessage(), e);
@@ -120,47 +125,17 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         // [INITIALIZE] perform any further initialization on GPIO  via superclass impl
         super.initialize(context);
 
-        // [MONITOR] start background monitoring thread for GPIO state changes
-        logger.trace("start monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        Runnable monitorTask = () -> {
-			try {
-				// create file system watcher
-                logger.trace("monitoring thread watching GPIO [{}]; {}",
-                             LinuxFsDigitalInput.this.config.address(),
-                             gpio.getPinPath());
-				WatchService watchService = FileSystems.getDefault().newWatchService();
-				WatchKey key;
-
-				// create GPIO path to monitor
-				Path path = Paths.get(gpio.getPinPath());
-
-				// only watch for modified files in this path
-				path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
-
-				// dispatch value change event
-				while ((key = watchService.take()) != null) {
-					for (WatchEvent<?> event : key.pollEvents()) {
-						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-							if (event.context().toString().equalsIgnoreCase("value")) {
-								// filter out any redundant event notifications for same state
-								DigitalState newState = LinuxFsDigitalInput.this.gpio.state();
-								if (newState != LinuxFsDigitalInput.this.state) {
-									LinuxFsDigitalInput.this.state = newState;
-									LinuxFsDigitalInput.this.dispatch(
-										new DigitalStateChangeEvent(LinuxFsDigitalInput.this, newState));
-								}
-							}
-						}
-					}
-					key.reset();
-				}
-			} catch (java.io.IOException e) {
-				logger.error(e.getMessage(), e);
-			} catch (InterruptedException e) {
-				// thread interrupted; likely exiting on shutdown
-			}
-		};
-        this.inputListener = context.submitTask(monitorTask);
+        // [MONITOR] wait for edge interrupts on the shared poller thread
+        if (this.interruptEnabled) {
+            logger.trace("start monitoring GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
+            try {
+                poller.register(gpio, this::onEdge);
+                this.monitored = true;
+            } catch (java.io.IOException e) {
+                logger.error(e.getMessage(), e);
+                throw new InitializeException("Unable to monitor GPIO [" + config.address() + "] @ <" + gpio.pinPath() + ">; " + e.getMessage(), e);
+            }
+        }
 
         // return this I/O instance
         return this;
@@ -171,11 +146,11 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
     public DigitalInput shutdown(Context context) throws ShutdownException {
         logger.trace("shutdown GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
 
-        // this line will execute immediately, not waiting for your task to complete
-        logger.trace("shutdown monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        if (this.inputListener != null) {
-            if (!this.inputListener.cancel(true))
-                logger.error("Failed to cancel input listener!");
+        // stop monitoring before the GPIO is un-exported and its 'value' file disappears
+        if (this.monitored) {
+            logger.trace("stop monitoring GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
+            poller.unregister(gpio);
+            this.monitored = false;
         }
 
         // perform any shutdown cleanup via superclass
@@ -206,4 +181,15 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
             throw new IOException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Invoked on the poller thread with the value read after each edge.
+     */
+    private void onEdge(DigitalState newState, long timestamp) {
+        // filter out any redundant event notifications for same state
+        if (newState != this.state) {
+            this.state = newState;
+            this.dispatch(new DigitalStateChangeEvent<>(this, newState, timestamp));
+        }
+    }
 }
@@ -29,10 +29,14 @@ package com.pi4j.plugin.linuxfs.provider.gpio.digital;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioPoller;
 
 /**
  * <p>LinuxFsDigitalInputProviderImpl class.</p>
@@ -43,6 +47,8 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxFsDigitalInputProvider {
 
     final String gpioFileSystemPath;
+    // created with the first input so that JNA and libc are only loaded when the provider is used
+    private LinuxGpioPoller poller;
 
     /**
      * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
@@ -60,6 +66,13 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
         return BoardInfoHelper.usesRP1() ? 100 : 50;
     }
 
+    private synchronized LinuxGpioPoller poller() {
+        if (poller == null) {
+            poller = new LinuxGpioPoller();
+        }
+        return poller;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -67,8 +80,22 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
     public DigitalInput create(DigitalInputConfig config) {
         // create filesystem based GPIO instance using instance address (GPIO NUMBER)
         LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address());
-        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, this, config);
+        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, this, config, poller());
         this.context.registry().add(digitalInput);
         return digitalInput;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        // shutdown the inputs first; they unregister from the poller
+        DigitalInputProvider provider = super.shutdown(context);
+        synchronized (this) {
+            if (poller != null) {
+                poller.close();
+                poller = null;
+            }
+        }
+        return provider;
+    }
 }
@@ -34,6 +34,7 @@ package com.pi4j.plugin.linuxfs.provider.i2c;
 public class I2CConstants {
     /* Flags for i2c_msg.flags */
 
+    public static int I2C_M_WR                  = 0x0000; /* write data, from master to slave (no flag set) */
     public static int I2C_M_RD                  = 0x0001; /* read data, from slave to master
                                                              I2C_M_RD is guaranteed to be = 0x0001! */
     public static int I2C_M_TEN                 = 0x0010; /* this is a ten bit chip address */
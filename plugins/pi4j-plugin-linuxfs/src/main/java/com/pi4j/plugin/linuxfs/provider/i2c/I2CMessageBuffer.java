@@ -0,0 +1,212 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  I2CMessageBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.*
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.plugin.linuxfs.util.SystemUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * <p>I2CMessageBuffer class.</p>
+ * <p>
+ * Preallocated native memory for I2C_RDWR transfers on one bus.  The buffer holds the
+ * array of i2c_msg structures followed by the payload of every message:
+ * </p>
+ *<ul>
+ *<li> struct i2c_msg {</li>
+ * <li>        __u16 addr;</li>
+ * <li>        __u16 flags;</li>
+ * <li>        __u16 len;</li>
+ * <li>        __u8 *buf;    wordSize aligned</li>
+ * <li>};</li>
+ *</ul>
+ * <p>
+ * The message pointers are resolved by the native ioctl from the offsets map, which also
+ * provides the message count for the i2c_rdwr_ioctl_data structure.  The buffer only grows,
+ * so repeated transfers of the same size do not allocate.  It must only be used while
+ * holding the bus lock.
+ * </p>
+ */
+public class I2CMessageBuffer {
+
+    /** Constant <code>MAX_MESSAGES=42</code>; I2C_RDWR_IOCTL_MAX_MSGS of the kernel */
+    public static final int MAX_MESSAGES = 42;
+
+    private static final int WORD_SIZE = SystemUtil.getWordSize();
+    // addr, flags and len take 6 bytes; the buf pointer is aligned to the word size
+    private static final int MSG_BUF_OFFSET = ((6 + WORD_SIZE - 1) / WORD_SIZE) * WORD_SIZE;
+    private static final int MSG_SIZE = MSG_BUF_OFFSET + WORD_SIZE;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final LinuxFile file;
+    private final IntBuffer offsets;
+    private ByteBuffer data;
+    private int messages;
+    private int count;
+    private int end;
+
+    I2CMessageBuffer(LinuxFile file) {
+        this.file = file;
+        this.data = allocate(INITIAL_CAPACITY);
+        this.offsets = allocate(MAX_MESSAGES * 2 * Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * Start a new transfer.
+     *
+     * @param count the number of messages of the transfer
+     * @param payload the total payload length of all messages
+     * @return this buffer
+     */
+    public I2CMessageBuffer begin(int count, int payload) {
+        if (count < 1 || count > MAX_MESSAGES)
+            throw new IllegalArgumentException("An I2C transfer requires 1-" + MAX_MESSAGES + " messages; count=" + count);
+        int capacity = count * MSG_SIZE + payload;
+        if (capacity > data.capacity()) {
+            data = allocate(Math.max(capacity, data.capacity() * 2));
+        }
+        data.clear();
+        offsets.clear();
+        this.messages = 0;
+        this.count = count;
+        this.end = count * MSG_SIZE;
+        return this;
+    }
+
+    /**
+     * Append a message to the transfer.
+     *
+     * @param address the 7 bit device address
+     * @param flags the message flags; {@link I2CConstants#I2C_M_RD} for a read, {@link I2CConstants#I2C_M_WR} for a write
+     * @param length the message payload length
+     * @return the buffer index of the message payload
+     */
+    public int add(int address, int flags, int length) {
+        if (messages == count)
+            throw new IllegalStateException("All " + count + " messages of the transfer have already been added");
+        int header = messages * MSG_SIZE;
+        data.putShort(header, (short) address);
+        data.putShort(header + 2, (short) flags);
+        data.putShort(header + 4, (short) length);
+        offsets.put(header + MSG_BUF_OFFSET);
+        offsets.put(end);
+        int payload = end;
+        end += length;
+        messages++;
+        return payload;
+    }
+
+    /**
+     * Copy write data into the payload of a message.
+     *
+     * @param index the buffer index returned by {@link #add(int, int, int)}
+     * @param source the data to write
+     * @param offset the offset in the source
+     * @param length the number of bytes to copy
+     */
+    public void put(int index, byte[] source, int offset, int length) {
+        data.duplicate().position(index).put(source, offset, length);
+    }
+
+    /**
+     * Copy write data from a (direct or heap) byte buffer into the payload of a message.
+     *
+     * @param index the buffer index returned by {@link #add(int, int, int)}
+     * @param source the data to write
+     * @param offset the offset in the source
+     * @param length the number of bytes to copy
+     */
+    public void put(int index, ByteBuffer source, int offset, int length) {
+        ByteBuffer src = source.duplicate();
+        src.limit(offset + length).position(offset);
+        data.duplicate().position(index).put(src);
+    }
+
+    /**
+     * <p>put.</p>
+     *
+     * @param index a buffer index
+     * @param value the byte to store at the index
+     */
+    public void put(int index, byte value) {
+        data.put(index, value);
+    }
+
+    /**
+     * Copy read data from the payload of a message.
+     *
+     * @param index the buffer index returned by {@link #add(int, int, int)}
+     * @param destination receives the read data
+     * @param offset the offset in the destination
+     * @param length the number of bytes to copy
+     */
+    public void get(int index, byte[] destination, int offset, int length) {
+        data.duplicate().position(index).get(destination, offset, length);
+    }
+
+    /**
+     * Copy read data from the payload of a message into a (direct or heap) byte buffer.
+     *
+     * @param index the buffer index returned by {@link #add(int, int, int)}
+     * @param destination receives the read data
+     * @param offset the offset in the destination
+     * @param length the number of bytes to copy
+     */
+    public void get(int index, ByteBuffer destination, int offset, int length) {
+        ByteBuffer src = data.duplicate();
+        src.limit(index + length).position(index);
+        destination.duplicate().position(offset).put(src);
+    }
+
+    /**
+     * <p>get.</p>
+     *
+     * @param index a buffer index
+     * @return the unsigned byte at the index
+     */
+    public int get(int index) {
+        return data.get(index) & 0xff;
+    }
+
+    /**
+     * Run the I2C_RDWR ioctl with all messages added since {@link #begin(int, int)}.
+     *
+     * @throws IOException if the transfer failed
+     */
+    public void transfer() throws IOException {
+        if (messages != count)
+            throw new IllegalStateException("Only " + messages + " of " + count + " messages have been added");
+        data.limit(end).position(0);
+        offsets.flip();
+        file.ioctl(I2CConstants.I2C_RDWR, data, offsets);
+        data.clear();
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+}
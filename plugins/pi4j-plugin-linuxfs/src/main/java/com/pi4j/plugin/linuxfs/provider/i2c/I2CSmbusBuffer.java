@@ -0,0 +1,228 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  I2CSmbusBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.*
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.plugin.linuxfs.util.SystemUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * <p>I2CSmbusBuffer class.</p>
+ * <p>
+ * Preallocated native memory for I2C_SMBUS transfers on one bus.  The buffer holds the
+ * i2c_smbus_ioctl_data structure followed by the i2c_smbus_data union it points to:
+ * </p>
+ *<ul>
+ *<li> struct i2c_smbus_ioctl_data {</li>
+ * <li>        __u8 read_write;               offset 0</li>
+ * <li>        __u8 command;                  offset 1</li>
+ * <li>        __u32 size;                    offset 4</li>
+ * <li>        union i2c_smbus_data *data;    offset 8, wordSize aligned</li>
+ * <li>};</li>
+ *</ul>
+ * <p>
+ * Each transfer is a single ioctl on the currently selected slave address, so the buffer
+ * must only be used while holding the bus lock after selecting the device.  Word data is
+ * transferred in SMBus (little endian) byte order.
+ * </p>
+ */
+public class I2CSmbusBuffer {
+
+    private static final int WORD_SIZE = SystemUtil.getWordSize();
+    /** Constant <code>READ_WRITE_OFFSET=0</code> */
+    public static final int READ_WRITE_OFFSET = 0;
+    /** Constant <code>COMMAND_OFFSET=1</code> */
+    public static final int COMMAND_OFFSET = 1;
+    /** Constant <code>SIZE_OFFSET=4</code> */
+    public static final int SIZE_OFFSET = 4;
+    /** Offset of the data pointer; read_write, command and size take 8 bytes and the pointer is word aligned. */
+    public static final int DATA_POINTER_OFFSET = ((8 + WORD_SIZE - 1) / WORD_SIZE) * WORD_SIZE;
+    /** Offset of the i2c_smbus_data union the data pointer refers to. */
+    public static final int DATA_OFFSET = DATA_POINTER_OFFSET + WORD_SIZE;
+    // the union holds a length byte, up to 32 data bytes and a PEC byte
+    private static final int DATA_SIZE = I2CConstants.I2C_SMBUS_BLOCK_MAX + 2;
+
+    private final LinuxFile file;
+    private final ByteBuffer data;
+    private final IntBuffer offsets;
+
+    /**
+     * <p>Constructor for I2CSmbusBuffer.</p>
+     *
+     * @param file the open bus device file
+     */
+    protected I2CSmbusBuffer(LinuxFile file) {
+        this.file = file;
+        this.data = ByteBuffer.allocateDirect(DATA_OFFSET + DATA_SIZE).order(ByteOrder.nativeOrder());
+        this.offsets = ByteBuffer.allocateDirect(2 * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /**
+     * Send the read/write bit of an SMBus quick command.
+     *
+     * @param bit {@link I2CConstants#I2C_SMBUS_READ} or {@link I2CConstants#I2C_SMBUS_WRITE}
+     * @throws IOException if the transfer failed
+     */
+    public void writeQuick(int bit) throws IOException {
+        transfer(bit, 0, I2CConstants.I2C_SMBUS_QUICK);
+    }
+
+    /**
+     * <p>readByteData.</p>
+     *
+     * @param register the register to read
+     * @return the unsigned byte read
+     * @throws IOException if the transfer failed
+     */
+    public int readByteData(int register) throws IOException {
+        transfer(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_BYTE_DATA);
+        return data.get(DATA_OFFSET) & 0xff;
+    }
+
+    /**
+     * <p>writeByteData.</p>
+     *
+     * @param register the register to write
+     * @param value the byte to write
+     * @throws IOException if the transfer failed
+     */
+    public void writeByteData(int register, byte value) throws IOException {
+        data.put(DATA_OFFSET, value);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_BYTE_DATA);
+    }
+
+    /**
+     * <p>readWordData.</p>
+     *
+     * @param register the register to read
+     * @return the unsigned word read; the first byte on the bus is the low byte
+     * @throws IOException if the transfer failed
+     */
+    public int readWordData(int register) throws IOException {
+        transfer(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_WORD_DATA);
+        return (data.get(DATA_OFFSET) & 0xff) | ((data.get(DATA_OFFSET + 1) & 0xff) << 8);
+    }
+
+    /**
+     * <p>writeWordData.</p>
+     *
+     * @param register the register to write
+     * @param word the word to write; the low byte is sent first
+     * @throws IOException if the transfer failed
+     */
+    public void writeWordData(int register, int word) throws IOException {
+        data.put(DATA_OFFSET, (byte) word);
+        data.put(DATA_OFFSET + 1, (byte) (word >> 8));
+        transfer(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_WORD_DATA);
+    }
+
+    /**
+     * Read an I2C block (without the SMBus length byte) from a register.
+     *
+     * @param register the register to read
+     * @param buffer receives the read data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read (1-32)
+     * @return the number of bytes read
+     * @throws IOException if the transfer failed
+     */
+    public int readI2CBlockData(int register, byte[] buffer, int offset, int length) throws IOException {
+        int count = readI2CBlockData(register, length);
+        data.duplicate().position(DATA_OFFSET + 1).get(buffer, offset, count);
+        return count;
+    }
+
+    /**
+     * Read an I2C block (without the SMBus length byte) from a register into a (direct or heap) byte buffer.
+     *
+     * @param register the register to read
+     * @param buffer receives the read data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read (1-32)
+     * @return the number of bytes read
+     * @throws IOException if the transfer failed
+     */
+    public int readI2CBlockData(int register, ByteBuffer buffer, int offset, int length) throws IOException {
+        int count = readI2CBlockData(register, length);
+        ByteBuffer block = data.duplicate();
+        block.limit(DATA_OFFSET + 1 + count).position(DATA_OFFSET + 1);
+        buffer.duplicate().position(offset).put(block);
+        return count;
+    }
+
+    /**
+     * Write an I2C block (without the SMBus length byte) to a register.
+     *
+     * @param register the register to write
+     * @param source the data to write
+     * @param offset the offset in the source
+     * @param length the number of bytes to write (1-32)
+     * @throws IOException if the transfer failed
+     */
+    public void writeI2CBlockData(int register, byte[] source, int offset, int length) throws IOException {
+        checkBlockLength(length);
+        data.put(DATA_OFFSET, (byte) length);
+        data.duplicate().position(DATA_OFFSET + 1).put(source, offset, length);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA);
+    }
+
+    private int readI2CBlockData(int register, int length) throws IOException {
+        checkBlockLength(length);
+        data.put(DATA_OFFSET, (byte) length);
+        transfer(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA);
+        return Math.min(data.get(DATA_OFFSET) & 0xff, length);
+    }
+
+    private static void checkBlockLength(int length) {
+        if (length < 1 || length > I2CConstants.I2C_SMBUS_BLOCK_MAX)
+            throw new IllegalArgumentException("An SMBus block transfer requires 1-" + I2CConstants.I2C_SMBUS_BLOCK_MAX
+                + " bytes; length=" + length);
+    }
+
+    private void transfer(int readWrite, int command, int size) throws IOException {
+        data.put(READ_WRITE_OFFSET, (byte) readWrite);
+        data.put(COMMAND_OFFSET, (byte) command);
+        data.putInt(SIZE_OFFSET, size);
+        offsets.clear();
+        offsets.put(DATA_POINTER_OFFSET);
+        offsets.put(DATA_OFFSET);
+        offsets.flip();
+        data.clear();
+        ioctl(data, offsets);
+    }
+
+    /**
+     * Issue the I2C_SMBUS ioctl for the encoded i2c_smbus_ioctl_data structure.
+     *
+     * @param data the structure followed by the i2c_smbus_data union
+     * @param offsets the offset of the data pointer and the offset of the union it points to
+     * @throws IOException if the transfer failed
+     */
+    protected void ioctl(ByteBuffer data, IntBuffer offsets) throws IOException {
+        file.ioctl(I2CConstants.I2C_SMBUS, data, offsets);
+    }
+}
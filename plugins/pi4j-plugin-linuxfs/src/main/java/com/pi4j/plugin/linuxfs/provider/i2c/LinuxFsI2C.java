@@ -22,16 +22,15 @@ package com.pi4j.plugin.linuxfs.provider.i2c;
  * #L%
  */
 
+import com.pi4j.io.exception.IOReadException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
-import com.pi4j.plugin.linuxfs.util.SystemUtil;
+import com.pi4j.io.i2c.I2CTransaction;
 
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.IntBuffer;
 import java.util.Objects;
 
 /**
@@ -85,6 +84,25 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The data is copied straight from the given buffer, which may be a
+     * direct buffer, into the native transfer buffer.</p>
+     */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        // perform bounds checking on requested length versus total remaining size available
+        int count = Math.min(length, buffer.capacity() - offset);
+        return this.i2CBus.executeMessages(this, messages -> {
+            messages.begin(1, count);
+            int write = messages.add(deviceAddress(), I2CConstants.I2C_M_WR, count);
+            messages.put(write, buffer, offset, count);
+            messages.transfer();
+            return count;
+        });
+    }
+
     // -------------------------------------------------------------------
     // RAW DEVICE READ FUNCTIONS
     // -------------------------------------------------------------------
@@ -106,6 +124,27 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
         return this.i2CBus.execute(this, file -> file.read(buffer, offset, length));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The data is copied straight from the native transfer buffer into the
+     * given buffer, which may be a direct buffer.</p>
+     */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        // perform bounds checking on requested length versus total remaining size available
+        int count = Math.min(length, buffer.capacity() - offset);
+        this.i2CBus.executeMessages(this, messages -> {
+            messages.begin(1, count);
+            int read = messages.add(deviceAddress(), I2CConstants.I2C_M_RD, count);
+            messages.transfer();
+            messages.get(read, buffer, offset, count);
+            return count;
+        });
+        buffer.position(offset + count);
+        return count;
+    }
+
     // -------------------------------------------------------------------
     // DEVICE REGISTER WRITE FUNCTIONS
     // -------------------------------------------------------------------
@@ -115,15 +154,46 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int writeRegister(int register, byte b) {
+        if (this.i2CBus.supports(I2CConstants.I2C_FUNC_SMBUS_WRITE_BYTE_DATA)) {
+            this.i2CBus.executeSmbus(this, smbus -> {
+                smbus.writeByteData(register, b);
+                return null;
+            });
+            // the register and data byte, like the plain write
+            return 2;
+        }
         return write((byte) register, b);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeRegisterWord(int register, int word) {
+        if (this.i2CBus.supports(I2CConstants.I2C_FUNC_SMBUS_WRITE_WORD_DATA)) {
+            // SMBus sends the low byte first, the register word is written high byte first
+            this.i2CBus.executeSmbus(this, smbus -> {
+                smbus.writeWordData(register, swapBytes(word));
+                return null;
+            });
+            return 3;
+        }
+        return writeRegister(register, new byte[] { (byte) (word >> 8), (byte) word });
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int writeRegister(int register, byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
+        if (isSmbusBlock(I2CConstants.I2C_FUNC_SMBUS_WRITE_I2C_BLOCK, length)) {
+            this.i2CBus.executeSmbus(this, smbus -> {
+                smbus.writeI2CBlockData(register, data, offset, length);
+                return null;
+            });
+            return length + 1;
+        }
         byte[] tmp = new byte[length + 1];
         tmp[0] = (byte) register;
         System.arraycopy(data, offset, tmp, 1, length);
@@ -155,168 +225,201 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int readRegister(int register) {
-        byte reg[] = new byte[1];
-        reg[0] = (byte) (register & 0xff);
-        byte buffer[] = new byte[1];
-        this.readRegister(reg, buffer,0,buffer.length);
-        int rVal =  buffer[0] & 0xff;
-        return rVal;
+        if (this.i2CBus.supports(I2CConstants.I2C_FUNC_SMBUS_READ_BYTE_DATA)) {
+            return this.i2CBus.executeSmbus(this, smbus -> smbus.readByteData(register));
+        }
+        return this.i2CBus.executeMessages(this, messages -> {
+            int read = prepareRegisterRead(messages, register, 1);
+            messages.transfer();
+            return messages.get(read);
+        });
     }
 
     /**
      * {@inheritDoc}
      */
-     @Override
+    @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-         byte reg[] = new byte[1];
-         reg[0] = (byte) (register & 0xff);
-         int rCode = this.readRegister(reg, buffer, offset, length);
-         return rCode;
+        if (isSmbusBlock(I2CConstants.I2C_FUNC_SMBUS_READ_I2C_BLOCK, length)) {
+            return this.i2CBus.executeSmbus(this, smbus -> smbus.readI2CBlockData(register, buffer, offset, length));
+        }
+        return this.i2CBus.executeMessages(this, messages -> {
+            int read = prepareRegisterRead(messages, register, length);
+            messages.transfer();
+            messages.get(read, buffer, offset, length);
+            return length;
+        });
     }
 
-
-     /**
+    /**
      * {@inheritDoc}
-      *
-      * <p>  This function uses the IOCTL interface to the LinuxFS. This
-      * is required so the I2C transaction uses an I2C RESTART.
-      * The following details explain creating the ByteBuffers used
-      * to create the 'C" structures for the IOCTL. </p>
-      * <p>i2c_msg: The space *buf will be used to set a pointer to the data buffer.
-      * This pointer must be aligned to the machines 4 or 8 byte alignment.
-      * </p>
-      * <p>
-      * This alignment is accomplished when the pointer is 'put' into the
-      * ByteBuffer
-      * </p>
-      *
-      *<ul>
-      *<li> struct i2c_msg {</li>
-      * <li>        __u16 addr;</li>
-      * <li>        __u16 flags;</li>
-      * <li>        __u16 len;</li>
-      * <li>        __u8 *buf;    wordSize</li>
-      * <li>        u8 buffer</li>
-      * <li>};</li>
-      *</ul>
-      * <p>
-      *     The ioctl command is  I2CConstants.I2C_RDWR, this command requires
-      *     two i2c_msg entries.
-      *</p>
-      * <p> The following describes the ByteBuffer, ioctlData,  contents:  </p>
-      *
-      * <ul>
-      * <li>     two byte address entry one</li>
-      * <li>     two byte len entry one</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to write data buffer</li>
-      * <li>     two byte address entry two</li>
-      * <li>     two byte flags entry two</li>
-      * <li>     two byte len entry two</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to read data buffer</li>
-      * <li>     Bytes required to contain write buffer contents</li>
-      * <li>     Bytes required to contain read data buffer</li>
-      *</ul>
-      *
-      * <p> There is a second byte buffer, offsets, this specifies the
-      *     ByteBuffer offset of any pointer paired with the ByteBuffer offset
-      *     of the data pointed to. </p>
-      *
-      *     This ByteBuffer contents
-      *<ul>
-      *<li>      ByteBuffer position start of pointer to write data buffer</li>
-      *<li>      ByteBuffer position start of write buffer contents</li>
-      *<li>      ByteBuffer position start of pointer to read data buffer</li>
-      * <li>     ByteBuffer position start of read buffer contents</li>
-      *</ul>
-      *
-      */
+     *
+     * <p>  This function uses the IOCTL interface to the LinuxFS. This
+     * is required so the I2C transaction uses an I2C RESTART.
+     * The write of the register address and the read of the data are
+     * two i2c_msg entries of a single I2C_RDWR ioctl, prepared in the
+     * reusable native {@link I2CMessageBuffer} of the bus.</p>
+     */
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-        // command I2C_RDWR
-        long command = I2CConstants.I2C_RDWR;
-        // create byte buffer containing the i2c messages
-        // address,flags, number of bytes data, pointer
-        // First message to write device register
-        short deviceAddr = (short) (this.config.device()& 0xff);
-        short writeFlags = (short) (I2CConstants.I2C_SMBUS_WRITE & 0xff);
-        short writeLength = (short) register.length;
-        // two pointers will be used so 2 pairs of offset entries
-        IntBuffer offsets = IntBuffer.allocate(4);
-         // create ByteBuffer, load with the write details Matches i2c provider
-        ByteBuffer ioctlData = ByteBuffer.allocate(2048);
-        // Ensures Pi BCM little_endian
-        ioctlData.order(ByteOrder.nativeOrder());
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(writeFlags);
-        ioctlData.putShort(writeLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        int wrtAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        // test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(wrtAlignValue != 0){
-            ioctlData.position(ioctlData.position()+ (SystemUtil.getWordSize() - wrtAlignValue) );
-        }
-        // first pair of offset info
-        offsets.put(ioctlData.position());
-        byte[] wrtPtrData = new byte[SystemUtil.getWordSize()];
-        ioctlData.put(wrtPtrData);
-
-        // second message to read back from device
-        short readFlags = (short) (I2CConstants.I2C_M_RD & 0xff);
-        short readLength = (short) length;
-        byte[] readBuff =  new byte[length];
-        //  load ByteBuffer with read details
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(readFlags);
-        ioctlData.putShort(readLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        // If not aligned, the pointer entry will be moved right the required number
-        // of byte to be properly aligned
-        // For consistency, test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        int rdAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(rdAlignValue != 0){
-            ioctlData.position(ioctlData.position()+(SystemUtil.getWordSize() - rdAlignValue));
+        return this.i2CBus.executeMessages(this, messages -> {
+            int read = prepareRegisterRead(messages, register, length);
+            messages.transfer();
+            messages.get(read, buffer, offset, length);
+            return length;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The data is copied straight from the native transfer buffer into the
+     * given buffer, which may be a direct buffer.</p>
+     */
+    @Override
+    public int readRegister(int register, ByteBuffer buffer, int offset, int length) {
+        // perform bounds checking on requested length versus total remaining size available
+        int count = Math.min(length, buffer.capacity() - offset);
+        int read;
+        if (isSmbusBlock(I2CConstants.I2C_FUNC_SMBUS_READ_I2C_BLOCK, count)) {
+            read = this.i2CBus.executeSmbus(this, smbus -> smbus.readI2CBlockData(register, buffer, offset, count));
+        } else {
+            read = this.i2CBus.executeMessages(this, messages -> {
+                int index = prepareRegisterRead(messages, register, count);
+                messages.transfer();
+                messages.get(index, buffer, offset, count);
+                return count;
+            });
         }
+        buffer.position(offset + read);
+        return read;
+    }
 
-        byte[] rdPtrData = new byte[SystemUtil.getWordSize()];
-        // second pair of offset info, position 2
-        offsets.put(2,ioctlData.position());
-        ioctlData.put(rdPtrData);
-
-
-
-        int regBuffPosition = ioctlData.position();
-        // part of first pair, position 1
-        offsets.put(1, regBuffPosition);
-        ioctlData.put(register);
-        int readBuffPosition = ioctlData.position();
-        // last section of second pair, position 3
-        offsets.put(3,readBuffPosition);
-        ioctlData.put(readBuff);
-        // restore offset position to expected value, It was not at 4 as we put data into offset
-        // out of order
-        offsets.position(4);
-        // set to start of your data
-        ioctlData.flip();
-        offsets.flip();
-
-       this.i2CBus.executeIOCTL(this, command, ioctlData, offsets);
-
-        // move results back into user buffer
-        for (int i = 0; i < length; i++) {   // can I assume length is safe and the readBuff data is not shorter ??   I think yes
-            buffer[i] = ioctlData.get(readBuffPosition + i);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readRegisterWord(int register) {
+        if (this.i2CBus.supports(I2CConstants.I2C_FUNC_SMBUS_READ_WORD_DATA)) {
+            // SMBus receives the low byte first, the register word is read high byte first
+            return swapBytes(this.i2CBus.executeSmbus(this, smbus -> smbus.readWordData(register)));
         }
+        byte[] buffer = new byte[2];
+        int actual = readRegister(register, buffer);
+        if (actual < 2) throw new IOReadException(actual);
+        return ((buffer[0] & 0xff) << 8) | (buffer[1] & 0xff);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The data is copied straight from the native transfer buffer into the
+     * given buffer, which may be a direct buffer.</p>
+     */
+    @Override
+    public int readRegister(byte[] register, ByteBuffer buffer, int offset, int length) {
+        // perform bounds checking on requested length versus total remaining size available
+        int count = Math.min(length, buffer.capacity() - offset);
+        this.i2CBus.executeMessages(this, messages -> {
+            int read = prepareRegisterRead(messages, register, count);
+            messages.transfer();
+            messages.get(read, buffer, offset, count);
+            return count;
+        });
+        buffer.position(offset + count);
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // COMBINED TRANSACTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> Every segment becomes one i2c_msg of a single I2C_RDWR ioctl, so the
+     * whole transaction is one kernel call with repeated STARTs.  At most
+     * {@link I2CMessageBuffer#MAX_MESSAGES} segments are supported.</p>
+     */
+    @Override
+    public int transfer(I2CTransaction transaction) {
+        return this.i2CBus.executeMessages(this, messages -> {
+            messages.begin(transaction.size(), transaction.writeLength() + transaction.readLength());
+            int[] index = new int[transaction.size()];
+            for (int i = 0; i < index.length; i++) {
+                I2CTransaction.Segment segment = transaction.segments().get(i);
+                if (segment.isRead()) {
+                    index[i] = messages.add(segment.address(), I2CConstants.I2C_M_RD, segment.length());
+                } else {
+                    index[i] = messages.add(segment.address(), I2CConstants.I2C_M_WR, segment.length());
+                    messages.put(index[i], segment.buffer(), segment.offset(), segment.length());
+                }
+            }
+            messages.transfer();
+            for (int i = 0; i < index.length; i++) {
+                I2CTransaction.Segment segment = transaction.segments().get(i);
+                if (segment.isRead()) {
+                    messages.get(index[i], segment.buffer(), segment.offset(), segment.length());
+                }
+            }
+            return transaction.readLength();
+        });
+    }
+
+    /**
+     * Prepare a write of a single byte register address followed by a read (with RESTART).
+     *
+     * @return the buffer index of the read data
+     */
+    private int prepareRegisterRead(I2CMessageBuffer messages, int register, int length) {
+        messages.begin(2, 1 + length);
+        int write = messages.add(deviceAddress(), I2CConstants.I2C_M_WR, 1);
+        int read = messages.add(deviceAddress(), I2CConstants.I2C_M_RD, length);
+        messages.put(write, (byte) register);
+        return read;
+    }
+
+    /**
+     * Prepare a write of a multi byte register address followed by a read (with RESTART).
+     *
+     * @return the buffer index of the read data
+     */
+    private int prepareRegisterRead(I2CMessageBuffer messages, byte[] register, int length) {
+        messages.begin(2, register.length + length);
+        int write = messages.add(deviceAddress(), I2CConstants.I2C_M_WR, register.length);
+        int read = messages.add(deviceAddress(), I2CConstants.I2C_M_RD, length);
+        messages.put(write, register, 0, register.length);
+        return read;
+    }
+
+    /**
+     * Send an SMBus quick command, which only transfers the read/write bit of the address byte.
+     * This is typically used to probe for the presence of a device.
+     *
+     * @param bit {@link I2CConstants#I2C_SMBUS_READ} or {@link I2CConstants#I2C_SMBUS_WRITE}
+     */
+    public void writeQuick(int bit) {
+        this.i2CBus.executeSmbus(this, smbus -> {
+            smbus.writeQuick(bit);
+            return null;
+        });
+    }
+
+    /**
+     * SMBus I2C block transfers carry at most 32 bytes; larger or empty transfers use I2C_RDWR.
+     */
+    private boolean isSmbusBlock(int functionality, int length) {
+        return length > 0 && length <= I2CConstants.I2C_SMBUS_BLOCK_MAX && this.i2CBus.supports(functionality);
+    }
+
+    private static int swapBytes(int word) {
+        return ((word & 0xff) << 8) | ((word >> 8) & 0xff);
+    }
 
-        return readLength;
+    private int deviceAddress() {
+        return this.config.device() & 0xff;
     }
 
     /**
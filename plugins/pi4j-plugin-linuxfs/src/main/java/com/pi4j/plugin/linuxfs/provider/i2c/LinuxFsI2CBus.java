@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.concurrent.Callable;
 
@@ -25,6 +26,21 @@ public class LinuxFsI2CBus extends I2CBusBase {
     protected LinuxFile file;
     private int lastAddress;
 
+    /**
+     * Reusable native I2C_RDWR message region, only accessed while holding the bus lock
+     */
+    private I2CMessageBuffer messages;
+
+    /**
+     * Reusable native I2C_SMBUS transfer region, only accessed while holding the bus lock
+     */
+    private I2CSmbusBuffer smbus;
+
+    /**
+     * Adapter functionality mask (I2C_FUNCS), queried once when the bus is opened
+     */
+    private int functionality;
+
     public LinuxFsI2CBus(I2CConfig config) {
         super(config);
 
@@ -39,6 +55,9 @@ public class LinuxFsI2CBus extends I2CBusBase {
         try {
             String fileName = devfs.getCanonicalPath();
             this.file = new LinuxFile(fileName, "rw");
+            this.messages = new I2CMessageBuffer(this.file);
+            this.smbus = new I2CSmbusBuffer(this.file);
+            this.functionality = queryFunctionality();
         } catch (IOException e) {
             throw new Pi4JException(e);
         }
@@ -73,6 +92,83 @@ public class LinuxFsI2CBus extends I2CBusBase {
         });
     }
 
+    /**
+     * Runs an I2C_RDWR transfer prepared in the reusable message buffer of this bus. The messages carry the device
+     * address, so no slave selection is required.
+     *
+     * @param i2c    the device performing the transfer
+     * @param action prepares the messages, runs {@link I2CMessageBuffer#transfer()} and collects the read data
+     * @param <R>    the result type
+     * @return the result of the action
+     */
+    public <R> R executeMessages(final I2C i2c, final CheckedFunction<I2CMessageBuffer, R> action) {
+        return _execute(i2c, () -> {
+            try {
+                return action.apply(this.messages);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new Pi4JException("Failed to execute I2C transfer for device " + i2c.device() + " on bus " + this.bus,
+                    e);
+            }
+        });
+    }
+
+    /**
+     * Runs SMBus transfers with the reusable I2C_SMBUS buffer of this bus after selecting the device.
+     *
+     * @param i2c    the device performing the transfer
+     * @param action runs one or more SMBus transfers and returns the result
+     * @param <R>    the result type
+     * @return the result of the action
+     */
+    public <R> R executeSmbus(final I2C i2c, final CheckedFunction<I2CSmbusBuffer, R> action) {
+        return _execute(i2c, () -> {
+            try {
+                selectBusSlave(i2c);
+                return action.apply(this.smbus);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new Pi4JException("Failed to execute SMBus transfer for device " + i2c.device() + " on bus " + this.bus,
+                    e);
+            }
+        });
+    }
+
+    /**
+     * @return the adapter functionality mask of this bus, see the I2C_FUNC_* flags of {@link I2CConstants}
+     */
+    public int functionality() {
+        return this.functionality;
+    }
+
+    /**
+     * @param functionality one or more I2C_FUNC_* flags of {@link I2CConstants}
+     * @return true if the adapter of this bus supports all the given functionality
+     */
+    public boolean supports(int functionality) {
+        return (this.functionality & functionality) == functionality;
+    }
+
+    /**
+     * Queries the adapter functionality mask with the I2C_FUNCS ioctl, which stores an unsigned long.
+     */
+    private int queryFunctionality() {
+        ByteBuffer funcs = ByteBuffer.allocateDirect(LinuxFile.wordSize).order(ByteOrder.nativeOrder());
+        IntBuffer offsets = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder()).asIntBuffer();
+        try {
+            this.file.ioctl(I2CConstants.I2C_FUNCS, funcs, offsets);
+            int mask = LinuxFile.wordSize == 8 ? (int) funcs.getLong(0) : funcs.getInt(0);
+            logger.debug("I2C bus {} functionality 0x{}", this.bus, Integer.toHexString(mask));
+            return mask;
+        } catch (IOException e) {
+            // assume a plain I2C adapter, all transfers then use I2C_RDWR or read/write
+            logger.warn("Failed to query the functionality of I2C bus {}", this.bus, e);
+            return I2CConstants.I2C_FUNC_I2C;
+        }
+    }
+
     /**
      * @param i2c     the device to select before performing the ioctl command
      * @param command From I2CConstants
@@ -108,7 +204,9 @@ public class LinuxFsI2CBus extends I2CBusBase {
         this.file.ioctl(I2CConstants.I2C_SLAVE, i2c.device() & 0xFF);
     }
 
+    @Override
     public void close() {
+        super.close();
         if (this.file != null) {
             try {
                 this.file.close();
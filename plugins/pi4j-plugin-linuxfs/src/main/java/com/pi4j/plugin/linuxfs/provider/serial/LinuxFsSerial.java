@@ -0,0 +1,565 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialBase;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.StopBits;
+import com.pi4j.plugin.linuxfs.internal.LinuxLibC;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.Objects;
+
+import static com.pi4j.plugin.linuxfs.internal.LinuxLibC.*;
+
+/**
+ * Serial implementation that uses JNA bindings to open and configure the Linux TTY device (i.e. /dev/ttyAMA0)
+ * directly with termios, without going through a daemon.
+ * <p>
+ * The port is configured in raw mode.  By default reads return immediately with the bytes available (VMIN = 0,
+ * VTIME = 0); {@link #configureRead(int, int)} lets the kernel wait for a minimum number of bytes or an inter-byte
+ * timeout instead.  Writes are copied into a reused native buffer, or issued straight from the memory of direct
+ * byte buffers, and always complete.  {@link #channel()} exposes the port as a {@link ByteChannel}.
+ *
+ * @see <a href="https://man7.org/linux/man-pages/man3/termios.3.html">termios(3)</a>
+ * @see <a href="https://github.com/torvalds/linux/blob/master/include/uapi/asm-generic/termbits.h">termbits.h</a>
+ */
+public class LinuxFsSerial extends SerialBase implements Serial {
+
+    // Baud rate constants from termbits.h
+    private final static int B0 = 0000000;
+    private final static int B50 = 0000001;
+    private final static int B75 = 0000002;
+    private final static int B110 = 0000003;
+    private final static int B134 = 0000004;
+    private final static int B150 = 0000005;
+    private final static int B200 = 0000006;
+    private final static int B300 = 0000007;
+    private final static int B600 = 0000010;
+    private final static int B1200 = 0000011;
+    private final static int B1800 = 0000012;
+    private final static int B2400 = 0000013;
+    private final static int B4800 = 0000014;
+    private final static int B9600 = 0000015;
+    private final static int B19200 = 0000016;
+    private final static int B38400 = 0000017;
+    private final static int B57600 = 0010001;
+    private final static int B115200 = 0010002;
+    private final static int B230400 = 0010003;
+    private final static int B460800 = 0010004;
+    private final static int B500000 = 0010005;
+    private final static int B576000 = 0010006;
+    private final static int B921600 = 0010007;
+    private final static int B1000000 = 0010010;
+    private final static int B1152000 = 0010011;
+    private final static int B1500000 = 0010012;
+    private final static int B2000000 = 0010013;
+    private final static int B2500000 = 0010014;
+    private final static int B3000000 = 0010015;
+    private final static int B3500000 = 0010016;
+    private final static int B4000000 = 0010017;
+
+    private final static int MIN_BUFFER_SIZE = 256;
+
+    private final LinuxLibC libc = LinuxLibC.INSTANCE;
+    private int fd = -1;
+
+    // termios of the open port, kept to apply changes of the read configuration
+    private final Memory termios = new Memory(TERMIOS_SIZE);
+    private int readMinimum = 0;
+    private int readTimeout = 0;
+
+    // native buffers for heap arrays and buffers; reads and writes lock independently so a
+    // thread waiting for input does not hold up writers
+    private final Object readLock = new Object();
+    private final Object writeLock = new Object();
+    private Memory readBuffer;
+    private Memory writeBuffer;
+
+    private final LinuxFsSerialChannel channel = new LinuxFsSerialChannel(this);
+    private final LinuxFsSerialPoller poller;
+
+    public LinuxFsSerial(LinuxFsSerialProviderImpl provider, SerialConfig config) {
+        super(provider, config);
+        this.poller = provider.poller();
+    }
+
+    @Override
+    public void open() {
+        super.open();
+
+        // O_NOCTTY keeps the port from becoming our controlling terminal, O_NONBLOCK keeps open
+        // from waiting for the carrier and lets reads/writes return instead of blocking
+        String device = config().device();
+        fd = libc.open(device, O_RDWR | O_NOCTTY | O_NONBLOCK);
+        if (fd < 0) {
+            throw new IOException("Failed to open serial device " + device + "; errno " + Native.getLastError());
+        }
+
+        try {
+            configure();
+        } catch (RuntimeException e) {
+            libc.close(fd);
+            fd = -1;
+            throw e;
+        }
+
+        // discard anything received before the port was configured
+        libc.tcflush(fd, TCIOFLUSH);
+        this.isOpen = true;
+
+        // listeners may have been added before the port was (re-)opened; super.open() resumed
+        // receiving for them, but the descriptor was not open yet to register it with the poller
+        if (isReceiving()) {
+            poller.register(this);
+        }
+    }
+
+    private void configure() {
+        if (libc.tcgetattr(fd, termios) != 0) {
+            throw new IOException("Could not read the attributes of serial device " + config().device());
+        }
+
+        // no echo, no line editing, no signals and no translation of input or output
+        libc.cfmakeraw(termios);
+
+        int cflag = termios.getInt(TERMIOS_CFLAG_OFFSET);
+        cflag &= ~(CSIZE | CSTOPB | PARENB | PARODD | CMSPAR | CRTSCTS);
+        cflag |= CREAD | CLOCAL;
+        switch (config().dataBits()) {
+            case _5:
+                cflag |= CS5;
+                break;
+            case _6:
+                cflag |= CS6;
+                break;
+            case _7:
+                cflag |= CS7;
+                break;
+            default:
+                cflag |= CS8;
+                break;
+        }
+        if (config().stopBits() == StopBits._2) {
+            cflag |= CSTOPB;
+        }
+        switch (config().parity()) {
+            case ODD:
+                cflag |= PARENB | PARODD;
+                break;
+            case EVEN:
+                cflag |= PARENB;
+                break;
+            case MARK:
+                cflag |= PARENB | PARODD | CMSPAR;
+                break;
+            case SPACE:
+                cflag |= PARENB | CMSPAR;
+                break;
+            default:
+                break;
+        }
+
+        int iflag = termios.getInt(TERMIOS_IFLAG_OFFSET);
+        iflag &= ~(IXON | IXOFF | IXANY | INPCK);
+        switch (config().flowControl()) {
+            case HARDWARE:
+                cflag |= CRTSCTS;
+                break;
+            case SOFTWARE:
+                iflag |= IXON | IXOFF;
+                break;
+            default:
+                break;
+        }
+        if ((cflag & PARENB) != 0) {
+            iflag |= INPCK;
+        }
+        termios.setInt(TERMIOS_CFLAG_OFFSET, cflag);
+        termios.setInt(TERMIOS_IFLAG_OFFSET, iflag);
+
+        int speed = speed(config().baud());
+        libc.cfsetispeed(termios, speed);
+        libc.cfsetospeed(termios, speed);
+
+        applyReadConfiguration();
+    }
+
+    private void applyReadConfiguration() {
+        termios.setByte(TERMIOS_CC_OFFSET + VMIN, (byte) readMinimum);
+        termios.setByte(TERMIOS_CC_OFFSET + VTIME, (byte) readTimeout);
+        if (libc.tcsetattr(fd, TCSANOW, termios) != 0) {
+            throw new IOException("Could not write the attributes of serial device " + config().device());
+        }
+
+        // VMIN/VTIME only apply to blocking reads; without them the port stays non-blocking
+        int flags = libc.fcntl(fd, F_GETFL, 0);
+        boolean blocking = readMinimum > 0 || readTimeout > 0;
+        if (flags < 0 || libc.fcntl(fd, F_SETFL, blocking ? flags & ~O_NONBLOCK : flags | O_NONBLOCK) < 0) {
+            throw new IOException("Could not set the blocking mode of serial device " + config().device());
+        }
+    }
+
+    /**
+     * Configure how reads wait for input, using the termios VMIN and VTIME settings.
+     * <p>
+     * With both values 0 (the default) reads return immediately with the bytes available.  Otherwise a read waits
+     * until at least {@code minimum} bytes are available, or {@code timeout} tenths of a second have passed
+     * (measured from the call if {@code minimum} is 0, else between bytes once the first byte arrived).
+     * Larger minimums reduce the number of wake-ups, and thereby the CPU load, at high baud rates.
+     *
+     * @param minimum the minimum number of bytes to wait for (0-255)
+     * @param timeout the timeout in tenths of a second (0-255)
+     */
+    public void configureRead(int minimum, int timeout) {
+        if (minimum < 0 || minimum > 255 || timeout < 0 || timeout > 255) {
+            throw new IllegalArgumentException("VMIN and VTIME must be between 0 and 255");
+        }
+        synchronized (readLock) {
+            this.readMinimum = minimum;
+            this.readTimeout = timeout;
+            if (fd >= 0) {
+                applyReadConfiguration();
+            }
+        }
+    }
+
+    /**
+     * Get the serial port as a channel.
+     * <p>
+     * Reads return the bytes available, or 0 if there are none.  Writes return the number of bytes accepted by the
+     * kernel's transmit buffer, or 0 if it is full.  Neither blocks, unless a read configuration was set through
+     * {@link #configureRead(int, int)}: the port is then in blocking mode, reads wait as configured and writes wait
+     * for room in the transmit buffer.  Closing the channel closes the port.
+     *
+     * @return the channel of this port
+     */
+    public ByteChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public int available() {
+        IntByReference count = new IntByReference();
+        if (libc.ioctl(fd, FIONREAD, count) != 0) {
+            return -Native.getLastError();
+        }
+        return count.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Discards all bytes received but not read yet.
+     */
+    @Override
+    public int drain() {
+        int available = available();
+        if (libc.tcflush(fd, TCIFLUSH) != 0) {
+            return -Native.getLastError();
+        }
+        return available;
+    }
+
+    /**
+     * Wait until all written bytes have been transmitted.
+     *
+     * @return 0 if successful, else a negative error code
+     */
+    public int flush() {
+        return libc.tcdrain(fd) == 0 ? 0 : -Native.getLastError();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The port is polled together with all other ports of the provider on a single thread.
+     */
+    @Override
+    protected void startReceiving() {
+        if (fd >= 0) {
+            poller.register(this);
+        }
+    }
+
+    @Override
+    protected void stopReceiving() {
+        poller.unregister(this);
+    }
+
+    int fd() {
+        return fd;
+    }
+
+    /**
+     * Called by the poller when the device hung up or reported an error, e.g. when a USB adapter
+     * was unplugged.  The port is closed, so {@link #isOpen()} reports the loss of the device.
+     */
+    void hangup() {
+        if (isOpen) {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        stopReceiving();
+        if (fd >= 0) {
+            libc.close(fd);
+            fd = -1;
+        }
+
+        synchronized (readLock) {
+            if (readBuffer != null) {
+                readBuffer.close();
+                readBuffer = null;
+            }
+        }
+        synchronized (writeLock) {
+            if (writeBuffer != null) {
+                writeBuffer.close();
+                writeBuffer = null;
+            }
+        }
+        super.close();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    @Override
+    public int write(byte b) {
+        synchronized (writeLock) {
+            Memory buf = writeBuffer(1);
+            buf.setByte(0, b);
+            return writeFully(buf, 1);
+        }
+    }
+
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        synchronized (writeLock) {
+            Memory buf = writeBuffer(length);
+            buf.write(0, data, offset, length);
+            return writeFully(buf, length);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are written in place, without copying through the native write buffer.
+     */
+    @Override
+    public int write(ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect()) {
+            return super.write(buffer, offset, length);
+        }
+        length = Math.min(length, buffer.capacity() - offset);
+        synchronized (writeLock) {
+            return writeFully(pointer(buffer, offset, length), length);
+        }
+    }
+
+    private int writeFully(Pointer data, int length) {
+        int written = 0;
+        while (written < length) {
+            int result = libc.write(fd, written == 0 ? data : data.share(written), length - written);
+            if (result >= 0) {
+                written += result;
+                continue;
+            }
+            int errno = Native.getLastError();
+            if (errno == EAGAIN) {
+                awaitWritable();
+            } else if (errno != EINTR) {
+                return written > 0 ? written : -errno;
+            }
+        }
+        return written;
+    }
+
+    private void awaitWritable() {
+        try (Memory pollfd = new Memory(POLLFD_SIZE)) {
+            pollfd.setInt(0, fd);
+            pollfd.setShort(POLLFD_EVENTS_OFFSET, POLLOUT);
+            pollfd.setShort(POLLFD_REVENTS_OFFSET, (short) 0);
+            libc.poll(pollfd, 1, -1);
+        }
+    }
+
+    /**
+     * Write bytes from the given native memory without waiting, for {@link LinuxFsSerialChannel}.
+     *
+     * @return the number of bytes written, 0 if the transmit buffer is full, else a negative error code
+     */
+    int writeAvailable(Pointer data, int length) {
+        synchronized (writeLock) {
+            int result = libc.write(fd, data, length);
+            if (result < 0) {
+                int errno = Native.getLastError();
+                return errno == EAGAIN || errno == EINTR ? 0 : -errno;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Write bytes from the given array without waiting, for {@link LinuxFsSerialChannel}.
+     */
+    int writeAvailable(byte[] data, int offset, int length) {
+        synchronized (writeLock) {
+            Memory buf = writeBuffer(length);
+            buf.write(0, data, offset, length);
+            return writeAvailable(buf, length);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    @Override
+    public int read() {
+        synchronized (readLock) {
+            Memory buf = readBuffer(1);
+            int result = readAvailable(buf, 1);
+            if (result <= 0) {
+                return result < 0 ? result : -1;
+            }
+            return buf.getByte(0) & 0xFF;
+        }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        synchronized (readLock) {
+            Memory buf = readBuffer(length);
+            int result = readAvailable(buf, length);
+            if (result > 0) {
+                buf.read(0, buffer, offset, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are read in place, without copying through the native read buffer.
+     */
+    @Override
+    public int read(ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect()) {
+            return super.read(buffer, offset, length);
+        }
+        length = Math.min(length, buffer.capacity() - offset);
+        int result;
+        synchronized (readLock) {
+            result = readAvailable(pointer(buffer, offset, length), length);
+        }
+        if (result >= 0) {
+            buffer.position(offset + result);
+        }
+        return result;
+    }
+
+    /**
+     * Read up to the given number of bytes into the given native memory, waiting as configured through
+     * {@link #configureRead(int, int)}.
+     *
+     * @return the number of bytes read, 0 if none are available, else a negative error code
+     */
+    int readAvailable(Pointer data, int length) {
+        synchronized (readLock) {
+            int result = libc.read(fd, data, length);
+            if (result < 0) {
+                int errno = Native.getLastError();
+                return errno == EAGAIN || errno == EINTR ? 0 : -errno;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read up to the given number of bytes into the given array, for {@link LinuxFsSerialChannel}.
+     */
+    int readAvailable(byte[] data, int offset, int length) {
+        return read(data, offset, length);
+    }
+
+    // -------------------------------------------------------------------
+    // NATIVE MEMORY
+    // -------------------------------------------------------------------
+
+    static Pointer pointer(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return Native.getDirectBufferPointer(buffer).share(offset);
+    }
+
+    private Memory readBuffer(int size) {
+        if (readBuffer == null || readBuffer.size() < size) {
+            if (readBuffer != null) {
+                readBuffer.close();
+            }
+            readBuffer = new Memory(Math.max(size, MIN_BUFFER_SIZE));
+        }
+        return readBuffer;
+    }
+
+    private Memory writeBuffer(int size) {
+        if (writeBuffer == null || writeBuffer.size() < size) {
+            if (writeBuffer != null) {
+                writeBuffer.close();
+            }
+            writeBuffer = new Memory(Math.max(size, MIN_BUFFER_SIZE));
+        }
+        return writeBuffer;
+    }
+
+    private static int speed(int baud) {
+        switch (baud) {
+            case 0: return B0;
+            case 50: return B50;
+            case 75: return B75;
+            case 110: return B110;
+            case 134: return B134;
+            case 150: return B150;
+            case 200: return B200;
+            case 300: return B300;
+            case 600: return B600;
+            case 1200: return B1200;
+            case 1800: return B1800;
+            case 2400: return B2400;
+            case 4800: return B4800;
+            case 9600: return B9600;
+            case 19200: return B19200;
+            case 38400: return B38400;
+            case 57600: return B57600;
+            case 115200: return B115200;
+            case 230400: return B230400;
+            case 460800: return B460800;
+            case 500000: return B500000;
+            case 576000: return B576000;
+            case 921600: return B921600;
+            case 1000000: return B1000000;
+            case 1152000: return B1152000;
+            case 1500000: return B1500000;
+            case 2000000: return B2000000;
+            case 2500000: return B2500000;
+            case 3000000: return B3000000;
+            case 3500000: return B3500000;
+            case 4000000: return B4000000;
+            default:
+                throw new IllegalArgumentException("Unsupported baud rate " + baud);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Channel view of a {@link LinuxFsSerial} port, see {@link LinuxFsSerial#channel()}.
+ * <p>
+ * Direct buffers are read and written in place; heap buffers go through the native buffers of the port.
+ */
+class LinuxFsSerialChannel implements ByteChannel {
+
+    private final LinuxFsSerial serial;
+
+    LinuxFsSerialChannel(LinuxFsSerial serial) {
+        this.serial = serial;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        int position = dst.position();
+        int length = dst.remaining();
+        if (length == 0) {
+            return 0;
+        }
+
+        int result;
+        if (dst.isDirect()) {
+            result = serial.readAvailable(LinuxFsSerial.pointer(dst, position, length), length);
+        } else if (dst.hasArray()) {
+            result = serial.readAvailable(dst.array(), dst.arrayOffset() + position, length);
+        } else {
+            byte[] temp = new byte[length];
+            result = serial.readAvailable(temp, 0, length);
+            if (result > 0) {
+                dst.duplicate().position(position).put(temp, 0, result);
+            }
+        }
+
+        if (result < 0) {
+            throw new IOException("Failed to read from serial device " + serial.config().device() + "; errno " + -result);
+        }
+        dst.position(position + result);
+        return result;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        ensureOpen();
+        int position = src.position();
+        int length = src.remaining();
+        if (length == 0) {
+            return 0;
+        }
+
+        int result;
+        if (src.isDirect()) {
+            result = serial.writeAvailable(LinuxFsSerial.pointer(src, position, length), length);
+        } else if (src.hasArray()) {
+            result = serial.writeAvailable(src.array(), src.arrayOffset() + position, length);
+        } else {
+            byte[] temp = new byte[length];
+            src.duplicate().get(temp);
+            result = serial.writeAvailable(temp, 0, length);
+        }
+
+        if (result < 0) {
+            throw new IOException("Failed to write to serial device " + serial.config().device() + "; errno " + -result);
+        }
+        src.position(position + result);
+        return result;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return serial.isOpen();
+    }
+
+    @Override
+    public void close() {
+        if (serial.isOpen()) {
+            serial.close();
+        }
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!serial.isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+import com.pi4j.plugin.linuxfs.internal.LinuxLibC;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receives the data of all serial ports of the provider that have listeners on a single thread.
+ * <p>
+ * The TTY file descriptors are polled for POLLIN together with a pipe that wakes the thread when
+ * ports are added or removed.  The poll timeout is the earliest deadline of a pending idle frame.
+ * A port whose descriptor reports POLLHUP, POLLERR or POLLNVAL (e.g. an unplugged USB adapter) is
+ * dropped from the poll set, as poll would otherwise return immediately on every call.
+ */
+class LinuxFsSerialPoller implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxFsSerialPoller.class);
+
+    static final String NAME = "pi4j-linuxfs-serial-poller";
+    private static final int HANGUP = LinuxLibC.POLLHUP | LinuxLibC.POLLERR | LinuxLibC.POLLNVAL;
+
+    private final LinuxLibC libc = LinuxLibC.INSTANCE;
+    private final List<LinuxFsSerial> ports = new ArrayList<>();
+    private final byte[] wake = new byte[] { 1 };
+    private final int[] wakePipe = new int[2];
+    private volatile boolean changed;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Start receiving the data of an open port.  The poller thread is started with the first port.
+     */
+    synchronized void register(LinuxFsSerial serial) {
+        start();
+        if (!ports.contains(serial)) {
+            ports.add(serial);
+        }
+        wakeup();
+    }
+
+    /**
+     * Stop receiving the data of a port.  Once this method returns the port's file descriptor is
+     * no longer polled, but a receive already in progress may complete.
+     */
+    synchronized void unregister(LinuxFsSerial serial) {
+        if (ports.remove(serial) && thread != null) {
+            wakeup();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (thread == null) return;
+        running = false;
+        wakeup();
+        try {
+            thread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ports.clear();
+        libc.close(wakePipe[0]);
+        libc.close(wakePipe[1]);
+        thread = null;
+    }
+
+    private void start() {
+        if (thread != null) return;
+        if (libc.pipe(wakePipe) < 0) {
+            throw new IllegalStateException("Failed to create poller wakeup pipe; errno=" + Native.getLastError());
+        }
+        running = true;
+        thread = new Thread(this::run, NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void wakeup() {
+        changed = true;
+        libc.write(wakePipe[1], wake, 1);
+    }
+
+    private synchronized LinuxFsSerial[] snapshot() {
+        changed = false;
+        return ports.toArray(new LinuxFsSerial[0]);
+    }
+
+    private void run() {
+        logger.debug("serial poller started");
+        LinuxFsSerial[] polled = new LinuxFsSerial[0];
+        Memory fds = null;
+        byte[] buffer = new byte[4096];
+        while (running) {
+            // rebuild the pollfd array only when the ports have changed
+            if (changed || fds == null) {
+                polled = snapshot();
+                fds = new Memory((long) (polled.length + 1) * LinuxLibC.POLLFD_SIZE);
+                fds.setInt(0, wakePipe[0]);
+                fds.setShort(LinuxLibC.POLLFD_EVENTS_OFFSET, LinuxLibC.POLLIN);
+                for (int i = 0; i < polled.length; i++) {
+                    long offset = (long) (i + 1) * LinuxLibC.POLLFD_SIZE;
+                    fds.setInt(offset, polled[i].fd());
+                    fds.setShort(offset + LinuxLibC.POLLFD_EVENTS_OFFSET, LinuxLibC.POLLIN);
+                }
+            }
+
+            // wait for input, or until the first idle frame completes
+            long deadline = Long.MAX_VALUE;
+            for (LinuxFsSerial serial : polled) {
+                deadline = Math.min(deadline, serial.receiveDeadline());
+            }
+            int timeout = -1;
+            if (deadline != Long.MAX_VALUE) {
+                timeout = (int) Math.max(0, (deadline - System.nanoTime() + 999_999) / 1_000_000);
+            }
+
+            int count = libc.poll(fds, polled.length + 1, timeout);
+            long timestamp = System.nanoTime();
+            if (count < 0) {
+                // EINTR; any other error is logged and polling continues
+                logger.trace("poll failed; errno={}", Native.getLastError());
+                continue;
+            }
+            if ((fds.getShort(LinuxLibC.POLLFD_REVENTS_OFFSET) & LinuxLibC.POLLIN) != 0) {
+                libc.read(wakePipe[0], buffer, buffer.length);
+            }
+            for (int i = 0; i < polled.length; i++) {
+                long offset = (long) (i + 1) * LinuxLibC.POLLFD_SIZE;
+                short revents = fds.getShort(offset + LinuxLibC.POLLFD_REVENTS_OFFSET);
+                try {
+                    // data received before a hangup is still delivered
+                    if ((revents & LinuxLibC.POLLIN) != 0) {
+                        receive(polled[i], buffer, timestamp);
+                    }
+                    if ((revents & HANGUP) != 0) {
+                        hangup(polled[i], revents);
+                    } else {
+                        polled[i].expire(System.nanoTime());
+                    }
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                    // never keep polling a descriptor that hung up, or poll returns immediately forever
+                    if ((revents & HANGUP) != 0) {
+                        unregister(polled[i]);
+                    }
+                }
+            }
+        }
+        logger.debug("serial poller stopped");
+    }
+
+    private void hangup(LinuxFsSerial serial, short revents) {
+        // rebuilds the pollfd array without the port before the next poll
+        unregister(serial);
+        // POLLNVAL: the descriptor was already closed, the port is closing or closed
+        if ((revents & (LinuxLibC.POLLHUP | LinuxLibC.POLLERR)) != 0) {
+            logger.warn("Serial device {} hung up or reported an error (revents=0x{}); closing the port",
+                serial.config().device(), Integer.toHexString(revents & 0xffff));
+            serial.hangup();
+        }
+    }
+
+    private void receive(LinuxFsSerial serial, byte[] buffer, long timestamp) {
+        // only read what is available, so a blocking VMIN/VTIME configuration never stalls the poller
+        int available = serial.available();
+        if (available <= 0) return;
+        int count = serial.read(buffer, 0, Math.min(available, buffer.length));
+        if (count > 0) {
+            serial.receive(buffer, 0, count, timestamp);
+        }
+    }
+}
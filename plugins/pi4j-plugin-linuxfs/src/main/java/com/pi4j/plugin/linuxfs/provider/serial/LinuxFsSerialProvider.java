@@ -0,0 +1,25 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+
+/**
+ * <p>LinuxFsSerialProvider interface.</p>
+ */
+public interface LinuxFsSerialProvider extends SerialProvider {
+
+    /** {@link LinuxFsPlugin#SERIAL_PROVIDER_NAME} */
+    String NAME = LinuxFsPlugin.SERIAL_PROVIDER_NAME;
+    /** {@link LinuxFsPlugin#SERIAL_PROVIDER_ID} */
+    String ID = LinuxFsPlugin.SERIAL_PROVIDER_ID;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link LinuxFsSerialProviderImpl} object.
+     */
+    static LinuxFsSerialProviderImpl newInstance() {
+        return new LinuxFsSerialProviderImpl();
+    }
+
+}
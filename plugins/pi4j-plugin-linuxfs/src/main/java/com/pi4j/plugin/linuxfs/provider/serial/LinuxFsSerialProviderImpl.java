@@ -0,0 +1,61 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.io.serial.SerialProviderBase;
+
+/**
+ * <p>LinuxFsSerialProviderImpl class.</p>
+ */
+public class LinuxFsSerialProviderImpl extends SerialProviderBase
+    implements LinuxFsSerialProvider {
+
+    // receives the data of all ports with listeners; created with the first port so that
+    // libc is only loaded when the provider is actually used
+    private LinuxFsSerialPoller poller;
+
+    public LinuxFsSerialProviderImpl() {
+        this.id = ID;
+        this.name = NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        // the linux FS driver should always be higher priority
+        return 150;
+    }
+
+    synchronized LinuxFsSerialPoller poller() {
+        if (poller == null) {
+            poller = new LinuxFsSerialPoller();
+        }
+        return poller;
+    }
+
+    @Override
+    public Serial create(SerialConfig config) {
+        Serial serial = new LinuxFsSerial(this, config);
+        serial.open();
+
+        this.context.registry().add(serial);
+        return serial;
+    }
+
+    @Override
+    public SerialProvider shutdown(Context context) throws ShutdownException {
+        this.context.registry().allByType(LinuxFsSerial.class).values().stream()
+            .filter(LinuxFsSerial::isOpen)
+            .forEach(LinuxFsSerial::close);
+        synchronized (this) {
+            if (poller != null) {
+                poller.close();
+                poller = null;
+            }
+        }
+
+        return super.shutdown(context);
+    }
+}
@@ -3,14 +3,19 @@ package com.pi4j.plugin.linuxfs.provider.spi;
 import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiBase;
 import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiTransaction;
 import com.pi4j.plugin.linuxfs.internal.LinuxLibC;
 import com.sun.jna.Memory;
 import com.sun.jna.Native;
+import com.sun.jna.Pointer;
 import com.sun.jna.Structure;
 import com.sun.jna.ptr.IntByReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 import static com.pi4j.plugin.linuxfs.internal.LinuxLibC.*;
 
 /**
@@ -37,13 +42,8 @@ public class LinuxFsSpi extends SpiBase implements Spi {
     private final static byte SIZE_OF_INT = 4;
 
     private static int SPI_IOC_MESSAGE(int n) {
-
-        // Even though we will pass the structure to ioctl as a pointer, the command needs to know
-        // the actual size of the structure (i.e. sizeof). Therefore, we use the ByValue interface
-        // when getting the struct size.
-        int structSize = Native.getNativeSize(spi_ioc_transfer.ByValue.class);
-        int msgSize = ((((n)*(structSize)) < (1 << _IOC_SIZEBITS))
-                ? ((n)*(structSize)) : 0);
+        int msgSize = ((((n)*(TRANSFER_SIZE)) < (1 << _IOC_SIZEBITS))
+                ? ((n)*(TRANSFER_SIZE)) : 0);
 
         return _IOC(_IOC_WRITE, SPI_IOC_MAGIC, (byte)0, msgSize);
     }
@@ -92,6 +92,21 @@ public class LinuxFsSpi extends SpiBase implements Spi {
         public static class ByValue extends spi_ioc_transfer implements Structure.ByValue {}
     }
 
+    // Even though we pass the transfers to ioctl as a pointer, the command needs to know
+    // the actual size of the structure (i.e. sizeof). Therefore, we use the ByValue interface
+    // when getting the struct size.
+    private final static int TRANSFER_SIZE = Native.getNativeSize(spi_ioc_transfer.ByValue.class);
+
+    // Field offsets of spi_ioc_transfer; the transfer array is filled in place instead of
+    // writing a Structure per call, and the trailing nbits/word delay/pad bytes stay zero.
+    private final static int TRANSFER_TX_BUF = 0;
+    private final static int TRANSFER_RX_BUF = 8;
+    private final static int TRANSFER_LEN = 16;
+    private final static int TRANSFER_SPEED_HZ = 20;
+    private final static int TRANSFER_DELAY_USECS = 24;
+    private final static int TRANSFER_BITS_PER_WORD = 26;
+    private final static int TRANSFER_CS_CHANGE = 27;
+
     ///////////////////////////////////
     // spi.h
     private final byte 	SPI_CPHA	=	1;	/* clock phase */
@@ -106,6 +121,14 @@ public class LinuxFsSpi extends SpiBase implements Spi {
     private final LinuxLibC libc = LinuxLibC.INSTANCE;
     private int fd;
 
+    // Default of the spidev 'bufsiz' module parameter; the limit of the total length of a message.
+    private final static int SPIDEV_BUFSIZ = 4096;
+
+    // Native data buffer and transfer array, reused for all messages and grown as needed.
+    private final static int MIN_BUFFER_SIZE = 64;
+    private PeerAccessibleMemory buffer;
+    private PeerAccessibleMemory transfers;
+
     public LinuxFsSpi(LinuxFsSpiProviderImpl provider, SpiConfig config) {
         super(provider, config);
     }
@@ -172,35 +195,75 @@ public class LinuxFsSpi extends SpiBase implements Spi {
     public void close() {
         libc.close(fd);
 
+        synchronized (this) {
+            if (buffer != null) {
+                buffer.close();
+                buffer = null;
+            }
+            if (transfers != null) {
+                transfers.close();
+                transfers = null;
+            }
+        }
+
         super.close();
     }
 
     @Override
-    public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
-        PeerAccessibleMemory buf = new PeerAccessibleMemory(numberOfBytes);
+    public synchronized int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        PeerAccessibleMemory buf = buffer(numberOfBytes);
         buf.write(0, write, writeOffset, numberOfBytes);
 
         // According to the docs you can use the same buffer for tx/rx.
-        spi_ioc_transfer transfer = new spi_ioc_transfer();
-        transfer.tx_buf = buf.getPeer();
-        transfer.rx_buf = buf.getPeer();
-        transfer.bits_per_word = 0;
-        transfer.speed_hz = config.baud();
-        transfer.delay_usecs = 0;
-        transfer.len = numberOfBytes;
-
-        int ret = libc.ioctl(fd, SPI_IOC_MESSAGE(1), transfer);
-        if (ret < 0) {
-            LOG.error("Could not write SPI message. ret {}, error: {}", ret, Native.getLastError());
-            numberOfBytes = -1;
+        transfers(1);
+        setTransfer(0, buf.getPeer(), buf.getPeer(), numberOfBytes, 0, 0, 0, false);
+
+        if (message(1) < 0) {
+            return -1;
         }
-        else {
-            buf.read(0, read, readOffset, numberOfBytes);
+        buf.read(0, read, readOffset, numberOfBytes);
+        return numberOfBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All segments are submitted with a single SPI_IOC_MESSAGE ioctl.  Note that the spidev
+     * driver limits the total length of a message to its 'bufsiz' module parameter (4096 bytes
+     * by default).
+     */
+    @Override
+    public synchronized int transfer(SpiTransaction transaction) {
+        int count = transaction.size();
+        PeerAccessibleMemory buf = buffer(transaction.length());
+        transfers(count);
+
+        // Each segment has its own region of the data buffer, used for both tx and rx.
+        long position = 0;
+        for (int i = 0; i < count; i++) {
+            SpiTransaction.Segment segment = transaction.segments().get(i);
+            long peer = buf.getPeer() + position;
+            if (segment.write() != null) {
+                buf.write(position, segment.write(), segment.writeOffset(), segment.length());
+            }
+            setTransfer(i, segment.write() != null ? peer : 0, segment.read() != null ? peer : 0,
+                    segment.length(), segment.speedHz(), segment.delayMicros(), segment.bitsPerWord(),
+                    segment.csChange());
+            position += segment.length();
         }
 
-        buf.close();
+        if (message(count) < 0) {
+            return -1;
+        }
 
-        return numberOfBytes;
+        position = 0;
+        for (SpiTransaction.Segment segment : transaction.segments()) {
+            if (segment.read() != null) {
+                buf.read(position, segment.read(), segment.readOffset(), segment.length());
+            }
+            position += segment.length();
+        }
+        return transaction.length();
     }
 
     @Override
@@ -215,25 +278,16 @@ public class LinuxFsSpi extends SpiBase implements Spi {
     }
 
     @Override
-    public int read(byte[] buffer, int offset, int length) {
-        PeerAccessibleMemory buf = new PeerAccessibleMemory(length);
-
-        spi_ioc_transfer transfer = new spi_ioc_transfer();
-        transfer.tx_buf = 0;
-        transfer.rx_buf = buf.getPeer();
-        transfer.bits_per_word = 0;
-        transfer.speed_hz = config.baud();
-        transfer.delay_usecs = 0;
-        transfer.len = length;
-
-        int ret = libc.ioctl(fd, SPI_IOC_MESSAGE(1), transfer);
-        if (ret < 0) {
-            LOG.error("Could not write SPI message. ret {}, error: {}", ret, Native.getLastError());
-            length = -1;
-        }
+    public synchronized int read(byte[] buffer, int offset, int length) {
+        PeerAccessibleMemory buf = buffer(length);
 
-        buf.close();
+        transfers(1);
+        setTransfer(0, 0, buf.getPeer(), length, 0, 0, 0, false);
 
+        if (message(1) < 0) {
+            return -1;
+        }
+        buf.read(0, buffer, offset, length);
         return length;
     }
 
@@ -243,31 +297,178 @@ public class LinuxFsSpi extends SpiBase implements Spi {
     }
 
     @Override
-    public int write(byte[] data, int offset, int length) {
-        // We could reuse this buffer for all requests as long as it is large enough.
-        // For now we'll alloc/free a new one on each request.
-        PeerAccessibleMemory buf = new PeerAccessibleMemory(length);
+    public synchronized int write(byte[] data, int offset, int length) {
+        PeerAccessibleMemory buf = buffer(length);
         buf.write(0, data, offset, length);
 
-        spi_ioc_transfer transfer = new spi_ioc_transfer();
-        transfer.tx_buf = buf.getPeer();
-        transfer.rx_buf = 0;
-        transfer.bits_per_word = 0;
-        transfer.speed_hz = config.baud();
-        transfer.delay_usecs = 0;
-        transfer.len = length;
+        transfers(1);
+        setTransfer(0, buf.getPeer(), 0, length, 0, 0, 0, false);
 
-        int ret = libc.ioctl(fd, SPI_IOC_MESSAGE(1), transfer);
-        if (ret < 0) {
-            LOG.error("Could not write SPI message. ret {}, error: {}", ret, Native.getLastError());
-            length = 0;
+        if (message(1) < 0) {
+            return 0;
         }
+        return length;
+    }
 
-        buf.close();
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are transferred in place, without copying through the native data buffer.
+     */
+    @Override
+    public synchronized int transfer(ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if (!write.isDirect() || !read.isDirect()) {
+            return super.transfer(write, writeOffset, read, readOffset, numberOfBytes);
+        }
+        int length = Math.min(numberOfBytes, Math.min(write.capacity() - writeOffset, read.capacity() - readOffset));
+        transfers(1);
+        setTransfer(0, address(write, writeOffset, length), address(read, readOffset, length), length, 0, 0, 0, false);
 
+        if (message(1) < 0) {
+            return -1;
+        }
+        read.position(readOffset + length);
         return length;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are read in place, without copying through the native data buffer.
+     */
+    @Override
+    public synchronized int read(ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect()) {
+            return super.read(buffer, offset, length);
+        }
+        length = Math.min(length, buffer.capacity() - offset);
+        transfers(1);
+        setTransfer(0, 0, address(buffer, offset, length), length, 0, 0, 0, false);
+
+        if (message(1) < 0) {
+            return -1;
+        }
+        buffer.position(offset + length);
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are written in place, without copying through the native data buffer.
+     */
+    @Override
+    public synchronized int write(ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect()) {
+            return super.write(buffer, offset, length);
+        }
+        length = Math.min(length, buffer.capacity() - offset);
+        transfers(1);
+        setTransfer(0, address(buffer, offset, length), 0, length, 0, 0, 0, false);
+
+        if (message(1) < 0) {
+            return 0;
+        }
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The frames are batched into SPI_IOC_MESSAGE ioctls of up to {@link SpiTransaction#MAX_SEGMENTS}
+     * transfers and the spidev 'bufsiz' limit (4096 bytes by default).  All transfers of a batch write the same native copy
+     * of the frame, toggle the chip select between frames and are paced by the kernel with the
+     * delay_usecs field.  Direct buffers receive the frames in place.
+     */
+    @Override
+    public synchronized int transferRepeated(byte[] frame, int count, long intervalNanos, ByteBuffer read, int offset) {
+        int length = frame.length;
+        Objects.checkFromIndexSize(offset, count * length, read.capacity());
+        int batch = Math.max(1, Math.min(SpiTransaction.MAX_SEGMENTS, SPIDEV_BUFSIZ / length));
+        long transferNanos = length * 8L * 1_000_000_000L / config.baud();
+        int delayMicros = (int) Math.min(0xffff, Math.max(0, (intervalNanos - transferNanos) / 1000));
+
+        boolean direct = read.isDirect();
+        PeerAccessibleMemory buf = buffer(direct ? length : length + batch * length);
+        buf.write(0, frame, 0, length);
+
+        for (int done = 0; done < count; ) {
+            int n = Math.min(batch, count - done);
+            transfers(n);
+            for (int i = 0; i < n; i++) {
+                long rx = direct
+                        ? address(read, offset + (done + i) * length, length)
+                        : buf.getPeer() + length + (long) i * length;
+                // cs_change on the last transfer would keep CS asserted after the message
+                setTransfer(i, buf.getPeer(), rx, length, 0, delayMicros, 0, i < n - 1);
+            }
+            if (message(n) < 0) {
+                return -1;
+            }
+            if (!direct) {
+                read.duplicate().position(offset + done * length).put(buf.getByteBuffer(length, (long) n * length));
+            }
+            done += n;
+        }
+        return count * length;
+    }
+
+    /**
+     * Get the native address of the given offset in a direct buffer.
+     */
+    private static long address(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return Pointer.nativeValue(Native.getDirectBufferPointer(buffer)) + offset;
+    }
+
+    /**
+     * Get the native data buffer, growing it to at least the given size.
+     */
+    private PeerAccessibleMemory buffer(int size) {
+        if (buffer == null || buffer.size() < size) {
+            long capacity = Math.max(size, buffer == null ? MIN_BUFFER_SIZE : buffer.size() * 2);
+            if (buffer != null) {
+                buffer.close();
+            }
+            buffer = new PeerAccessibleMemory(capacity);
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensure the native transfer array holds at least the given number of transfers.
+     */
+    private void transfers(int count) {
+        long size = (long) count * TRANSFER_SIZE;
+        if (transfers == null || transfers.size() < size) {
+            if (transfers != null) {
+                transfers.close();
+            }
+            transfers = new PeerAccessibleMemory(size);
+            transfers.clear(size);
+        }
+    }
+
+    private void setTransfer(int index, long tx, long rx, int length, int speedHz, int delayMicros,
+                             int bitsPerWord, boolean csChange) {
+        long base = (long) index * TRANSFER_SIZE;
+        transfers.setLong(base + TRANSFER_TX_BUF, tx);
+        transfers.setLong(base + TRANSFER_RX_BUF, rx);
+        transfers.setInt(base + TRANSFER_LEN, length);
+        transfers.setInt(base + TRANSFER_SPEED_HZ, speedHz != 0 ? speedHz : config.baud());
+        transfers.setShort(base + TRANSFER_DELAY_USECS, (short) delayMicros);
+        transfers.setByte(base + TRANSFER_BITS_PER_WORD, (byte) bitsPerWord);
+        transfers.setByte(base + TRANSFER_CS_CHANGE, (byte) (csChange ? 1 : 0));
+    }
+
+    private int message(int count) {
+        int ret = libc.ioctl(fd, SPI_IOC_MESSAGE(count), transfers);
+        if (ret < 0) {
+            LOG.error("Could not write SPI message. ret {}, error: {}", ret, Native.getLastError());
+        }
+        return ret;
+    }
+
     /**
      * Extension of Memory to allow direct access to the native peer pointer. This is required because
      * the {@link spi_ioc_transfer} structure uses a long for the tx_buf and rx_buf fields but a
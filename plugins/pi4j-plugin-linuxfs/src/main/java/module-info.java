@@ -40,6 +40,7 @@ module com.pi4j.plugin.linuxfs {
     exports com.pi4j.plugin.linuxfs.provider.gpio.digital;
     exports com.pi4j.plugin.linuxfs.provider.pwm;
     exports com.pi4j.plugin.linuxfs.provider.i2c;
+    exports com.pi4j.plugin.linuxfs.provider.serial;
 
     provides com.pi4j.extension.Plugin
             with LinuxFsPlugin;
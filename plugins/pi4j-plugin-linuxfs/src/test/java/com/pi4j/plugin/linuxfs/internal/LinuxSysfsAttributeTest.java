@@ -0,0 +1,57 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinuxSysfsAttributeTest {
+
+    private Path file;
+    private LinuxSysfsAttribute attribute;
+
+    @BeforeEach
+    void beforeTest() throws IOException {
+        file = Files.createTempFile("pi4j-sysfs-attribute", null);
+        Files.writeString(file, "1\n");
+        attribute = new LinuxSysfsAttribute(file);
+    }
+
+    @AfterEach
+    void afterTest() throws IOException {
+        attribute.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testReadWrite() throws IOException {
+        assertEquals('1', attribute.readChar());
+        attribute.writeLong(-1234);
+        assertEquals(-1234, attribute.readLong());
+    }
+
+    @Test
+    void testReadAfterInterrupt() throws IOException {
+        assertEquals('1', attribute.readChar());
+
+        // an interrupted read closes the underlying channel
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(ClosedByInterruptException.class, attribute::readChar);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // the attribute re-opens the closed channel on the next access
+        assertEquals('1', attribute.readChar());
+        attribute.writeChar('0');
+        assertEquals('0', attribute.readChar());
+    }
+}
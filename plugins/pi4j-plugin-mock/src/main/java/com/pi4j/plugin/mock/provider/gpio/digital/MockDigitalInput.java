@@ -39,6 +39,7 @@ import com.pi4j.io.gpio.digital.*;
 public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
 
     private DigitalState state = DigitalState.LOW;
+    private long sequence = 0;
 
     /**
      * <p>Constructor for MockDigitalInput.</p>
@@ -63,10 +64,33 @@ public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
      * @return a {@link com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput} object.
      */
     public MockDigitalInput mockState(DigitalState state){
+        return mockState(state, System.nanoTime());
+    }
+
+    /**
+     * <p>mockState.</p>
+     *
+     * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
+     * @param timestamp monotonic timestamp (in nanoseconds) of the simulated state change
+     * @return a {@link com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput} object.
+     */
+    public MockDigitalInput mockState(DigitalState state, long timestamp){
         if(!this.state.equals(state)) {
             this.state = state;
-            this.dispatch(new DigitalStateChangeEvent(this, this.state));
+            this.dispatch(new DigitalStateChangeEvent(this, this.state, timestamp, ++this.sequence));
         }
         return this;
     }
+
+    /**
+     * <p>mockWatchdog.</p>
+     * <p>
+     * Simulate an expired watchdog timeout by dispatching a watchdog event with the current state.
+     *
+     * @return a {@link com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput} object.
+     */
+    public MockDigitalInput mockWatchdog(){
+        this.dispatch(new DigitalWatchdogEvent(this, this.state, System.nanoTime(), ++this.sequence));
+        return this;
+    }
 }
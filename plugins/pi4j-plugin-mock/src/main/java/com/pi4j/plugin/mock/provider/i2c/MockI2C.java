@@ -73,6 +73,7 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
     @Override
     public void close() {
         super.close();
+        this.i2CBus.close();
         logger.debug("[{}::{}] :: CLOSE(BUS={}; DEVICE={})",
             Mock.I2C_PROVIDER_NAME, this.id, config.bus(), config.device());
     }
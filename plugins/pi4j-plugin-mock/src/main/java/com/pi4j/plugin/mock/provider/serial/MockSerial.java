@@ -76,7 +76,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int available() {
+    public synchronized int available() {
         return raw.size();
     }
 
@@ -94,7 +94,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int write(byte b) {
+    public synchronized int write(byte b) {
         raw.add(b);
         logger.info(" [");
         logger.info(Mock.SERIAL_PROVIDER_NAME);
@@ -108,7 +108,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int write(byte[] data, int offset, int length) {
+    public synchronized int write(byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
         for(int p = offset; p-offset < length; p++){
             raw.add(data[p]); // add to internal buffer
@@ -125,7 +125,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int write(Charset charset, CharSequence data) {
+    public synchronized int write(Charset charset, CharSequence data) {
         byte[] buffer = data.toString().getBytes(charset);
         for(int p = 0; p < buffer.length; p++){
             raw.add(buffer[p]); // add to internal buffer
@@ -142,7 +142,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int read() {
+    public synchronized int read() {
         if(raw.isEmpty()) return -1;
         byte b = raw.pop();
         logger.info(" [");
@@ -157,7 +157,7 @@ public class MockSerial extends SerialBase implements Serial {
 
     /** {@inheritDoc} */
     @Override
-    public int read(byte[] buffer, int offset, int length) {
+    public synchronized int read(byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
 
         if(raw.isEmpty()) return -1;
@@ -33,6 +33,7 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
 import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
@@ -110,6 +111,12 @@ public class PiGpioPlugin implements Plugin {
     public static Integer DEFAULT_PIGPIO_PORT = 8888;
     /** Constant <code>DEFAULT_PIGPIO_REMOTE</code> */
     public static Boolean DEFAULT_PIGPIO_REMOTE = false;
+    /** Constant <code>DEFAULT_PIGPIO_POOL_SIZE</code> */
+    public static Integer DEFAULT_PIGPIO_POOL_SIZE = PiGpioConst.DEFAULT_POOL_SIZE;
+    /** Constant <code>DEFAULT_PIGPIO_POOL_IDLE_TIMEOUT</code> (milliseconds) */
+    public static Long DEFAULT_PIGPIO_POOL_IDLE_TIMEOUT = PiGpioConst.DEFAULT_POOL_IDLE_TIMEOUT;
+    /** Constant <code>DEFAULT_PIGPIO_POOL_HEALTH_CHECK</code> (milliseconds) */
+    public static Long DEFAULT_PIGPIO_POOL_HEALTH_CHECK = PiGpioConst.DEFAULT_POOL_HEALTH_CHECK_INTERVAL;
 
     /** {@inheritDoc} */
     @Override
@@ -152,8 +159,16 @@ public class PiGpioPlugin implements Plugin {
                 port = Integer.parseInt(service.context().properties().get("pipgio.port",Integer.toString(port)));
             }
 
+            // get the socket connection pool settings
+            int poolSize = Integer.parseInt(service.context().properties().get("pigpio.pool.size",
+                    DEFAULT_PIGPIO_POOL_SIZE.toString()));
+            long poolIdleTimeout = Long.parseLong(service.context().properties().get("pigpio.pool.idle-timeout",
+                    DEFAULT_PIGPIO_POOL_IDLE_TIMEOUT.toString()));
+            long poolHealthCheck = Long.parseLong(service.context().properties().get("pigpio.pool.health-check",
+                    DEFAULT_PIGPIO_POOL_HEALTH_CHECK.toString()));
+
             // create remote socket connected instance of PIGPIO
-            piGpio = PiGpio.newSocketInstance(host, port);
+            piGpio = PiGpio.newSocketInstance(host, port, poolSize, poolIdleTimeout, poolHealthCheck);
         } else {
             // create a local/native binding instance of PIGPIO
             piGpio = PiGpio.newNativeInstance();
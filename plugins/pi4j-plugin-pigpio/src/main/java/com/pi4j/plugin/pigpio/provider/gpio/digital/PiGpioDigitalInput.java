@@ -33,9 +33,12 @@ import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
 import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import com.pi4j.library.pigpio.PiGpioWatchdogEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,10 +72,26 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
      * PIGPIO Pin Change Event Handler
      * <p>
      * This listener implementation will forward pin change events received from PIGPIO
-     * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin.
+     * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin, and
+     * watchdog reports to registered Pi4J 'DigitalWatchdogEvent' event listeners.
      */
-    private PiGpioStateChangeListener piGpioPinListener =
-            event -> dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+    private PiGpioStateChangeListener piGpioPinListener = new PiGpioStateChangeListener() {
+        @Override
+        public void onChange(PiGpioStateChangeEvent event) {
+            dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this,
+                    DigitalState.getState(event.state().value()),
+                    event.extendedTick() * 1000,
+                    event.sequence()));
+        }
+
+        @Override
+        public void onWatchdog(PiGpioWatchdogEvent event) {
+            dispatch(new DigitalWatchdogEvent(PiGpioDigitalInput.this,
+                    DigitalState.getState(event.state().value()),
+                    event.extendedTick() * 1000,
+                    event.sequence()));
+        }
+    };
 
     /** {@inheritDoc} */
     @Override
@@ -108,6 +127,12 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
 
         // add this pin listener
         this.piGpio.addPinListener(pin, piGpioPinListener);
+
+        // if configured, set GPIO watchdog (PIGPIO supports timeouts of up to 60 seconds)
+        if(this.config.watchdog() != null && this.config.watchdog() > 0) {
+            int timeout = (int)Math.min(this.config.watchdog(), PiGpioConst.PI_MAX_WDOG_TIMEOUT);
+            this.piGpio.gpioSetWatchdog(pin, timeout);
+        }
         return this;
     }
 
@@ -139,6 +164,11 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     /** {@inheritDoc} */
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
+        // disable the GPIO watchdog (if configured)
+        if(this.config.watchdog() != null && this.config.watchdog() > 0) {
+            this.piGpio.gpioSetWatchdog(pin, PiGpioConst.PI_MIN_WDOG_TIMEOUT);
+        }
+
         // remove this pin listener
         this.piGpio.removePinListener(pin, piGpioPinListener);
         return super.shutdown(context);
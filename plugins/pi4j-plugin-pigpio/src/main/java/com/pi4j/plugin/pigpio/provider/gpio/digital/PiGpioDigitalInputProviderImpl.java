@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalSnapshot;
 import com.pi4j.library.pigpio.PiGpio;
 
 /**
@@ -77,4 +78,21 @@ public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase imp
             return digitalInput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The inputs are read with a single bank read (BR1, and BR2 for inputs above GPIO 31).
+     */
+    @Override
+    public DigitalSnapshot snapshot() {
+        long mask = 0;
+        for (DigitalInput input : context.registry().allByType(DigitalInput.class).values()) {
+            if (input.provider() == this) mask |= DigitalSnapshot.bit(input.config().address());
+        }
+        long levels = 0;
+        if ((int) mask != 0) levels |= piGpio.gpioReadBank(1) & 0xFFFFFFFFL;
+        if ((int) (mask >>> 32) != 0) levels |= (piGpio.gpioReadBank(2) & 0xFFFFFFFFL) << 32;
+        return new DigitalSnapshot(mask, levels, System.nanoTime());
+    }
 }
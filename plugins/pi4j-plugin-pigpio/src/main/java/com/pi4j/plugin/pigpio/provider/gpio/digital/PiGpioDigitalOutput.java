@@ -36,6 +36,7 @@ import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioWave;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,4 +89,53 @@ public class PiGpioDigitalOutput extends DigitalOutputBase implements DigitalOut
         }
         return super.state(state);
     }
+
+    /**
+     * Create a builder for a hardware timed waveform transmitted by the pigpio library of this output.
+     *
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioWave.Builder}
+     */
+    public PiGpioWave.Builder newWave() {
+        return PiGpioWave.newBuilder(piGpio);
+    }
+
+    /**
+     * Transmit a hardware (DMA) timed pulse train on this output.  Starting with the given state,
+     * the output alternates between high and low for each of the given durations.
+     *
+     * @param state the state of the first pulse
+     * @param micros the duration of each pulse in microseconds
+     * @return the wave being transmitted; close it to release its wave id
+     * @throws IOException if the wave cannot be created or transmitted
+     */
+    public PiGpioWave pulses(DigitalState state, int ... micros) throws IOException {
+        PiGpioWave.Builder builder = newWave();
+        boolean high = state.isHigh();
+        for (int duration : micros) {
+            if (high) builder.high(pin, duration);
+            else builder.low(pin, duration);
+            high = !high;
+        }
+        try {
+            PiGpioWave wave = builder.build();
+            try {
+                return wave.send();
+            } catch (PiGpioException e) {
+                wave.close();
+                throw e;
+            }
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update the state after the pin has been written by a bank update of the provider.
+     *
+     * @param state the state written
+     */
+    void updated(DigitalState state) {
+        super.state(state);
+    }
 }
@@ -32,8 +32,13 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalSnapshot;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.library.pigpio.PiGpio;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p>PiGpioDigitalOutputProviderImpl class.</p>
  *
@@ -77,4 +82,45 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
             return digitalOutput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The outputs are written with the bank set and clear operations (BS1/BS2 and BC1/BC2):
+     * all outputs of a bank set HIGH change at the same instant, followed by all outputs of
+     * the bank set LOW.
+     */
+    @Override
+    public void update(long high, long low) {
+        if ((high & low) != 0) {
+            throw new IllegalArgumentException("Addresses cannot be set HIGH and LOW at the same time: " +
+                    Long.toBinaryString(high & low));
+        }
+        List<PiGpioDigitalOutput> outputs = new ArrayList<>();
+        long mask = 0;
+        for (DigitalOutput output : context.registry().allByType(DigitalOutput.class).values()) {
+            if (output.provider() != this) continue;
+            long bit = DigitalSnapshot.bit(output.config().address());
+            if (((high | low) & bit) == 0) continue;
+            mask |= bit;
+            outputs.add((PiGpioDigitalOutput) output);
+        }
+        if ((high | low) != mask) {
+            throw new IllegalArgumentException("No digital output of this provider for addresses: " +
+                    Long.toBinaryString((high | low) & ~mask));
+        }
+
+        for (int bank = 1; bank <= 2; bank++) {
+            int shift = (bank - 1) * 32;
+            int set = (int) (high >>> shift);
+            int clear = (int) (low >>> shift);
+            if (set != 0) piGpio.gpioSetBank(bank, set);
+            if (clear != 0) piGpio.gpioClearBank(bank, clear);
+        }
+
+        // update the state of the output instances and notify their listeners
+        for (PiGpioDigitalOutput output : outputs) {
+            output.updated(DigitalState.getState((high & DigitalSnapshot.bit(output.config().address())) != 0));
+        }
+    }
 }
@@ -0,0 +1,284 @@
+package com.pi4j.plugin.pigpio.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangI2C.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CBase;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProvider;
+import com.pi4j.io.i2c.I2CTransaction;
+import com.pi4j.library.pigpio.PiGpio;
+
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioBitBangI2C class.</p>
+ * <p>
+ * An I2C device on a bus bit-banged by the pigpio library.  Every operation is encoded as
+ * a sequence of bit-bang I2C zip commands and transferred with a single bbI2CZip call, so
+ * register reads use repeated starts and multi-byte register addresses are supported.
+ *
+ * @see PiGpioI2CProvider#SDA_KEY
+ */
+public class PiGpioBitBangI2C extends I2CBase<PiGpioBitBangI2CBus> implements I2C {
+
+    protected final PiGpio piGpio;
+
+    /**
+     * <p>Constructor for PiGpioBitBangI2C.</p>
+     *
+     * @param piGpio   a {@link PiGpio} object.
+     * @param i2CBus   a {@link PiGpioBitBangI2CBus} object.
+     * @param provider a {@link I2CProvider} object.
+     * @param config   a {@link I2CConfig} object.
+     */
+    public PiGpioBitBangI2C(PiGpio piGpio, PiGpioBitBangI2CBus i2CBus, I2CProvider provider, I2CConfig config) {
+        super(provider, config, i2CBus);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+
+        // the bit-banged bus is already open; the device needs no handle
+        this.isOpen = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public I2C initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        return this;
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(byte b) {
+        int result = zip(I2CTransaction.newBuilder(this.config.device()).write(b).build());
+        return result < 0 ? result : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        int result = zip(I2CTransaction.newBuilder(this.config.device()).write(data, offset, length).build());
+        return result < 0 ? result : length;
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        int result = zip(I2CTransaction.newBuilder(this.config.device()).read(buffer).build());
+        return result < 0 ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return zip(I2CTransaction.newBuilder(this.config.device()).read(buffer, offset, length).build());
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE REGISTER WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeRegister(int register, byte b) {
+        int result = zip(I2CTransaction.newBuilder(this.config.device()).write((byte) register, b).build());
+        return result < 0 ? result : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeRegister(int register, byte[] data, int offset, int length) {
+        return writeRegister(new byte[] { (byte) register }, data, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeRegister(byte[] register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        // the register address and the data must be written without a repeated start
+        byte[] buffer = new byte[register.length + length];
+        System.arraycopy(register, 0, buffer, 0, register.length);
+        System.arraycopy(data, offset, buffer, register.length, length);
+        int result = zip(I2CTransaction.newBuilder(this.config.device()).write(buffer).build());
+        return result < 0 ? result : length;
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE REGISTER READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readRegister(int register) {
+        byte[] buffer = new byte[1];
+        int result = readRegister(register, buffer, 0, 1);
+        return result < 0 ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return zip(I2CTransaction.newBuilder(this.config.device())
+            .write(register)
+            .read(buffer, offset, length)
+            .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readRegister(int register, byte[] buffer, int offset, int length) {
+        return readRegister(new byte[] { (byte) register }, buffer, offset, length);
+    }
+
+    // -------------------------------------------------------------------
+    // COMBINED TRANSACTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The transaction is encoded as a bit-bang I2C zip command sequence with a
+     * (repeated) start before each segment and transferred with a single PIGPIO
+     * bbI2CZip call (BI2CZ command).</p>
+     */
+    @Override
+    public int transfer(I2CTransaction transaction) {
+        int read = execute(() -> zip(transaction));
+        if (read != transaction.readLength()) {
+            throw new IllegalStateException(
+                "Expected to read " + transaction.readLength() + " bytes but only read " + read + " bytes");
+        }
+        return read;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeReadRegisterWord(int register, int word) {
+        byte[] buffer = new byte[2];
+        int result = zip(I2CTransaction.newBuilder(this.config.device())
+            .write((byte) register, (byte) word, (byte) (word >> 8))
+            .read(buffer)
+            .build());
+        return result < 0 ? result : Byte.toUnsignedInt(buffer[0]) | Byte.toUnsignedInt(buffer[1]) << 8;
+    }
+
+    /**
+     * Encode and transfer the segments of a transaction with a single bbI2CZip call.
+     *
+     * @param transaction the transaction to transfer
+     * @return the number of bytes read, or a negative PIGPIO error code
+     */
+    protected int zip(I2CTransaction transaction) {
+        // command bytes: ADDR P, START, ESC, READ/WRITE P P per segment, plus STOP and END
+        byte[] commands = new byte[transaction.size() * 7 + transaction.writeLength() + 2];
+        int position = 0;
+        int address = -1;
+        for (I2CTransaction.Segment segment : transaction.segments()) {
+            if (segment.address() != address) {
+                address = segment.address();
+                commands[position++] = PI_I2C_ADDR;
+                commands[position++] = (byte) address;
+            }
+            commands[position++] = PI_BB_I2C_START;
+            int length = segment.length();
+            if (length > 0xff) {
+                commands[position++] = PI_I2C_ESC;
+            }
+            commands[position++] = (byte) (segment.isRead() ? PI_I2C_READ : PI_I2C_WRITE);
+            commands[position++] = (byte) length;
+            if (length > 0xff) {
+                commands[position++] = (byte) (length >> 8);
+            }
+            if (!segment.isRead()) {
+                System.arraycopy(segment.buffer(), segment.offset(), commands, position, length);
+                position += length;
+            }
+        }
+        commands[position++] = PI_BB_I2C_STOP;
+        commands[position++] = PI_I2C_END;
+
+        // PIGPIO requires the read buffer to be larger than the total read length
+        byte[] buffer = new byte[transaction.readLength() + 1];
+        int read = piGpio.bbI2CZip(this.i2CBus.sda(), commands, position, buffer, buffer.length);
+        if (read < 0) return read;
+
+        // distribute the concatenated read data to the read segments
+        position = 0;
+        for (I2CTransaction.Segment segment : transaction.segments()) {
+            if (segment.isRead()) {
+                int length = Math.min(segment.length(), read - position);
+                if (length <= 0) break;
+                System.arraycopy(buffer, position, segment.buffer(), segment.offset(), length);
+                position += length;
+            }
+        }
+        return read;
+    }
+}
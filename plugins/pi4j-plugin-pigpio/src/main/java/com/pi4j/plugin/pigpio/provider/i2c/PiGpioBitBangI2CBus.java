@@ -0,0 +1,109 @@
+package com.pi4j.plugin.pigpio.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangI2CBus.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CBusBase;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.library.pigpio.PiGpio;
+
+import java.util.concurrent.Callable;
+
+/**
+ * <p>PiGpioBitBangI2CBus class.</p>
+ * <p>
+ * An I2C bus bit-banged by the pigpio library on an arbitrary pair of GPIO pins.  The bus
+ * is opened when the first device on the SDA pin is created and closed with the provider.
+ */
+public class PiGpioBitBangI2CBus extends I2CBusBase {
+
+    protected final PiGpio piGpio;
+    protected final int sda;
+    protected final int scl;
+    protected final int baud;
+
+    /**
+     * <p>Constructor for PiGpioBitBangI2CBus.</p>
+     *
+     * @param piGpio a {@link PiGpio} object.
+     * @param config a {@link I2CConfig} object.
+     * @param sda the GPIO used for SDA
+     * @param scl the GPIO used for SCL
+     * @param baud the baud rate
+     */
+    public PiGpioBitBangI2CBus(PiGpio piGpio, I2CConfig config, int sda, int scl, int baud) {
+        super(config);
+        this.piGpio = piGpio;
+        this.sda = sda;
+        this.scl = scl;
+        this.baud = baud;
+        piGpio.bbI2COpen(sda, scl, baud);
+    }
+
+    /**
+     * <p>sda.</p>
+     *
+     * @return the GPIO used for SDA; identifies the bit-banged bus on the pigpio library
+     */
+    public int sda() {
+        return this.sda;
+    }
+
+    /**
+     * <p>scl.</p>
+     *
+     * @return the GPIO used for SCL
+     */
+    public int scl() {
+        return this.scl;
+    }
+
+    /**
+     * <p>baud.</p>
+     *
+     * @return the baud rate of the bus
+     */
+    public int baud() {
+        return this.baud;
+    }
+
+    @Override
+    public <R> R execute(I2C i2c, Callable<R> action) {
+        return _execute(i2c, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        super.close();
+        if (piGpio.isInitialized())
+            piGpio.bbI2CClose(this.sda);
+    }
+}
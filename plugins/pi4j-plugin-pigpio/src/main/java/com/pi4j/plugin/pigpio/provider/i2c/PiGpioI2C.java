@@ -33,11 +33,15 @@ import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
+import com.pi4j.io.i2c.I2CTransaction;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
 /**
  * <p>PiGpioI2C class.</p>
  *
@@ -209,6 +213,79 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
         return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p> Direct buffers receive the data straight from the native PIGPIO library.
+     * </p>
+     */
+    @Override
+    public int readRegister(int register, ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect()) return super.readRegister(register, buffer, offset, length);
+        // perform bounds checking on requested length versus total remaining size available
+        length = Math.min(length, buffer.capacity() - offset);
+        return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
+    }
+
+    // -------------------------------------------------------------------
+    // COMBINED TRANSACTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> The transaction is encoded as a combined I2C zip command sequence
+     * and transferred with a single PIGPIO i2cZip call (I2CZ command).</p>
+     */
+    @Override
+    public int transfer(I2CTransaction transaction) {
+        // command bytes: ADDR P, ESC, READ/WRITE P P per segment, plus COMBINED ON/OFF and END
+        byte[] commands = new byte[transaction.size() * 6 + transaction.writeLength() + 3];
+        int position = 0;
+        int address = this.config.device();
+        commands[position++] = PI_I2C_COMBINED_ON;
+        for (I2CTransaction.Segment segment : transaction.segments()) {
+            if (segment.address() != address) {
+                address = segment.address();
+                commands[position++] = PI_I2C_ADDR;
+                commands[position++] = (byte) address;
+            }
+            int length = segment.length();
+            if (length > 0xff) {
+                commands[position++] = PI_I2C_ESC;
+            }
+            commands[position++] = (byte) (segment.isRead() ? PI_I2C_READ : PI_I2C_WRITE);
+            commands[position++] = (byte) length;
+            if (length > 0xff) {
+                commands[position++] = (byte) (length >> 8);
+            }
+            if (!segment.isRead()) {
+                System.arraycopy(segment.buffer(), segment.offset(), commands, position, length);
+                position += length;
+            }
+        }
+        commands[position++] = PI_I2C_COMBINED_OFF;
+        commands[position++] = PI_I2C_END;
+
+        // PIGPIO requires the read buffer to be larger than the total read length
+        byte[] buffer = new byte[transaction.readLength() + 1];
+        int length = position;
+        int read = execute(() -> piGpio.i2cZip(this.handle, commands, length, buffer, buffer.length));
+        if (read != transaction.readLength()) {
+            throw new IllegalStateException(
+                "Expected to read " + transaction.readLength() + " bytes but only read " + read + " bytes");
+        }
+
+        // distribute the concatenated read data to the read segments
+        position = 0;
+        for (I2CTransaction.Segment segment : transaction.segments()) {
+            if (segment.isRead()) {
+                System.arraycopy(buffer, position, segment.buffer(), segment.offset(), segment.length());
+                position += segment.length();
+            }
+        }
+        return read;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -33,6 +33,11 @@ import com.pi4j.plugin.pigpio.PiGpioPlugin;
 
 /**
  * <p>PiGpioI2CProvider interface.</p>
+ * <p>
+ * Besides the hardware I2C buses, this provider creates I2C devices on buses bit-banged by
+ * the pigpio library on arbitrary GPIO pins.  A bit-banged bus is selected by configuring
+ * the {@link #SDA_KEY} and {@link #SCL_KEY} properties; the I2C bus number then only
+ * identifies the bus within Pi4J.
  *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
@@ -42,6 +47,14 @@ public interface PiGpioI2CProvider extends I2CProvider {
     String NAME = PiGpioPlugin.I2C_PROVIDER_NAME;
     /** Constant <code>ID="PiGpioPlugin.I2C_PROVIDER_ID"</code> */
     String ID = PiGpioPlugin.I2C_PROVIDER_ID;
+    /** Constant <code>SDA_KEY="sda"</code>; the GPIO used for SDA of a bit-banged bus */
+    String SDA_KEY = "sda";
+    /** Constant <code>SCL_KEY="scl"</code>; the GPIO used for SCL of a bit-banged bus */
+    String SCL_KEY = "scl";
+    /** Constant <code>BAUD_KEY="baud"</code>; the baud rate of a bit-banged bus */
+    String BAUD_KEY = "baud";
+    /** Constant <code>DEFAULT_BIT_BANG_BAUD=100000</code> */
+    int DEFAULT_BIT_BANG_BAUD = 100000;
     /**
      * <p>newInstance.</p>
      *
@@ -29,10 +29,15 @@ package com.pi4j.plugin.pigpio.provider.i2c;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.i2c.I2CProviderBase;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.util.StringUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -47,6 +52,7 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
 
     final PiGpio piGpio;
     private final Map<Integer, PiGpioI2CBus> i2CBusMap;
+    private final Map<Integer, PiGpioBitBangI2CBus> bitBangBusMap;
 
     /**
      * <p>Constructor for PiGpioI2CProviderImpl.</p>
@@ -58,6 +64,7 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
         this.name = NAME;
         this.piGpio = piGpio;
         this.i2CBusMap = new HashMap<>();
+        this.bitBangBusMap = new HashMap<>();
     }
 
     @Override
@@ -76,6 +83,10 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
             if (!this.piGpio.isInitialized())
                 this.piGpio.initialize();
 
+            // create a device on a bit-banged bus if SDA/SCL pins are configured
+            if (config.properties().containsKey(SDA_KEY))
+                return createBitBang(config);
+
             PiGpioI2CBus i2CBus = this.i2CBusMap.computeIfAbsent(config.getBus(), busNr -> new PiGpioI2CBus(config));
 
             // create new I/O instance based on I/O config
@@ -84,4 +95,38 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
             return i2C;
         }
     }
+
+    private I2C createBitBang(I2CConfig config) {
+        int sda = StringUtil.parseInteger(config.properties().get(SDA_KEY), -1);
+        int scl = StringUtil.parseInteger(config.properties().get(SCL_KEY), -1);
+        int baud = StringUtil.parseInteger(config.properties().get(BAUD_KEY), DEFAULT_BIT_BANG_BAUD);
+        if (sda < 0 || scl < 0)
+            throw new IOException("Bit-banged I2C requires both '" + SDA_KEY + "' and '" + SCL_KEY + "' pins");
+
+        // devices sharing the SDA pin share the bit-banged bus
+        PiGpioBitBangI2CBus i2CBus = this.bitBangBusMap.computeIfAbsent(sda,
+            pin -> new PiGpioBitBangI2CBus(this.piGpio, config, sda, scl, baud));
+        if (i2CBus.scl() != scl || i2CBus.baud() != baud)
+            throw new IOException("Bit-banged I2C bus on SDA pin " + sda + " is already open with SCL pin " +
+                i2CBus.scl() + " at " + i2CBus.baud() + " baud");
+
+        // create new I/O instance based on I/O config
+        PiGpioBitBangI2C i2C = new PiGpioBitBangI2C(this.piGpio, i2CBus, this, config);
+        this.context.registry().add(i2C);
+        return i2C;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public I2CProvider shutdown(Context context) throws ShutdownException {
+        synchronized (this.piGpio) {
+            this.i2CBusMap.forEach((busNr, bus) -> bus.close());
+            this.i2CBusMap.clear();
+            this.bitBangBusMap.forEach((sda, bus) -> bus.close());
+            this.bitBangBusMap.clear();
+        }
+        return super.shutdown(context);
+    }
 }
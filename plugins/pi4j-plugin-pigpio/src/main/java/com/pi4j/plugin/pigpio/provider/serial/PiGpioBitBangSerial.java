@@ -0,0 +1,212 @@
+package com.pi4j.plugin.pigpio.provider.serial;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangSerial.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.serial.Parity;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialBase;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioWave;
+import com.pi4j.library.pigpio.PiGpioWaveMode;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_MAX_CHARS;
+
+/**
+ * <p>PiGpioBitBangSerial class.</p>
+ * <p>
+ * A serial port bit-banged by the pigpio library on arbitrary GPIO pins.  Data is received
+ * by the pigpio bit-bang serial reader on the RX pin and transmitted as serial waveforms on
+ * the TX pin; either pin may be omitted for a receive-only or transmit-only port.  Parity
+ * is not supported.
+ *
+ * @see PiGpioSerialProvider#RX_KEY
+ */
+public class PiGpioBitBangSerial extends SerialBase implements Serial {
+
+    /** the size of the local receive buffer, matching the cyclic buffer of the pigpio library */
+    protected static int RECEIVE_BUFFER_SIZE = 8192;
+
+    /** the additional time to wait for a transmission to finish, in milliseconds */
+    protected static long WRITE_TIMEOUT_MARGIN = 1000;
+
+    protected final PiGpio piGpio;
+    protected final int rx;
+    protected final int tx;
+
+    // bytes read from the pigpio library by 'available()' but not yet consumed by 'read()'
+    private final byte[] received = new byte[RECEIVE_BUFFER_SIZE];
+    private int receivedLength = 0;
+
+    /**
+     * <p>Constructor for PiGpioBitBangSerial.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param provider a {@link com.pi4j.io.serial.SerialProvider} object.
+     * @param config a {@link com.pi4j.io.serial.SerialConfig} object.
+     * @param rx the GPIO receiving data, or -1 for a transmit-only port
+     * @param tx the GPIO transmitting data, or -1 for a receive-only port
+     */
+    public PiGpioBitBangSerial(PiGpio piGpio, SerialProvider provider, SerialConfig config, int rx, int tx) {
+        super(provider, config);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+        this.rx = rx;
+        this.tx = tx;
+
+        // serial waveforms and the bit-bang serial reader have no parity bit
+        if (config.parity() != null && config.parity() != Parity.NONE)
+            throw new IOException("Unsupported parity by bit-banged serial: parity=" + config.parity());
+
+        // open the bit-bang serial reader on the RX pin
+        if (rx >= 0) {
+            piGpio.gpioSerialReadOpen(rx, config.baud(), config.dataBits().getValue());
+        }
+
+        // the TX pin idles at the high level between serial waveforms
+        if (tx >= 0) {
+            piGpio.gpioSetMode(tx, PiGpioMode.OUTPUT);
+            piGpio.gpioWrite(tx, PiGpioState.HIGH);
+        }
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int available()  {
+        if (this.rx < 0) return 0;
+
+        // move the data received by the pigpio library into the local receive buffer
+        if (this.receivedLength < this.received.length) {
+            byte[] buffer = new byte[this.received.length - this.receivedLength];
+            int result = piGpio.gpioSerialRead(this.rx, buffer, 0, buffer.length);
+            if (result < 0) return result;
+            System.arraycopy(buffer, 0, this.received, this.receivedLength, result);
+            this.receivedLength += result;
+        }
+        return this.receivedLength;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close()  {
+        if (this.rx >= 0) {
+            piGpio.gpioSerialReadClose(this.rx);
+        }
+        super.close();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        return write(new byte[] { b }, 0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The data is transmitted as serial waveforms; this method blocks until it has been
+     * transmitted.  A waveform of another user being transmitted is completed first.
+     */
+    @Override
+    public synchronized int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if (this.tx < 0)
+            throw new IOException("Cannot write to a receive-only bit-banged serial port");
+
+        int stopBits = config.stopBits().getValue() * 2;
+        for (int position = offset; position < offset + length; position += PI_WAVE_MAX_CHARS) {
+            byte[] chunk = Arrays.copyOfRange(data, position, Math.min(position + PI_WAVE_MAX_CHARS, offset + length));
+            try (PiGpioWave wave = PiGpioWave.newBuilder(this.piGpio)
+                .serial(this.tx, config.baud(), config.dataBits().getValue(), stopBits, chunk)
+                .build()) {
+                wave.send(PiGpioWaveMode.ONE_SHOT_SYNC);
+                long timeout = TimeUnit.MICROSECONDS.toMillis(wave.micros()) + WRITE_TIMEOUT_MARGIN;
+                if (!wave.await(timeout, TimeUnit.MILLISECONDS))
+                    throw new IOException("Timeout transmitting bit-banged serial data on pin " + this.tx);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted transmitting bit-banged serial data on pin " + this.tx);
+            }
+        }
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        int result = read(buffer, 0, 1);
+        if (result < 0) return result;
+        return result == 0 ? PiGpioError.PI_SER_READ_NO_DATA.value() : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (this.receivedLength < length) {
+            int result = available();
+            if (result < 0) return result;
+        }
+        int count = Math.min(length, this.receivedLength);
+        System.arraycopy(this.received, 0, buffer, offset, count);
+        System.arraycopy(this.received, count, this.received, 0, this.receivedLength - count);
+        this.receivedLength -= count;
+        return count;
+    }
+}
@@ -33,6 +33,10 @@ import com.pi4j.plugin.pigpio.PiGpioPlugin;
 
 /**
  * <p>PiGpioSerialProvider interface.</p>
+ * <p>
+ * Besides the serial devices, this provider creates serial ports bit-banged by the pigpio
+ * library on arbitrary GPIO pins.  A bit-banged port is selected by configuring the
+ * {@link #RX_KEY} and/or {@link #TX_KEY} properties; the device name then only identifies the port.
  *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
@@ -42,6 +46,10 @@ public interface PiGpioSerialProvider extends SerialProvider {
     String NAME = PiGpioPlugin.SERIAL_PROVIDER_NAME;
     /** Constant <code>ID="PiGpioPlugin.SERIAL_PROVIDER_ID"</code> */
     String ID = PiGpioPlugin.SERIAL_PROVIDER_ID;
+    /** Constant <code>RX_KEY="rx"</code>; the GPIO receiving data on a bit-banged port */
+    String RX_KEY = "rx";
+    /** Constant <code>TX_KEY="tx"</code>; the GPIO transmitting data on a bit-banged port */
+    String TX_KEY = "tx";
     /**
      * <p>newInstance.</p>
      *
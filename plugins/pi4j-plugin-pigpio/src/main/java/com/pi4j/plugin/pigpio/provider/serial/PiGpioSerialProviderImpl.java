@@ -28,10 +28,12 @@ package com.pi4j.plugin.pigpio.provider.serial;
  */
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.serial.Serial;
 import com.pi4j.io.serial.SerialConfig;
 import com.pi4j.io.serial.SerialProviderBase;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.util.StringUtil;
 
 /**
  * <p>PiGpioSerialProviderImpl class.</p>
@@ -70,10 +72,26 @@ public class PiGpioSerialProviderImpl extends SerialProviderBase implements PiGp
             if (!piGpio.isInitialized())
                 piGpio.initialize();
 
+            // create a bit-banged serial port if the RX and/or TX pins are configured
+            if (config.properties().containsKey(RX_KEY) || config.properties().containsKey(TX_KEY))
+                return createBitBang(config);
+
             // create new I/O instance based on I/O config
             PiGpioSerial serial = new PiGpioSerial(piGpio, this, config);
             this.context.registry().add(serial);
             return serial;
         }
     }
+
+    private Serial createBitBang(SerialConfig config) {
+        int rx = StringUtil.parseInteger(config.properties().get(RX_KEY), -1);
+        int tx = StringUtil.parseInteger(config.properties().get(TX_KEY), -1);
+        if (rx < 0 && tx < 0)
+            throw new IOException("Bit-banged serial requires an '" + RX_KEY + "' and/or '" + TX_KEY + "' pin");
+
+        // create new I/O instance based on I/O config
+        PiGpioBitBangSerial serial = new PiGpioBitBangSerial(piGpio, this, config, rx, tx);
+        this.context.registry().add(serial);
+        return serial;
+    }
 }
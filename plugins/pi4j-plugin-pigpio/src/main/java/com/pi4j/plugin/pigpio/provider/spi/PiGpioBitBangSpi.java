@@ -0,0 +1,154 @@
+package com.pi4j.plugin.pigpio.provider.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangSpi.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBase;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiProvider;
+import com.pi4j.library.pigpio.PiGpio;
+
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioBitBangSpi class.</p>
+ * <p>
+ * An SPI device bit-banged by the pigpio library on arbitrary GPIO pins.  The SPI address
+ * (chip select) is the GPIO used for the slave select.
+ *
+ * @see PiGpioSpiProvider#SCLK_KEY
+ */
+public class PiGpioBitBangSpi extends SpiBase implements Spi {
+
+    protected final PiGpio piGpio;
+    protected final int cs;
+
+    // only these bits of the configured flags are supported by bit-banged SPI
+    protected static int BB_SPI_FLAGS_MASK = PI_BB_SPI_FLAGS_CS_HIGH | PI_BB_SPI_FLAGS_TX_LSB | PI_BB_SPI_FLAGS_RX_LSB;
+
+    /**
+     * <p>Constructor for PiGpioBitBangSpi.</p>
+     * <p>
+     * The baud rate is limited to the maximum of 250000 supported by bit-banged SPI.  Of the
+     * configured flags only the [p] (active high chip select), [T] and [R] (least significant
+     * bit first) bits are used; the SPI mode is taken from the configured mode.
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param provider a {@link com.pi4j.io.spi.SpiProvider} object.
+     * @param config a {@link com.pi4j.io.spi.SpiConfig} object.
+     * @param miso the GPIO used for MISO
+     * @param mosi the GPIO used for MOSI
+     * @param sclk the GPIO used for SCLK
+     */
+    public PiGpioBitBangSpi(PiGpio piGpio, SpiProvider provider, SpiConfig config, int miso, int mosi, int sclk) {
+        super(provider, config);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+        this.cs = config.address();
+
+        // combine the SPI mode with the supported flags
+        int flags = config.mode().getMode();
+        if (config.flags() != null) {
+            flags |= config.flags().intValue() & BB_SPI_FLAGS_MASK;
+        }
+
+        // open bit-banged SPI on the PIGPIO library
+        int baud = Math.min(config.baud(), PI_BB_SPI_MAX_BAUD);
+        piGpio.bbSPIOpen(this.cs, miso, mosi, sclk, baud, flags);
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spi initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        piGpio.bbSPIClose(this.cs);
+        super.close();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE TRANSFER FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        return piGpio.bbSPIXfer(this.cs, write, writeOffset, read, readOffset, numberOfBytes);
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        return write(new byte[] { b }, 0, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        // SPI always receives while transmitting; the received data is discarded
+        return piGpio.bbSPIXfer(this.cs, data, offset, new byte[length], 0, length);
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        int result = read(buffer, 0, 1);
+        return result < 0 ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        // SPI always transmits while receiving; zeros are transmitted
+        return piGpio.bbSPIXfer(this.cs, new byte[length], 0, buffer, offset, length);
+    }
+}
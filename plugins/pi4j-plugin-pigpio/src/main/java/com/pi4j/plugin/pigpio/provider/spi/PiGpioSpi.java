@@ -34,6 +34,8 @@ import com.pi4j.io.exception.IOException;
 import com.pi4j.io.spi.*;
 import com.pi4j.library.pigpio.PiGpio;
 
+import java.nio.ByteBuffer;
+
 /**
  * <p>PiGpioSpi class.</p>
  *
@@ -167,6 +169,18 @@ public class PiGpioSpi extends SpiBase implements Spi {
         return piGpio.spiXfer(this.handle, write, writeOffset, read, readOffset, numberOfBytes);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p> Direct buffers are transferred straight from/to the native PIGPIO library.
+     */
+    @Override
+    public int transfer(ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if (!write.isDirect() || !read.isDirect()) return super.transfer(write, writeOffset, read, readOffset, numberOfBytes);
+        // perform bounds checking on requested length versus total remaining size available
+        numberOfBytes = Math.min(numberOfBytes, Math.min(write.capacity() - writeOffset, read.capacity() - readOffset));
+        return piGpio.spiXfer(this.handle, write, writeOffset, read, readOffset, numberOfBytes);
+    }
+
     // -------------------------------------------------------------------
     // DEVICE WRITE FUNCTIONS
     // -------------------------------------------------------------------
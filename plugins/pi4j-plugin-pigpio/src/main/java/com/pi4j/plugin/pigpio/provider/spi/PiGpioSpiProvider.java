@@ -33,6 +33,11 @@ import com.pi4j.plugin.pigpio.PiGpioPlugin;
 
 /**
  * <p>PiGpioSpiProvider interface.</p>
+ * <p>
+ * Besides the hardware SPI buses, this provider creates SPI devices bit-banged by the pigpio
+ * library on arbitrary GPIO pins.  Bit-banged SPI is selected by configuring the
+ * {@link #MISO_KEY}, {@link #MOSI_KEY} and {@link #SCLK_KEY} properties; the SPI address
+ * (chip select) is then the GPIO used for the slave select.
  *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
@@ -42,6 +47,12 @@ public interface PiGpioSpiProvider extends SpiProvider {
     String NAME = PiGpioPlugin.SPI_PROVIDER_NAME;
     /** Constant <code>ID="PiGpioPlugin.SPI_PROVIDER_ID"</code> */
     String ID = PiGpioPlugin.SPI_PROVIDER_ID;
+    /** Constant <code>MISO_KEY="miso"</code>; the GPIO used for MISO of bit-banged SPI */
+    String MISO_KEY = "miso";
+    /** Constant <code>MOSI_KEY="mosi"</code>; the GPIO used for MOSI of bit-banged SPI */
+    String MOSI_KEY = "mosi";
+    /** Constant <code>SCLK_KEY="sclk"</code>; the GPIO used for SCLK of bit-banged SPI */
+    String SCLK_KEY = "sclk";
     /**
      * <p>newInstance.</p>
      *
@@ -28,10 +28,12 @@ package com.pi4j.plugin.pigpio.provider.spi;
  */
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiConfig;
 import com.pi4j.io.spi.SpiProviderBase;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.util.StringUtil;
 
 /**
  * <p>PiGpioSpiProviderImpl class.</p>
@@ -70,10 +72,28 @@ public class PiGpioSpiProviderImpl extends SpiProviderBase implements PiGpioSpiP
             if (!piGpio.isInitialized())
                 piGpio.initialize();
 
+            // create a bit-banged SPI device if the SPI pins are configured
+            if (config.properties().containsKey(SCLK_KEY))
+                return createBitBang(config);
+
             // create new I/O instance based on I/O config
             PiGpioSpi spi = new PiGpioSpi(piGpio, this, config);
             this.context.registry().add(spi);
             return spi;
         }
     }
+
+    private Spi createBitBang(SpiConfig config) {
+        int miso = StringUtil.parseInteger(config.properties().get(MISO_KEY), -1);
+        int mosi = StringUtil.parseInteger(config.properties().get(MOSI_KEY), -1);
+        int sclk = StringUtil.parseInteger(config.properties().get(SCLK_KEY), -1);
+        if (miso < 0 || mosi < 0 || sclk < 0)
+            throw new IOException("Bit-banged SPI requires the '" + MISO_KEY + "', '" + MOSI_KEY + "' and '" +
+                SCLK_KEY + "' pins");
+
+        // create new I/O instance based on I/O config
+        PiGpioBitBangSpi spi = new PiGpioBitBangSpi(piGpio, this, config, miso, mosi, sclk);
+        this.context.registry().add(spi);
+        return spi;
+    }
 }